@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+/**
+ * The encoding of audio within a buffer.
+ */
+
+public enum JABufferEncoding
+{
+  /**
+   * Uncompressed linear PCM.
+   */
+
+  ENCODING_PCM,
+
+  /**
+   * 8-bit mu-law companded audio ({@code AL_EXT_MULAW}).
+   */
+
+  ENCODING_MULAW,
+
+  /**
+   * 4-bit IMA ADPCM audio, encoded in blocks ({@code AL_EXT_IMA4}).
+   */
+
+  ENCODING_IMA4,
+
+  /**
+   * 4-bit Microsoft ADPCM audio, encoded in blocks
+   * ({@code AL_SOFT_MSADPCM}).
+   */
+
+  ENCODING_MSADPCM
+}
@@ -16,6 +16,20 @@
 
 package com.io7m.jarabica.api;
 
+import static com.io7m.jarabica.api.JABufferEncoding.ENCODING_IMA4;
+import static com.io7m.jarabica.api.JABufferEncoding.ENCODING_MSADPCM;
+import static com.io7m.jarabica.api.JABufferEncoding.ENCODING_MULAW;
+import static com.io7m.jarabica.api.JABufferEncoding.ENCODING_PCM;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_5_1;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_6_1;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_7_1;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_MONO;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_QUAD;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_STEREO;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_FLOAT;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_SHORT;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_UNSIGNED_BYTE;
+
 /**
  * The format of audio within a buffer.
  */
@@ -26,23 +40,318 @@ public enum JABufferFormat
    * 8-bit unsigned mono audio.
    */
 
-  AUDIO_8_BIT_MONO,
+  AUDIO_8_BIT_MONO(CHANNELS_MONO, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
 
   /**
    * 8-bit unsigned stereo audio.
    */
 
-  AUDIO_8_BIT_STEREO,
+  AUDIO_8_BIT_STEREO(CHANNELS_STEREO, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
 
   /**
    * 16-bit signed mono audio.
    */
 
-  AUDIO_16_BIT_MONO,
+  AUDIO_16_BIT_MONO(CHANNELS_MONO, SAMPLE_SHORT, ENCODING_PCM),
 
   /**
    * 16-bit signed stereo audio.
    */
 
-  AUDIO_16_BIT_STEREO
+  AUDIO_16_BIT_STEREO(CHANNELS_STEREO, SAMPLE_SHORT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point mono audio ({@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_MONO(CHANNELS_MONO, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point stereo audio ({@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_STEREO(CHANNELS_STEREO, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 8-bit unsigned quadraphonic audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_8_BIT_QUAD(CHANNELS_QUAD, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
+
+  /**
+   * 16-bit signed quadraphonic audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_16_BIT_QUAD(CHANNELS_QUAD, SAMPLE_SHORT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point quadraphonic audio ({@code AL_EXT_MCFORMATS} and
+   * {@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_QUAD(CHANNELS_QUAD, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 8-bit unsigned 5.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_8_BIT_5_1(CHANNELS_5_1, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
+
+  /**
+   * 16-bit signed 5.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_16_BIT_5_1(CHANNELS_5_1, SAMPLE_SHORT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point 5.1 audio ({@code AL_EXT_MCFORMATS} and
+   * {@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_5_1(CHANNELS_5_1, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 8-bit unsigned 6.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_8_BIT_6_1(CHANNELS_6_1, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
+
+  /**
+   * 16-bit signed 6.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_16_BIT_6_1(CHANNELS_6_1, SAMPLE_SHORT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point 6.1 audio ({@code AL_EXT_MCFORMATS} and
+   * {@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_6_1(CHANNELS_6_1, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 8-bit unsigned 7.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_8_BIT_7_1(CHANNELS_7_1, SAMPLE_UNSIGNED_BYTE, ENCODING_PCM),
+
+  /**
+   * 16-bit signed 7.1 audio ({@code AL_EXT_MCFORMATS}).
+   */
+
+  AUDIO_16_BIT_7_1(CHANNELS_7_1, SAMPLE_SHORT, ENCODING_PCM),
+
+  /**
+   * 32-bit floating point 7.1 audio ({@code AL_EXT_MCFORMATS} and
+   * {@code AL_EXT_float32}).
+   */
+
+  AUDIO_FLOAT_7_1(CHANNELS_7_1, SAMPLE_FLOAT, ENCODING_PCM),
+
+  /**
+   * 8-bit mu-law mono audio, decoded to 16-bit ({@code AL_EXT_MULAW}).
+   */
+
+  AUDIO_MULAW_MONO(CHANNELS_MONO, SAMPLE_SHORT, ENCODING_MULAW),
+
+  /**
+   * 8-bit mu-law stereo audio, decoded to 16-bit ({@code AL_EXT_MULAW}).
+   */
+
+  AUDIO_MULAW_STEREO(CHANNELS_STEREO, SAMPLE_SHORT, ENCODING_MULAW),
+
+  /**
+   * IMA ADPCM mono audio, decoded to 16-bit ({@code AL_EXT_IMA4}).
+   */
+
+  AUDIO_IMA4_MONO(CHANNELS_MONO, SAMPLE_SHORT, ENCODING_IMA4),
+
+  /**
+   * IMA ADPCM stereo audio, decoded to 16-bit ({@code AL_EXT_IMA4}).
+   */
+
+  AUDIO_IMA4_STEREO(CHANNELS_STEREO, SAMPLE_SHORT, ENCODING_IMA4),
+
+  /**
+   * Microsoft ADPCM mono audio, decoded to 16-bit
+   * ({@code AL_SOFT_MSADPCM}).
+   */
+
+  AUDIO_MSADPCM_MONO(CHANNELS_MONO, SAMPLE_SHORT, ENCODING_MSADPCM),
+
+  /**
+   * Microsoft ADPCM stereo audio, decoded to 16-bit
+   * ({@code AL_SOFT_MSADPCM}).
+   */
+
+  AUDIO_MSADPCM_STEREO(CHANNELS_STEREO, SAMPLE_SHORT, ENCODING_MSADPCM);
+
+  private final JAChannelLayout channelLayout;
+  private final JASampleType sampleType;
+  private final JABufferEncoding encoding;
+
+  JABufferFormat(
+    final JAChannelLayout inChannelLayout,
+    final JASampleType inSampleType,
+    final JABufferEncoding inEncoding)
+  {
+    this.channelLayout = inChannelLayout;
+    this.sampleType = inSampleType;
+    this.encoding = inEncoding;
+  }
+
+  /**
+   * @return The arrangement of channels
+   */
+
+  public JAChannelLayout channelLayout()
+  {
+    return this.channelLayout;
+  }
+
+  /**
+   * @return The type of each sample of a single channel; for encoded formats,
+   * the type of the decoded samples
+   */
+
+  public JASampleType sampleType()
+  {
+    return this.sampleType;
+  }
+
+  /**
+   * @return The encoding of the audio
+   */
+
+  public JABufferEncoding encoding()
+  {
+    return this.encoding;
+  }
+
+  /**
+   * @return The number of channels
+   */
+
+  public int channels()
+  {
+    return this.channelLayout.channels();
+  }
+
+  /**
+   * @return The number of bits in each sample of a single channel, as stored
+   */
+
+  public int bitsPerSample()
+  {
+    return switch (this.encoding) {
+      case ENCODING_PCM -> this.sampleType.bytesPerSample() * 8;
+      case ENCODING_MULAW -> 8;
+      case ENCODING_IMA4, ENCODING_MSADPCM -> 4;
+    };
+  }
+
+  /**
+   * @return {@code true} if the audio is encoded in blocks of frames that
+   * must be decoded as a unit
+   */
+
+  public boolean isBlockEncoded()
+  {
+    return switch (this.encoding) {
+      case ENCODING_PCM, ENCODING_MULAW -> false;
+      case ENCODING_IMA4, ENCODING_MSADPCM -> true;
+    };
+  }
+
+  /**
+   * @return The number of bytes in a single frame (one sample for every
+   * channel)
+   *
+   * @throws UnsupportedOperationException If the format is block encoded,
+   *                                       and therefore has no fixed frame
+   *                                       size
+   * @see #bytesPerBlock(int)
+   */
+
+  public int bytesPerFrame()
+  {
+    return switch (this.encoding) {
+      case ENCODING_PCM -> this.sampleType.bytesPerSample() * this.channels();
+      case ENCODING_MULAW -> this.channels();
+      case ENCODING_IMA4, ENCODING_MSADPCM ->
+        throw new UnsupportedOperationException(
+          "Format %s has no fixed frame size".formatted(this));
+    };
+  }
+
+  /**
+   * @return The number of frames in each block when no block alignment has
+   * been specified; {@code 1} for formats that are not block encoded
+   */
+
+  public int defaultBlockAlignment()
+  {
+    return switch (this.encoding) {
+      case ENCODING_PCM, ENCODING_MULAW -> 1;
+      case ENCODING_IMA4 -> 65;
+      case ENCODING_MSADPCM -> 64;
+    };
+  }
+
+  /**
+   * @param frames The number of frames in each block
+   *
+   * @return {@code true} if the given block alignment is valid for this
+   * format
+   */
+
+  public boolean isValidBlockAlignment(
+    final int frames)
+  {
+    if (frames < 1) {
+      return false;
+    }
+    return switch (this.encoding) {
+      case ENCODING_PCM, ENCODING_MULAW -> true;
+      case ENCODING_IMA4 -> (frames - 1) % 8 == 0;
+      case ENCODING_MSADPCM -> frames % 2 == 0;
+    };
+  }
+
+  /**
+   * @param frames The number of frames in each block
+   *
+   * @return The number of bytes in a block of the given number of frames
+   *
+   * @throws IllegalArgumentException If the alignment is not valid
+   * @see #isValidBlockAlignment(int)
+   */
+
+  public int bytesPerBlock(
+    final int frames)
+  {
+    if (!this.isValidBlockAlignment(frames)) {
+      throw new IllegalArgumentException(
+        "Block alignment %d is not valid for format %s".formatted(
+          Integer.valueOf(frames), this)
+      );
+    }
+
+    return switch (this.encoding) {
+      case ENCODING_PCM, ENCODING_MULAW -> this.bytesPerFrame() * frames;
+      case ENCODING_IMA4 -> (((frames - 1) / 2) + 4) * this.channels();
+      case ENCODING_MSADPCM -> (((frames - 2) / 2) + 7) * this.channels();
+    };
+  }
+
+  /**
+   * @return The number of bytes in a block at the default block alignment;
+   * the smallest amount of data that may be uploaded
+   * @see #defaultBlockAlignment()
+   */
+
+  public int bytesPerBlock()
+  {
+    return this.bytesPerBlock(this.defaultBlockAlignment());
+  }
 }
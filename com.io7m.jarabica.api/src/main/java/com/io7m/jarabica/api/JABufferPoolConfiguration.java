@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration information for a buffer pool.
+ *
+ * @param allocationBatchSize The number of buffer names generated at once
+ *                            when the pool is empty
+ * @param maximumIdle         The maximum number of idle buffer names retained
+ *                            by the pool; when this is exceeded, the pool
+ *                            shrinks back to {@code allocationBatchSize}
+ *                            idle names
+ * @param idleTimeout         The period after which idle names that were not
+ *                            needed at any point during the period are
+ *                            deleted, down to {@code allocationBatchSize}
+ *                            idle names
+ */
+
+public record JABufferPoolConfiguration(
+  int allocationBatchSize,
+  int maximumIdle,
+  Duration idleTimeout)
+{
+  /**
+   * Configuration information for a buffer pool.
+   */
+
+  public JABufferPoolConfiguration
+  {
+    if (allocationBatchSize < 1) {
+      throw new IllegalArgumentException(
+        "Allocation batch size %d must be positive".formatted(
+          Integer.valueOf(allocationBatchSize))
+      );
+    }
+    if (maximumIdle < allocationBatchSize) {
+      throw new IllegalArgumentException(
+        "Maximum idle count %d must be at least the allocation batch size %d"
+          .formatted(
+            Integer.valueOf(maximumIdle),
+            Integer.valueOf(allocationBatchSize))
+      );
+    }
+
+    Objects.requireNonNull(idleTimeout, "idleTimeout");
+    if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+      throw new IllegalArgumentException(
+        "Idle timeout %s must be positive".formatted(idleTimeout)
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JABufferPoolConfiguration defaults()
+  {
+    return new JABufferPoolConfiguration(32, 256, Duration.ofSeconds(10L));
+  }
+}
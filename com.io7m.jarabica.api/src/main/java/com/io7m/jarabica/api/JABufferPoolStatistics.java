@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.api;
+
+/**
+ * Statistics for a buffer pool.
+ *
+ * @param hits           The number of buffers acquired using a recycled or
+ *                       pre-generated name
+ * @param misses         The number of buffers acquired when the pool was
+ *                       empty, requiring new names to be generated
+ * @param inUse          The number of buffers currently acquired and not
+ *                       yet closed
+ * @param idle           The number of names currently held by the pool
+ * @param inUseHighWater The largest value {@code inUse} has reached
+ * @param idleHighWater  The largest value {@code idle} has reached
+ * @param namesGenerated The total number of names generated by the pool
+ * @param namesDeleted   The total number of names deleted by the pool
+ */
+
+public record JABufferPoolStatistics(
+  long hits,
+  long misses,
+  int inUse,
+  int idle,
+  int inUseHighWater,
+  int idleHighWater,
+  long namesGenerated,
+  long namesDeleted)
+{
+
+}
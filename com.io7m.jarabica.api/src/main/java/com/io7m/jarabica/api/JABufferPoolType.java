@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.api;
+
+/**
+ * A pool of buffers. A pool generates buffer names in bulk, and buffers
+ * acquired from the pool return their names to the pool when they are closed
+ * rather than deleting them. This avoids the cost of generating and deleting
+ * names for applications that create large numbers of short-lived buffers.
+ *
+ * <p>The contents of a buffer acquired from a pool are undefined until data
+ * is specified with {@link JABufferType#setData(JABufferFormat, int, java.nio.ByteBuffer)}.
+ * The data of a buffer is released when the buffer is closed, so idle names
+ * hold no audio memory. Idle names that are not needed for a whole
+ * {@link JABufferPoolConfiguration#idleTimeout()} period are deleted.
+ * Closing the pool deletes all of the idle names held by the pool; buffers
+ * that are still in use when the pool is closed delete their names when
+ * they are themselves closed.</p>
+ *
+ * @see JAContextType#createBufferPool(JABufferPoolConfiguration)
+ */
+
+public interface JABufferPoolType extends JAHandleType
+{
+  /**
+   * @return The pool configuration
+   */
+
+  JABufferPoolConfiguration configuration();
+
+  /**
+   * Acquire a buffer from the pool.
+   *
+   * @return A buffer
+   *
+   * @throws JAException On errors
+   */
+
+  JABufferType acquire()
+    throws JAException;
+
+  /**
+   * Delete all idle names held by the pool.
+   *
+   * @throws JAException On errors
+   */
+
+  void trim()
+    throws JAException;
+
+  /**
+   * @return The current pool statistics
+   */
+
+  JABufferPoolStatistics statistics();
+}
@@ -27,7 +27,9 @@ public non-sealed interface JABufferType
 {
   /**
    * Set the buffer data. The provided byte buffer must be a direct byte
-   * buffer.
+   * buffer, and the format must be supported by the buffer's context. The
+   * data is passed to the implementation without conversion, and must
+   * consist of a whole number of blocks at the buffer's block alignment.
    *
    * @param format    The audio format
    * @param frequency The audio frequency in hz
@@ -35,6 +37,8 @@ public non-sealed interface JABufferType
    *
    * @throws JAException On errors
    * @see ByteBuffer#isDirect()
+   * @see JAContextType#supportedBufferFormats()
+   * @see #setBlockAlignment(int)
    */
 
   void setData(
@@ -42,4 +46,47 @@ public non-sealed interface JABufferType
     int frequency,
     ByteBuffer data)
     throws JAException;
+
+  /**
+   * Set the number of frames in each block of data passed to subsequent
+   * calls to {@link #setData(JABufferFormat, int, ByteBuffer)}
+   * ({@code AL_UNPACK_BLOCK_ALIGNMENT_SOFT}). This allows pre-encoded ADPCM
+   * audio to be uploaded as-is, whatever block size it was encoded with. A
+   * value of {@code 0} selects the format's default alignment.
+   *
+   * @param frames The number of frames in each block
+   *
+   * @throws JAException On errors, or if the implementation does not support
+   *                     block alignment
+   * @see JABufferFormat#defaultBlockAlignment()
+   */
+
+  void setBlockAlignment(int frames)
+    throws JAException;
+
+  /**
+   * @return The number of frames in each block, or {@code 0} if the format's
+   * default alignment is used
+   *
+   * @see #setBlockAlignment(int)
+   */
+
+  int blockAlignment();
+
+  /**
+   * @return The duration of the data most recently specified with
+   * {@link #setData(JABufferFormat, int, ByteBuffer)}, or {@code 0.0} if
+   * no data has been specified
+   */
+
+  double duration();
+
+  /**
+   * @return The number of sources to which the buffer is currently attached,
+   * either directly or through a source's buffer queue
+   *
+   * @see JAContextType#sourceBufferGraph()
+   */
+
+  int attachedSourceCount();
 }
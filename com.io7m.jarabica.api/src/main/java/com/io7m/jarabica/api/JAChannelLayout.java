@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+/**
+ * The arrangement of channels in rendered audio.
+ */
+
+public enum JAChannelLayout
+{
+  /**
+   * A single channel.
+   */
+
+  CHANNELS_MONO(1),
+
+  /**
+   * Left and right channels.
+   */
+
+  CHANNELS_STEREO(2),
+
+  /**
+   * Front left, front right, rear left, and rear right channels.
+   */
+
+  CHANNELS_QUAD(4),
+
+  /**
+   * 5.1 surround: front left, front right, front center, LFE, side left, and
+   * side right channels.
+   */
+
+  CHANNELS_5_1(6),
+
+  /**
+   * 6.1 surround: 5.1 with an additional rear center channel.
+   */
+
+  CHANNELS_6_1(7),
+
+  /**
+   * 7.1 surround: 5.1 with additional rear left and rear right channels.
+   */
+
+  CHANNELS_7_1(8);
+
+  private final int channels;
+
+  JAChannelLayout(
+    final int inChannels)
+  {
+    this.channels = inChannels;
+  }
+
+  /**
+   * @return The number of channels
+   */
+
+  public int channels()
+  {
+    return this.channels;
+  }
+}
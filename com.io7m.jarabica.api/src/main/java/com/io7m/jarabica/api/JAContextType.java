@@ -20,7 +20,10 @@ import org.jgrapht.Graph;
 import org.jgrapht.event.GraphListener;
 import org.jgrapht.event.VertexSetListener;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A device context.
@@ -44,6 +47,12 @@ public interface JAContextType extends JAHandleType
   Optional<T> extension(Class<T> clazz)
     throws JAException;
 
+  /**
+   * @return The device that owns the context
+   */
+
+  JADeviceType device();
+
   /**
    * @return {@code true} if the context is current
    *
@@ -63,6 +72,74 @@ public interface JAContextType extends JAHandleType
   void setCurrent()
     throws JAException;
 
+  /**
+   * Set this context as current for the calling thread only. On that thread,
+   * the context takes precedence over the context set with
+   * {@link #setCurrent()}, which allows separate threads to work with separate
+   * contexts in parallel. The context stops being current for the thread when
+   * it is closed.
+   *
+   * @throws JAException On errors, or if the device does not support
+   *                     thread-local contexts
+   */
+
+  void setCurrentForThread()
+    throws JAException;
+
+  /**
+   * @return The distance model used to attenuate sources
+   *
+   * @throws JAException On errors
+   */
+
+  JADistanceModel distanceModel()
+    throws JAException;
+
+  /**
+   * Set the distance model used to attenuate sources.
+   *
+   * @param model The distance model
+   *
+   * @throws JAException On errors
+   */
+
+  void setDistanceModel(JADistanceModel model)
+    throws JAException;
+
+  /**
+   * Begin a batch of updates. Changes made to sources and the listener are
+   * deferred until the returned batch is closed, at which point they are
+   * applied atomically. Batches may be nested; changes are applied when the
+   * outermost batch is closed.
+   *
+   * <pre>{@code
+   * try (var batch = context.beginUpdate()) {
+   *   source0.setPosition(1.0, 2.0, 3.0);
+   *   source1.setGain(0.5);
+   *   listener.setOrientation(forward, up);
+   * }
+   * }</pre>
+   *
+   * @return A new batch
+   *
+   * @throws JAException On errors
+   */
+
+  JAUpdateBatchType beginUpdate()
+    throws JAException;
+
+  /**
+   * Perform any error checks that have been deferred. Implementations may
+   * be configured to defer error checks for calls that update the properties
+   * of existing objects; applications using such a configuration will
+   * typically call this method once per frame.
+   *
+   * @throws JAException If any deferred call failed
+   */
+
+  void checkErrors()
+    throws JAException;
+
   /**
    * @return Access to the context's listener
    *
@@ -94,6 +171,119 @@ public interface JAContextType extends JAHandleType
   JABufferType createBuffer()
     throws JAException;
 
+  /**
+   * Create a number of new sources at once. Either all sources are created,
+   * or none are.
+   *
+   * @param count The number of sources
+   *
+   * @return The new sources
+   *
+   * @throws JAException On errors
+   */
+
+  List<JASourceType> createSources(int count)
+    throws JAException;
+
+  /**
+   * Create a number of new buffers at once. Either all buffers are created,
+   * or none are.
+   *
+   * @param count The number of buffers
+   *
+   * @return The new buffers
+   *
+   * @throws JAException On errors
+   */
+
+  List<JABufferType> createBuffers(int count)
+    throws JAException;
+
+  /**
+   * Close a number of sources and buffers at once. Objects that are already
+   * closed are ignored. Buffers may be attached to sources, as long as those
+   * sources are also being closed. If any object cannot be closed, no objects
+   * are closed.
+   *
+   * @param objects The sources and buffers
+   *
+   * @throws JAException On errors
+   */
+
+  void closeAll(Collection<? extends JASourceOrBufferType> objects)
+    throws JAException;
+
+  /**
+   * @return {@code true} if sources can be scheduled to start at a given
+   * device clock time
+   *
+   * @throws JAException On errors
+   * @see JASourceType#playAt(long)
+   */
+
+  boolean isScheduledPlaybackSupported()
+    throws JAException;
+
+  /**
+   * Start a number of sources together, exactly at the given device clock
+   * time. All sources start on the same sample frame.
+   *
+   * @param sources         The sources
+   * @param deviceTimeNanos The device clock time in nanoseconds
+   *
+   * @throws JAException On errors, or if scheduled playback is not supported
+   * @see JASourceType#playAt(long)
+   */
+
+  void playAllAt(
+    Collection<? extends JASourceType> sources,
+    long deviceTimeNanos)
+    throws JAException;
+
+  /**
+   * Create a new buffer pool.
+   *
+   * @param configuration The pool configuration
+   *
+   * @return The new pool
+   *
+   * @throws JAException On errors
+   */
+
+  JABufferPoolType createBufferPool(
+    JABufferPoolConfiguration configuration)
+    throws JAException;
+
+  /**
+   * Determine the buffer formats that the context accepts. The basic 8-bit
+   * and 16-bit mono and stereo formats are always supported; other formats
+   * depend on the extensions supported by the implementation.
+   *
+   * @return The set of supported buffer formats
+   *
+   * @throws JAException On errors
+   * @see JABufferType#setData(JABufferFormat, int, java.nio.ByteBuffer)
+   */
+
+  Set<JABufferFormat> supportedBufferFormats()
+    throws JAException;
+
+  /**
+   * @param format The buffer format
+   *
+   * @return {@code true} if the context accepts the given buffer format
+   *
+   * @throws JAException On errors
+   * @see #supportedBufferFormats()
+   */
+
+  default boolean isBufferFormatSupported(
+    final JABufferFormat format)
+    throws JAException
+  {
+    return this.supportedBufferFormats().contains(format);
+  }
+
   /**
    * @return The OpenAL vendor
    *
@@ -112,6 +302,47 @@ public interface JAContextType extends JAHandleType
   String renderer()
     throws JAException;
 
+  /**
+   * Access the spatial index of the sources in the context. The index tracks
+   * the positions set with {@link JASourceType#setPosition(double, double,
+   * double)} and is answered without querying the implementation. Sources
+   * are added to the index at the origin when they are created, and removed
+   * when they are closed.
+   *
+   * @return A read-only view of the positions of sources
+   *
+   * @throws JAException On errors
+   */
+
+  JASpatialQueryType<JASourceType> sourceIndex()
+    throws JAException;
+
+  /**
+   * @return The size of the cells of the source index, in world units
+   *
+   * @throws JAException On errors
+   *
+   * @see #setSourceIndexCellSize(double)
+   */
+
+  double sourceIndexCellSize()
+    throws JAException;
+
+  /**
+   * Set the size of the cells of the source index, in world units. Queries
+   * are fastest when the cell size is on the order of the typical query
+   * radius. The default is {@code 16.0}. Changing the cell size re-sorts
+   * every source in the index.
+   *
+   * @param cellSize The size of the cells along each axis
+   *
+   * @throws JAException On errors
+   */
+
+  void setSourceIndexCellSize(
+    double cellSize)
+    throws JAException;
+
   /**
    * @return A read-only view of the connections of sources and buffers
    *
@@ -17,6 +17,7 @@
 package com.io7m.jarabica.api;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * A factory of devices.
@@ -44,4 +45,38 @@ public interface JADeviceFactoryType
   JADeviceType openDevice(
     JADeviceDescription device)
     throws JAException;
+
+  /**
+   * Open a new loopback device. The device renders its output into
+   * application-provided memory rather than to audio hardware.
+   *
+   * @param frequency  The output frequency in hz
+   * @param channels   The output channel layout
+   * @param sampleType The output sample type
+   *
+   * @return A new loopback device
+   *
+   * @throws JAException On errors, or if the implementation does not support
+   *                     loopback devices or the given output format
+   * @see JALoopbackDeviceType#render(java.nio.ByteBuffer, int)
+   */
+
+  JALoopbackDeviceType openLoopbackDevice(
+    int frequency,
+    JAChannelLayout channels,
+    JASampleType sampleType)
+    throws JAException;
+
+  /**
+   * Find the context that is current for the process, ignoring any context
+   * that is current only for the calling thread. This allows code that
+   * creates contexts, which makes them current, to restore the context that
+   * was current beforehand.
+   *
+   * @return The process-wide current context, if any
+   *
+   * @see JAContextType#setCurrent()
+   */
+
+  Optional<JAContextType> currentContext();
 }
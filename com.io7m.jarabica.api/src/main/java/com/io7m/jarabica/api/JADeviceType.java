@@ -79,4 +79,42 @@ public interface JADeviceType extends JAHandleType
 
   int versionMinor()
     throws JAException;
+
+  /**
+   * @return {@code true} if the device provides a clock
+   *
+   * @throws JAException On errors
+   * @see #clockNanos()
+   */
+
+  boolean isDeviceClockSupported()
+    throws JAException;
+
+  /**
+   * Read the device clock. The clock measures the time in nanoseconds that
+   * the device has spent producing audio, and is the time base used for
+   * scheduled playback.
+   *
+   * @return The current device clock time in nanoseconds
+   *
+   * @throws JAException On errors, or if the device does not provide a clock
+   * @see JASourceType#playAt(long)
+   */
+
+  long clockNanos()
+    throws JAException;
+
+  /**
+   * Read the output latency of the device: the time between audio being
+   * mixed and it being heard. The latency is typically governed by the
+   * size and number of the device's update buffers.
+   *
+   * @return The current output latency in nanoseconds
+   *
+   * @throws JAException On errors, or if the device does not provide a clock
+   * @see #isDeviceClockSupported()
+   */
+
+  long latencyNanos()
+    throws JAException;
 }
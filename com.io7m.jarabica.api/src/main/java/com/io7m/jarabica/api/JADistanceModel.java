@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+/**
+ * The distance models that determine how sources attenuate with distance
+ * from the listener ({@code alDistanceModel}).
+ */
+
+public enum JADistanceModel
+{
+  /**
+   * Sources do not attenuate with distance ({@code AL_NONE}).
+   */
+
+  DISTANCE_NONE,
+
+  /**
+   * Inverse distance attenuation ({@code AL_INVERSE_DISTANCE}).
+   */
+
+  DISTANCE_INVERSE,
+
+  /**
+   * Inverse distance attenuation, with the distance clamped to the range
+   * {@code [reference, maximum]} ({@code AL_INVERSE_DISTANCE_CLAMPED}). This
+   * is the default model.
+   */
+
+  DISTANCE_INVERSE_CLAMPED,
+
+  /**
+   * Linear attenuation from the reference distance to the maximum distance
+   * ({@code AL_LINEAR_DISTANCE}).
+   */
+
+  DISTANCE_LINEAR,
+
+  /**
+   * Linear attenuation, with the distance clamped to the range
+   * {@code [reference, maximum]} ({@code AL_LINEAR_DISTANCE_CLAMPED}).
+   */
+
+  DISTANCE_LINEAR_CLAMPED,
+
+  /**
+   * Exponential attenuation ({@code AL_EXPONENT_DISTANCE}).
+   */
+
+  DISTANCE_EXPONENT,
+
+  /**
+   * Exponential attenuation, with the distance clamped to the range
+   * {@code [reference, maximum]} ({@code AL_EXPONENT_DISTANCE_CLAMPED}).
+   */
+
+  DISTANCE_EXPONENT_CLAMPED;
+
+  /**
+   * Calculate the attenuation of a source according to the formulas given
+   * in the OpenAL 1.1 specification. The result is a multiplier applied to
+   * the gain of the source, and is never negative.
+   *
+   * @param distance          The distance between the source and listener
+   * @param referenceDistance The source's reference distance
+   * @param maximumDistance   The source's maximum distance
+   * @param rolloffFactor     The source's rolloff factor
+   *
+   * @return The attenuation
+   */
+
+  public double attenuation(
+    final double distance,
+    final double referenceDistance,
+    final double maximumDistance,
+    final double rolloffFactor)
+  {
+    return switch (this) {
+      case DISTANCE_NONE -> 1.0;
+      case DISTANCE_INVERSE ->
+        inverse(distance, referenceDistance, rolloffFactor);
+      case DISTANCE_INVERSE_CLAMPED -> inverse(
+        clamp(distance, referenceDistance, maximumDistance),
+        referenceDistance,
+        rolloffFactor
+      );
+      case DISTANCE_LINEAR ->
+        linear(distance, referenceDistance, maximumDistance, rolloffFactor);
+      case DISTANCE_LINEAR_CLAMPED -> linear(
+        clamp(distance, referenceDistance, maximumDistance),
+        referenceDistance,
+        maximumDistance,
+        rolloffFactor
+      );
+      case DISTANCE_EXPONENT ->
+        exponent(distance, referenceDistance, rolloffFactor);
+      case DISTANCE_EXPONENT_CLAMPED -> exponent(
+        clamp(distance, referenceDistance, maximumDistance),
+        referenceDistance,
+        rolloffFactor
+      );
+    };
+  }
+
+  private static double clamp(
+    final double distance,
+    final double referenceDistance,
+    final double maximumDistance)
+  {
+    return Math.max(referenceDistance, Math.min(maximumDistance, distance));
+  }
+
+  private static double inverse(
+    final double distance,
+    final double referenceDistance,
+    final double rolloffFactor)
+  {
+    final var divisor =
+      referenceDistance + rolloffFactor * (distance - referenceDistance);
+    if (divisor > 0.0) {
+      return Math.max(0.0, referenceDistance / divisor);
+    }
+    return 1.0;
+  }
+
+  private static double linear(
+    final double distance,
+    final double referenceDistance,
+    final double maximumDistance,
+    final double rolloffFactor)
+  {
+    final var range = maximumDistance - referenceDistance;
+    if (range > 0.0) {
+      final var fall = rolloffFactor * (distance - referenceDistance) / range;
+      return Math.max(0.0, 1.0 - fall);
+    }
+    return 1.0;
+  }
+
+  private static double exponent(
+    final double distance,
+    final double referenceDistance,
+    final double rolloffFactor)
+  {
+    if (distance > 0.0 && referenceDistance > 0.0) {
+      return Math.pow(distance / referenceDistance, -rolloffFactor);
+    }
+    return 1.0;
+  }
+}
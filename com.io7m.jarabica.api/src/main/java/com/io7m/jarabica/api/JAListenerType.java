@@ -19,6 +19,7 @@ package com.io7m.jarabica.api;
 import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 
+import java.nio.FloatBuffer;
 import java.util.Objects;
 
 /**
@@ -36,6 +37,35 @@ public interface JAListenerType
   Vector3D position()
     throws JAException;
 
+  /**
+   * Write the listener's position into the given array. This method does not
+   * allocate.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the X, Y, and Z components
+   *
+   * @throws JAException On errors
+   */
+
+  void position(
+    float[] output,
+    int offset)
+    throws JAException;
+
+  /**
+   * Write the listener's position into the given buffer, starting at the buffer's
+   * current position. The buffer's position is not modified. This method
+   * does not allocate.
+   *
+   * @param output The output buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void position(
+    FloatBuffer output)
+    throws JAException;
+
   /**
    * Set the listener's position.
    *
@@ -52,6 +82,22 @@ public interface JAListenerType
     double z)
     throws JAException;
 
+  /**
+   * Set the listener's position.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   *
+   * @throws JAException On errors
+   */
+
+  void setPosition(
+    float x,
+    float y,
+    float z)
+    throws JAException;
+
   /**
    * Set the listener's position.
    *
@@ -91,6 +137,35 @@ public interface JAListenerType
   Vector3D velocity()
     throws JAException;
 
+  /**
+   * Write the listener's velocity into the given array. This method does not
+   * allocate.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the X, Y, and Z components
+   *
+   * @throws JAException On errors
+   */
+
+  void velocity(
+    float[] output,
+    int offset)
+    throws JAException;
+
+  /**
+   * Write the listener's velocity into the given buffer, starting at the buffer's
+   * current position. The buffer's position is not modified. This method
+   * does not allocate.
+   *
+   * @param output The output buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void velocity(
+    FloatBuffer output)
+    throws JAException;
+
   /**
    * Set the listener's velocity.
    *
@@ -107,6 +182,22 @@ public interface JAListenerType
     double z)
     throws JAException;
 
+  /**
+   * Set the listener's velocity.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   *
+   * @throws JAException On errors
+   */
+
+  void setVelocity(
+    float x,
+    float y,
+    float z)
+    throws JAException;
+
   /**
    * Set the listener's velocity.
    *
@@ -146,6 +237,37 @@ public interface JAListenerType
   Orientation orientation()
     throws JAException;
 
+  /**
+   * Write the listener's orientation into the given array. The components of
+   * the forward vector are written first, followed by the components of the
+   * up vector. This method does not allocate.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the six components
+   *
+   * @throws JAException On errors
+   */
+
+  void orientation(
+    float[] output,
+    int offset)
+    throws JAException;
+
+  /**
+   * Write the listener's orientation into the given buffer, starting at the
+   * buffer's current position. The components of the forward vector are
+   * written first, followed by the components of the up vector. The buffer's
+   * position is not modified. This method does not allocate.
+   *
+   * @param output The output buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void orientation(
+    FloatBuffer output)
+    throws JAException;
+
   /**
    * Set the listener's orientation expressed as a pair of linearly independent
    * "forward" and "up" vectors.
@@ -169,6 +291,29 @@ public interface JAListenerType
     double upZ)
     throws JAException;
 
+  /**
+   * Set the listener's orientation expressed as a pair of linearly independent
+   * "forward" and "up" vectors.
+   *
+   * @param forwardX The X component of the forward vector
+   * @param forwardY The Y component of the forward vector
+   * @param forwardZ The Z component of the forward vector
+   * @param upX      The X component of the up vector
+   * @param upY      The Y component of the up vector
+   * @param upZ      The Z component of the up vector
+   *
+   * @throws JAException On errors
+   */
+
+  void setOrientation(
+    float forwardX,
+    float forwardY,
+    float forwardZ,
+    float upX,
+    float upY,
+    float upZ)
+    throws JAException;
+
   /**
    * Set the listener's orientation expressed as a pair of linearly independent
    * "forward" and "up" vectors.
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A loopback device. A loopback device is not connected to any audio
+ * hardware; instead, the mixed output of the device is rendered into
+ * application-provided memory on request, as fast as the CPU allows.
+ *
+ * @see JADeviceFactoryType#openLoopbackDevice(int, JAChannelLayout, JASampleType)
+ */
+
+public interface JALoopbackDeviceType extends JADeviceType
+{
+  /**
+   * @return The output frequency in hz
+   */
+
+  int frequency();
+
+  /**
+   * @return The output channel layout
+   */
+
+  JAChannelLayout channelLayout();
+
+  /**
+   * @return The output sample type
+   */
+
+  JASampleType sampleType();
+
+  /**
+   * @return The number of bytes in a single frame (one sample for every
+   * channel)
+   */
+
+  default int bytesPerFrame()
+  {
+    return this.channelLayout().channels() * this.sampleType().bytesPerSample();
+  }
+
+  /**
+   * Render the given number of frames into the given buffer. Samples are
+   * written in native byte order starting at the buffer's current position,
+   * and the position is advanced past the written data. Rendering advances
+   * the state of every context on the device (playing sources move forward
+   * by {@code frames} samples). At least one context must have been created
+   * on the device, as the output format is established by the first context.
+   *
+   * @param buffer The output buffer, which must be direct
+   * @param frames The number of frames to render
+   *
+   * @throws JAException On errors
+   */
+
+  void render(
+    ByteBuffer buffer,
+    int frames)
+    throws JAException;
+}
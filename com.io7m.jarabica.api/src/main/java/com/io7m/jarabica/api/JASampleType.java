@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+/**
+ * The type of individual samples in rendered audio.
+ */
+
+public enum JASampleType
+{
+  /**
+   * Signed 8-bit integer samples.
+   */
+
+  SAMPLE_BYTE(1),
+
+  /**
+   * Unsigned 8-bit integer samples.
+   */
+
+  SAMPLE_UNSIGNED_BYTE(1),
+
+  /**
+   * Signed 16-bit integer samples.
+   */
+
+  SAMPLE_SHORT(2),
+
+  /**
+   * Unsigned 16-bit integer samples.
+   */
+
+  SAMPLE_UNSIGNED_SHORT(2),
+
+  /**
+   * Signed 32-bit integer samples.
+   */
+
+  SAMPLE_INT(4),
+
+  /**
+   * Unsigned 32-bit integer samples.
+   */
+
+  SAMPLE_UNSIGNED_INT(4),
+
+  /**
+   * 32-bit IEEE 754 floating point samples in the range {@code [-1, 1]}.
+   */
+
+  SAMPLE_FLOAT(4);
+
+  private final int bytesPerSample;
+
+  JASampleType(
+    final int inBytesPerSample)
+  {
+    this.bytesPerSample = inBytesPerSample;
+  }
+
+  /**
+   * @return The number of bytes in a single sample
+   */
+
+  public int bytesPerSample()
+  {
+    return this.bytesPerSample;
+  }
+}
@@ -19,6 +19,7 @@ package com.io7m.jarabica.api;
 import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 
+import java.nio.FloatBuffer;
 import java.util.Optional;
 
 /**
@@ -49,6 +50,35 @@ public non-sealed interface JASourceType
   Vector3D position()
     throws JAException;
 
+  /**
+   * Write the source's position into the given array. This method does not
+   * allocate.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the X, Y, and Z components
+   *
+   * @throws JAException On errors
+   */
+
+  void position(
+    float[] output,
+    int offset)
+    throws JAException;
+
+  /**
+   * Write the source's position into the given buffer, starting at the buffer's
+   * current position. The buffer's position is not modified. This method
+   * does not allocate.
+   *
+   * @param output The output buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void position(
+    FloatBuffer output)
+    throws JAException;
+
   /**
    * Set the source's position.
    *
@@ -65,6 +95,22 @@ public non-sealed interface JASourceType
     double z)
     throws JAException;
 
+  /**
+   * Set the source's position.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   *
+   * @throws JAException On errors
+   */
+
+  void setPosition(
+    float x,
+    float y,
+    float z)
+    throws JAException;
+
   /**
    * Set the source's position.
    *
@@ -104,6 +150,35 @@ public non-sealed interface JASourceType
   Vector3D velocity()
     throws JAException;
 
+  /**
+   * Write the source's velocity into the given array. This method does not
+   * allocate.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the X, Y, and Z components
+   *
+   * @throws JAException On errors
+   */
+
+  void velocity(
+    float[] output,
+    int offset)
+    throws JAException;
+
+  /**
+   * Write the source's velocity into the given buffer, starting at the buffer's
+   * current position. The buffer's position is not modified. This method
+   * does not allocate.
+   *
+   * @param output The output buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void velocity(
+    FloatBuffer output)
+    throws JAException;
+
   /**
    * Set the source's velocity.
    *
@@ -120,6 +195,22 @@ public non-sealed interface JASourceType
     double z)
     throws JAException;
 
+  /**
+   * Set the source's velocity.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   *
+   * @throws JAException On errors
+   */
+
+  void setVelocity(
+    float x,
+    float y,
+    float z)
+    throws JAException;
+
   /**
    * Set the source's velocity.
    *
@@ -159,6 +250,22 @@ public non-sealed interface JASourceType
   void play()
     throws JAException;
 
+  /**
+   * Play any attached buffer from this source, starting exactly at the given
+   * device clock time. The source enters the playing state immediately, but
+   * produces no sound until the device clock reaches the given time. If the
+   * time has already passed, playback starts as soon as possible.
+   *
+   * @param deviceTimeNanos The device clock time in nanoseconds
+   *
+   * @throws JAException On errors, or if scheduled playback is not supported
+   * @see JADeviceType#clockNanos()
+   * @see JAContextType#isScheduledPlaybackSupported()
+   */
+
+  void playAt(long deviceTimeNanos)
+    throws JAException;
+
   /**
    * Pause playback of any attached buffer.
    *
@@ -206,6 +313,53 @@ public non-sealed interface JASourceType
   void detachBuffer()
     throws JAException;
 
+  /**
+   * Append the given buffer to the source's queue of buffers. Sources that
+   * have buffers queued play each buffer in turn, and are typically used to
+   * stream audio that is too large to hold in memory all at once. A buffer
+   * cannot be deleted while it is queued on a source.
+   *
+   * @param buffer The buffer
+   *
+   * @throws JAException On errors
+   * @see #unqueueBuffer()
+   */
+
+  void queueBuffer(JABufferType buffer)
+    throws JAException;
+
+  /**
+   * Remove the oldest buffer from the source's queue of buffers. The buffer
+   * must have been processed.
+   *
+   * @return The removed buffer
+   *
+   * @throws JAException On errors
+   * @see #buffersProcessed()
+   */
+
+  JABufferType unqueueBuffer()
+    throws JAException;
+
+  /**
+   * @return The number of buffers in the source's queue
+   *
+   * @throws JAException On errors
+   */
+
+  int buffersQueued()
+    throws JAException;
+
+  /**
+   * @return The number of buffers in the source's queue that have been
+   * played and can be removed with {@link #unqueueBuffer()}
+   *
+   * @throws JAException On errors
+   */
+
+  int buffersProcessed()
+    throws JAException;
+
   /**
    * @return The buffer attached to the source, if any
    *
@@ -245,6 +399,18 @@ public non-sealed interface JASourceType
     double m)
     throws JAException;
 
+  /**
+   * Set the source's gain.
+   *
+   * @param m The scalar gain multiplier
+   *
+   * @throws JAException On errors
+   */
+
+  void setGain(
+    float m)
+    throws JAException;
+
   /**
    * @return The source's pitch
    *
@@ -266,6 +432,130 @@ public non-sealed interface JASourceType
     double m)
     throws JAException;
 
+  /**
+   * Set the source's pitch.
+   *
+   * @param m The scalar pitch multiplier
+   *
+   * @throws JAException On errors
+   */
+
+  void setPitch(
+    float m)
+    throws JAException;
+
+  /**
+   * @return The source's reference distance ({@code AL_REFERENCE_DISTANCE})
+   *
+   * @throws JAException On errors
+   * @see JAContextType#distanceModel()
+   */
+
+  double referenceDistance()
+    throws JAException;
+
+  /**
+   * Set the source's reference distance ({@code AL_REFERENCE_DISTANCE}).
+   *
+   * @param d The distance at which the source's attenuation is {@code 1.0}
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setReferenceDistance(
+    double d)
+    throws JAException;
+
+  /**
+   * Set the source's reference distance ({@code AL_REFERENCE_DISTANCE}).
+   *
+   * @param d The distance at which the source's attenuation is {@code 1.0}
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setReferenceDistance(
+    float d)
+    throws JAException;
+
+  /**
+   * @return The source's maximum distance ({@code AL_MAX_DISTANCE})
+   *
+   * @throws JAException On errors
+   * @see JAContextType#distanceModel()
+   */
+
+  double maxDistance()
+    throws JAException;
+
+  /**
+   * Set the source's maximum distance ({@code AL_MAX_DISTANCE}).
+   *
+   * @param d The distance beyond which the source attenuates no further
+   *          (under the clamped models), or is silent (under the linear
+   *          models)
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setMaxDistance(
+    double d)
+    throws JAException;
+
+  /**
+   * Set the source's maximum distance ({@code AL_MAX_DISTANCE}).
+   *
+   * @param d The distance beyond which the source attenuates no further
+   *          (under the clamped models), or is silent (under the linear
+   *          models)
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setMaxDistance(
+    float d)
+    throws JAException;
+
+  /**
+   * @return The source's rolloff factor ({@code AL_ROLLOFF_FACTOR})
+   *
+   * @throws JAException On errors
+   * @see JAContextType#distanceModel()
+   */
+
+  double rolloffFactor()
+    throws JAException;
+
+  /**
+   * Set the source's rolloff factor ({@code AL_ROLLOFF_FACTOR}).
+   *
+   * @param d The rate at which the source attenuates with distance
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setRolloffFactor(
+    double d)
+    throws JAException;
+
+  /**
+   * Set the source's rolloff factor ({@code AL_ROLLOFF_FACTOR}).
+   *
+   * @param d The rate at which the source attenuates with distance
+   *
+   * @throws JAException On errors
+   * @see JAContextType#setDistanceModel(JADistanceModel)
+   */
+
+  void setRolloffFactor(
+    float d)
+    throws JAException;
+
   /**
    * Set the source to looping (or not looping).
    *
@@ -285,5 +575,71 @@ public non-sealed interface JASourceType
 
   boolean looping()
     throws JAException;
+
+  /**
+   * @return The playback position of the source in seconds, relative to the
+   * start of the current buffer (or the first buffer in the queue)
+   *
+   * @throws JAException On errors
+   */
+
+  double offsetSeconds()
+    throws JAException;
+
+  /**
+   * Set the playback position of the source. If the source is playing,
+   * playback jumps to the new position immediately; otherwise, playback
+   * begins at the new position the next time the source is played.
+   *
+   * @param seconds The position in seconds
+   *
+   * @throws JAException On errors
+   */
+
+  void setOffsetSeconds(
+    double seconds)
+    throws JAException;
+
+  /**
+   * @return The playback position of the source in sample frames, relative
+   * to the start of the current buffer (or the first buffer in the queue)
+   *
+   * @throws JAException On errors
+   */
+
+  int offsetSamples()
+    throws JAException;
+
+  /**
+   * Set the playback position of the source in sample frames.
+   *
+   * @param samples The position in sample frames
+   *
+   * @throws JAException On errors
+   * @see #setOffsetSeconds(double)
+   */
+
+  void setOffsetSamples(
+    int samples)
+    throws JAException;
+
+  /**
+   * Read the playback position of the source together with the output
+   * latency of the device, in a single atomic query. Two values are written
+   * to the given array: the playback position in sample frames as a 32.32
+   * fixed-point value, followed by the time in nanoseconds before the sample
+   * at that position will be heard. If the implementation cannot report
+   * latency, the latency is zero and the position has no fractional part.
+   *
+   * @param output The output array
+   * @param offset The offset at which to write the two values
+   *
+   * @throws JAException On errors
+   */
+
+  void offsetLatency(
+    long[] output,
+    int offset)
+    throws JAException;
 }
 
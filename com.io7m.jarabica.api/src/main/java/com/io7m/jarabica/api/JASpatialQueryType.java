@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+import java.util.List;
+
+/**
+ * Spatial queries over a set of positioned objects. Queries are answered
+ * from positions held by the index, and never read positions back from the
+ * underlying implementation.
+ *
+ * @param <T> The type of objects
+ */
+
+public interface JASpatialQueryType<T>
+{
+  /**
+   * @return The number of objects in the index
+   */
+
+  int size();
+
+  /**
+   * Find the objects nearest to the given point. The objects are added to
+   * the output list in order of increasing distance.
+   *
+   * @param x      The x coordinate of the point
+   * @param y      The y coordinate of the point
+   * @param z      The z coordinate of the point
+   * @param count  The maximum number of objects to find
+   * @param output The output list
+   *
+   * @return The number of objects added to the output list
+   */
+
+  int nearest(
+    double x,
+    double y,
+    double z,
+    int count,
+    List<? super T> output);
+
+  /**
+   * Find the objects within the given distance of the given point. The
+   * objects are added to the output list in no particular order.
+   *
+   * @param x      The x coordinate of the point
+   * @param y      The y coordinate of the point
+   * @param z      The z coordinate of the point
+   * @param radius The radius
+   * @param output The output list
+   *
+   * @return The number of objects added to the output list
+   */
+
+  int withinRadius(
+    double x,
+    double y,
+    double z,
+    double radius,
+    List<? super T> output);
+
+  /**
+   * Find the objects within the given axis-aligned box (inclusive). The
+   * objects are added to the output list in no particular order.
+   *
+   * @param minX   The minimum x coordinate of the box
+   * @param minY   The minimum y coordinate of the box
+   * @param minZ   The minimum z coordinate of the box
+   * @param maxX   The maximum x coordinate of the box
+   * @param maxY   The maximum y coordinate of the box
+   * @param maxZ   The maximum z coordinate of the box
+   * @param output The output list
+   *
+   * @return The number of objects added to the output list
+   */
+
+  int withinBox(
+    double minX,
+    double minY,
+    double minZ,
+    double maxX,
+    double maxY,
+    double maxZ,
+    List<? super T> output);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.api;
+
+/**
+ * A batch of updates. Changes made to sources and the listener of a context
+ * while a batch is open are deferred, and are applied atomically when the
+ * batch is closed. Errors raised by calls made within the batch are checked
+ * once when the batch is closed, rather than once per call.
+ *
+ * @see JAContextType#beginUpdate()
+ */
+
+public interface JAUpdateBatchType extends AutoCloseable
+{
+  /**
+   * Close the batch, applying all deferred changes. If batches are nested,
+   * changes are applied when the outermost batch is closed. Closing a batch
+   * that is already closed has no effect.
+   *
+   * @throws JAException On errors
+   */
+
+  @Override
+  void close()
+    throws JAException;
+
+  /**
+   * @return {@code true} iff the batch has been closed with {@link #close()}
+   */
+
+  boolean isClosed();
+}
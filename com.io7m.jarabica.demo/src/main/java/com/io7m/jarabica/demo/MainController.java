@@ -18,7 +18,6 @@
 package com.io7m.jarabica.demo;
 
 import com.io7m.jarabica.api.JAAbstractGraphListener;
-import com.io7m.jarabica.api.JABufferFormat;
 import com.io7m.jarabica.api.JABufferType;
 import com.io7m.jarabica.api.JAContextType;
 import com.io7m.jarabica.api.JADeviceType;
@@ -31,6 +30,7 @@ import com.io7m.jarabica.extensions.efx.JAEFXEffectEAXReverbType;
 import com.io7m.jarabica.extensions.efx.JAEFXType;
 import com.io7m.jarabica.extensions.efx.JAEXFEffectsSlotType;
 import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jarabica.wav.JAWAVFile;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
 import com.io7m.jwheatsheaf.api.JWFileChooserAction;
@@ -58,12 +58,8 @@ import org.jgrapht.event.GraphVertexChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.IOException;
 import java.net.URL;
-import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.ResourceBundle;
@@ -135,24 +131,6 @@ public final class MainController implements Initializable
     this.sourceShapes = new HashMap<>();
   }
 
-  private static JABufferFormat formatFor(
-    final AudioFormat format)
-  {
-    return switch (format.getChannels()) {
-      case 1 -> switch (format.getSampleSizeInBits()) {
-        case 8 -> JABufferFormat.AUDIO_8_BIT_MONO;
-        case 16 -> JABufferFormat.AUDIO_16_BIT_MONO;
-        default -> throw new UnsupportedOperationException();
-      };
-      case 2 -> switch (format.getSampleSizeInBits()) {
-        case 8 -> JABufferFormat.AUDIO_8_BIT_STEREO;
-        case 16 -> JABufferFormat.AUDIO_16_BIT_STEREO;
-        default -> throw new UnsupportedOperationException();
-      };
-      default -> throw new UnsupportedOperationException();
-    };
-  }
-
   @Override
   public void initialize(
     final URL location,
@@ -820,7 +798,7 @@ public final class MainController implements Initializable
 
   @FXML
   private void onCreateSourceSelected()
-    throws IOException, UnsupportedAudioFileException, JAException
+    throws IOException, JAException
   {
     final var chooser =
       this.choosers.create(
@@ -834,34 +812,20 @@ public final class MainController implements Initializable
       return;
     }
 
-    try (var stream =
-           AudioSystem.getAudioInputStream(file.get(0).toFile())) {
-      final var format =
-        stream.getFormat();
-      final var data =
-        stream.readAllBytes();
-      final var dataBuffer =
-        ByteBuffer.allocateDirect(data.length);
-      dataBuffer.put(data);
-      dataBuffer.rewind();
-
-      final var buffer =
-        this.context.createBuffer();
-      buffer.setData(
-        formatFor(format),
-        (int) format.getSampleRate(),
-        dataBuffer
-      );
+    final var wav =
+      JAWAVFile.open(file.get(0));
+    final var buffer =
+      this.context.createBuffer();
+    wav.upload(buffer);
 
-      final var source = this.context.createSource();
-      this.efx.attachSourceDirectToEffectsSlot(source, this.mainEffectSlot);
+    final var source = this.context.createSource();
+    this.efx.attachSourceDirectToEffectsSlot(source, this.mainEffectSlot);
 
-      source.setPosition(0.0, 0.0, 0.0);
-      source.setBuffer(buffer);
-      source.setGain(0.5);
-      source.setLooping(true);
-      source.play();
-    }
+    source.setPosition(0.0, 0.0, 0.0);
+    source.setBuffer(buffer);
+    source.setGain(0.5);
+    source.setLooping(true);
+    source.play();
   }
 
   @FXML
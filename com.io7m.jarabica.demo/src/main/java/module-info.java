@@ -26,6 +26,7 @@ open module com.io7m.jarabica.demo
   requires com.io7m.jarabica.api;
   requires com.io7m.jarabica.extensions.efx;
   requires com.io7m.jarabica.lwjgl;
+  requires com.io7m.jarabica.wav;
 
   requires com.io7m.jwheatsheaf.api;
   requires com.io7m.jwheatsheaf.ui;
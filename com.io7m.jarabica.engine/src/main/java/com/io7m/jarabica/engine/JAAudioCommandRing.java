@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A bounded, lock-free, multi-producer single-consumer ring of
+ * commands.</p>
+ *
+ * <p>The ring is an implementation of Dmitry Vyukov's bounded queue: each
+ * slot carries a sequence number that tells producers when the slot is free
+ * and tells the consumer when the slot has been published. Producers claim
+ * slots with a single compare-and-set on the tail counter. Commands are
+ * stored in parallel arrays so that posting a command does not allocate.</p>
+ */
+
+final class JAAudioCommandRing
+{
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final JAAudioReceiverType[] receivers;
+  private final int[] opcodes;
+  private final Object[] arguments;
+  private final AtomicLong tail;
+  private long head;
+
+  /**
+   * Create a ring.
+   *
+   * @param capacity The capacity; must be a power of two
+   */
+
+  JAAudioCommandRing(
+    final int capacity)
+  {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+        "Capacity %d must be a power of two".formatted(
+          Integer.valueOf(capacity))
+      );
+    }
+
+    this.mask = capacity - 1;
+    this.sequences = new AtomicLongArray(capacity);
+    this.receivers = new JAAudioReceiverType[capacity];
+    this.opcodes = new int[capacity];
+    this.arguments = new Object[capacity];
+    this.tail = new AtomicLong(0L);
+    this.head = 0L;
+
+    for (int index = 0; index < capacity; ++index) {
+      this.sequences.set(index, index);
+    }
+  }
+
+  /**
+   * @return The ring capacity
+   */
+
+  int capacity()
+  {
+    return this.mask + 1;
+  }
+
+  /**
+   * Try to publish a command. May be called from any thread.
+   *
+   * @param receiver The command receiver
+   * @param opcode   The command opcode
+   * @param argument The command argument
+   *
+   * @return {@code false} if the ring is full
+   */
+
+  boolean offer(
+    final JAAudioReceiverType receiver,
+    final int opcode,
+    final Object argument)
+  {
+    long position = this.tail.get();
+    while (true) {
+      final var index = (int) (position & this.mask);
+      final var sequence = this.sequences.getAcquire(index);
+      final var difference = sequence - position;
+
+      if (difference == 0L) {
+        if (this.tail.weakCompareAndSetVolatile(position, position + 1L)) {
+          this.receivers[index] = receiver;
+          this.opcodes[index] = opcode;
+          this.arguments[index] = argument;
+          this.sequences.setRelease(index, position + 1L);
+          return true;
+        }
+        position = this.tail.get();
+      } else if (difference < 0L) {
+        return false;
+      } else {
+        position = this.tail.get();
+      }
+    }
+  }
+
+  /**
+   * Take at most {@code maximum} commands from the ring and deliver them to
+   * the given consumer. Must only be called from the consumer thread.
+   *
+   * @param consumer The consumer
+   * @param maximum  The maximum number of commands
+   *
+   * @return The number of commands delivered
+   */
+
+  int drain(
+    final ConsumerType consumer,
+    final int maximum)
+  {
+    int count = 0;
+    while (count < maximum) {
+      final var position = this.head;
+      final var index = (int) (position & this.mask);
+      final var sequence = this.sequences.getAcquire(index);
+      if (sequence != position + 1L) {
+        break;
+      }
+
+      final var receiver = this.receivers[index];
+      final var opcode = this.opcodes[index];
+      final var argument = this.arguments[index];
+      this.receivers[index] = null;
+      this.arguments[index] = null;
+      this.sequences.setRelease(index, position + this.mask + 1L);
+      this.head = position + 1L;
+
+      consumer.accept(receiver, opcode, argument);
+      ++count;
+    }
+    return count;
+  }
+
+  /**
+   * @return The approximate number of commands in the ring
+   */
+
+  int size()
+  {
+    final var size = this.tail.get() - this.head;
+    return (int) Math.max(0L, Math.min(size, this.mask + 1L));
+  }
+
+  /**
+   * A consumer of commands.
+   */
+
+  interface ConsumerType
+  {
+    /**
+     * Accept a command.
+     *
+     * @param receiver The command receiver
+     * @param opcode   The command opcode
+     * @param argument The command argument
+     */
+
+    void accept(
+      JAAudioReceiverType receiver,
+      int opcode,
+      Object argument);
+  }
+}
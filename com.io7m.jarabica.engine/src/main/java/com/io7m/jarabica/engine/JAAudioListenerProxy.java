@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A thread-safe proxy for the listener of the context owned by an audio
+ * thread.</p>
+ *
+ * <p>Methods on this class may be called from any thread. Writes are
+ * coalesced in the same manner as {@link JAAudioSourceProxy}.</p>
+ */
+
+public final class JAAudioListenerProxy
+{
+  private static final int DIRTY_POSITION = 0b001;
+  private static final int DIRTY_VELOCITY = 0b010;
+  private static final int DIRTY_ORIENTATION = 0b100;
+
+  private final JAAudioThread thread;
+  private final JAAudioReceiverType receiver;
+  private final AtomicInteger dirty;
+  private final JAAudioPropertySlot position;
+  private final JAAudioPropertySlot velocity;
+  private final JAAudioPropertySlot orientation;
+  private final float[] scratch;
+
+  JAAudioListenerProxy(
+    final JAAudioThread inThread)
+  {
+    this.thread =
+      Objects.requireNonNull(inThread, "thread");
+    this.receiver =
+      this::applyCommand;
+    this.dirty =
+      new AtomicInteger(0);
+    this.position =
+      new JAAudioPropertySlot(3);
+    this.velocity =
+      new JAAudioPropertySlot(3);
+    this.orientation =
+      new JAAudioPropertySlot(6);
+    this.scratch =
+      new float[6];
+  }
+
+  /**
+   * Set the listener's position.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   */
+
+  public void setPosition(
+    final float x,
+    final float y,
+    final float z)
+  {
+    this.position.write(x, y, z);
+    this.markDirty(DIRTY_POSITION);
+  }
+
+  /**
+   * Set the listener's velocity.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   */
+
+  public void setVelocity(
+    final float x,
+    final float y,
+    final float z)
+  {
+    this.velocity.write(x, y, z);
+    this.markDirty(DIRTY_VELOCITY);
+  }
+
+  /**
+   * Set the listener's orientation expressed as a pair of linearly independent
+   * "forward" and "up" vectors.
+   *
+   * @param forwardX The X component of the forward vector
+   * @param forwardY The Y component of the forward vector
+   * @param forwardZ The Z component of the forward vector
+   * @param upX      The X component of the up vector
+   * @param upY      The Y component of the up vector
+   * @param upZ      The Z component of the up vector
+   */
+
+  public void setOrientation(
+    final float forwardX,
+    final float forwardY,
+    final float forwardZ,
+    final float upX,
+    final float upY,
+    final float upZ)
+  {
+    this.orientation.write(forwardX, forwardY, forwardZ, upX, upY, upZ);
+    this.markDirty(DIRTY_ORIENTATION);
+  }
+
+  private void markDirty(
+    final int bit)
+  {
+    int previous;
+    do {
+      previous = this.dirty.get();
+    } while (!this.dirty.compareAndSet(previous, previous | bit));
+
+    if (previous == 0) {
+      this.thread.onPropertyWritten(false);
+      this.thread.post(this.receiver, 0, null);
+    } else {
+      this.thread.onPropertyWritten(true);
+    }
+  }
+
+  private void applyCommand(
+    final JAContextType context,
+    final int opcode,
+    final Object argument)
+    throws JAException
+  {
+    final var bits = this.dirty.getAndSet(0);
+    final var values = this.scratch;
+    final var listener = context.listener();
+
+    if ((bits & DIRTY_POSITION) != 0) {
+      this.position.read(values);
+      listener.setPosition(values[0], values[1], values[2]);
+    }
+    if ((bits & DIRTY_VELOCITY) != 0) {
+      this.velocity.read(values);
+      listener.setVelocity(values[0], values[1], values[2]);
+    }
+    if ((bits & DIRTY_ORIENTATION) != 0) {
+      this.orientation.read(values);
+      listener.setOrientation(
+        values[0],
+        values[1],
+        values[2],
+        values[3],
+        values[4],
+        values[5]
+      );
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAAudioListenerProxy 0x")
+      .append(Integer.toUnsignedString(this.hashCode(), 16))
+      .append("]")
+      .toString();
+  }
+}
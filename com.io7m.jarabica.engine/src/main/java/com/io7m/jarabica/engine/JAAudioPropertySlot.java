@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A small group of floats that can be written by any thread and read
+ * consistently by the audio thread without allocating.</p>
+ *
+ * <p>The slot is a sequence lock: writers move the sequence number to an odd
+ * value while writing and back to an even value when finished, and readers
+ * retry if the sequence number was odd or changed while they were reading.
+ * Writers serialize against each other by claiming the odd value with a
+ * compare-and-set.</p>
+ */
+
+final class JAAudioPropertySlot
+{
+  private final AtomicLong sequence;
+  private final float[] values;
+
+  /**
+   * Create a slot.
+   *
+   * @param size The number of values
+   */
+
+  JAAudioPropertySlot(
+    final int size)
+  {
+    this.sequence = new AtomicLong(0L);
+    this.values = new float[size];
+  }
+
+  private long writeBegin()
+  {
+    while (true) {
+      final var current = this.sequence.get();
+      if ((current & 1L) == 0L) {
+        if (this.sequence.weakCompareAndSetVolatile(current, current + 1L)) {
+          return current;
+        }
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /**
+   * Write a single value.
+   *
+   * @param x The value
+   */
+
+  void write(
+    final float x)
+  {
+    final var s = this.writeBegin();
+    this.values[0] = x;
+    this.sequence.setRelease(s + 2L);
+  }
+
+  /**
+   * Write three values.
+   *
+   * @param x The first value
+   * @param y The second value
+   * @param z The third value
+   */
+
+  void write(
+    final float x,
+    final float y,
+    final float z)
+  {
+    final var s = this.writeBegin();
+    this.values[0] = x;
+    this.values[1] = y;
+    this.values[2] = z;
+    this.sequence.setRelease(s + 2L);
+  }
+
+  /**
+   * Write six values.
+   *
+   * @param x0 The first value
+   * @param y0 The second value
+   * @param z0 The third value
+   * @param x1 The fourth value
+   * @param y1 The fifth value
+   * @param z1 The sixth value
+   */
+
+  void write(
+    final float x0,
+    final float y0,
+    final float z0,
+    final float x1,
+    final float y1,
+    final float z1)
+  {
+    final var s = this.writeBegin();
+    this.values[0] = x0;
+    this.values[1] = y0;
+    this.values[2] = z0;
+    this.values[3] = x1;
+    this.values[4] = y1;
+    this.values[5] = z1;
+    this.sequence.setRelease(s + 2L);
+  }
+
+  /**
+   * Read a consistent copy of the values.
+   *
+   * @param output The output array
+   */
+
+  void read(
+    final float[] output)
+  {
+    while (true) {
+      final var before = this.sequence.getAcquire();
+      if ((before & 1L) == 0L) {
+        System.arraycopy(this.values, 0, output, 0, this.values.length);
+        VarHandle.loadLoadFence();
+        if (this.sequence.get() == before) {
+          return;
+        }
+      }
+      Thread.onSpinWait();
+    }
+  }
+}
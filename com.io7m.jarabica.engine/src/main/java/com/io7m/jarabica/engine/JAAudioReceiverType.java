@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * An object that can receive commands on the audio thread.
+ */
+
+interface JAAudioReceiverType
+{
+  /**
+   * Apply a command. Called on the audio thread.
+   *
+   * @param context  The context
+   * @param opcode   The command opcode
+   * @param argument The command argument
+   *
+   * @throws JAException On errors
+   */
+
+  void apply(
+    JAContextType context,
+    int opcode,
+    Object argument)
+    throws JAException;
+}
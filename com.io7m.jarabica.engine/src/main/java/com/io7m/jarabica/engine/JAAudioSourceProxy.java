@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A thread-safe proxy for a source owned by an audio thread.</p>
+ *
+ * <p>Methods on this class may be called from any thread. Each call posts a
+ * command to the audio thread's queue, and the command is applied on the
+ * audio thread's next tick. Writes to properties such as the position and
+ * gain are coalesced: if a property is written several times before the
+ * audio thread applies it, only the last value is applied, and the queue
+ * only ever holds a single property update for each proxy.</p>
+ */
+
+public final class JAAudioSourceProxy
+{
+  private static final int OP_PROPERTIES = 0;
+  private static final int OP_PLAY = 1;
+  private static final int OP_PAUSE = 2;
+  private static final int OP_STOP = 3;
+  private static final int OP_REWIND = 4;
+  private static final int OP_LOOPING = 5;
+  private static final int OP_BUFFER_SET = 6;
+  private static final int OP_BUFFER_DETACH = 7;
+
+  private static final int DIRTY_POSITION = 0b0001;
+  private static final int DIRTY_VELOCITY = 0b0010;
+  private static final int DIRTY_GAIN = 0b0100;
+  private static final int DIRTY_PITCH = 0b1000;
+
+  private final JAAudioThread thread;
+  private final JAAudioReceiverType receiver;
+  private final JASourceType source;
+  private final AtomicInteger dirty;
+  private final JAAudioPropertySlot position;
+  private final JAAudioPropertySlot velocity;
+  private final JAAudioPropertySlot gain;
+  private final JAAudioPropertySlot pitch;
+  private final float[] scratch;
+
+  JAAudioSourceProxy(
+    final JAAudioThread inThread,
+    final JASourceType inSource)
+  {
+    this.thread =
+      Objects.requireNonNull(inThread, "thread");
+    this.receiver =
+      this::applyCommand;
+    this.source =
+      Objects.requireNonNull(inSource, "source");
+    this.dirty =
+      new AtomicInteger(0);
+    this.position =
+      new JAAudioPropertySlot(3);
+    this.velocity =
+      new JAAudioPropertySlot(3);
+    this.gain =
+      new JAAudioPropertySlot(1);
+    this.pitch =
+      new JAAudioPropertySlot(1);
+    this.scratch =
+      new float[3];
+  }
+
+  /**
+   * Access the underlying source. The source must only be used on the audio
+   * thread.
+   *
+   * @return The underlying source
+   */
+
+  public JASourceType source()
+  {
+    return this.source;
+  }
+
+  /**
+   * Set the source's position.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   */
+
+  public void setPosition(
+    final float x,
+    final float y,
+    final float z)
+  {
+    this.position.write(x, y, z);
+    this.markDirty(DIRTY_POSITION);
+  }
+
+  /**
+   * Set the source's velocity.
+   *
+   * @param x The X axis component
+   * @param y The Y axis component
+   * @param z The Z axis component
+   */
+
+  public void setVelocity(
+    final float x,
+    final float y,
+    final float z)
+  {
+    this.velocity.write(x, y, z);
+    this.markDirty(DIRTY_VELOCITY);
+  }
+
+  /**
+   * Set the source's gain.
+   *
+   * @param m The scalar gain multiplier
+   */
+
+  public void setGain(
+    final float m)
+  {
+    this.gain.write(m);
+    this.markDirty(DIRTY_GAIN);
+  }
+
+  /**
+   * Set the source's pitch.
+   *
+   * @param m The scalar pitch multiplier
+   */
+
+  public void setPitch(
+    final float m)
+  {
+    this.pitch.write(m);
+    this.markDirty(DIRTY_PITCH);
+  }
+
+  /**
+   * Set the source to looping (or not looping).
+   *
+   * @param looping {@code true} if the source should loop
+   */
+
+  public void setLooping(
+    final boolean looping)
+  {
+    this.thread.post(this.receiver, OP_LOOPING, Boolean.valueOf(looping));
+  }
+
+  /**
+   * Play any attached buffer from this source.
+   */
+
+  public void play()
+  {
+    this.thread.post(this.receiver, OP_PLAY, null);
+  }
+
+  /**
+   * Pause playback of any attached buffer.
+   */
+
+  public void pause()
+  {
+    this.thread.post(this.receiver, OP_PAUSE, null);
+  }
+
+  /**
+   * Stop playback of any attached buffer.
+   */
+
+  public void stop()
+  {
+    this.thread.post(this.receiver, OP_STOP, null);
+  }
+
+  /**
+   * Rewind playback of any attached buffer.
+   */
+
+  public void rewind()
+  {
+    this.thread.post(this.receiver, OP_REWIND, null);
+  }
+
+  /**
+   * Attach the given buffer to this source.
+   *
+   * @param buffer The buffer
+   */
+
+  public void setBuffer(
+    final JABufferType buffer)
+  {
+    this.thread.post(
+      this.receiver,
+      OP_BUFFER_SET,
+      Objects.requireNonNull(buffer, "buffer")
+    );
+  }
+
+  /**
+   * Detach any buffer attached to the source.
+   */
+
+  public void detachBuffer()
+  {
+    this.thread.post(this.receiver, OP_BUFFER_DETACH, null);
+  }
+
+  private void markDirty(
+    final int bit)
+  {
+    int previous;
+    do {
+      previous = this.dirty.get();
+    } while (!this.dirty.compareAndSet(previous, previous | bit));
+
+    if (previous == 0) {
+      this.thread.onPropertyWritten(false);
+
+      /*
+       * A failed post means that the thread is closed and no properties
+       * command is pending. Other writers may have set bits in the meantime
+       * on the assumption that this post would apply them, so all of the
+       * bits are cleared rather than just this one; otherwise every later
+       * write would be coalesced into a command that never arrives, and
+       * would silently be lost instead of failing.
+       */
+
+      try {
+        this.thread.post(this.receiver, OP_PROPERTIES, null);
+      } catch (final RuntimeException e) {
+        this.dirty.set(0);
+        throw e;
+      }
+    } else {
+      this.thread.onPropertyWritten(true);
+    }
+  }
+
+  private void applyCommand(
+    final JAContextType context,
+    final int opcode,
+    final Object argument)
+    throws JAException
+  {
+    switch (opcode) {
+      case OP_PROPERTIES -> this.applyProperties();
+      case OP_PLAY -> this.source.play();
+      case OP_PAUSE -> this.source.pause();
+      case OP_STOP -> this.source.stop();
+      case OP_REWIND -> this.source.rewind();
+      case OP_LOOPING -> this.source.setLooping(((Boolean) argument).booleanValue());
+      case OP_BUFFER_SET -> this.source.setBuffer((JABufferType) argument);
+      case OP_BUFFER_DETACH -> this.source.detachBuffer();
+      default -> throw new IllegalStateException(
+        "Unrecognized opcode: " + opcode);
+    }
+  }
+
+  private void applyProperties()
+    throws JAException
+  {
+    final var bits = this.dirty.getAndSet(0);
+    final var values = this.scratch;
+
+    if ((bits & DIRTY_POSITION) != 0) {
+      this.position.read(values);
+      this.source.setPosition(values[0], values[1], values[2]);
+    }
+    if ((bits & DIRTY_VELOCITY) != 0) {
+      this.velocity.read(values);
+      this.source.setVelocity(values[0], values[1], values[2]);
+    }
+    if ((bits & DIRTY_GAIN) != 0) {
+      this.gain.read(values);
+      this.source.setGain(values[0]);
+    }
+    if ((bits & DIRTY_PITCH) != 0) {
+      this.pitch.read(values);
+      this.source.setPitch(values[0]);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAAudioSourceProxy ")
+      .append(this.source)
+      .append("]")
+      .toString();
+  }
+}
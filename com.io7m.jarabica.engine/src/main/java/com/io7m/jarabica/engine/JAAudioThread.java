@@ -0,0 +1,586 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>A dedicated thread that owns a context.</p>
+ *
+ * <p>OpenAL contexts, and the objects created from them, are not safe to use
+ * from multiple threads. An audio thread takes ownership of a context, and
+ * any thread can then post commands to the audio thread through a bounded
+ * lock-free queue. The audio thread wakes up once per tick, applies all
+ * queued commands inside a single update batch, and then calls any
+ * registered tick listeners.</p>
+ *
+ * <p>Once a context has been given to an audio thread, the context and all
+ * objects created from it must only be accessed from commands, tasks, and
+ * tick listeners executing on the audio thread, or through proxies such as
+ * {@link JAAudioSourceProxy}.</p>
+ *
+ * <p>If the command queue is full, threads posting commands wait for the
+ * audio thread to make space.</p>
+ */
+
+public final class JAAudioThread implements AutoCloseable
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JAAudioThread.class);
+
+  private static final JAAudioReceiverType COMMANDS =
+    (context, opcode, argument) -> {
+      ((JAAudioCommandType) argument).execute(context);
+    };
+
+  private final JAAudioThreadConfiguration configuration;
+  private final JAContextType context;
+  private final JAAudioCommandRing ring;
+  private final JAAudioCommandRing.ConsumerType consumer;
+  private final JAAudioListenerProxy listener;
+  private final CopyOnWriteArrayList<JAAudioTickListenerType> tickListeners;
+  private final AtomicBoolean closed;
+  private final AtomicInteger posting;
+  private final LongAdder ticks;
+  private final LongAdder commandsApplied;
+  private final LongAdder commandsFailed;
+  private final LongAdder propertyWrites;
+  private final LongAdder propertyCoalesced;
+  private final LongAdder queueFullStalls;
+  private final Thread thread;
+
+  private JAAudioThread(
+    final JAAudioThreadConfiguration inConfiguration,
+    final JAContextType inContext)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.ring =
+      new JAAudioCommandRing(inConfiguration.queueCapacity());
+    this.consumer =
+      this::applyCommand;
+    this.listener =
+      new JAAudioListenerProxy(this);
+    this.tickListeners =
+      new CopyOnWriteArrayList<>();
+    this.closed =
+      new AtomicBoolean(false);
+    this.posting =
+      new AtomicInteger(0);
+    this.ticks =
+      new LongAdder();
+    this.commandsApplied =
+      new LongAdder();
+    this.commandsFailed =
+      new LongAdder();
+    this.propertyWrites =
+      new LongAdder();
+    this.propertyCoalesced =
+      new LongAdder();
+    this.queueFullStalls =
+      new LongAdder();
+    this.thread =
+      Thread.ofPlatform()
+        .name(inConfiguration.threadName())
+        .daemon(true)
+        .unstarted(this::run);
+  }
+
+  /**
+   * Create and start an audio thread that takes ownership of the given
+   * context.
+   *
+   * @param configuration The configuration
+   * @param context       The context
+   *
+   * @return A running audio thread
+   */
+
+  public static JAAudioThread create(
+    final JAAudioThreadConfiguration configuration,
+    final JAContextType context)
+  {
+    final var audioThread = new JAAudioThread(configuration, context);
+    audioThread.thread.start();
+    return audioThread;
+  }
+
+  /**
+   * @return The thread configuration
+   */
+
+  public JAAudioThreadConfiguration configuration()
+  {
+    return this.configuration;
+  }
+
+  /**
+   * @return {@code true} if the calling thread is the audio thread
+   */
+
+  public boolean isAudioThread()
+  {
+    return Thread.currentThread() == this.thread;
+  }
+
+  /**
+   * @return A proxy for the context's listener
+   */
+
+  public JAAudioListenerProxy listener()
+  {
+    return this.listener;
+  }
+
+  /**
+   * Create a proxy for a source that belongs to the context owned by this
+   * thread.
+   *
+   * @param source The source
+   *
+   * @return A proxy for the source
+   */
+
+  public JAAudioSourceProxy sourceProxy(
+    final JASourceType source)
+  {
+    return new JAAudioSourceProxy(this, source);
+  }
+
+  /**
+   * Create a new source on the audio thread.
+   *
+   * @return A future that yields a proxy for the new source
+   */
+
+  public CompletableFuture<JAAudioSourceProxy> createSource()
+  {
+    return this.submit(c -> this.sourceProxy(c.createSource()));
+  }
+
+  /**
+   * Post a command to be executed on the audio thread.
+   *
+   * @param command The command
+   */
+
+  public void execute(
+    final JAAudioCommandType command)
+  {
+    this.post(COMMANDS, 0, Objects.requireNonNull(command, "command"));
+  }
+
+  /**
+   * Submit a task to be executed on the audio thread.
+   *
+   * @param task The task
+   * @param <T>  The type of returned values
+   *
+   * @return A future representing the result of the task
+   */
+
+  public <T> CompletableFuture<T> submit(
+    final JAAudioTaskType<T> task)
+  {
+    Objects.requireNonNull(task, "task");
+
+    final var future = new CompletableFuture<T>();
+    this.execute(c -> {
+      if (future.isDone()) {
+        return;
+      }
+      try {
+        future.complete(task.execute(c));
+      } catch (final JAException | RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * <p>Load a buffer asynchronously. The audio is read and decoded on a new
+   * virtual thread, and only the final upload is executed on the audio
+   * thread, so the caller and the audio thread never wait for I/O or
+   * decoding.</p>
+   *
+   * <p>Cancelling the returned future interrupts reading and decoding, and
+   * prevents the upload if it has not yet started. If the future is
+   * cancelled after the buffer has been created, the buffer is closed.</p>
+   *
+   * @param source     The audio source
+   * @param formatHint The preferred buffer format, if any
+   *
+   * @return A future representing the loaded buffer
+   */
+
+  public CompletableFuture<JABufferLoadResult> loadBufferAsync(
+    final JABufferSourceType source,
+    final Optional<JABufferFormat> formatHint)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(formatHint, "formatHint");
+
+    final var future = new CompletableFuture<JABufferLoadResult>();
+    final var loader =
+      Thread.ofVirtual()
+        .name(this.configuration.threadName() + "-load")
+        .unstarted(() -> this.load(source, formatHint, future));
+
+    future.whenComplete((result, exception) -> {
+      if (future.isCancelled()) {
+        loader.interrupt();
+      }
+    });
+    loader.start();
+    return future;
+  }
+
+  private void load(
+    final JABufferSourceType source,
+    final Optional<JABufferFormat> formatHint,
+    final CompletableFuture<JABufferLoadResult> future)
+  {
+    try {
+      final var timeStart = System.nanoTime();
+      final var encoded = source.read();
+      final var timeRead = System.nanoTime();
+      if (future.isDone()) {
+        return;
+      }
+
+      final var data = source.decode(encoded, formatHint);
+      final var timeDecode = System.nanoTime();
+      if (future.isDone()) {
+        return;
+      }
+
+      final var readNanos = timeRead - timeStart;
+      final var decodeNanos = timeDecode - timeRead;
+      this.execute(c -> {
+        if (!future.isDone()) {
+          this.upload(c, data, future, readNanos, decodeNanos);
+        }
+      });
+    } catch (final Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private void upload(
+    final JAContextType uploadContext,
+    final JABufferCacheData data,
+    final CompletableFuture<JABufferLoadResult> future,
+    final long readNanos,
+    final long decodeNanos)
+    throws JAException
+  {
+    final var timeStart = System.nanoTime();
+
+    /*
+     * The future is completed before anything else can fail, so that a
+     * failure to create or close the buffer cannot leave the caller
+     * waiting forever.
+     */
+
+    final JABufferType buffer;
+    try {
+      buffer = uploadContext.createBuffer();
+    } catch (final JAException | RuntimeException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+
+    try {
+      if (data.blockAlignment() != 0) {
+        buffer.setBlockAlignment(data.blockAlignment());
+      }
+      buffer.setData(data.format(), data.frequency(), data.data());
+    } catch (final JAException | RuntimeException e) {
+      future.completeExceptionally(e);
+      buffer.close();
+      return;
+    }
+
+    final var result =
+      new JABufferLoadResult(
+        buffer,
+        readNanos,
+        decodeNanos,
+        System.nanoTime() - timeStart
+      );
+
+    if (!future.complete(result)) {
+      buffer.close();
+    }
+  }
+
+  /**
+   * Add a listener that will be called on every tick.
+   *
+   * @param tickListener The listener
+   */
+
+  public void addTickListener(
+    final JAAudioTickListenerType tickListener)
+  {
+    this.tickListeners.addIfAbsent(
+      Objects.requireNonNull(tickListener, "tickListener"));
+  }
+
+  /**
+   * Remove a tick listener.
+   *
+   * @param tickListener The listener
+   */
+
+  public void removeTickListener(
+    final JAAudioTickListenerType tickListener)
+  {
+    this.tickListeners.remove(
+      Objects.requireNonNull(tickListener, "tickListener"));
+  }
+
+  /**
+   * @return A snapshot of the thread's statistics
+   */
+
+  public JAAudioThreadStatistics statistics()
+  {
+    return new JAAudioThreadStatistics(
+      this.ticks.sum(),
+      this.commandsApplied.sum(),
+      this.propertyWrites.sum(),
+      this.propertyCoalesced.sum(),
+      this.queueFullStalls.sum(),
+      this.commandsFailed.sum()
+    );
+  }
+
+  /**
+   * @return The approximate number of commands waiting in the queue
+   */
+
+  public int queueSize()
+  {
+    return this.ring.size();
+  }
+
+  /**
+   * @return {@code true} if the thread has been closed
+   */
+
+  public boolean isClosed()
+  {
+    return this.closed.get();
+  }
+
+  /**
+   * Stop the audio thread. Commands already in the queue, and commands that
+   * were being posted concurrently with this method, are applied before the
+   * thread stops; any later post fails with {@link IllegalStateException}.
+   * Ownership of the context returns to the caller.
+   */
+
+  @Override
+  public void close()
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      LockSupport.unpark(this.thread);
+      if (!this.isAudioThread()) {
+        try {
+          this.thread.join();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  void onPropertyWritten(
+    final boolean coalesced)
+  {
+    this.propertyWrites.increment();
+    if (coalesced) {
+      this.propertyCoalesced.increment();
+    }
+  }
+
+  void post(
+    final JAAudioReceiverType receiver,
+    final int opcode,
+    final Object argument)
+  {
+    /*
+     * The number of posts in progress is published before the closed flag
+     * is checked, so that the audio thread can wait for every post that
+     * passed the check to reach the queue before it applies the final tick.
+     */
+
+    this.posting.incrementAndGet();
+    try {
+      this.checkNotClosed();
+      this.postUnchecked(receiver, opcode, argument);
+    } finally {
+      this.posting.decrementAndGet();
+    }
+  }
+
+  private void postUnchecked(
+    final JAAudioReceiverType receiver,
+    final int opcode,
+    final Object argument)
+  {
+    if (this.ring.offer(receiver, opcode, argument)) {
+      return;
+    }
+
+    this.queueFullStalls.increment();
+
+    /*
+     * The audio thread itself cannot wait for space in the queue, so it
+     * applies the command immediately instead.
+     */
+
+    if (this.isAudioThread()) {
+      this.applyCommand(receiver, opcode, argument);
+      return;
+    }
+
+    /*
+     * The closed flag is not checked here: a post that has passed the check
+     * in post() is in flight, and the audio thread keeps draining the queue
+     * until every such post has been enqueued.
+     */
+
+    LockSupport.unpark(this.thread);
+    while (!this.ring.offer(receiver, opcode, argument)) {
+      Thread.onSpinWait();
+      Thread.yield();
+    }
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed.get()) {
+      throw new IllegalStateException(
+        "Audio thread %s is closed".formatted(this.configuration.threadName())
+      );
+    }
+  }
+
+  private void applyCommand(
+    final JAAudioReceiverType receiver,
+    final int opcode,
+    final Object argument)
+  {
+    this.commandsApplied.increment();
+    try {
+      receiver.apply(this.context, opcode, argument);
+    } catch (final JAException | RuntimeException e) {
+      this.commandsFailed.increment();
+      LOG.error("command failed: ", e);
+    }
+  }
+
+  private void run()
+  {
+    LOG.debug("audio thread started");
+
+    try {
+      this.context.setCurrent();
+    } catch (final JAException e) {
+      LOG.error("unable to make context current: ", e);
+    }
+
+    final var period = this.configuration.tickPeriod().toNanos();
+    while (!this.closed.get()) {
+      this.tick();
+      LockSupport.parkNanos(this, period);
+    }
+
+    /*
+     * Wait for any posts that were already in progress when the thread was
+     * closed, and then drain the queue one last time. No command can be
+     * enqueued after this point, so every future returned by submit()
+     * or loadBufferAsync() is completed. Posts in progress may be waiting
+     * for space in a full queue, so the queue is drained while waiting.
+     */
+
+    while (this.posting.get() != 0) {
+      if (this.ring.size() >= this.ring.capacity()) {
+        this.tick();
+      } else {
+        Thread.onSpinWait();
+        Thread.yield();
+      }
+    }
+
+    this.tick();
+    LOG.debug("audio thread stopped");
+  }
+
+  private void tick()
+  {
+    final var time = System.nanoTime();
+
+    try (var ignored = this.context.beginUpdate()) {
+      this.ring.drain(this.consumer, this.ring.capacity());
+
+      for (final var tickListener : this.tickListeners) {
+        try {
+          tickListener.onTick(this.context, time);
+        } catch (final JAException | RuntimeException e) {
+          this.commandsFailed.increment();
+          LOG.error("tick listener failed: ", e);
+        }
+      }
+    } catch (final JAException e) {
+      this.commandsFailed.increment();
+      LOG.error("update batch failed: ", e);
+    }
+
+    this.ticks.increment();
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAAudioThread ")
+      .append(this.configuration.threadName())
+      .append("]")
+      .toString();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration information for an audio thread.
+ *
+ * @param threadName    The name of the audio thread
+ * @param queueCapacity The capacity of the command queue; must be a power of
+ *                      two
+ * @param tickPeriod    The period between ticks
+ */
+
+public record JAAudioThreadConfiguration(
+  String threadName,
+  int queueCapacity,
+  Duration tickPeriod)
+{
+  /**
+   * Configuration information for an audio thread.
+   */
+
+  public JAAudioThreadConfiguration
+  {
+    Objects.requireNonNull(threadName, "threadName");
+    Objects.requireNonNull(tickPeriod, "tickPeriod");
+
+    if (Integer.bitCount(queueCapacity) != 1) {
+      throw new IllegalArgumentException(
+        "Queue capacity %d must be a power of two".formatted(
+          Integer.valueOf(queueCapacity))
+      );
+    }
+    if (tickPeriod.isNegative() || tickPeriod.isZero()) {
+      throw new IllegalArgumentException(
+        "Tick period %s must be positive".formatted(tickPeriod)
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JAAudioThreadConfiguration defaults()
+  {
+    return new JAAudioThreadConfiguration(
+      "com.io7m.jarabica.audio",
+      1024,
+      Duration.ofMillis(5L)
+    );
+  }
+}
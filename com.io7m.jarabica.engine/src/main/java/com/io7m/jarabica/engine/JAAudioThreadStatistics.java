@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for an audio thread.
+ *
+ * @param ticks              The number of ticks that have been executed
+ * @param commandsApplied    The number of commands taken from the queue
+ * @param propertyWrites     The number of property writes made to proxies
+ * @param propertyCoalesced  The number of property writes that did not
+ *                           require a new command because an earlier write
+ *                           was still pending
+ * @param queueFullStalls    The number of times a producer had to wait for
+ *                           space in the queue
+ * @param commandsFailed     The number of commands that raised exceptions
+ */
+
+public record JAAudioThreadStatistics(
+  long ticks,
+  long commandsApplied,
+  long propertyWrites,
+  long propertyCoalesced,
+  long queueFullStalls,
+  long commandsFailed)
+{
+
+}
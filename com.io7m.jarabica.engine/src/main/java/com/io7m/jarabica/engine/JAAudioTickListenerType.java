@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * A listener called on the audio thread once per tick, after all queued
+ * commands have been applied. Listeners are called inside the same update
+ * batch as the commands.
+ */
+
+@FunctionalInterface
+public interface JAAudioTickListenerType
+{
+  /**
+   * A tick has occurred.
+   *
+   * @param context   The context owned by the audio thread
+   * @param timeNanos The time of the tick, as returned by
+   *                  {@link System#nanoTime()}
+   *
+   * @throws JAException On errors
+   */
+
+  void onTick(
+    JAContextType context,
+    long timeNanos)
+    throws JAException;
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.io7m.jarabica.engine.JAAutomationParameter.PARAMETER_GAIN;
+
+/**
+ * The default implementation of the {@link JAAutomationType} interface.
+ */
+
+public final class JAAutomation implements JAAutomationType
+{
+  private static final int PARAMETER_COUNT =
+    JAAutomationParameter.values().length;
+
+  private final JAContextType context;
+  private final JAAutomationConfiguration configuration;
+  private final ConcurrentLinkedQueue<RequestType> requests;
+  private final LinkedHashMap<JASourceType, Entry> entries;
+  private final ArrayList<CompletableFuture<Void>> finished;
+  private int active;
+  private long started;
+  private long completed;
+  private long cancelled;
+  private long sent;
+  private long skipped;
+
+  private JAAutomation(
+    final JAContextType inContext,
+    final JAAutomationConfiguration inConfiguration)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.requests =
+      new ConcurrentLinkedQueue<>();
+    this.entries =
+      new LinkedHashMap<>();
+    this.finished =
+      new ArrayList<>();
+  }
+
+  /**
+   * Create new source automation.
+   *
+   * @param context       The context
+   * @param configuration The configuration
+   *
+   * @return New automation
+   */
+
+  public static JAAutomationType create(
+    final JAContextType context,
+    final JAAutomationConfiguration configuration)
+  {
+    return new JAAutomation(context, configuration);
+  }
+
+  private static void checkValues(
+    final JAAutomationParameter parameter,
+    final JAAutomationCurve curve)
+  {
+    for (final var keyframe : curve.keyframes()) {
+      final var value = keyframe.value();
+      final var valid = switch (parameter) {
+        case PARAMETER_GAIN -> value >= 0.0;
+        case PARAMETER_PITCH -> value > 0.0;
+      };
+      if (!valid) {
+        throw new IllegalArgumentException(
+          "Value %f is not valid for parameter %s".formatted(
+            Double.valueOf(value),
+            parameter)
+        );
+      }
+    }
+  }
+
+  private static double valueOf(
+    final JASourceType source,
+    final JAAutomationParameter parameter)
+    throws JAException
+  {
+    return switch (parameter) {
+      case PARAMETER_GAIN -> source.gain();
+      case PARAMETER_PITCH -> source.pitch();
+    };
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType tickContext,
+    final long timeNanos)
+    throws JAException
+  {
+    this.update(timeNanos);
+  }
+
+  @Override
+  public CompletableFuture<Void> automate(
+    final JASourceType source,
+    final JAAutomationParameter parameter,
+    final JAAutomationCurve curve)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(parameter, "parameter");
+    Objects.requireNonNull(curve, "curve");
+
+    checkValues(parameter, curve);
+
+    final var future = new CompletableFuture<Void>();
+    this.requests.add(new Start(source, parameter, curve, future));
+    return future;
+  }
+
+  @Override
+  public void cancel(
+    final JASourceType source,
+    final JAAutomationParameter parameter)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(parameter, "parameter");
+    this.requests.add(new Cancel(source, parameter));
+  }
+
+  @Override
+  public void cancelAll(
+    final JASourceType source)
+  {
+    Objects.requireNonNull(source, "source");
+    this.requests.add(new CancelAll(source));
+  }
+
+  @Override
+  public void update(
+    final long timeNanos)
+    throws JAException
+  {
+    this.processRequests(timeNanos);
+
+    if (this.entries.isEmpty()) {
+      return;
+    }
+
+    /*
+     * Futures are completed after the batch has been applied, so that the
+     * final values are visible to anything waiting on them.
+     */
+
+    try {
+      try (var ignored = this.context.beginUpdate()) {
+        final var iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+          final var entry = iterator.next();
+          if (entry.source.isClosed()) {
+            this.cancelEntry(entry);
+          } else {
+            this.updateEntry(entry, timeNanos);
+          }
+          if (entry.count == 0) {
+            iterator.remove();
+          }
+        }
+      }
+    } finally {
+      for (final var future : this.finished) {
+        future.complete(null);
+      }
+      this.finished.clear();
+    }
+  }
+
+  private void processRequests(
+    final long timeNanos)
+    throws JAException
+  {
+    for (var r = this.requests.poll(); r != null; r = this.requests.poll()) {
+      switch (r) {
+        case final Start start -> this.start(start, timeNanos);
+        case final Cancel cancel -> this.cancel(cancel);
+        case final CancelAll cancel -> {
+          final var entry = this.entries.remove(cancel.source());
+          if (entry != null) {
+            this.cancelEntry(entry);
+          }
+        }
+      }
+    }
+  }
+
+  private void start(
+    final Start start,
+    final long timeNanos)
+    throws JAException
+  {
+    final var source = start.source();
+    if (source.isClosed()) {
+      start.future().cancel(false);
+      ++this.cancelled;
+      return;
+    }
+
+    final var entry =
+      this.entries.computeIfAbsent(source, Entry::new);
+    final var index =
+      start.parameter().ordinal();
+    final var existing =
+      entry.tracks[index];
+
+    if (existing == null) {
+      ++entry.count;
+      ++this.active;
+    } else {
+      existing.future.cancel(false);
+      ++this.cancelled;
+    }
+
+    entry.tracks[index] = new Track(
+      start.parameter(),
+      start.curve(),
+      start.future(),
+      timeNanos,
+      valueOf(source, start.parameter())
+    );
+    ++this.started;
+  }
+
+  private void cancel(
+    final Cancel cancel)
+  {
+    final var entry = this.entries.get(cancel.source());
+    if (entry == null) {
+      return;
+    }
+
+    final var index = cancel.parameter().ordinal();
+    final var track = entry.tracks[index];
+    if (track != null) {
+      this.removeTrack(entry, index);
+      track.future.cancel(false);
+      ++this.cancelled;
+    }
+    if (entry.count == 0) {
+      this.entries.remove(cancel.source());
+    }
+  }
+
+  private void cancelEntry(
+    final Entry entry)
+  {
+    for (int index = 0; index < PARAMETER_COUNT; ++index) {
+      final var track = entry.tracks[index];
+      if (track != null) {
+        this.removeTrack(entry, index);
+        track.future.cancel(false);
+        ++this.cancelled;
+      }
+    }
+  }
+
+  private void removeTrack(
+    final Entry entry,
+    final int index)
+  {
+    entry.tracks[index] = null;
+    --entry.count;
+    --this.active;
+  }
+
+  private void updateEntry(
+    final Entry entry,
+    final long timeNanos)
+    throws JAException
+  {
+    for (int index = 0; index < PARAMETER_COUNT; ++index) {
+      final var track = entry.tracks[index];
+      if (track == null) {
+        continue;
+      }
+
+      /*
+       * The application may have cancelled the future directly.
+       */
+
+      if (track.future.isDone()) {
+        this.removeTrack(entry, index);
+        ++this.cancelled;
+        continue;
+      }
+
+      if (this.updateTrack(entry.source, track, timeNanos)) {
+        this.removeTrack(entry, index);
+        this.finished.add(track.future);
+        ++this.completed;
+      }
+    }
+  }
+
+  private boolean updateTrack(
+    final JASourceType source,
+    final Track track,
+    final long timeNanos)
+    throws JAException
+  {
+    final var value = track.evaluate(timeNanos);
+    final var done = track.isDone();
+    final var epsilon =
+      track.parameter == PARAMETER_GAIN
+        ? this.configuration.gainEpsilon()
+        : this.configuration.pitchEpsilon();
+
+    final var difference = Math.abs(value - track.lastSent);
+    if (difference > epsilon || (done && difference > 0.0)) {
+      switch (track.parameter) {
+        case PARAMETER_GAIN -> source.setGain(value);
+        case PARAMETER_PITCH -> source.setPitch(value);
+      }
+      track.lastSent = value;
+      ++this.sent;
+    } else {
+      ++this.skipped;
+    }
+    return done;
+  }
+
+  @Override
+  public JAAutomationStatistics statistics()
+  {
+    return new JAAutomationStatistics(
+      this.active,
+      this.started,
+      this.completed,
+      this.cancelled,
+      this.sent,
+      this.skipped
+    );
+  }
+
+  @Override
+  public void close()
+  {
+    for (var r = this.requests.poll(); r != null; r = this.requests.poll()) {
+      if (r instanceof final Start start) {
+        start.future().cancel(false);
+        ++this.cancelled;
+      }
+    }
+    for (final var entry : this.entries.values()) {
+      this.cancelEntry(entry);
+    }
+    this.entries.clear();
+  }
+
+  private sealed interface RequestType
+  {
+
+  }
+
+  private record Start(
+    JASourceType source,
+    JAAutomationParameter parameter,
+    JAAutomationCurve curve,
+    CompletableFuture<Void> future)
+    implements RequestType
+  {
+
+  }
+
+  private record Cancel(
+    JASourceType source,
+    JAAutomationParameter parameter)
+    implements RequestType
+  {
+
+  }
+
+  private record CancelAll(
+    JASourceType source)
+    implements RequestType
+  {
+
+  }
+
+  private static final class Entry
+  {
+    private final JASourceType source;
+    private final Track[] tracks;
+    private int count;
+
+    Entry(
+      final JASourceType inSource)
+    {
+      this.source = Objects.requireNonNull(inSource, "source");
+      this.tracks = new Track[PARAMETER_COUNT];
+    }
+  }
+
+  /**
+   * A running curve. The keyframes are unpacked into arrays, and the current
+   * segment is remembered, so that evaluation does not search the curve.
+   */
+
+  private static final class Track
+  {
+    private final JAAutomationParameter parameter;
+    private final CompletableFuture<Void> future;
+    private final long timeStart;
+    private final long[] times;
+    private final double[] values;
+    private final JARampCurve[] curves;
+    private int segment;
+    private long segmentTime;
+    private double segmentValue;
+    private double lastSent;
+
+    Track(
+      final JAAutomationParameter inParameter,
+      final JAAutomationCurve curve,
+      final CompletableFuture<Void> inFuture,
+      final long inTimeStart,
+      final double inValueStart)
+    {
+      this.parameter = inParameter;
+      this.future = inFuture;
+      this.timeStart = inTimeStart;
+
+      final var keyframes = curve.keyframes();
+      final var count = keyframes.size();
+      this.times = new long[count];
+      this.values = new double[count];
+      this.curves = new JARampCurve[count];
+      for (int index = 0; index < count; ++index) {
+        final var keyframe = keyframes.get(index);
+        this.times[index] = keyframe.time().toNanos();
+        this.values[index] = keyframe.value();
+        this.curves[index] = keyframe.curve();
+      }
+
+      this.segment = 0;
+      this.segmentTime = 0L;
+      this.segmentValue = inValueStart;
+      this.lastSent = inValueStart;
+    }
+
+    boolean isDone()
+    {
+      return this.segment == this.times.length;
+    }
+
+    double evaluate(
+      final long timeNanos)
+    {
+      final var elapsed = Math.max(0L, timeNanos - this.timeStart);
+      while (!this.isDone() && this.times[this.segment] <= elapsed) {
+        this.segmentTime = this.times[this.segment];
+        this.segmentValue = this.values[this.segment];
+        ++this.segment;
+      }
+
+      if (this.isDone()) {
+        return this.segmentValue;
+      }
+
+      final var span =
+        (double) (this.times[this.segment] - this.segmentTime);
+      final var progress =
+        (double) (elapsed - this.segmentTime) / span;
+      final var delta =
+        this.values[this.segment] - this.segmentValue;
+
+      return this.segmentValue
+             + (delta * this.curves[this.segment].shape(progress));
+    }
+  }
+}
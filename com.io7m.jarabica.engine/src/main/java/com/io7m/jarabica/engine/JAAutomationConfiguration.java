@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Configuration information for source automation. A new value is only sent
+ * to a source when it differs from the last value sent by more than the
+ * epsilon for the parameter; the final value of a curve is always sent.
+ *
+ * @param gainEpsilon  The smallest change in gain that will be sent
+ * @param pitchEpsilon The smallest change in pitch that will be sent
+ */
+
+public record JAAutomationConfiguration(
+  double gainEpsilon,
+  double pitchEpsilon)
+{
+  /**
+   * Configuration information for source automation.
+   */
+
+  public JAAutomationConfiguration
+  {
+    if (!(gainEpsilon >= 0.0)) {
+      throw new IllegalArgumentException(
+        "Gain epsilon %f must be non-negative".formatted(
+          Double.valueOf(gainEpsilon))
+      );
+    }
+    if (!(pitchEpsilon >= 0.0)) {
+      throw new IllegalArgumentException(
+        "Pitch epsilon %f must be non-negative".formatted(
+          Double.valueOf(pitchEpsilon))
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JAAutomationConfiguration defaults()
+  {
+    return new JAAutomationConfiguration(0.001, 0.0005);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An automation curve. The curve starts at the value the parameter has when
+ * the curve is started, and passes through each keyframe in turn. The
+ * parameter holds the value of the last keyframe when the curve ends.
+ *
+ * @param keyframes The keyframes, in order of non-decreasing time
+ */
+
+public record JAAutomationCurve(
+  List<JAAutomationKeyframe> keyframes)
+{
+  /**
+   * An automation curve.
+   */
+
+  public JAAutomationCurve
+  {
+    keyframes = List.copyOf(keyframes);
+
+    if (keyframes.isEmpty()) {
+      throw new IllegalArgumentException(
+        "An automation curve must have at least one keyframe"
+      );
+    }
+
+    var time = Duration.ZERO;
+    for (final var keyframe : keyframes) {
+      if (keyframe.time().compareTo(time) < 0) {
+        throw new IllegalArgumentException(
+          "Keyframe time %s precedes the previous keyframe time %s".formatted(
+            keyframe.time(),
+            time)
+        );
+      }
+      time = keyframe.time();
+    }
+  }
+
+  /**
+   * A curve that moves from the current value to the target value.
+   *
+   * @param target   The target value
+   * @param duration The duration of the ramp
+   * @param curve    The shape of the ramp
+   *
+   * @return A ramp
+   */
+
+  public static JAAutomationCurve ramp(
+    final double target,
+    final Duration duration,
+    final JARampCurve curve)
+  {
+    return new JAAutomationCurve(
+      List.of(new JAAutomationKeyframe(duration, target, curve))
+    );
+  }
+
+  /**
+   * @return The duration of the curve
+   */
+
+  public Duration duration()
+  {
+    return this.keyframes.get(this.keyframes.size() - 1).time();
+  }
+
+  /**
+   * Evaluate the curve.
+   *
+   * @param startValue The value of the parameter at the start of the curve
+   * @param time       The time relative to the start of the curve
+   *
+   * @return The value of the parameter
+   */
+
+  public double evaluate(
+    final double startValue,
+    final Duration time)
+  {
+    Objects.requireNonNull(time, "time");
+
+    var previousTime = Duration.ZERO;
+    var previousValue = startValue;
+    for (final var keyframe : this.keyframes) {
+      if (time.compareTo(keyframe.time()) < 0) {
+        final var span =
+          keyframe.time().minus(previousTime).toNanos();
+        final var progress =
+          (double) time.minus(previousTime).toNanos() / (double) span;
+        return interpolate(previousValue, keyframe, progress);
+      }
+      previousTime = keyframe.time();
+      previousValue = keyframe.value();
+    }
+    return previousValue;
+  }
+
+  private static double interpolate(
+    final double previousValue,
+    final JAAutomationKeyframe keyframe,
+    final double progress)
+  {
+    final var delta = keyframe.value() - previousValue;
+    return previousValue + (delta * keyframe.curve().shape(progress));
+  }
+}
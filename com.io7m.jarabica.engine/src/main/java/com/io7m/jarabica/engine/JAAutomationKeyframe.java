@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A keyframe in an automation curve.
+ *
+ * @param time  The time of the keyframe, relative to the start of the curve
+ * @param value The value of the parameter at the keyframe
+ * @param curve The shape of the transition from the previous keyframe
+ */
+
+public record JAAutomationKeyframe(
+  Duration time,
+  double value,
+  JARampCurve curve)
+{
+  /**
+   * A keyframe in an automation curve.
+   */
+
+  public JAAutomationKeyframe
+  {
+    Objects.requireNonNull(time, "time");
+    Objects.requireNonNull(curve, "curve");
+
+    if (time.isNegative()) {
+      throw new IllegalArgumentException(
+        "Keyframe time %s must be non-negative".formatted(time)
+      );
+    }
+    if (!Double.isFinite(value)) {
+      throw new IllegalArgumentException(
+        "Keyframe value %f must be finite".formatted(Double.valueOf(value))
+      );
+    }
+  }
+}
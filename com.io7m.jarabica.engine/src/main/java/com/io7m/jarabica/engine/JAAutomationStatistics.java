@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for source automation.
+ *
+ * @param active    The number of curves currently running
+ * @param started   The number of curves that have been started
+ * @param completed The number of curves that ran to completion
+ * @param cancelled The number of curves that were cancelled or replaced
+ * @param sent      The number of values sent to sources
+ * @param skipped   The number of evaluated values that were not sent,
+ *                  because they did not differ enough from the last value
+ *                  sent
+ */
+
+public record JAAutomationStatistics(
+  int active,
+  long started,
+  long completed,
+  long cancelled,
+  long sent,
+  long skipped)
+{
+
+}
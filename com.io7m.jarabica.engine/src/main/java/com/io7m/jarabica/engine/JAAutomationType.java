@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>Source automation. Ramps and automation curves are evaluated in bulk on
+ * each update, and new values are sent to sources only when they have
+ * changed by more than a configured epsilon. This replaces setting source
+ * properties from the application on every frame.</p>
+ *
+ * <p>Curves may be started and cancelled from any thread; requests are
+ * applied on the next update. A curve starts from the value its parameter
+ * has at that update. Starting a curve on a parameter that already has a
+ * running curve replaces the running curve.</p>
+ *
+ * <p>Automation must be updated regularly from the thread that owns its
+ * context. Automation is also a {@link JAAudioTickListenerType}, and so can
+ * be registered with an audio thread to be updated on every tick.</p>
+ */
+
+public interface JAAutomationType
+  extends JAAudioTickListenerType, AutoCloseable
+{
+  /**
+   * Start an automation curve.
+   *
+   * @param source    The source
+   * @param parameter The parameter
+   * @param curve     The curve
+   *
+   * @return A future that completes when the curve finishes, or is cancelled
+   * if the curve is cancelled, replaced, or the source is closed
+   */
+
+  CompletableFuture<Void> automate(
+    JASourceType source,
+    JAAutomationParameter parameter,
+    JAAutomationCurve curve);
+
+  /**
+   * Ramp the gain of a source.
+   *
+   * @param source   The source
+   * @param target   The target gain
+   * @param duration The duration of the ramp
+   * @param curve    The shape of the ramp
+   *
+   * @return A future that completes when the ramp finishes
+   *
+   * @see #automate(JASourceType, JAAutomationParameter, JAAutomationCurve)
+   */
+
+  default CompletableFuture<Void> rampGain(
+    final JASourceType source,
+    final double target,
+    final Duration duration,
+    final JARampCurve curve)
+  {
+    return this.automate(
+      source,
+      JAAutomationParameter.PARAMETER_GAIN,
+      JAAutomationCurve.ramp(target, duration, curve)
+    );
+  }
+
+  /**
+   * Ramp the pitch of a source.
+   *
+   * @param source   The source
+   * @param target   The target pitch
+   * @param duration The duration of the ramp
+   * @param curve    The shape of the ramp
+   *
+   * @return A future that completes when the ramp finishes
+   *
+   * @see #automate(JASourceType, JAAutomationParameter, JAAutomationCurve)
+   */
+
+  default CompletableFuture<Void> rampPitch(
+    final JASourceType source,
+    final double target,
+    final Duration duration,
+    final JARampCurve curve)
+  {
+    return this.automate(
+      source,
+      JAAutomationParameter.PARAMETER_PITCH,
+      JAAutomationCurve.ramp(target, duration, curve)
+    );
+  }
+
+  /**
+   * Cancel any curve running on the given parameter of the given source. The
+   * parameter keeps its current value.
+   *
+   * @param source    The source
+   * @param parameter The parameter
+   */
+
+  void cancel(
+    JASourceType source,
+    JAAutomationParameter parameter);
+
+  /**
+   * Cancel all curves running on the given source.
+   *
+   * @param source The source
+   */
+
+  void cancelAll(JASourceType source);
+
+  /**
+   * Apply pending requests, and evaluate all running curves.
+   *
+   * @param timeNanos The current time, as returned by {@link System#nanoTime()}
+   *
+   * @throws JAException On errors
+   */
+
+  void update(long timeNanos)
+    throws JAException;
+
+  /**
+   * @return The current statistics
+   */
+
+  JAAutomationStatistics statistics();
+
+  /**
+   * Close the automation, cancelling all curves.
+   */
+
+  @Override
+  void close();
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JAMisuseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * The default implementation of the {@link JABufferCacheType} interface.
+ */
+
+public final class JABufferCache implements JABufferCacheType
+{
+  private final JAContextType context;
+  private final JABufferCacheConfiguration configuration;
+  private final JABufferCacheLoaderType loader;
+  private final LinkedHashMap<JABufferCacheKey, Entry> buffers;
+  private final LinkedHashMap<JABufferCacheKey, ByteBuffer> encoded;
+  private long bufferBytes;
+  private long encodedBytes;
+  private int leases;
+  private long hits;
+  private long encodedHits;
+  private long misses;
+  private long evictions;
+  private boolean closed;
+
+  private JABufferCache(
+    final JAContextType inContext,
+    final JABufferCacheConfiguration inConfiguration,
+    final JABufferCacheLoaderType inLoader)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.loader =
+      Objects.requireNonNull(inLoader, "loader");
+
+    /*
+     * Both maps are in access order, so iteration always visits the least
+     * recently used entries first.
+     */
+
+    this.buffers =
+      new LinkedHashMap<>(16, 0.75f, true);
+    this.encoded =
+      new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Create a new buffer cache.
+   *
+   * @param context       The context in which buffers are created
+   * @param configuration The cache configuration
+   * @param loader        The asset loader
+   *
+   * @return A new cache
+   */
+
+  public static JABufferCacheType create(
+    final JAContextType context,
+    final JABufferCacheConfiguration configuration,
+    final JABufferCacheLoaderType loader)
+  {
+    return new JABufferCache(context, configuration, loader);
+  }
+
+  @Override
+  public JABufferLeaseType acquire(
+    final JABufferCacheKey key)
+    throws JAException, IOException
+  {
+    Objects.requireNonNull(key, "key");
+    this.checkNotClosed();
+
+    final var existing = this.buffers.get(key);
+    if (existing != null) {
+      if (!existing.buffer.isClosed()) {
+        ++this.hits;
+        return this.lease(existing);
+      }
+      this.forget(existing);
+    }
+
+    var data = this.encoded.get(key);
+    if (data != null) {
+      ++this.encodedHits;
+    } else {
+      ++this.misses;
+      data = this.loader.read(key).asReadOnlyBuffer();
+      this.retainEncoded(key, data);
+    }
+
+    final var decoded = this.loader.decode(key, data.duplicate());
+    final long size = decoded.data().remaining();
+    final var buffer = this.context.createBuffer();
+    try {
+      if (decoded.blockAlignment() != 0) {
+        buffer.setBlockAlignment(decoded.blockAlignment());
+      }
+      buffer.setData(decoded.format(), decoded.frequency(), decoded.data());
+    } catch (final JAException e) {
+      buffer.close();
+      throw e;
+    }
+
+    final var entry =
+      new Entry(this, key, buffer, size);
+    this.buffers.put(key, entry);
+    this.bufferBytes += entry.size;
+
+    final var lease = this.lease(entry);
+    this.evictBuffers(this.configuration.bufferByteBudget());
+    return lease;
+  }
+
+  @Override
+  public void trim()
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.evictBuffers(0L);
+  }
+
+  @Override
+  public JABufferCacheStatistics statistics()
+  {
+    return new JABufferCacheStatistics(
+      this.hits,
+      this.encodedHits,
+      this.misses,
+      this.evictions,
+      this.buffers.size(),
+      this.bufferBytes,
+      this.leases,
+      this.encoded.size(),
+      this.encodedBytes
+    );
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    if (this.closed) {
+      return;
+    }
+    if (this.leases > 0) {
+      throw new JAMisuseException(
+        "A buffer cache cannot be closed while %d leases are open".formatted(
+          Integer.valueOf(this.leases))
+      );
+    }
+
+    /*
+     * Buffers attached to sources cannot be deleted, and would be leaked
+     * if the cache forgot about them.
+     */
+
+    var attached = 0;
+    for (final var entry : this.buffers.values()) {
+      final var buffer = entry.buffer;
+      if (!buffer.isClosed() && buffer.attachedSourceCount() > 0) {
+        ++attached;
+      }
+    }
+    if (attached > 0) {
+      throw new JAMisuseException(
+        ("A buffer cache cannot be closed while %d buffers are attached "
+         + "to sources").formatted(Integer.valueOf(attached))
+      );
+    }
+
+    this.evictBuffers(0L);
+    this.encoded.clear();
+    this.encodedBytes = 0L;
+    this.closed = true;
+  }
+
+  private void checkNotClosed()
+    throws JAMisuseException
+  {
+    if (this.closed) {
+      throw new JAMisuseException("The buffer cache has been closed.");
+    }
+  }
+
+  private JABufferLeaseType lease(
+    final Entry entry)
+  {
+    ++entry.references;
+    ++this.leases;
+    return new Lease(entry);
+  }
+
+  private void release(
+    final Entry entry)
+    throws JAException
+  {
+    --entry.references;
+    --this.leases;
+
+    if (!this.closed) {
+      this.evictBuffers(this.configuration.bufferByteBudget());
+    }
+  }
+
+  private void retainEncoded(
+    final JABufferCacheKey key,
+    final ByteBuffer data)
+  {
+    final var budget = this.configuration.encodedByteBudget();
+    final long size = data.capacity();
+    if (size > budget) {
+      return;
+    }
+
+    this.encoded.put(key, data);
+    this.encodedBytes += size;
+
+    final var iterator = this.encoded.values().iterator();
+    while (this.encodedBytes > budget && iterator.hasNext()) {
+      final var oldest = iterator.next();
+      iterator.remove();
+      this.encodedBytes -= oldest.capacity();
+    }
+  }
+
+  /*
+   * A buffer closed directly by a lease holder, despite belonging to the
+   * cache, is dropped without being touched so that the next acquisition
+   * loads it again.
+   */
+
+  private void forget(
+    final Entry entry)
+  {
+    this.buffers.remove(entry.key);
+    this.bufferBytes -= entry.size;
+  }
+
+  private void evictBuffers(
+    final long budget)
+    throws JAException
+  {
+    /*
+     * A buffer attached to a source cannot be deleted, so buffers are only
+     * evicted when nothing can still be using them: not through a lease,
+     * and not through a source that outlived its lease.
+     */
+
+    final var iterator = this.buffers.values().iterator();
+    while (this.bufferBytes > budget && iterator.hasNext()) {
+      final var entry = iterator.next();
+      if (entry.buffer.isClosed()) {
+        iterator.remove();
+        this.bufferBytes -= entry.size;
+        continue;
+      }
+      if (entry.references > 0 || entry.buffer.attachedSourceCount() > 0) {
+        continue;
+      }
+
+      iterator.remove();
+      this.bufferBytes -= entry.size;
+      ++this.evictions;
+      entry.buffer.close();
+    }
+  }
+
+  private static final class Entry
+  {
+    private final JABufferCache cache;
+    private final JABufferCacheKey key;
+    private final JABufferType buffer;
+    private final long size;
+    private int references;
+
+    Entry(
+      final JABufferCache inCache,
+      final JABufferCacheKey inKey,
+      final JABufferType inBuffer,
+      final long inSize)
+    {
+      this.cache = inCache;
+      this.key = inKey;
+      this.buffer = inBuffer;
+      this.size = inSize;
+    }
+  }
+
+  private static final class Lease implements JABufferLeaseType
+  {
+    private final Entry entry;
+    private boolean closed;
+
+    Lease(
+      final Entry inEntry)
+    {
+      this.entry = Objects.requireNonNull(inEntry, "entry");
+    }
+
+    @Override
+    public JABufferCacheKey key()
+    {
+      return this.entry.key;
+    }
+
+    @Override
+    public JABufferType buffer()
+    {
+      return this.entry.buffer;
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+      return this.closed;
+    }
+
+    @Override
+    public void close()
+      throws JAException
+    {
+      if (!this.closed) {
+        this.closed = true;
+        this.entry.cache.release(this.entry);
+      }
+    }
+
+    @Override
+    public String toString()
+    {
+      return new StringBuilder(64)
+        .append("[JABufferLease ")
+        .append(this.entry.key)
+        .append(' ')
+        .append(this.entry.buffer)
+        .append("]")
+        .toString();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Configuration information for a buffer cache.
+ *
+ * @param bufferByteBudget  The maximum number of bytes of decoded audio held
+ *                          in buffers that are not leased
+ * @param encodedByteBudget The maximum number of bytes of encoded assets
+ *                          retained for re-decoding
+ */
+
+public record JABufferCacheConfiguration(
+  long bufferByteBudget,
+  long encodedByteBudget)
+{
+  /**
+   * Configuration information for a buffer cache.
+   */
+
+  public JABufferCacheConfiguration
+  {
+    if (bufferByteBudget < 0L) {
+      throw new IllegalArgumentException(
+        "Buffer byte budget %d must be non-negative".formatted(
+          Long.valueOf(bufferByteBudget))
+      );
+    }
+    if (encodedByteBudget < 0L) {
+      throw new IllegalArgumentException(
+        "Encoded byte budget %d must be non-negative".formatted(
+          Long.valueOf(encodedByteBudget))
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JABufferCacheConfiguration defaults()
+  {
+    return new JABufferCacheConfiguration(64L << 20, 16L << 20);
+  }
+}
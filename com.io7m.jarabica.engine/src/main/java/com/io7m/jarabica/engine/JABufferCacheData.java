@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Decoded audio ready to be uploaded to a buffer.
+ *
+ * @param format         The audio format
+ * @param frequency      The audio frequency in hz
+ * @param blockAlignment The block alignment, or {@code 0} for the format's
+ *                       default alignment
+ * @param data           The audio data, which must be a direct byte buffer
+ *
+ * @see com.io7m.jarabica.api.JABufferType#setData(JABufferFormat, int, ByteBuffer)
+ */
+
+public record JABufferCacheData(
+  JABufferFormat format,
+  int frequency,
+  int blockAlignment,
+  ByteBuffer data)
+{
+  /**
+   * Decoded audio ready to be uploaded to a buffer.
+   */
+
+  public JABufferCacheData
+  {
+    Objects.requireNonNull(format, "format");
+    Objects.requireNonNull(data, "data");
+
+    if (blockAlignment < 0) {
+      throw new IllegalArgumentException(
+        "Block alignment %d must be non-negative".formatted(
+          Integer.valueOf(blockAlignment))
+      );
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.util.Objects;
+
+/**
+ * The key of an entry in a buffer cache. Two keys are equal if they name
+ * the same asset and the asset has the same content; a changed asset
+ * therefore never matches a stale cache entry.
+ *
+ * @param asset       The identity of the asset, such as a path or URI
+ * @param contentHash A hash of the content of the asset
+ */
+
+public record JABufferCacheKey(
+  String asset,
+  String contentHash)
+{
+  /**
+   * The key of an entry in a buffer cache.
+   */
+
+  public JABufferCacheKey
+  {
+    Objects.requireNonNull(asset, "asset");
+    Objects.requireNonNull(contentHash, "contentHash");
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A loader of assets for a buffer cache. Loading is split into two steps so
+ * that the cache can retain the (typically much smaller) encoded form of an
+ * asset after its buffer has been evicted, and decode it again later without
+ * reading it from storage.
+ */
+
+public interface JABufferCacheLoaderType
+{
+  /**
+   * Read the encoded form of an asset. The cache takes ownership of the
+   * returned buffer and does not modify its contents.
+   *
+   * @param key The asset key
+   *
+   * @return The encoded asset
+   *
+   * @throws IOException On errors
+   */
+
+  ByteBuffer read(JABufferCacheKey key)
+    throws IOException;
+
+  /**
+   * Decode an asset.
+   *
+   * @param key     The asset key
+   * @param encoded The encoded asset, as returned by {@link #read(JABufferCacheKey)}
+   *
+   * @return The decoded audio
+   *
+   * @throws IOException On errors
+   */
+
+  JABufferCacheData decode(
+    JABufferCacheKey key,
+    ByteBuffer encoded)
+    throws IOException;
+}
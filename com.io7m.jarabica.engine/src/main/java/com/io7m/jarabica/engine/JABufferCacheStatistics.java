@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for a buffer cache.
+ *
+ * @param hits         The number of acquisitions satisfied by an existing
+ *                     buffer
+ * @param encodedHits  The number of acquisitions satisfied by decoding a
+ *                     retained encoded asset
+ * @param misses       The number of acquisitions that required reading an
+ *                     asset
+ * @param evictions    The number of buffers evicted
+ * @param buffers      The number of buffers currently held
+ * @param bufferBytes  The number of bytes of decoded audio currently held
+ * @param leases       The number of leases currently open
+ * @param encoded      The number of encoded assets currently retained
+ * @param encodedBytes The number of bytes of encoded assets currently
+ *                     retained
+ */
+
+public record JABufferCacheStatistics(
+  long hits,
+  long encodedHits,
+  long misses,
+  long evictions,
+  int buffers,
+  long bufferBytes,
+  int leases,
+  int encoded,
+  long encodedBytes)
+{
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+
+import java.io.IOException;
+
+/**
+ * <p>A cache of buffers shared between the subsystems of an application.</p>
+ *
+ * <p>Buffers are handed out as reference-counted leases. Buffers that are not
+ * leased, and are not attached to any source, are kept up to the configured
+ * byte budget and evicted in least-recently-used order. A buffer that is
+ * leased or attached to a source is never evicted, even if this causes the
+ * cache to exceed its budget.</p>
+ *
+ * <p>The encoded form of each asset is retained separately under its own
+ * budget, so that an asset whose buffer has been evicted can be decoded
+ * again without being read from storage.</p>
+ *
+ * <p>A buffer cache must only be used from the thread that owns its
+ * context.</p>
+ */
+
+public interface JABufferCacheType extends AutoCloseable
+{
+  /**
+   * Acquire a lease on the buffer for the given key, loading the asset if
+   * necessary.
+   *
+   * @param key The asset key
+   *
+   * @return A lease on the buffer
+   *
+   * @throws JAException On errors
+   * @throws IOException If the asset cannot be loaded
+   */
+
+  JABufferLeaseType acquire(JABufferCacheKey key)
+    throws JAException, IOException;
+
+  /**
+   * Evict every buffer that is neither leased nor attached to a source.
+   *
+   * @throws JAException On errors
+   */
+
+  void trim()
+    throws JAException;
+
+  /**
+   * @return The current statistics
+   */
+
+  JABufferCacheStatistics statistics();
+
+  /**
+   * Close the cache, deleting all buffers.
+   *
+   * @throws JAException On errors, or if any leases are still open, or if
+   *                     any buffers are still attached to sources
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * A lease on a cached buffer. The buffer cannot be evicted from the cache
+ * while any lease on it is open. The buffer belongs to the cache and must not
+ * be closed directly; if it is closed anyway, the cache drops it and loads
+ * the asset again on the next acquisition, but every other holder of a
+ * lease on it is left with a closed buffer.
+ */
+
+public interface JABufferLeaseType extends AutoCloseable
+{
+  /**
+   * @return The key of the leased buffer
+   */
+
+  JABufferCacheKey key();
+
+  /**
+   * @return The leased buffer
+   */
+
+  JABufferType buffer();
+
+  /**
+   * @return {@code true} if the lease has been closed
+   */
+
+  boolean isClosed();
+
+  /**
+   * Close the lease. Closing a lease that is already closed has no effect.
+   * If the cache is over its budget once the lease is closed, unused buffers
+   * are evicted.
+   *
+   * @throws JAException If evicting buffers fails
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
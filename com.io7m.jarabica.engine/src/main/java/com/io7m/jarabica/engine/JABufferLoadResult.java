@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+
+import java.util.Objects;
+
+/**
+ * The result of loading a buffer asynchronously.
+ *
+ * @param buffer      The loaded buffer
+ * @param readNanos   The time spent reading the audio
+ * @param decodeNanos The time spent decoding the audio
+ * @param uploadNanos The time spent creating the buffer and uploading the
+ *                    audio on the audio thread
+ */
+
+public record JABufferLoadResult(
+  JABufferType buffer,
+  long readNanos,
+  long decodeNanos,
+  long uploadNanos)
+{
+  /**
+   * The result of loading a buffer asynchronously.
+   */
+
+  public JABufferLoadResult
+  {
+    Objects.requireNonNull(buffer, "buffer");
+  }
+
+  /**
+   * @return The total time spent loading the buffer
+   */
+
+  public long totalNanos()
+  {
+    return this.readNanos + this.decodeNanos + this.uploadNanos;
+  }
+}
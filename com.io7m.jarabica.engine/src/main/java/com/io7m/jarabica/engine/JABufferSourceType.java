@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A source of audio for asynchronous buffer loading. Reading and decoding
+ * are separate steps so that they can be timed separately.
+ *
+ * @see JAAudioThread#loadBufferAsync(JABufferSourceType, Optional)
+ */
+
+public interface JABufferSourceType
+{
+  /**
+   * Read the encoded audio.
+   *
+   * @return The encoded audio
+   *
+   * @throws IOException On errors
+   */
+
+  ByteBuffer read()
+    throws IOException;
+
+  /**
+   * Decode audio.
+   *
+   * @param encoded    The encoded audio, as returned by {@link #read()}
+   * @param formatHint The format the caller would prefer, if any. Sources
+   *                   may ignore the hint if the audio cannot be decoded
+   *                   to the given format.
+   *
+   * @return The decoded audio
+   *
+   * @throws IOException On errors
+   */
+
+  JABufferCacheData decode(
+    ByteBuffer encoded,
+    Optional<JABufferFormat> formatHint)
+    throws IOException;
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JADeviceType;
+import com.io7m.jarabica.api.JAException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A monitor that samples the output latency of a device, and keeps
+ * rolling statistics over a window of recent samples. The statistics are
+ * useful when choosing the refresh rate and buffer sizes of a device.</p>
+ *
+ * <p>A monitor must be sampled from the thread that owns a context on the
+ * device. A monitor is also a {@link JAAudioTickListenerType}, and so can be
+ * registered with an audio thread to be sampled on every tick. Statistics may
+ * be read from any thread.</p>
+ */
+
+public final class JADeviceLatencyMonitor implements JAAudioTickListenerType
+{
+  private final JADeviceType device;
+  private final long[] window;
+  private int count;
+  private int next;
+  private long last;
+
+  private JADeviceLatencyMonitor(
+    final JADeviceType inDevice,
+    final int inWindowSize)
+  {
+    this.device =
+      Objects.requireNonNull(inDevice, "device");
+
+    if (inWindowSize <= 0) {
+      throw new IllegalArgumentException(
+        "Window size %d must be positive".formatted(
+          Integer.valueOf(inWindowSize))
+      );
+    }
+
+    this.window = new long[inWindowSize];
+  }
+
+  /**
+   * Create a new latency monitor.
+   *
+   * @param device     The device
+   * @param windowSize The number of samples kept
+   *
+   * @return A new monitor
+   */
+
+  public static JADeviceLatencyMonitor create(
+    final JADeviceType device,
+    final int windowSize)
+  {
+    return new JADeviceLatencyMonitor(device, windowSize);
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType context,
+    final long timeNanos)
+    throws JAException
+  {
+    this.sample();
+  }
+
+  /**
+   * Sample the latency of the device.
+   *
+   * @return The latency in nanoseconds
+   *
+   * @throws JAException On errors
+   */
+
+  public long sample()
+    throws JAException
+  {
+    final var latency = this.device.latencyNanos();
+    this.record(latency);
+    return latency;
+  }
+
+  private synchronized void record(
+    final long latency)
+  {
+    this.window[this.next] = latency;
+    this.next = (this.next + 1) % this.window.length;
+    this.count = Math.min(this.count + 1, this.window.length);
+    this.last = latency;
+  }
+
+  /**
+   * @return The statistics over the current window
+   */
+
+  public synchronized JADeviceLatencyStatistics statistics()
+  {
+    if (this.count == 0) {
+      return new JADeviceLatencyStatistics(0, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    final var sorted = Arrays.copyOf(this.window, this.count);
+    Arrays.sort(sorted);
+
+    var sum = 0L;
+    for (final var value : sorted) {
+      sum += value;
+    }
+
+    final var rank =
+      (int) Math.ceil(0.95 * (double) this.count) - 1;
+
+    return new JADeviceLatencyStatistics(
+      this.count,
+      this.last,
+      sorted[0],
+      sorted[this.count - 1],
+      sum / (long) this.count,
+      sorted[rank]
+    );
+  }
+}
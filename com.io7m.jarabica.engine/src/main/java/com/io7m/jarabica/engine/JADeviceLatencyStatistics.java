@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for the output latency of a device, over a window of recent
+ * samples.
+ *
+ * @param samples           The number of samples in the window
+ * @param lastNanos         The most recent latency
+ * @param minimumNanos      The minimum latency in the window
+ * @param maximumNanos      The maximum latency in the window
+ * @param meanNanos         The mean latency in the window
+ * @param percentile95Nanos The 95th percentile latency in the window
+ */
+
+public record JADeviceLatencyStatistics(
+  int samples,
+  long lastNanos,
+  long minimumNanos,
+  long maximumNanos,
+  long meanNanos,
+  long percentile95Nanos)
+{
+
+}
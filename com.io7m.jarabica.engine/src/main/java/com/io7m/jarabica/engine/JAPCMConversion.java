@@ -0,0 +1,820 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Functions to convert PCM data between sample formats, to interleave and
+ * deinterleave channels, to mix stereo audio down to mono, and to apply
+ * gain.</p>
+ *
+ * <p>Samples are converted in fixed-size chunks: each chunk is transferred
+ * out of the source buffer with a single bulk operation, processed as a plain
+ * {@code float} array, and transferred into the target buffer with a single
+ * bulk operation. The per-chunk loops are simple counted loops over arrays,
+ * which the JIT compiler is able to vectorize. Samples that only change
+ * byte order, and samples that are interleaved or deinterleaved, are moved
+ * as whole {@code short} or {@code int} values without passing through
+ * {@code float}, and so are never rounded.</p>
+ *
+ * <p>Unless otherwise stated, data is read starting at the position of
+ * source buffers, written starting at the position of target buffers, and
+ * the positions of both are advanced past the samples that were processed.
+ * Multibyte samples are interpreted using the byte order of the buffer that
+ * contains them.</p>
+ */
+
+public final class JAPCMConversion
+{
+  private static final int CHUNK_SAMPLES = 1024;
+
+  private static final float SCALE_8 = 128.0f;
+  private static final float SCALE_16 = 32768.0f;
+  private static final float SCALE_24 = 8388608.0f;
+  private static final float SCALE_32 = 2147483648.0f;
+
+  private static final ThreadLocal<Scratch> SCRATCH =
+    ThreadLocal.withInitial(Scratch::new);
+
+  private JAPCMConversion()
+  {
+
+  }
+
+  /**
+   * Convert samples from one format to another. As many samples are
+   * converted as will fit into the target buffer.
+   *
+   * @param source       The source data
+   * @param sourceFormat The source sample format
+   * @param target       The target buffer
+   * @param targetFormat The target sample format
+   *
+   * @return The number of samples converted
+   */
+
+  public static int convert(
+    final ByteBuffer source,
+    final JAPCMSampleFormat sourceFormat,
+    final ByteBuffer target,
+    final JAPCMSampleFormat targetFormat)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceFormat, "sourceFormat");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetFormat, "targetFormat");
+
+    final var sourceSize = sourceFormat.bytesPerSample();
+    final var targetSize = targetFormat.bytesPerSample();
+    final var count =
+      Math.min(source.remaining() / sourceSize, target.remaining() / targetSize);
+
+    if (sourceFormat == targetFormat
+        && (sourceSize == 1 || source.order() == target.order())) {
+      final var bytes = count * sourceSize;
+      target.put(target.position(), source, source.position(), bytes);
+      source.position(source.position() + bytes);
+      target.position(target.position() + bytes);
+      return count;
+    }
+
+    final var scratch = SCRATCH.get();
+    if (sourceFormat == targetFormat) {
+      swapOrder(source, target, sourceSize, scratch, count);
+      source.position(source.position() + (count * sourceSize));
+      target.position(target.position() + (count * targetSize));
+      return count;
+    }
+
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      decode(
+        source,
+        source.position() + (done * sourceSize),
+        sourceFormat,
+        scratch,
+        chunk
+      );
+      encode(
+        target,
+        target.position() + (done * targetSize),
+        targetFormat,
+        scratch,
+        chunk
+      );
+      done += chunk;
+    }
+
+    source.position(source.position() + (count * sourceSize));
+    target.position(target.position() + (count * targetSize));
+    return count;
+  }
+
+  /**
+   * Mix interleaved stereo audio down to mono by averaging the left and right
+   * channels of each frame. As many frames are mixed as will fit into the
+   * target buffer.
+   *
+   * @param source       The source stereo data
+   * @param sourceFormat The source sample format
+   * @param target       The target buffer
+   * @param targetFormat The target sample format
+   *
+   * @return The number of frames mixed
+   */
+
+  public static int downmixStereoToMono(
+    final ByteBuffer source,
+    final JAPCMSampleFormat sourceFormat,
+    final ByteBuffer target,
+    final JAPCMSampleFormat targetFormat)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceFormat, "sourceFormat");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetFormat, "targetFormat");
+
+    final var sourceSize = sourceFormat.bytesPerSample();
+    final var targetSize = targetFormat.bytesPerSample();
+    final var frames =
+      Math.min(
+        source.remaining() / (sourceSize * 2),
+        target.remaining() / targetSize
+      );
+
+    final var scratch = SCRATCH.get();
+    final var samples = scratch.samples;
+    var done = 0;
+    while (done < frames) {
+      final var chunk = Math.min(CHUNK_SAMPLES / 2, frames - done);
+      decode(
+        source,
+        source.position() + (done * sourceSize * 2),
+        sourceFormat,
+        scratch,
+        chunk * 2
+      );
+      for (int index = 0; index < chunk; ++index) {
+        final var left = samples[index * 2];
+        final var right = samples[(index * 2) + 1];
+        samples[index] = (left + right) * 0.5f;
+      }
+      encode(
+        target,
+        target.position() + (done * targetSize),
+        targetFormat,
+        scratch,
+        chunk
+      );
+      done += chunk;
+    }
+
+    source.position(source.position() + (frames * sourceSize * 2));
+    target.position(target.position() + (frames * targetSize));
+    return frames;
+  }
+
+  /**
+   * Multiply all samples between the position and limit of the given buffer
+   * by the given gain, in place. Integer samples are clamped to the range of
+   * their format. The position of the buffer is not changed.
+   *
+   * @param data   The data
+   * @param format The sample format
+   * @param gain   The gain
+   */
+
+  public static void applyGain(
+    final ByteBuffer data,
+    final JAPCMSampleFormat format,
+    final float gain)
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(format, "format");
+
+    final var size = format.bytesPerSample();
+    final var count = data.remaining() / size;
+    final var scratch = SCRATCH.get();
+    final var samples = scratch.samples;
+
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      final var offset = data.position() + (done * size);
+      decode(data, offset, format, scratch, chunk);
+      for (int index = 0; index < chunk; ++index) {
+        samples[index] *= gain;
+      }
+      encode(data, offset, format, scratch, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Interleave a set of single-channel buffers into a single multichannel
+   * buffer. Channel {@code k} of each output frame is taken from
+   * {@code sources.get(k)}. As many frames are interleaved as are available
+   * in every source and will fit into the target buffer.
+   *
+   * @param sources The source channels
+   * @param target  The target buffer
+   * @param format  The sample format of both sources and target
+   *
+   * @return The number of frames interleaved
+   */
+
+  public static int interleave(
+    final List<ByteBuffer> sources,
+    final ByteBuffer target,
+    final JAPCMSampleFormat format)
+  {
+    Objects.requireNonNull(sources, "sources");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(format, "format");
+
+    final var channels = sources.size();
+    if (channels == 0) {
+      return 0;
+    }
+
+    final var size = format.bytesPerSample();
+    var frames = target.remaining() / (size * channels);
+    for (final var source : sources) {
+      frames = Math.min(frames, source.remaining() / size);
+    }
+
+    final var stride = size * channels;
+    for (int channel = 0; channel < channels; ++channel) {
+      final var source = sources.get(channel);
+      copyStrided(
+        source,
+        source.position(),
+        size,
+        target,
+        target.position() + (channel * size),
+        stride,
+        size,
+        frames
+      );
+      source.position(source.position() + (frames * size));
+    }
+    target.position(target.position() + (frames * stride));
+    return frames;
+  }
+
+  /**
+   * Deinterleave a multichannel buffer into a set of single-channel buffers.
+   * Channel {@code k} of each input frame is written to
+   * {@code targets.get(k)}. As many frames are deinterleaved as are available
+   * in the source and will fit into every target.
+   *
+   * @param source  The source buffer
+   * @param targets The target channels
+   * @param format  The sample format of both source and targets
+   *
+   * @return The number of frames deinterleaved
+   */
+
+  public static int deinterleave(
+    final ByteBuffer source,
+    final List<ByteBuffer> targets,
+    final JAPCMSampleFormat format)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(targets, "targets");
+    Objects.requireNonNull(format, "format");
+
+    final var channels = targets.size();
+    if (channels == 0) {
+      return 0;
+    }
+
+    final var size = format.bytesPerSample();
+    var frames = source.remaining() / (size * channels);
+    for (final var target : targets) {
+      frames = Math.min(frames, target.remaining() / size);
+    }
+
+    final var stride = size * channels;
+    for (int channel = 0; channel < channels; ++channel) {
+      final var target = targets.get(channel);
+      copyStrided(
+        source,
+        source.position() + (channel * size),
+        stride,
+        target,
+        target.position(),
+        size,
+        size,
+        frames
+      );
+      target.position(target.position() + (frames * size));
+    }
+    source.position(source.position() + (frames * stride));
+    return frames;
+  }
+
+  /**
+   * Convert samples into a new direct buffer that is suitable for passing
+   * to {@link com.io7m.jarabica.api.JABufferType#setData(JABufferFormat, int, ByteBuffer)}
+   * with the given buffer format. Channels are not remixed; the source data
+   * must already have the channel layout of the buffer format.
+   *
+   * @param source       The source data
+   * @param sourceFormat The source sample format
+   * @param format       The buffer format
+   *
+   * @return A new direct buffer in native byte order
+   *
+   * @throws IllegalArgumentException If the buffer format is block-encoded,
+   *                                  or if the source data is not a whole
+   *                                  number of frames
+   */
+
+  public static ByteBuffer toBufferData(
+    final ByteBuffer source,
+    final JAPCMSampleFormat sourceFormat,
+    final JABufferFormat format)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceFormat, "sourceFormat");
+    Objects.requireNonNull(format, "format");
+
+    if (format.isBlockEncoded()) {
+      throw new IllegalArgumentException(
+        "Buffer format %s is block-encoded".formatted(format));
+    }
+
+    final var targetFormat =
+      JAPCMSampleFormat.ofSampleType(format.sampleType())
+        .orElseThrow(() -> new IllegalArgumentException(
+          "Buffer format %s has no PCM sample format".formatted(format)));
+
+    final var frameSize = sourceFormat.bytesPerSample() * format.channels();
+    if (source.remaining() % frameSize != 0) {
+      throw new IllegalArgumentException(
+        "Source data size %d is not a multiple of the frame size %d".formatted(
+          Integer.valueOf(source.remaining()), Integer.valueOf(frameSize)));
+    }
+
+    final var samples = source.remaining() / sourceFormat.bytesPerSample();
+    final var target =
+      ByteBuffer.allocateDirect(samples * targetFormat.bytesPerSample())
+        .order(ByteOrder.nativeOrder());
+
+    convert(source, sourceFormat, target, targetFormat);
+    return target.flip();
+  }
+
+  /*
+   * Samples of the same width are swapped between byte orders by reading
+   * them through a typed view in one order and writing them through a typed
+   * view in the other, so that integer samples keep every bit and float
+   * samples keep their exact representation.
+   */
+
+  private static void swapOrder(
+    final ByteBuffer source,
+    final ByteBuffer target,
+    final int size,
+    final Scratch scratch,
+    final int count)
+  {
+    final var bytes = scratch.bytes;
+    final var shorts = scratch.shorts;
+    final var ints = scratch.ints;
+
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      final var sourceOffset = source.position() + (done * size);
+      final var targetOffset = target.position() + (done * size);
+      final var length = chunk * size;
+      final var sourceView =
+        source.slice(sourceOffset, length).order(source.order());
+      final var targetView =
+        target.slice(targetOffset, length).order(target.order());
+
+      switch (size) {
+        case 2 -> {
+          sourceView.asShortBuffer().get(shorts, 0, chunk);
+          targetView.asShortBuffer().put(shorts, 0, chunk);
+        }
+        case 4 -> {
+          sourceView.asIntBuffer().get(ints, 0, chunk);
+          targetView.asIntBuffer().put(ints, 0, chunk);
+        }
+        default -> {
+          sourceView.get(0, bytes, 0, length);
+          for (int base = 0; base < length; base += 3) {
+            final var first = bytes[base];
+            bytes[base] = bytes[base + 2];
+            bytes[base + 2] = first;
+          }
+          targetView.put(0, bytes, 0, length);
+        }
+      }
+      done += chunk;
+    }
+  }
+
+  /*
+   * Samples are copied as whole values of their width. The side of the copy
+   * that is contiguous is transferred in bulk, and the strided side is
+   * transferred one sample at a time through a typed view. The bytes of a
+   * sample are moved unchanged, so the byte order of the views is irrelevant
+   * as long as both agree.
+   */
+
+  private static void copyStrided(
+    final ByteBuffer source,
+    final int sourceOffset,
+    final int sourceStride,
+    final ByteBuffer target,
+    final int targetOffset,
+    final int targetStride,
+    final int size,
+    final int count)
+  {
+    if (count == 0) {
+      return;
+    }
+
+    final var sourceView =
+      stridedView(source, sourceOffset, sourceStride, size, count);
+    final var targetView =
+      stridedView(target, targetOffset, targetStride, size, count);
+    final var sourceStep = sourceStride / size;
+    final var targetStep = targetStride / size;
+    final var scratch = SCRATCH.get();
+
+    switch (size) {
+      case 2 -> copyShorts(
+        sourceView.asShortBuffer(),
+        sourceStep,
+        targetView.asShortBuffer(),
+        targetStep,
+        scratch.shorts,
+        count
+      );
+      case 4 -> copyInts(
+        sourceView.asIntBuffer(),
+        sourceStep,
+        targetView.asIntBuffer(),
+        targetStep,
+        scratch.ints,
+        count
+      );
+      default -> copyBytes(
+        sourceView,
+        sourceStride,
+        targetView,
+        targetStride,
+        size,
+        scratch.bytes,
+        count
+      );
+    }
+  }
+
+  private static ByteBuffer stridedView(
+    final ByteBuffer buffer,
+    final int offset,
+    final int stride,
+    final int size,
+    final int count)
+  {
+    return buffer.slice(offset, ((count - 1) * stride) + size)
+      .order(ByteOrder.nativeOrder());
+  }
+
+  private static void copyShorts(
+    final ShortBuffer source,
+    final int sourceStep,
+    final ShortBuffer target,
+    final int targetStep,
+    final short[] shorts,
+    final int count)
+  {
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      if (sourceStep == 1) {
+        source.get(done, shorts, 0, chunk);
+      } else {
+        var index = done * sourceStep;
+        for (int sample = 0; sample < chunk; ++sample) {
+          shorts[sample] = source.get(index);
+          index += sourceStep;
+        }
+      }
+      if (targetStep == 1) {
+        target.put(done, shorts, 0, chunk);
+      } else {
+        var index = done * targetStep;
+        for (int sample = 0; sample < chunk; ++sample) {
+          target.put(index, shorts[sample]);
+          index += targetStep;
+        }
+      }
+      done += chunk;
+    }
+  }
+
+  private static void copyInts(
+    final IntBuffer source,
+    final int sourceStep,
+    final IntBuffer target,
+    final int targetStep,
+    final int[] ints,
+    final int count)
+  {
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      if (sourceStep == 1) {
+        source.get(done, ints, 0, chunk);
+      } else {
+        var index = done * sourceStep;
+        for (int sample = 0; sample < chunk; ++sample) {
+          ints[sample] = source.get(index);
+          index += sourceStep;
+        }
+      }
+      if (targetStep == 1) {
+        target.put(done, ints, 0, chunk);
+      } else {
+        var index = done * targetStep;
+        for (int sample = 0; sample < chunk; ++sample) {
+          target.put(index, ints[sample]);
+          index += targetStep;
+        }
+      }
+      done += chunk;
+    }
+  }
+
+  private static void copyBytes(
+    final ByteBuffer source,
+    final int sourceStride,
+    final ByteBuffer target,
+    final int targetStride,
+    final int size,
+    final byte[] bytes,
+    final int count)
+  {
+    var done = 0;
+    while (done < count) {
+      final var chunk = Math.min(CHUNK_SAMPLES, count - done);
+      final var length = chunk * size;
+      if (sourceStride == size) {
+        source.get(done * size, bytes, 0, length);
+      } else {
+        var index = done * sourceStride;
+        for (int base = 0; base < length; base += size) {
+          source.get(index, bytes, base, size);
+          index += sourceStride;
+        }
+      }
+      if (targetStride == size) {
+        target.put(done * size, bytes, 0, length);
+      } else {
+        var index = done * targetStride;
+        for (int base = 0; base < length; base += size) {
+          target.put(index, bytes, base, size);
+          index += targetStride;
+        }
+      }
+      done += chunk;
+    }
+  }
+
+  private static void decode(
+    final ByteBuffer source,
+    final int offset,
+    final JAPCMSampleFormat format,
+    final Scratch scratch,
+    final int count)
+  {
+    switch (format) {
+      case PCM_UNSIGNED_8 -> decode8(source, offset, scratch, count);
+      case PCM_SIGNED_16 -> decode16(source, offset, scratch, count);
+      case PCM_SIGNED_24 -> decode24(source, offset, scratch, count);
+      case PCM_SIGNED_32 -> decode32(source, offset, scratch, count);
+      case PCM_FLOAT_32 -> {
+        source.slice(offset, count * 4)
+          .order(source.order())
+          .asFloatBuffer()
+          .get(scratch.samples, 0, count);
+      }
+    }
+  }
+
+  private static void decode8(
+    final ByteBuffer source,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var bytes = scratch.bytes;
+    final var samples = scratch.samples;
+    source.get(offset, bytes, 0, count);
+    for (int index = 0; index < count; ++index) {
+      samples[index] = ((bytes[index] & 0xff) - 128) / SCALE_8;
+    }
+  }
+
+  private static void decode16(
+    final ByteBuffer source,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var shorts = scratch.shorts;
+    final var samples = scratch.samples;
+    source.slice(offset, count * 2)
+      .order(source.order())
+      .asShortBuffer()
+      .get(shorts, 0, count);
+    for (int index = 0; index < count; ++index) {
+      samples[index] = shorts[index] / SCALE_16;
+    }
+  }
+
+  private static void decode24(
+    final ByteBuffer source,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var bytes = scratch.bytes;
+    final var samples = scratch.samples;
+    source.get(offset, bytes, 0, count * 3);
+
+    /*
+     * The most significant byte is left signed so that the sign is extended
+     * into the upper bits of the integer.
+     */
+
+    final var low = source.order() == ByteOrder.LITTLE_ENDIAN ? 0 : 2;
+    final var high = 2 - low;
+    for (int index = 0; index < count; ++index) {
+      final var base = index * 3;
+      final var lower = (bytes[base + low] & 0xff) | ((bytes[base + 1] & 0xff) << 8);
+      samples[index] = (lower | (bytes[base + high] << 16)) / SCALE_24;
+    }
+  }
+
+  private static void decode32(
+    final ByteBuffer source,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var ints = scratch.ints;
+    final var samples = scratch.samples;
+    source.slice(offset, count * 4)
+      .order(source.order())
+      .asIntBuffer()
+      .get(ints, 0, count);
+    for (int index = 0; index < count; ++index) {
+      samples[index] = ints[index] / SCALE_32;
+    }
+  }
+
+  private static void encode(
+    final ByteBuffer target,
+    final int offset,
+    final JAPCMSampleFormat format,
+    final Scratch scratch,
+    final int count)
+  {
+    switch (format) {
+      case PCM_UNSIGNED_8 -> encode8(target, offset, scratch, count);
+      case PCM_SIGNED_16 -> encode16(target, offset, scratch, count);
+      case PCM_SIGNED_24 -> encode24(target, offset, scratch, count);
+      case PCM_SIGNED_32 -> encode32(target, offset, scratch, count);
+      case PCM_FLOAT_32 -> {
+        target.slice(offset, count * 4)
+          .order(target.order())
+          .asFloatBuffer()
+          .put(scratch.samples, 0, count);
+      }
+    }
+  }
+
+  private static void encode8(
+    final ByteBuffer target,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var bytes = scratch.bytes;
+    final var samples = scratch.samples;
+    for (int index = 0; index < count; ++index) {
+      final var value = Math.round(samples[index] * SCALE_8);
+      bytes[index] = (byte) (Math.clamp(value, -128, 127) + 128);
+    }
+    target.put(offset, bytes, 0, count);
+  }
+
+  private static void encode16(
+    final ByteBuffer target,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var shorts = scratch.shorts;
+    final var samples = scratch.samples;
+    for (int index = 0; index < count; ++index) {
+      final var value = Math.round(samples[index] * SCALE_16);
+      shorts[index] = (short) Math.clamp(value, -32768, 32767);
+    }
+    target.slice(offset, count * 2)
+      .order(target.order())
+      .asShortBuffer()
+      .put(shorts, 0, count);
+  }
+
+  private static void encode24(
+    final ByteBuffer target,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var bytes = scratch.bytes;
+    final var samples = scratch.samples;
+    final var low = target.order() == ByteOrder.LITTLE_ENDIAN ? 0 : 2;
+    final var high = 2 - low;
+    for (int index = 0; index < count; ++index) {
+      final var value =
+        Math.clamp(Math.round(samples[index] * SCALE_24), -8388608, 8388607);
+      final var base = index * 3;
+      bytes[base + low] = (byte) value;
+      bytes[base + 1] = (byte) (value >> 8);
+      bytes[base + high] = (byte) (value >> 16);
+    }
+    target.put(offset, bytes, 0, count * 3);
+  }
+
+  private static void encode32(
+    final ByteBuffer target,
+    final int offset,
+    final Scratch scratch,
+    final int count)
+  {
+    final var ints = scratch.ints;
+    final var samples = scratch.samples;
+
+    /*
+     * Math.round() saturates at the bounds of the int type.
+     */
+
+    for (int index = 0; index < count; ++index) {
+      ints[index] = Math.round(samples[index] * SCALE_32);
+    }
+    target.slice(offset, count * 4)
+      .order(target.order())
+      .asIntBuffer()
+      .put(ints, 0, count);
+  }
+
+  private static final class Scratch
+  {
+    private final float[] samples;
+    private final byte[] bytes;
+    private final short[] shorts;
+    private final int[] ints;
+
+    Scratch()
+    {
+      this.samples = new float[CHUNK_SAMPLES];
+      this.bytes = new byte[CHUNK_SAMPLES * 4];
+      this.shorts = new short[CHUNK_SAMPLES];
+      this.ints = new int[CHUNK_SAMPLES];
+    }
+  }
+}
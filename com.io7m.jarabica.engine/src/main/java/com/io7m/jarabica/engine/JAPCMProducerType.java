@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A pull-based producer of PCM audio, such as a decoder for a compressed
+ * audio file.</p>
+ *
+ * <p>Producers are called from a single decoding thread, and do not need to
+ * be thread-safe.</p>
+ */
+
+public interface JAPCMProducerType extends AutoCloseable
+{
+  /**
+   * @return The format of the produced audio
+   */
+
+  JABufferFormat format();
+
+  /**
+   * @return The frequency of the produced audio in hz
+   */
+
+  int frequency();
+
+  /**
+   * Write audio into the given buffer, starting at the buffer's position and
+   * writing at most {@link ByteBuffer#remaining()} bytes. The buffer's
+   * position is advanced by the number of bytes written. A producer that
+   * has no audio available yet may either block or return {@code 0}; in the
+   * latter case, the caller waits briefly before calling the method again.
+   *
+   * @param output The output buffer
+   *
+   * @return The number of bytes written, or {@code -1} if the end of the
+   * audio has been reached
+   *
+   * @throws IOException On errors
+   */
+
+  int read(ByteBuffer output)
+    throws IOException;
+
+  @Override
+  void close()
+    throws IOException;
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JASampleType;
+
+import java.util.Optional;
+
+/**
+ * The sample formats understood by {@link JAPCMConversion}. All formats are
+ * interpreted using the byte order of the buffer that contains them.
+ */
+
+public enum JAPCMSampleFormat
+{
+  /**
+   * Unsigned 8-bit integer samples, centred on {@code 128}.
+   */
+
+  PCM_UNSIGNED_8(1),
+
+  /**
+   * Signed 16-bit integer samples.
+   */
+
+  PCM_SIGNED_16(2),
+
+  /**
+   * Signed 24-bit integer samples, packed into three bytes.
+   */
+
+  PCM_SIGNED_24(3),
+
+  /**
+   * Signed 32-bit integer samples.
+   */
+
+  PCM_SIGNED_32(4),
+
+  /**
+   * 32-bit IEEE 754 floating point samples in the range {@code [-1, 1]}.
+   */
+
+  PCM_FLOAT_32(4);
+
+  private final int bytesPerSample;
+
+  JAPCMSampleFormat(
+    final int inBytesPerSample)
+  {
+    this.bytesPerSample = inBytesPerSample;
+  }
+
+  /**
+   * @param sampleType The sample type
+   *
+   * @return The sample format equivalent to the given sample type, if any
+   */
+
+  public static Optional<JAPCMSampleFormat> ofSampleType(
+    final JASampleType sampleType)
+  {
+    return switch (sampleType) {
+      case SAMPLE_UNSIGNED_BYTE -> Optional.of(PCM_UNSIGNED_8);
+      case SAMPLE_SHORT -> Optional.of(PCM_SIGNED_16);
+      case SAMPLE_INT -> Optional.of(PCM_SIGNED_32);
+      case SAMPLE_FLOAT -> Optional.of(PCM_FLOAT_32);
+      case SAMPLE_BYTE,
+        SAMPLE_UNSIGNED_SHORT,
+        SAMPLE_UNSIGNED_INT -> Optional.empty();
+    };
+  }
+
+  /**
+   * @return The number of bytes in a single sample
+   */
+
+  public int bytesPerSample()
+  {
+    return this.bytesPerSample;
+  }
+}
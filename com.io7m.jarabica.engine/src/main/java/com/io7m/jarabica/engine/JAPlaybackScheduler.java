@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default implementation of the {@link JAPlaybackSchedulerType}
+ * interface.
+ */
+
+public final class JAPlaybackScheduler implements JAPlaybackSchedulerType
+{
+  private final JAContextType context;
+  private final JAPlaybackSchedulerConfiguration configuration;
+  private final ConcurrentLinkedQueue<Start> requests;
+  private final PriorityQueue<Start> queue;
+  private final AtomicLong sequence;
+  private final ArrayList<JASourceType> group;
+  private final ArrayList<CompletableFuture<Void>> issued;
+  private final ArrayList<CompletableFuture<Void>> groupFutures;
+  private boolean capabilitiesKnown;
+  private boolean deviceClock;
+  private boolean scheduledPlayback;
+  private long started;
+  private long late;
+  private long cancelled;
+
+  private JAPlaybackScheduler(
+    final JAContextType inContext,
+    final JAPlaybackSchedulerConfiguration inConfiguration)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.requests =
+      new ConcurrentLinkedQueue<>();
+    this.queue =
+      new PriorityQueue<>(
+        Comparator.comparingLong(Start::time)
+          .thenComparingLong(Start::sequence));
+    this.sequence =
+      new AtomicLong();
+    this.group =
+      new ArrayList<>();
+    this.groupFutures =
+      new ArrayList<>();
+    this.issued =
+      new ArrayList<>();
+  }
+
+  /**
+   * Create a new playback scheduler.
+   *
+   * @param context       The context
+   * @param configuration The configuration
+   *
+   * @return A new scheduler
+   */
+
+  public static JAPlaybackSchedulerType create(
+    final JAContextType context,
+    final JAPlaybackSchedulerConfiguration configuration)
+  {
+    return new JAPlaybackScheduler(context, configuration);
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType tickContext,
+    final long timeNanos)
+    throws JAException
+  {
+    this.update(timeNanos);
+  }
+
+  @Override
+  public CompletableFuture<Void> scheduleAll(
+    final Collection<? extends JASourceType> sources,
+    final long deviceTimeNanos)
+  {
+    final var copy = List.<JASourceType>copyOf(sources);
+    final var future = new CompletableFuture<Void>();
+    this.requests.add(
+      new Start(
+        copy,
+        deviceTimeNanos,
+        this.sequence.getAndIncrement(),
+        future)
+    );
+    return future;
+  }
+
+  @Override
+  public void update(
+    final long timeNanos)
+    throws JAException
+  {
+    this.drainRequests();
+    if (this.queue.isEmpty()) {
+      return;
+    }
+
+    this.checkCapabilities();
+
+    final var clock =
+      this.deviceClock ? this.context.device().clockNanos() : timeNanos;
+
+    /*
+     * With scheduled playback, starts are handed over ahead of time and the
+     * implementation starts them on the exact frame. Without it, the best
+     * that can be done is to start sources on the first update after their
+     * start time.
+     */
+
+    final var horizon =
+      this.scheduledPlayback
+        ? clock + this.configuration.lead().toNanos()
+        : clock;
+
+    try {
+      while (!this.queue.isEmpty() && this.queue.peek().time() <= horizon) {
+        this.issueGroup(clock);
+      }
+    } finally {
+      for (final var future : this.issued) {
+        future.complete(null);
+      }
+      this.issued.clear();
+    }
+  }
+
+  private void drainRequests()
+  {
+    for (var r = this.requests.poll(); r != null; r = this.requests.poll()) {
+      this.queue.add(r);
+    }
+  }
+
+  private void checkCapabilities()
+    throws JAException
+  {
+    if (!this.capabilitiesKnown) {
+      this.deviceClock =
+        this.context.device().isDeviceClockSupported();
+      this.scheduledPlayback =
+        this.deviceClock && this.context.isScheduledPlaybackSupported();
+      this.capabilitiesKnown = true;
+    }
+  }
+
+  private void issueGroup(
+    final long clock)
+    throws JAException
+  {
+    this.group.clear();
+    this.groupFutures.clear();
+
+    final var time = this.queue.peek().time();
+    while (!this.queue.isEmpty() && this.queue.peek().time() == time) {
+      final var start = this.queue.poll();
+      if (start.future().isDone()) {
+        ++this.cancelled;
+        continue;
+      }
+      if (start.sources().stream().anyMatch(JASourceType::isClosed)) {
+        start.future().cancel(false);
+        ++this.cancelled;
+        continue;
+      }
+      this.group.addAll(start.sources());
+      this.groupFutures.add(start.future());
+    }
+
+    if (this.group.isEmpty()) {
+      return;
+    }
+
+    /*
+     * The futures of the group are only completed normally once the starts
+     * have actually been handed to the implementation.
+     */
+
+    try {
+      if (this.scheduledPlayback) {
+        this.context.playAllAt(this.group, time);
+      } else {
+        for (final var source : this.group) {
+          source.play();
+        }
+      }
+    } catch (final JAException e) {
+      for (final var future : this.groupFutures) {
+        future.completeExceptionally(e);
+      }
+      throw e;
+    }
+
+    this.issued.addAll(this.groupFutures);
+    this.started += this.groupFutures.size();
+    if (time < clock) {
+      this.late += this.groupFutures.size();
+    }
+  }
+
+  @Override
+  public JAPlaybackSchedulerStatistics statistics()
+  {
+    return new JAPlaybackSchedulerStatistics(
+      this.queue.size(),
+      this.started,
+      this.late,
+      this.cancelled
+    );
+  }
+
+  @Override
+  public void close()
+  {
+    this.drainRequests();
+    for (final var start : this.queue) {
+      start.future().cancel(false);
+      ++this.cancelled;
+    }
+    this.queue.clear();
+  }
+
+  private record Start(
+    List<JASourceType> sources,
+    long time,
+    long sequence,
+    CompletableFuture<Void> future)
+  {
+
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration information for a playback scheduler.
+ *
+ * @param lead How far ahead of its start time a scheduled start is handed to
+ *             the implementation; must be longer than the period between
+ *             updates
+ */
+
+public record JAPlaybackSchedulerConfiguration(
+  Duration lead)
+{
+  /**
+   * Configuration information for a playback scheduler.
+   */
+
+  public JAPlaybackSchedulerConfiguration
+  {
+    Objects.requireNonNull(lead, "lead");
+
+    if (lead.isNegative()) {
+      throw new IllegalArgumentException(
+        "Lead %s must be non-negative".formatted(lead)
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JAPlaybackSchedulerConfiguration defaults()
+  {
+    return new JAPlaybackSchedulerConfiguration(Duration.ofMillis(50L));
+  }
+}
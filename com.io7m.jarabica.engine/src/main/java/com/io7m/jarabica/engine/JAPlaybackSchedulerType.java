@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>A playback scheduler. Starts are queued against the device clock, and
+ * are held in a single queue ordered by start time. On each update, starts
+ * that fall within the configured lead of the current device time are handed
+ * to the implementation with {@link JASourceType#playAt(long)}, which starts
+ * them on the exact sample frame. Sources scheduled for the same time are
+ * started with a single call.</p>
+ *
+ * <p>If the context does not support scheduled playback, sources are started
+ * with {@link JASourceType#play()} on the first update at or after their
+ * start time. If the device does not provide a clock, the update time is used
+ * as the clock.</p>
+ *
+ * <p>Starts may be scheduled from any thread. A scheduler must be updated
+ * regularly from the thread that owns its context. A scheduler is also a
+ * {@link JAAudioTickListenerType}, and so can be registered with an audio
+ * thread to be updated on every tick.</p>
+ */
+
+public interface JAPlaybackSchedulerType
+  extends JAAudioTickListenerType, AutoCloseable
+{
+  /**
+   * Schedule a number of sources to start together.
+   *
+   * @param sources         The sources
+   * @param deviceTimeNanos The device clock time at which to start
+   *
+   * @return A future that completes when the start has been issued, or is
+   * cancelled if the scheduler is closed or any of the sources is closed
+   * before the start is issued
+   *
+   * @see com.io7m.jarabica.api.JADeviceType#clockNanos()
+   */
+
+  CompletableFuture<Void> scheduleAll(
+    Collection<? extends JASourceType> sources,
+    long deviceTimeNanos);
+
+  /**
+   * Schedule a source to start.
+   *
+   * @param source          The source
+   * @param deviceTimeNanos The device clock time at which to start
+   *
+   * @return A future that completes when the start has been issued
+   *
+   * @see #scheduleAll(Collection, long)
+   */
+
+  default CompletableFuture<Void> schedule(
+    final JASourceType source,
+    final long deviceTimeNanos)
+  {
+    return this.scheduleAll(List.of(source), deviceTimeNanos);
+  }
+
+  /**
+   * Issue any starts that are due.
+   *
+   * @param timeNanos The current time, as returned by {@link System#nanoTime()}
+   *
+   * @throws JAException On errors
+   */
+
+  void update(long timeNanos)
+    throws JAException;
+
+  /**
+   * @return The current statistics
+   */
+
+  JAPlaybackSchedulerStatistics statistics();
+
+  /**
+   * Close the scheduler, cancelling all pending starts.
+   */
+
+  @Override
+  void close();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * The shape of the transition between two values in a ramp or an automation
+ * curve.
+ */
+
+public enum JARampCurve
+{
+  /**
+   * The value changes at a constant rate.
+   */
+
+  RAMP_LINEAR,
+
+  /**
+   * The value changes slowly at first, and quickly at the end.
+   */
+
+  RAMP_EASE_IN,
+
+  /**
+   * The value changes quickly at first, and slowly at the end.
+   */
+
+  RAMP_EASE_OUT,
+
+  /**
+   * The value changes slowly at both ends (smoothstep).
+   */
+
+  RAMP_SMOOTH,
+
+  /**
+   * The value holds until the end of the transition, and then jumps.
+   */
+
+  RAMP_STEP;
+
+  /**
+   * Evaluate the curve.
+   *
+   * @param progress The progress through the transition in {@code [0, 1]}
+   *
+   * @return The fraction of the change applied in {@code [0, 1]}
+   */
+
+  public double shape(
+    final double progress)
+  {
+    final var t = Math.clamp(progress, 0.0, 1.0);
+    return switch (this) {
+      case RAMP_LINEAR -> t;
+      case RAMP_EASE_IN -> t * t;
+      case RAMP_EASE_OUT -> 1.0 - ((1.0 - t) * (1.0 - t));
+      case RAMP_SMOOTH -> t * t * (3.0 - (2.0 * t));
+      case RAMP_STEP -> t >= 1.0 ? 1.0 : 0.0;
+    };
+  }
+}
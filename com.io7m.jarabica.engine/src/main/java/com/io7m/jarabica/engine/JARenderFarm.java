@@ -0,0 +1,380 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JADeviceFactoryType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JALoopbackDeviceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A render farm that renders scripted scenes offline, in parallel.</p>
+ *
+ * <p>Each scene is rendered on its own loopback device and context, which is
+ * made current for the rendering worker thread only. Workers take jobs from
+ * a shared list until no jobs remain, so long and short scenes are balanced
+ * across workers automatically. The output of each scene is streamed to a
+ * WAV file as it is rendered.</p>
+ *
+ * <p>The device factory must support loopback devices and thread-local
+ * contexts.</p>
+ */
+
+public final class JARenderFarm
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JARenderFarm.class);
+
+  /*
+   * Creating a context briefly makes it the process-wide current context, so
+   * device and context creation and destruction are serialized across
+   * workers. Rendering itself proceeds in parallel.
+   */
+
+  private static final Object CONTEXT_LOCK = new Object();
+
+  private final JADeviceFactoryType devices;
+  private final JARenderFarmConfiguration configuration;
+
+  private JARenderFarm(
+    final JADeviceFactoryType inDevices,
+    final JARenderFarmConfiguration inConfiguration)
+  {
+    this.devices =
+      Objects.requireNonNull(inDevices, "devices");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+  }
+
+  /**
+   * Create a render farm.
+   *
+   * @param devices       The device factory
+   * @param configuration The configuration
+   *
+   * @return A new render farm
+   */
+
+  public static JARenderFarm create(
+    final JADeviceFactoryType devices,
+    final JARenderFarmConfiguration configuration)
+  {
+    return new JARenderFarm(devices, configuration);
+  }
+
+  /**
+   * @return The farm configuration
+   */
+
+  public JARenderFarmConfiguration configuration()
+  {
+    return this.configuration;
+  }
+
+  /**
+   * Render the given jobs, blocking until all jobs have completed. A job
+   * that fails does not prevent other jobs from rendering; the failure is
+   * recorded in the job's result, and the job's output file may be
+   * incomplete.
+   *
+   * @param jobs The jobs
+   *
+   * @return A report of the rendered jobs
+   *
+   * @throws InterruptedException If the calling thread is interrupted while
+   *                              waiting for workers
+   */
+
+  public JARenderFarmReport render(
+    final List<JARenderJob> jobs)
+    throws InterruptedException
+  {
+    final var jobList =
+      List.copyOf(Objects.requireNonNull(jobs, "jobs"));
+    final var results =
+      new JARenderSceneResult[jobList.size()];
+    final var next =
+      new AtomicInteger(0);
+    final var workerCount =
+      Math.max(1, Math.min(this.configuration.workers(), jobList.size()));
+    final var workers =
+      new Worker[workerCount];
+    final var threads =
+      new ArrayList<Thread>(workerCount);
+
+    final var timeThen = System.nanoTime();
+    for (int index = 0; index < workerCount; ++index) {
+      final var worker = new Worker(index, jobList, results, next);
+      workers[index] = worker;
+      threads.add(
+        Thread.ofPlatform()
+          .name("com.io7m.jarabica.render-farm-" + index)
+          .daemon(true)
+          .start(worker::run)
+      );
+    }
+
+    try {
+      for (final var thread : threads) {
+        thread.join();
+      }
+    } catch (final InterruptedException e) {
+      for (final var thread : threads) {
+        thread.interrupt();
+      }
+      throw e;
+    }
+
+    final var timeNow = System.nanoTime();
+    final var statistics =
+      Arrays.stream(workers)
+        .map(Worker::statistics)
+        .toList();
+    final var frames =
+      statistics.stream()
+        .mapToLong(JARenderWorkerStatistics::frames)
+        .sum();
+
+    return new JARenderFarmReport(
+      Arrays.asList(results),
+      statistics,
+      frames,
+      timeNow - timeThen
+    );
+  }
+
+  /*
+   * Creating a context makes it current for the process, so the context
+   * that the application had made current is made current again before
+   * the worker continues with its thread-local context.
+   */
+
+  private static void restoreCurrent(
+    final Optional<JAContextType> previous)
+    throws JAException
+  {
+    if (previous.isPresent()) {
+      final var context = previous.get();
+      if (!context.isClosed()) {
+        context.setCurrent();
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JARenderFarm 0x")
+      .append(Integer.toUnsignedString(this.hashCode(), 16))
+      .append("]")
+      .toString();
+  }
+
+  private final class Worker
+  {
+    private final int index;
+    private final List<JARenderJob> jobs;
+    private final JARenderSceneResult[] results;
+    private final AtomicInteger next;
+    private final ByteBuffer block;
+    private int scenes;
+    private long frames;
+    private long nanos;
+
+    Worker(
+      final int inIndex,
+      final List<JARenderJob> inJobs,
+      final JARenderSceneResult[] inResults,
+      final AtomicInteger inNext)
+    {
+      this.index = inIndex;
+      this.jobs = inJobs;
+      this.results = inResults;
+      this.next = inNext;
+
+      final var config = JARenderFarm.this.configuration;
+      final var bytesPerFrame =
+        config.channels().channels() * config.sampleType().bytesPerSample();
+      this.block =
+        ByteBuffer.allocateDirect(config.blockFrames() * bytesPerFrame)
+          .order(ByteOrder.nativeOrder());
+    }
+
+    JARenderWorkerStatistics statistics()
+    {
+      return new JARenderWorkerStatistics(
+        this.index,
+        this.scenes,
+        this.frames,
+        this.nanos
+      );
+    }
+
+    void run()
+    {
+      while (!Thread.currentThread().isInterrupted()) {
+        final var jobIndex = this.next.getAndIncrement();
+        if (jobIndex >= this.jobs.size()) {
+          return;
+        }
+        this.results[jobIndex] = this.runJob(this.jobs.get(jobIndex));
+      }
+    }
+
+    private JARenderSceneResult runJob(
+      final JARenderJob job)
+    {
+      final var scene = job.scene();
+      final var timeThen = System.nanoTime();
+      final var written = new long[1];
+
+      Optional<Exception> failure;
+      try {
+        this.renderScene(job, written);
+        failure = Optional.empty();
+      } catch (final JAException | IOException | RuntimeException e) {
+        LOG.error("scene {} failed: ", scene.name(), e);
+        failure = Optional.of(e);
+      }
+
+      final var time = System.nanoTime() - timeThen;
+      ++this.scenes;
+      this.frames = this.frames + written[0];
+      this.nanos = this.nanos + time;
+
+      if (LOG.isDebugEnabled()) {
+        LOG.debug(
+          "worker {}: scene {}: {} frames in {} ns",
+          Integer.valueOf(this.index),
+          scene.name(),
+          Long.valueOf(written[0]),
+          Long.valueOf(time)
+        );
+      }
+
+      return new JARenderSceneResult(
+        scene.name(),
+        job.output(),
+        this.index,
+        written[0],
+        time,
+        failure
+      );
+    }
+
+    private void renderScene(
+      final JARenderJob job,
+      final long[] written)
+      throws JAException, IOException
+    {
+      final var config = JARenderFarm.this.configuration;
+      final var scene = job.scene();
+
+      final JALoopbackDeviceType device;
+      synchronized (CONTEXT_LOCK) {
+        device = JARenderFarm.this.devices.openLoopbackDevice(
+          config.frequency(),
+          config.channels(),
+          config.sampleType()
+        );
+      }
+
+      try (var writer = JAWAVWriter.create(
+        job.output(),
+        config.frequency(),
+        config.channels(),
+        config.sampleType())) {
+
+        try {
+          final var context = this.createContext(device);
+          try {
+            scene.setup(context);
+            try {
+              this.renderBlocks(scene, device, context, writer);
+            } finally {
+              scene.teardown(context);
+            }
+          } finally {
+            synchronized (CONTEXT_LOCK) {
+              context.close();
+            }
+          }
+        } finally {
+          written[0] = writer.frames();
+        }
+      } finally {
+        synchronized (CONTEXT_LOCK) {
+          device.close();
+        }
+      }
+    }
+
+    private JAContextType createContext(
+      final JALoopbackDeviceType device)
+      throws JAException
+    {
+      synchronized (CONTEXT_LOCK) {
+        final var previous =
+          JARenderFarm.this.devices.currentContext();
+        final var context = device.createContext();
+        try {
+          restoreCurrent(previous);
+          context.setCurrentForThread();
+        } catch (final JAException e) {
+          context.close();
+          throw e;
+        }
+        return context;
+      }
+    }
+
+    private void renderBlocks(
+      final JARenderSceneType scene,
+      final JALoopbackDeviceType device,
+      final JAContextType context,
+      final JAWAVWriter writer)
+      throws JAException, IOException
+    {
+      final var total = scene.frames();
+      final var blockFrames = JARenderFarm.this.configuration.blockFrames();
+
+      var frame = 0L;
+      while (frame < total) {
+        final var count = (int) Math.min(blockFrames, total - frame);
+        scene.update(context, frame);
+        this.block.clear();
+        device.render(this.block, count);
+        this.block.flip();
+        writer.write(this.block);
+        frame = frame + count;
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAChannelLayout;
+import com.io7m.jarabica.api.JASampleType;
+
+import java.util.Objects;
+
+/**
+ * Configuration information for a render farm.
+ *
+ * @param workers     The number of worker threads
+ * @param frequency   The output frequency in hz
+ * @param channels    The output channel layout
+ * @param sampleType  The output sample type
+ * @param blockFrames The number of frames rendered between scene updates
+ */
+
+public record JARenderFarmConfiguration(
+  int workers,
+  int frequency,
+  JAChannelLayout channels,
+  JASampleType sampleType,
+  int blockFrames)
+{
+  /**
+   * Configuration information for a render farm.
+   */
+
+  public JARenderFarmConfiguration
+  {
+    Objects.requireNonNull(channels, "channels");
+    Objects.requireNonNull(sampleType, "sampleType");
+
+    if (workers < 1) {
+      throw new IllegalArgumentException(
+        "Worker count %d must be positive".formatted(
+          Integer.valueOf(workers))
+      );
+    }
+    if (frequency < 1) {
+      throw new IllegalArgumentException(
+        "Frequency %d must be positive".formatted(
+          Integer.valueOf(frequency))
+      );
+    }
+    if (blockFrames < 1) {
+      throw new IllegalArgumentException(
+        "Block size %d must be positive".formatted(
+          Integer.valueOf(blockFrames))
+      );
+    }
+    if (!JAWAVWriter.isSupported(sampleType)) {
+      throw new IllegalArgumentException(
+        "Sample type %s cannot be written to WAV files".formatted(
+          sampleType)
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration using one worker per
+   * available processor
+   */
+
+  public static JARenderFarmConfiguration defaults()
+  {
+    return new JARenderFarmConfiguration(
+      Runtime.getRuntime().availableProcessors(),
+      48000,
+      JAChannelLayout.CHANNELS_STEREO,
+      JASampleType.SAMPLE_SHORT,
+      1024
+    );
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.util.List;
+
+/**
+ * The report produced by a render farm.
+ *
+ * @param scenes  The result of each job, in job order
+ * @param workers The statistics for each worker
+ * @param frames  The total number of frames rendered
+ * @param nanos   The wall-clock time taken to render all jobs, in
+ *                nanoseconds
+ */
+
+public record JARenderFarmReport(
+  List<JARenderSceneResult> scenes,
+  List<JARenderWorkerStatistics> workers,
+  long frames,
+  long nanos)
+{
+  /**
+   * The report produced by a render farm.
+   */
+
+  public JARenderFarmReport
+  {
+    scenes = List.copyOf(scenes);
+    workers = List.copyOf(workers);
+  }
+
+  /**
+   * @return The total number of frames rendered per second of wall-clock time
+   */
+
+  public double framesPerSecond()
+  {
+    if (this.nanos == 0L) {
+      return 0.0;
+    }
+    return (double) this.frames / ((double) this.nanos / 1_000_000_000.0);
+  }
+
+  /**
+   * @return {@code true} if any scene failed to render
+   */
+
+  public boolean hasFailures()
+  {
+    return this.scenes.stream()
+      .anyMatch(r -> r.failure().isPresent());
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The result of rendering a single scene.
+ *
+ * @param scene   The scene name
+ * @param output  The output file
+ * @param worker  The index of the worker that rendered the scene
+ * @param frames  The number of frames written
+ * @param nanos   The time taken to render the scene, in nanoseconds
+ * @param failure The exception that stopped rendering, if any
+ */
+
+public record JARenderSceneResult(
+  String scene,
+  Path output,
+  int worker,
+  long frames,
+  long nanos,
+  Optional<Exception> failure)
+{
+  /**
+   * The result of rendering a single scene.
+   */
+
+  public JARenderSceneResult
+  {
+    Objects.requireNonNull(scene, "scene");
+    Objects.requireNonNull(output, "output");
+    Objects.requireNonNull(failure, "failure");
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * <p>A scripted scene that can be rendered offline by a render farm.</p>
+ *
+ * <p>Each scene is rendered on its own context, on a single worker thread.
+ * The context is current for the worker thread for the duration of the
+ * render. Scenes are responsible for closing any objects they create in
+ * {@link #setup(JAContextType)}.</p>
+ *
+ * @see JARenderFarm
+ */
+
+public interface JARenderSceneType
+{
+  /**
+   * @return The name of the scene, used in reports and logs
+   */
+
+  String name();
+
+  /**
+   * @return The total number of frames to render
+   */
+
+  long frames();
+
+  /**
+   * Set up the scene: create and place sources, load buffers, configure
+   * effects, and start playback.
+   *
+   * @param context The context
+   *
+   * @throws JAException On errors
+   */
+
+  void setup(JAContextType context)
+    throws JAException;
+
+  /**
+   * Update the scene before a block of frames is rendered. The default
+   * implementation does nothing.
+   *
+   * @param context The context
+   * @param frame   The index of the first frame in the block
+   *
+   * @throws JAException On errors
+   */
+
+  default void update(
+    final JAContextType context,
+    final long frame)
+    throws JAException
+  {
+
+  }
+
+  /**
+   * Tear down the scene, closing any objects created during setup. This is
+   * called even if rendering failed. The default implementation does
+   * nothing.
+   *
+   * @param context The context
+   *
+   * @throws JAException On errors
+   */
+
+  default void teardown(
+    final JAContextType context)
+    throws JAException
+  {
+
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for a single render farm worker.
+ *
+ * @param worker The worker index
+ * @param scenes The number of scenes the worker rendered
+ * @param frames The number of frames the worker rendered
+ * @param nanos  The time the worker spent rendering, in nanoseconds
+ */
+
+public record JARenderWorkerStatistics(
+  int worker,
+  int scenes,
+  long frames,
+  long nanos)
+{
+  /**
+   * @return The number of frames rendered per second of worker time
+   */
+
+  public double framesPerSecond()
+  {
+    if (this.nanos == 0L) {
+      return 0.0;
+    }
+    return (double) this.frames / ((double) this.nanos / 1_000_000_000.0);
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JADistanceModel;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceState;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * The default implementation of the {@link JASourceCullerType} interface.
+ */
+
+public final class JASourceCuller implements JASourceCullerType
+{
+  private final JAContextType context;
+  private final JASourceCullerConfiguration configuration;
+  private final LinkedHashMap<JASourceType, Entry> entries;
+  private final float[] listenerPosition;
+  private final float[] sourcePosition;
+  private int culled;
+  private long culls;
+  private long resumes;
+  private long finished;
+
+  private JASourceCuller(
+    final JAContextType inContext,
+    final JASourceCullerConfiguration inConfiguration)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.entries =
+      new LinkedHashMap<>();
+    this.listenerPosition =
+      new float[3];
+    this.sourcePosition =
+      new float[3];
+  }
+
+  /**
+   * Create a new source culler.
+   *
+   * @param context       The context
+   * @param configuration The configuration
+   *
+   * @return A new culler
+   */
+
+  public static JASourceCullerType create(
+    final JAContextType context,
+    final JASourceCullerConfiguration configuration)
+  {
+    return new JASourceCuller(context, configuration);
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType tickContext,
+    final long timeNanos)
+    throws JAException
+  {
+    this.update(timeNanos);
+  }
+
+  @Override
+  public void manage(
+    final JASourceType source)
+  {
+    Objects.requireNonNull(source, "source");
+    this.entries.putIfAbsent(source, new Entry(source));
+  }
+
+  @Override
+  public void unmanage(
+    final JASourceType source)
+    throws JAException
+  {
+    Objects.requireNonNull(source, "source");
+
+    final var entry = this.entries.remove(source);
+    if (entry == null) {
+      return;
+    }
+    if (source.isClosed()) {
+      this.forget(entry);
+    } else if (entry.culled) {
+      this.resume(entry, System.nanoTime());
+    }
+  }
+
+  @Override
+  public void update(
+    final long timeNanos)
+    throws JAException
+  {
+    this.context.listener().position(this.listenerPosition, 0);
+    final var model = this.context.distanceModel();
+
+    try (var ignored = this.context.beginUpdate()) {
+      final var iterator = this.entries.values().iterator();
+      while (iterator.hasNext()) {
+        final var entry = iterator.next();
+        if (entry.source.isClosed()) {
+          this.forget(entry);
+          iterator.remove();
+        } else if (entry.culled) {
+          this.updateCulled(entry, model, timeNanos);
+        } else {
+          this.updatePlaying(entry, model, timeNanos);
+        }
+      }
+    }
+  }
+
+  private void updatePlaying(
+    final Entry entry,
+    final JADistanceModel model,
+    final long timeNanos)
+    throws JAException
+  {
+    final var source = entry.source;
+    if (source.state() != JASourceState.SOURCE_STATE_PLAYING) {
+      return;
+    }
+    if (source.buffer().isEmpty()) {
+      return;
+    }
+    if (this.gainAtListener(source, model) < this.configuration.cullThreshold()) {
+      entry.offset = source.offsetSeconds();
+      entry.pitch = source.pitch();
+      entry.timeCulled = timeNanos;
+      entry.culled = true;
+      source.pause();
+      ++this.culled;
+      ++this.culls;
+    }
+  }
+
+  private void updateCulled(
+    final Entry entry,
+    final JADistanceModel model,
+    final long timeNanos)
+    throws JAException
+  {
+    final var source = entry.source;
+    if (this.releasedByApplication(entry)) {
+      return;
+    }
+
+    final var gain = this.gainAtListener(source, model);
+    if (gain >= this.configuration.resumeThreshold()) {
+      this.resume(entry, timeNanos);
+      return;
+    }
+
+    /*
+     * A non-looping source that would have reached the end of its buffer is
+     * stopped now, rather than being left paused until it becomes audible.
+     */
+
+    if (!source.looping() && this.offsetNow(entry, timeNanos) >= duration(source)) {
+      this.finish(entry);
+    }
+  }
+
+  private void resume(
+    final Entry entry,
+    final long timeNanos)
+    throws JAException
+  {
+    final var source = entry.source;
+    if (this.releasedByApplication(entry)) {
+      return;
+    }
+
+    final var duration = duration(source);
+    var offset = this.offsetNow(entry, timeNanos);
+
+    if (source.looping()) {
+      if (duration > 0.0) {
+        offset %= duration;
+      }
+    } else if (offset >= duration) {
+      this.finish(entry);
+      return;
+    }
+
+    entry.culled = false;
+    --this.culled;
+    ++this.resumes;
+    source.setOffsetSeconds(offset);
+    source.play();
+  }
+
+  /*
+   * A culled source that is no longer paused has been stopped, rewound, or
+   * played by the application. The culler forgets that it paused the
+   * source, rather than overriding the application's decision, and treats
+   * the source like any other managed source from then on.
+   */
+
+  private boolean releasedByApplication(
+    final Entry entry)
+    throws JAException
+  {
+    if (entry.source.state() != JASourceState.SOURCE_STATE_PAUSED) {
+      this.forget(entry);
+      return true;
+    }
+    return false;
+  }
+
+  /*
+   * Sources closed by the application are dropped without being touched.
+   */
+
+  private void forget(
+    final Entry entry)
+  {
+    if (entry.culled) {
+      entry.culled = false;
+      --this.culled;
+    }
+  }
+
+  private void finish(
+    final Entry entry)
+    throws JAException
+  {
+    entry.culled = false;
+    --this.culled;
+    ++this.finished;
+    entry.source.stop();
+  }
+
+  private double offsetNow(
+    final Entry entry,
+    final long timeNanos)
+  {
+    final var elapsed = (double) (timeNanos - entry.timeCulled) / 1.0e9;
+    return entry.offset + (Math.max(0.0, elapsed) * entry.pitch);
+  }
+
+  private static double duration(
+    final JASourceType source)
+    throws JAException
+  {
+    return source.buffer()
+      .map(JABufferType::duration)
+      .orElse(Double.valueOf(0.0))
+      .doubleValue();
+  }
+
+  private double gainAtListener(
+    final JASourceType source,
+    final JADistanceModel model)
+    throws JAException
+  {
+    source.position(this.sourcePosition, 0);
+
+    final var dx = (double) (this.sourcePosition[0] - this.listenerPosition[0]);
+    final var dy = (double) (this.sourcePosition[1] - this.listenerPosition[1]);
+    final var dz = (double) (this.sourcePosition[2] - this.listenerPosition[2]);
+    final var distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+    return source.gain() * model.attenuation(
+      distance,
+      source.referenceDistance(),
+      source.maxDistance(),
+      source.rolloffFactor()
+    );
+  }
+
+  @Override
+  public JASourceCullerStatistics statistics()
+  {
+    return new JASourceCullerStatistics(
+      this.entries.size(),
+      this.culled,
+      this.culls,
+      this.resumes,
+      this.finished
+    );
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    final var timeNow = System.nanoTime();
+    for (final var entry : new ArrayList<>(this.entries.values())) {
+      if (entry.source.isClosed()) {
+        this.forget(entry);
+      } else if (entry.culled) {
+        this.resume(entry, timeNow);
+      }
+    }
+    this.entries.clear();
+  }
+
+  private static final class Entry
+  {
+    private final JASourceType source;
+    private boolean culled;
+    private double offset;
+    private double pitch;
+    private long timeCulled;
+
+    Entry(
+      final JASourceType inSource)
+    {
+      this.source = Objects.requireNonNull(inSource, "source");
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Configuration information for a source culler. Using a resume threshold
+ * slightly above the cull threshold prevents sources hovering around the
+ * threshold from being repeatedly paused and resumed.
+ *
+ * @param cullThreshold   The attenuated gain below which a playing source is
+ *                        paused
+ * @param resumeThreshold The attenuated gain at or above which a culled
+ *                        source is resumed
+ */
+
+public record JASourceCullerConfiguration(
+  double cullThreshold,
+  double resumeThreshold)
+{
+  /**
+   * Configuration information for a source culler.
+   */
+
+  public JASourceCullerConfiguration
+  {
+    if (!(cullThreshold >= 0.0)) {
+      throw new IllegalArgumentException(
+        "Cull threshold %f must be non-negative".formatted(
+          Double.valueOf(cullThreshold))
+      );
+    }
+    if (!(resumeThreshold >= cullThreshold)) {
+      throw new IllegalArgumentException(
+        "Resume threshold %f must be at least the cull threshold %f".formatted(
+          Double.valueOf(resumeThreshold),
+          Double.valueOf(cullThreshold))
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JASourceCullerConfiguration defaults()
+  {
+    return new JASourceCullerConfiguration(0.001, 0.0015);
+  }
+}
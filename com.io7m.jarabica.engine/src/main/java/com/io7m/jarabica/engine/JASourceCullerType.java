@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+/**
+ * <p>A source culler. On each update, the attenuated gain of each managed
+ * source at the listener is calculated using the context's distance model
+ * and the source's distance properties. Playing sources whose gain falls
+ * below a threshold are paused, so that they no longer cost mixing time,
+ * and are resumed when their gain rises again. The time spent culled is
+ * accounted for, so a resumed source continues from the position it would
+ * have reached had it never been paused.</p>
+ *
+ * <p>Only sources with a static buffer are culled; streaming sources are
+ * never culled. While a source is culled, the culler controls its playback
+ * state. If the application stops or plays a culled source itself, the
+ * culler stops treating the source as culled and leaves its state
+ * alone.</p>
+ *
+ * <p>A source culler must be updated regularly from the thread that owns its
+ * context. A source culler is also a {@link JAAudioTickListenerType}, and so
+ * can be registered with an audio thread to be updated on every tick.</p>
+ */
+
+public interface JASourceCullerType
+  extends JAAudioTickListenerType, AutoCloseable
+{
+  /**
+   * Start managing the given source.
+   *
+   * @param source The source
+   */
+
+  void manage(JASourceType source);
+
+  /**
+   * Stop managing the given source. If the source is culled, it is resumed.
+   *
+   * @param source The source
+   *
+   * @throws JAException On errors
+   */
+
+  void unmanage(JASourceType source)
+    throws JAException;
+
+  /**
+   * Cull or resume managed sources.
+   *
+   * @param timeNanos The current time, as returned by {@link System#nanoTime()}
+   *
+   * @throws JAException On errors
+   */
+
+  void update(long timeNanos)
+    throws JAException;
+
+  /**
+   * @return The current statistics
+   */
+
+  JASourceCullerStatistics statistics();
+
+  /**
+   * Close the culler, resuming all culled sources.
+   *
+   * @throws JAException On errors
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
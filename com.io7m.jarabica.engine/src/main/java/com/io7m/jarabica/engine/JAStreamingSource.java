@@ -0,0 +1,394 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>The default implementation of {@link JAStreamingSourceType}.</p>
+ *
+ * <p>Audio is pulled from the producer on a virtual thread into a fixed set
+ * of direct chunks. The number of chunks bounds how far decoding can run
+ * ahead of playback. Updates move decoded chunks into processed buffers and
+ * return the chunks to the decoding thread.</p>
+ */
+
+public final class JAStreamingSource implements JAStreamingSourceType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JAStreamingSource.class);
+
+  /**
+   * The time the decoding thread waits when the producer has no audio
+   * available, in milliseconds.
+   */
+
+  private static final long PRODUCER_IDLE_WAIT = 1L;
+
+  /**
+   * The maximum time that closing a stream waits for the decoding thread
+   * to finish.
+   */
+
+  private static final Duration DECODER_JOIN_WAIT = Duration.ofSeconds(1L);
+
+  private final JAPCMProducerType producer;
+  private final JABufferFormat format;
+  private final int frequency;
+  private final JASourceType source;
+  private final ArrayList<JABufferType> buffers;
+  private final ArrayDeque<JABufferType> buffersIdle;
+  private final ArrayBlockingQueue<ByteBuffer> chunksFree;
+  private final ArrayBlockingQueue<ByteBuffer> chunksFilled;
+  private final AtomicBoolean closed;
+  private final Thread decoder;
+  private volatile boolean producerFinished;
+  private volatile IOException producerFailure;
+  private boolean playing;
+  private boolean started;
+  private boolean finished;
+  private long underruns;
+
+  private JAStreamingSource(
+    final JAStreamingSourceConfiguration configuration,
+    final JAPCMProducerType inProducer,
+    final JASourceType inSource,
+    final ArrayList<JABufferType> inBuffers)
+  {
+    this.producer =
+      Objects.requireNonNull(inProducer, "producer");
+    this.format =
+      Objects.requireNonNull(inProducer.format(), "format");
+    this.frequency =
+      inProducer.frequency();
+    this.source =
+      Objects.requireNonNull(inSource, "source");
+    this.buffers =
+      Objects.requireNonNull(inBuffers, "buffers");
+    this.buffersIdle =
+      new ArrayDeque<>(inBuffers);
+    this.closed =
+      new AtomicBoolean(false);
+
+    final var prefetch = configuration.prefetchChunks();
+    this.chunksFree =
+      new ArrayBlockingQueue<>(prefetch);
+    this.chunksFilled =
+      new ArrayBlockingQueue<>(prefetch);
+
+    /*
+     * Round the chunk size down to a whole number of blocks (frames, for
+     * formats that are not block encoded); OpenAL rejects data that ends
+     * partway through a block.
+     */
+
+    final var blockSize = this.format.bytesPerBlock();
+    final var chunkSizeRequested = configuration.chunkSizeBytes();
+    final var chunkSize =
+      Math.max(blockSize, chunkSizeRequested - (chunkSizeRequested % blockSize));
+
+    for (int index = 0; index < prefetch; ++index) {
+      this.chunksFree.add(ByteBuffer.allocateDirect(chunkSize));
+    }
+
+    this.decoder =
+      Thread.ofVirtual()
+        .name("com.io7m.jarabica.stream-", inSource.handle())
+        .unstarted(this::decode);
+  }
+
+  /**
+   * Create a streaming source. A new source and a set of buffers are created
+   * in the given context, and decoding begins immediately. This method must
+   * be called on the thread that owns the context.
+   *
+   * @param context       The context
+   * @param configuration The configuration
+   * @param producer      The producer of audio
+   *
+   * @return A new streaming source
+   *
+   * @throws JAException On errors
+   */
+
+  public static JAStreamingSourceType create(
+    final JAContextType context,
+    final JAStreamingSourceConfiguration configuration,
+    final JAPCMProducerType producer)
+    throws JAException
+  {
+    Objects.requireNonNull(context, "context");
+    Objects.requireNonNull(configuration, "configuration");
+    Objects.requireNonNull(producer, "producer");
+
+    final var buffers =
+      new ArrayList<JABufferType>(configuration.bufferCount());
+    final var source =
+      context.createSource();
+
+    try {
+      for (int index = 0; index < configuration.bufferCount(); ++index) {
+        buffers.add(context.createBuffer());
+      }
+    } catch (final JAException e) {
+      for (final var buffer : buffers) {
+        buffer.close();
+      }
+      source.close();
+      throw e;
+    }
+
+    final var stream =
+      new JAStreamingSource(configuration, producer, source, buffers);
+    stream.decoder.start();
+    return stream;
+  }
+
+  private void decode()
+  {
+    try (var ignored = this.producer) {
+      final var blockSize = this.format.bytesPerBlock();
+
+      while (!this.closed.get()) {
+        final var chunk = this.chunksFree.take();
+        chunk.clear();
+
+        var endOfStream = false;
+        while (chunk.hasRemaining()) {
+          final var r = this.producer.read(chunk);
+          if (r < 0) {
+            endOfStream = true;
+            break;
+          }
+
+          /*
+           * A producer that returns no audio, such as one fed from the
+           * network, is waiting for more input. Back off rather than
+           * spinning on the producer.
+           */
+
+          if (r == 0) {
+            Thread.sleep(PRODUCER_IDLE_WAIT);
+          }
+        }
+
+        chunk.flip();
+        chunk.limit(chunk.limit() - (chunk.limit() % blockSize));
+
+        if (chunk.hasRemaining()) {
+          this.chunksFilled.put(chunk);
+        } else {
+          this.chunksFree.put(chunk);
+        }
+
+        if (endOfStream) {
+          this.producerFinished = true;
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final IOException e) {
+      LOG.error("producer failed: ", e);
+      this.producerFailure = e;
+    }
+  }
+
+  @Override
+  public JASourceType source()
+  {
+    return this.source;
+  }
+
+  @Override
+  public void play()
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.playing = true;
+    this.update();
+  }
+
+  @Override
+  public void pause()
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.playing = false;
+    this.started = false;
+    this.source.pause();
+  }
+
+  @Override
+  public void update()
+    throws JAException
+  {
+    this.checkNotClosed();
+
+    final var failure = this.producerFailure;
+    if (failure != null) {
+      this.playing = false;
+      throw new JAStreamingException(failure.getMessage(), failure);
+    }
+
+    this.refill();
+    this.resume();
+  }
+
+  private void refill()
+    throws JAException
+  {
+    final var processed = this.source.buffersProcessed();
+    for (int index = 0; index < processed; ++index) {
+      this.buffersIdle.addLast(this.source.unqueueBuffer());
+    }
+
+    while (!this.buffersIdle.isEmpty()) {
+      final var chunk = this.chunksFilled.poll();
+      if (chunk == null) {
+        break;
+      }
+
+      final var buffer = this.buffersIdle.removeFirst();
+      try {
+        buffer.setData(this.format, this.frequency, chunk);
+      } catch (final JAException | RuntimeException e) {
+        this.buffersIdle.addFirst(buffer);
+        throw e;
+      } finally {
+        this.chunksFree.add(chunk);
+      }
+      this.source.queueBuffer(buffer);
+    }
+  }
+
+  private void resume()
+    throws JAException
+  {
+    if (!this.playing || this.source.isPlaying()) {
+      return;
+    }
+
+    /*
+     * The source should be playing but is not. If playback had already
+     * started, then the source ran out of queued buffers before they could
+     * be refilled.
+     */
+
+    if (this.source.buffersQueued() > 0) {
+      if (this.started) {
+        ++this.underruns;
+      }
+      this.started = true;
+      this.source.play();
+      return;
+    }
+
+    if (this.producerFinished && this.chunksFilled.isEmpty()) {
+      this.playing = false;
+      this.finished = true;
+    }
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType context,
+    final long timeNanos)
+    throws JAException
+  {
+    if (!this.closed.get()) {
+      this.update();
+    }
+  }
+
+  @Override
+  public boolean isFinished()
+  {
+    return this.finished;
+  }
+
+  @Override
+  public long underruns()
+  {
+    return this.underruns;
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed.get()) {
+      throw new IllegalStateException("Streaming source is closed.");
+    }
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      this.decoder.interrupt();
+
+      this.source.stop();
+      final var queued = this.source.buffersQueued();
+      for (int index = 0; index < queued; ++index) {
+        this.source.unqueueBuffer();
+      }
+      for (final var buffer : this.buffers) {
+        buffer.close();
+      }
+      this.source.close();
+      this.joinDecoder();
+    }
+  }
+
+  private void joinDecoder()
+  {
+    try {
+      if (!this.decoder.join(DECODER_JOIN_WAIT)) {
+        LOG.warn(
+          "decoding thread still running after {}",
+          DECODER_JOIN_WAIT);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAStreamingSource ")
+      .append(this.source)
+      .append("]")
+      .toString();
+  }
+}
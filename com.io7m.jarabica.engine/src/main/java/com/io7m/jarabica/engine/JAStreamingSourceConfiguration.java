@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+/**
+ * Configuration information for a streaming source.
+ *
+ * @param bufferCount    The number of buffers queued on the source
+ * @param chunkSizeBytes The size in bytes of each buffer
+ * @param prefetchChunks The maximum number of chunks that will be decoded
+ *                       ahead of playback
+ */
+
+public record JAStreamingSourceConfiguration(
+  int bufferCount,
+  int chunkSizeBytes,
+  int prefetchChunks)
+{
+  /**
+   * Configuration information for a streaming source.
+   */
+
+  public JAStreamingSourceConfiguration
+  {
+    if (bufferCount < 2) {
+      throw new IllegalArgumentException(
+        "Buffer count %d must be at least 2".formatted(
+          Integer.valueOf(bufferCount))
+      );
+    }
+    if (chunkSizeBytes < 1) {
+      throw new IllegalArgumentException(
+        "Chunk size %d must be positive".formatted(
+          Integer.valueOf(chunkSizeBytes))
+      );
+    }
+    if (prefetchChunks < 1) {
+      throw new IllegalArgumentException(
+        "Prefetch chunk count %d must be positive".formatted(
+          Integer.valueOf(prefetchChunks))
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JAStreamingSourceConfiguration defaults()
+  {
+    return new JAStreamingSourceConfiguration(4, 32768, 4);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+/**
+ * <p>A source that streams audio from a producer through a small ring of
+ * buffers, rather than holding all the audio in memory at once.</p>
+ *
+ * <p>A streaming source must be updated regularly from the thread that owns
+ * its context; processed buffers are refilled and requeued on each update.
+ * A streaming source is also a {@link JAAudioTickListenerType}, and so can be
+ * registered with an audio thread to be updated on every tick.</p>
+ */
+
+public interface JAStreamingSourceType
+  extends JAAudioTickListenerType, AutoCloseable
+{
+  /**
+   * Access the underlying source. The source can be used to set properties
+   * such as the position and gain, but buffers must not be attached to it
+   * directly.
+   *
+   * @return The underlying source
+   */
+
+  JASourceType source();
+
+  /**
+   * Start or resume playback.
+   *
+   * @throws JAException On errors
+   */
+
+  void play()
+    throws JAException;
+
+  /**
+   * Pause playback.
+   *
+   * @throws JAException On errors
+   */
+
+  void pause()
+    throws JAException;
+
+  /**
+   * Refill and requeue any processed buffers, and restart playback if the
+   * source ran out of buffers.
+   *
+   * @throws JAException On errors
+   */
+
+  void update()
+    throws JAException;
+
+  /**
+   * @return {@code true} if the producer has been exhausted and all audio
+   * has been played
+   */
+
+  boolean isFinished();
+
+  /**
+   * @return The number of times playback stalled because decoding did not
+   * keep up
+   */
+
+  long underruns();
+
+  /**
+   * Stop decoding, and delete the source and its buffers. The decoding
+   * thread is interrupted, and this method waits a bounded time for it to
+   * finish and close the producer. A producer that ignores interruption
+   * (such as one blocked reading a socket) may therefore still be open
+   * briefly after this method returns.
+   *
+   * @throws JAException On errors
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JADistanceModel;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+
+import java.util.Objects;
+
+/**
+ * The default implementation of {@link JAVoiceType}.
+ */
+
+final class JAVoice implements JAVoiceType
+{
+  private final JAVoiceManager manager;
+  private final int id;
+  private int priority;
+  private JABufferType buffer;
+  private float x;
+  private float y;
+  private float z;
+  private float gain;
+  private float pitch;
+  private boolean looping;
+  private boolean playing;
+  private boolean closed;
+  private double offset;
+  private double audibility;
+  private JASourceType source;
+
+  JAVoice(
+    final JAVoiceManager inManager,
+    final int inId,
+    final int inPriority)
+  {
+    this.manager =
+      Objects.requireNonNull(inManager, "manager");
+    this.id = inId;
+    this.priority = inPriority;
+    this.gain = 1.0f;
+    this.pitch = 1.0f;
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAVoice ")
+      .append(this.id)
+      .append(" ")
+      .append(this.priority)
+      .append("]")
+      .toString();
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed) {
+      throw new IllegalStateException("Voice is closed.");
+    }
+  }
+
+  @Override
+  public int priority()
+  {
+    return this.priority;
+  }
+
+  @Override
+  public void setPriority(
+    final int inPriority)
+  {
+    this.checkNotClosed();
+    this.priority = inPriority;
+  }
+
+  @Override
+  public void setBuffer(
+    final JABufferType inBuffer)
+    throws JAException
+  {
+    Objects.requireNonNull(inBuffer, "buffer");
+    this.checkNotClosed();
+    this.stop();
+    this.buffer = inBuffer;
+  }
+
+  @Override
+  public void setPosition(
+    final float inX,
+    final float inY,
+    final float inZ)
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.x = inX;
+    this.y = inY;
+    this.z = inZ;
+    if (this.source != null) {
+      this.source.setPosition(inX, inY, inZ);
+    }
+  }
+
+  @Override
+  public void setGain(
+    final float inGain)
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.gain = inGain;
+    if (this.source != null) {
+      this.source.setGain(inGain);
+    }
+  }
+
+  @Override
+  public void setPitch(
+    final float inPitch)
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.pitch = inPitch;
+    if (this.source != null) {
+      this.source.setPitch(inPitch);
+    }
+  }
+
+  @Override
+  public void setLooping(
+    final boolean inLooping)
+    throws JAException
+  {
+    this.checkNotClosed();
+    this.looping = inLooping;
+    if (this.source != null) {
+      this.source.setLooping(inLooping);
+    }
+  }
+
+  @Override
+  public void play()
+  {
+    this.checkNotClosed();
+    if (this.buffer == null) {
+      throw new IllegalStateException("Voice has no buffer.");
+    }
+    this.playing = true;
+  }
+
+  @Override
+  public void stop()
+    throws JAException
+  {
+    this.checkNotClosed();
+    if (this.source != null) {
+      this.manager.release(this, false);
+    }
+    this.finish();
+  }
+
+  @Override
+  public boolean isPlaying()
+  {
+    return this.playing;
+  }
+
+  @Override
+  public boolean isReal()
+  {
+    return this.source != null;
+  }
+
+  @Override
+  public double offsetSeconds()
+    throws JAException
+  {
+    if (this.source != null) {
+      return this.source.offsetSeconds();
+    }
+    return this.offset;
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    if (!this.closed) {
+      this.stop();
+      this.closed = true;
+      this.manager.onVoiceClosed(this);
+    }
+  }
+
+  /**
+   * @return The source bound to the voice, or {@code null} if the voice is
+   * virtual
+   */
+
+  JASourceType source()
+  {
+    return this.source;
+  }
+
+  double audibility()
+  {
+    return this.audibility;
+  }
+
+  /**
+   * Calculate the audibility of the voice relative to the given listener
+   * position. This mirrors the default AL_INVERSE_DISTANCE_CLAMPED model.
+   *
+   * @param configuration The manager configuration
+   * @param listener      The listener position
+   */
+
+  void updateAudibility(
+    final JAVoiceManagerConfiguration configuration,
+    final float[] listener)
+  {
+    final var dx = (double) (this.x - listener[0]);
+    final var dy = (double) (this.y - listener[1]);
+    final var dz = (double) (this.z - listener[2]);
+
+    final var attenuation =
+      JADistanceModel.DISTANCE_INVERSE_CLAMPED.attenuation(
+        Math.sqrt(dx * dx + dy * dy + dz * dz),
+        configuration.referenceDistance(),
+        Double.POSITIVE_INFINITY,
+        configuration.rolloffFactor()
+      );
+
+    this.audibility = (double) this.gain * attenuation;
+  }
+
+  /**
+   * Bind the voice to a real source, and start the source playing from the
+   * current position of the voice.
+   *
+   * @param newSource The source
+   *
+   * @throws JAException On errors
+   */
+
+  void bind(
+    final JASourceType newSource)
+    throws JAException
+  {
+    newSource.setBuffer(this.buffer);
+    newSource.setPosition(this.x, this.y, this.z);
+    newSource.setGain(this.gain);
+    newSource.setPitch(this.pitch);
+    newSource.setLooping(this.looping);
+    newSource.setOffsetSeconds(this.offset);
+    newSource.play();
+    this.source = newSource;
+  }
+
+  /**
+   * Unbind the voice from its real source, optionally saving the playback
+   * position of the source.
+   *
+   * @param saveOffset {@code true} if the playback position should be saved
+   *
+   * @return The source
+   *
+   * @throws JAException On errors
+   */
+
+  JASourceType unbind(
+    final boolean saveOffset)
+    throws JAException
+  {
+    final var oldSource = this.source;
+    if (saveOffset) {
+      this.offset = oldSource.offsetSeconds();
+    }
+    this.source = null;
+    return oldSource;
+  }
+
+  /**
+   * Mark the voice as having played to completion.
+   */
+
+  void finish()
+  {
+    this.playing = false;
+    this.offset = 0.0;
+  }
+
+  /**
+   * Advance the playback position of a virtual voice.
+   *
+   * @param delta The time elapsed in seconds
+   */
+
+  void advance(
+    final double delta)
+  {
+    final var duration = this.buffer.duration();
+    if (duration <= 0.0) {
+      this.finish();
+      return;
+    }
+
+    this.offset += delta * (double) this.pitch;
+    if (this.offset >= duration) {
+      if (this.looping) {
+        this.offset %= duration;
+      } else {
+        this.finish();
+      }
+    }
+  }
+}
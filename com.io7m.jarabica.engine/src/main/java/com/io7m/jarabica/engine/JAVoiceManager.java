@@ -0,0 +1,355 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jarabica.api.JASourceState.SOURCE_STATE_STOPPED;
+
+/**
+ * <p>The default implementation of {@link JAVoiceManagerType}.</p>
+ *
+ * <p>Real sources are created lazily, up to the configured maximum, and are
+ * never deleted until the manager is closed. If the implementation refuses
+ * to create a source before the maximum is reached, the manager uses the
+ * sources it already has.</p>
+ */
+
+public final class JAVoiceManager implements JAVoiceManagerType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JAVoiceManager.class);
+
+  private final JAContextType context;
+  private final JAVoiceManagerConfiguration configuration;
+  private final float[] listenerPosition;
+  private final ArrayList<JAVoice> voices;
+  private final ArrayList<JAVoice> candidates;
+  private final ArrayList<JASourceType> sources;
+  private final ArrayDeque<JASourceType> sourcesFree;
+  private int sourceLimit;
+  private int voiceIds;
+  private int voicesReal;
+  private long timeLast;
+  private boolean timeStarted;
+  private long promotions;
+  private long virtualizations;
+  private long steals;
+  private boolean closed;
+
+  private JAVoiceManager(
+    final JAContextType inContext,
+    final JAVoiceManagerConfiguration inConfiguration)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.listenerPosition =
+      new float[3];
+    this.voices =
+      new ArrayList<>();
+    this.candidates =
+      new ArrayList<>();
+    this.sources =
+      new ArrayList<>(inConfiguration.maximumRealVoices());
+    this.sourcesFree =
+      new ArrayDeque<>(inConfiguration.maximumRealVoices());
+    this.sourceLimit =
+      inConfiguration.maximumRealVoices();
+  }
+
+  /**
+   * Create a voice manager. This method must be called on the thread that
+   * owns the context.
+   *
+   * @param context       The context
+   * @param configuration The configuration
+   *
+   * @return A new voice manager
+   */
+
+  public static JAVoiceManagerType create(
+    final JAContextType context,
+    final JAVoiceManagerConfiguration configuration)
+  {
+    return new JAVoiceManager(context, configuration);
+  }
+
+  /*
+   * Voices are ranked lexicographically: priority first, and audibility only
+   * between voices of equal priority.
+   */
+
+  private static int compareRank(
+    final JAVoice a,
+    final JAVoice b)
+  {
+    final var c = Integer.compare(b.priority(), a.priority());
+    if (c != 0) {
+      return c;
+    }
+    return Double.compare(b.audibility(), a.audibility());
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed) {
+      throw new IllegalStateException("Voice manager is closed.");
+    }
+  }
+
+  @Override
+  public JAVoiceType createVoice(
+    final int priority)
+  {
+    this.checkNotClosed();
+
+    final var voice = new JAVoice(this, this.voiceIds, priority);
+    ++this.voiceIds;
+    this.voices.add(voice);
+    return voice;
+  }
+
+  @Override
+  public void onTick(
+    final JAContextType tickContext,
+    final long timeNanos)
+    throws JAException
+  {
+    this.update(timeNanos);
+  }
+
+  @Override
+  public void update(
+    final long timeNanos)
+    throws JAException
+  {
+    this.checkNotClosed();
+
+    final double delta;
+    if (this.timeStarted) {
+      delta = (double) (timeNanos - this.timeLast) / 1_000_000_000.0;
+    } else {
+      delta = 0.0;
+      this.timeStarted = true;
+    }
+    this.timeLast = timeNanos;
+
+    this.context.listener().position(this.listenerPosition, 0);
+
+    try (var ignored = this.context.beginUpdate()) {
+      this.rank(delta);
+      this.assign();
+    }
+  }
+
+  /**
+   * Advance all playing voices, and collect the audible voices in order of
+   * importance.
+   */
+
+  private void rank(
+    final double delta)
+    throws JAException
+  {
+    this.candidates.clear();
+
+    for (final var voice : this.voices) {
+      if (!voice.isPlaying()) {
+        continue;
+      }
+
+      final var source = voice.source();
+      if (source != null) {
+        if (source.state() == SOURCE_STATE_STOPPED) {
+          this.release(voice, false);
+          voice.finish();
+          continue;
+        }
+      } else {
+        voice.advance(delta);
+        if (!voice.isPlaying()) {
+          continue;
+        }
+      }
+
+      voice.updateAudibility(this.configuration, this.listenerPosition);
+      if (voice.audibility() >= this.configuration.audibilityThreshold()) {
+        this.candidates.add(voice);
+      } else if (source != null) {
+        this.virtualize(voice);
+      }
+    }
+
+    this.candidates.sort(JAVoiceManager::compareRank);
+  }
+
+  /**
+   * Virtualize the outranked voices, and then bind the most important voices
+   * to the sources that were released.
+   */
+
+  private void assign()
+    throws JAException
+  {
+    final var count = this.candidates.size();
+    final var limit = Math.min(count, this.sourceLimit);
+
+    for (int index = limit; index < count; ++index) {
+      final var voice = this.candidates.get(index);
+      if (voice.isReal()) {
+        this.virtualize(voice);
+        ++this.steals;
+      }
+    }
+
+    for (int index = 0; index < limit; ++index) {
+      final var voice = this.candidates.get(index);
+      if (!voice.isReal()) {
+        final var source = this.sourceAcquire();
+        if (source == null) {
+          return;
+        }
+        voice.bind(source);
+        ++this.voicesReal;
+        ++this.promotions;
+      }
+    }
+  }
+
+  private JASourceType sourceAcquire()
+    throws JAException
+  {
+    final var source = this.sourcesFree.poll();
+    if (source != null) {
+      return source;
+    }
+    if (this.sources.size() >= this.sourceLimit) {
+      return null;
+    }
+
+    try {
+      final var created = this.context.createSource();
+      this.sources.add(created);
+      return created;
+    } catch (final JAException e) {
+      if (this.sources.isEmpty()) {
+        throw e;
+      }
+      this.sourceLimit = this.sources.size();
+      LOG.warn(
+        "failed to create a source; limiting real voices to {}: ",
+        Integer.valueOf(this.sourceLimit),
+        e
+      );
+      return null;
+    }
+  }
+
+  private void virtualize(
+    final JAVoice voice)
+    throws JAException
+  {
+    this.release(voice, true);
+    ++this.virtualizations;
+  }
+
+  /**
+   * Stop the source bound to the given voice, and return it to the free
+   * list.
+   *
+   * @param voice      The voice
+   * @param saveOffset {@code true} if the playback position should be saved
+   *
+   * @throws JAException On errors
+   */
+
+  void release(
+    final JAVoice voice,
+    final boolean saveOffset)
+    throws JAException
+  {
+    final var source = voice.unbind(saveOffset);
+    --this.voicesReal;
+
+    source.stop();
+    source.detachBuffer();
+    this.sourcesFree.push(source);
+  }
+
+  void onVoiceClosed(
+    final JAVoice voice)
+  {
+    this.voices.remove(voice);
+  }
+
+  @Override
+  public JAVoiceManagerStatistics statistics()
+  {
+    var playing = 0;
+    for (final var voice : this.voices) {
+      if (voice.isPlaying()) {
+        ++playing;
+      }
+    }
+
+    return new JAVoiceManagerStatistics(
+      this.voices.size(),
+      playing,
+      this.voicesReal,
+      this.promotions,
+      this.virtualizations,
+      this.steals
+    );
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    if (!this.closed) {
+      for (final var voice : List.copyOf(this.voices)) {
+        voice.close();
+      }
+      for (final var source : this.sources) {
+        source.close();
+      }
+      this.sources.clear();
+      this.sourcesFree.clear();
+      this.closed = true;
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAVoiceManager ")
+      .append(this.voices.size())
+      .append("]")
+      .toString();
+  }
+}
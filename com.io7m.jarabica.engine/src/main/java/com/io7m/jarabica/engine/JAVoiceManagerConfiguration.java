@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+/**
+ * Configuration information for a voice manager.
+ *
+ * @param maximumRealVoices   The maximum number of voices that may be bound
+ *                            to real sources at any one time
+ * @param audibilityThreshold The audibility below which a voice is never
+ *                            bound to a real source
+ * @param referenceDistance   The distance at which the attenuation of a
+ *                            voice is {@code 1.0}
+ * @param rolloffFactor       The rate at which voices attenuate beyond the
+ *                            reference distance
+ */
+
+public record JAVoiceManagerConfiguration(
+  int maximumRealVoices,
+  double audibilityThreshold,
+  double referenceDistance,
+  double rolloffFactor)
+{
+  /**
+   * Configuration information for a voice manager.
+   */
+
+  public JAVoiceManagerConfiguration
+  {
+    if (maximumRealVoices < 1) {
+      throw new IllegalArgumentException(
+        "Maximum real voice count %d must be positive".formatted(
+          Integer.valueOf(maximumRealVoices))
+      );
+    }
+    if (!(audibilityThreshold >= 0.0)) {
+      throw new IllegalArgumentException(
+        "Audibility threshold %f must be non-negative".formatted(
+          Double.valueOf(audibilityThreshold))
+      );
+    }
+    if (!(referenceDistance > 0.0)) {
+      throw new IllegalArgumentException(
+        "Reference distance %f must be positive".formatted(
+          Double.valueOf(referenceDistance))
+      );
+    }
+    if (!(rolloffFactor >= 0.0)) {
+      throw new IllegalArgumentException(
+        "Rolloff factor %f must be non-negative".formatted(
+          Double.valueOf(rolloffFactor))
+      );
+    }
+  }
+
+  /**
+   * @return A reasonable default configuration
+   */
+
+  public static JAVoiceManagerConfiguration defaults()
+  {
+    return new JAVoiceManagerConfiguration(32, 0.001, 1.0, 1.0);
+  }
+}
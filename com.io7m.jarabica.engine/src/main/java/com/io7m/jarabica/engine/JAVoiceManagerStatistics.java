@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+/**
+ * Statistics for a voice manager.
+ *
+ * @param voices          The number of voices that currently exist
+ * @param voicesPlaying   The number of voices that are currently playing
+ * @param voicesReal      The number of voices currently bound to real sources
+ * @param promotions      The number of times a voice has been bound to a
+ *                        real source
+ * @param virtualizations The number of times a playing voice has been
+ *                        unbound from its real source
+ * @param steals          The number of virtualizations that occurred because
+ *                        a voice was outranked by another voice, rather than
+ *                        because it became inaudible
+ */
+
+public record JAVoiceManagerStatistics(
+  int voices,
+  int voicesPlaying,
+  int voicesReal,
+  long promotions,
+  long virtualizations,
+  long steals)
+{
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * <p>A voice manager. A voice manager allows an application to create far
+ * more voices than the underlying implementation has real sources. On each
+ * update, the playing voices are ranked by priority and then by audibility
+ * (a function of the distance to the listener and the gain of the voice),
+ * and only the highest ranked voices are bound to real sources.</p>
+ *
+ * <p>The ranking is lexicographic rather than a weighted score: priority is
+ * a strict dominant key, and audibility only orders voices of equal
+ * priority. A voice can therefore never lose its source to a voice of lower
+ * priority, however loud or close that voice is, and a faint voice of a
+ * higher priority keeps its source in preference to a loud voice of a lower
+ * priority. Voices below the configured audibility threshold are not ranked
+ * at all. Applications that want audibility to compete with priority should
+ * use a few coarse priority bands and leave the ordering within each band
+ * to the voice manager.</p>
+ *
+ * <p>A voice manager must be updated regularly from the thread that owns its
+ * context. A voice manager is also a {@link JAAudioTickListenerType}, and so
+ * can be registered with an audio thread to be updated on every tick.</p>
+ */
+
+public interface JAVoiceManagerType
+  extends JAAudioTickListenerType, AutoCloseable
+{
+  /**
+   * Create a new voice.
+   *
+   * @param priority The voice priority
+   *
+   * @return A new voice
+   *
+   * @throws JAException On errors
+   */
+
+  JAVoiceType createVoice(int priority)
+    throws JAException;
+
+  /**
+   * Advance the playback positions of virtual voices, and bind the most
+   * important voices to real sources.
+   *
+   * @param timeNanos The current time, as returned by {@link System#nanoTime()}
+   *
+   * @throws JAException On errors
+   */
+
+  void update(long timeNanos)
+    throws JAException;
+
+  /**
+   * @return The current statistics
+   */
+
+  JAVoiceManagerStatistics statistics();
+
+  /**
+   * Close the manager, stopping all voices and deleting all real sources.
+   *
+   * @throws JAException On errors
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAException;
+
+/**
+ * <p>A virtual voice. A voice holds the properties of a sound in memory, and
+ * is bound to a real source by its voice manager only while it is among the
+ * most important voices that are playing. While a voice is virtual, its
+ * playback position continues to advance, and playback resumes at the
+ * correct position if the voice is bound to a real source again.</p>
+ *
+ * <p>Voices must only be used on the thread that owns the manager's
+ * context.</p>
+ */
+
+public interface JAVoiceType extends AutoCloseable
+{
+  /**
+   * @return The voice priority
+   */
+
+  int priority();
+
+  /**
+   * Set the voice priority. Voices with a higher priority are always
+   * preferred over voices with a lower priority, regardless of audibility.
+   *
+   * @param priority The priority
+   */
+
+  void setPriority(int priority);
+
+  /**
+   * Set the buffer played by the voice. The voice is stopped.
+   *
+   * @param buffer The buffer
+   *
+   * @throws JAException On errors
+   */
+
+  void setBuffer(JABufferType buffer)
+    throws JAException;
+
+  /**
+   * Set the position of the voice.
+   *
+   * @param x The x position
+   * @param y The y position
+   * @param z The z position
+   *
+   * @throws JAException On errors
+   */
+
+  void setPosition(
+    float x,
+    float y,
+    float z)
+    throws JAException;
+
+  /**
+   * Set the gain of the voice.
+   *
+   * @param gain The scalar gain multiplier
+   *
+   * @throws JAException On errors
+   */
+
+  void setGain(float gain)
+    throws JAException;
+
+  /**
+   * Set the pitch of the voice.
+   *
+   * @param pitch The scalar pitch multiplier
+   *
+   * @throws JAException On errors
+   */
+
+  void setPitch(float pitch)
+    throws JAException;
+
+  /**
+   * Set the voice to looping (or not looping).
+   *
+   * @param looping {@code true} if the voice should loop
+   *
+   * @throws JAException On errors
+   */
+
+  void setLooping(boolean looping)
+    throws JAException;
+
+  /**
+   * Start playing the voice from its current position. The voice is bound to
+   * a real source on the next update, if it is important enough.
+   *
+   * @throws JAException On errors
+   */
+
+  void play()
+    throws JAException;
+
+  /**
+   * Stop playing the voice, and rewind it to the start.
+   *
+   * @throws JAException On errors
+   */
+
+  void stop()
+    throws JAException;
+
+  /**
+   * @return {@code true} if the voice is playing, whether or not it is real
+   */
+
+  boolean isPlaying();
+
+  /**
+   * @return {@code true} if the voice is currently bound to a real source
+   */
+
+  boolean isReal();
+
+  /**
+   * @return The playback position of the voice in seconds; for virtual
+   * voices, this is the position as of the last update
+   *
+   * @throws JAException On errors
+   */
+
+  double offsetSeconds()
+    throws JAException;
+
+  /**
+   * Stop the voice and remove it from its manager.
+   *
+   * @throws JAException On errors
+   */
+
+  @Override
+  void close()
+    throws JAException;
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.engine;
+
+import com.io7m.jarabica.api.JAChannelLayout;
+import com.io7m.jarabica.api.JASampleType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <p>A writer that streams PCM audio into a WAV file.</p>
+ *
+ * <p>A header with placeholder sizes is written when the file is opened, and
+ * the sizes are filled in when the writer is closed, so audio of unknown
+ * length can be written without buffering it in memory.</p>
+ */
+
+public final class JAWAVWriter implements AutoCloseable
+{
+  private static final int HEADER_SIZE = 44;
+  private static final int CHUNK_RIFF = 0x4646_4952;
+  private static final int CHUNK_WAVE = 0x4556_4157;
+  private static final int CHUNK_FMT = 0x2074_6d66;
+  private static final int CHUNK_DATA = 0x6174_6164;
+  private static final int FORMAT_PCM = 1;
+  private static final int FORMAT_IEEE_FLOAT = 3;
+  private static final long DATA_SIZE_MAXIMUM = 0xffff_ffffL - 36L;
+
+  private final FileChannel channel;
+  private final JASampleType sampleType;
+  private final int bytesPerFrame;
+  private final ByteBuffer header;
+  private long dataSize;
+  private boolean closed;
+
+  private JAWAVWriter(
+    final FileChannel inChannel,
+    final JASampleType inSampleType,
+    final int inBytesPerFrame)
+  {
+    this.channel =
+      Objects.requireNonNull(inChannel, "channel");
+    this.sampleType =
+      Objects.requireNonNull(inSampleType, "sampleType");
+    this.bytesPerFrame =
+      inBytesPerFrame;
+    this.header =
+      ByteBuffer.allocate(HEADER_SIZE)
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * @param sampleType The sample type
+   *
+   * @return {@code true} if the given sample type can be written to WAV
+   * files
+   */
+
+  public static boolean isSupported(
+    final JASampleType sampleType)
+  {
+    return switch (sampleType) {
+      case SAMPLE_UNSIGNED_BYTE, SAMPLE_SHORT, SAMPLE_INT, SAMPLE_FLOAT -> true;
+      case SAMPLE_BYTE, SAMPLE_UNSIGNED_SHORT, SAMPLE_UNSIGNED_INT -> false;
+    };
+  }
+
+  /**
+   * Create a new WAV file, replacing any existing file.
+   *
+   * @param file       The output file
+   * @param frequency  The frequency in hz
+   * @param channels   The channel layout
+   * @param sampleType The sample type
+   *
+   * @return A new writer
+   *
+   * @throws IOException On errors
+   */
+
+  public static JAWAVWriter create(
+    final Path file,
+    final int frequency,
+    final JAChannelLayout channels,
+    final JASampleType sampleType)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(channels, "channels");
+    Objects.requireNonNull(sampleType, "sampleType");
+
+    if (!isSupported(sampleType)) {
+      throw new IllegalArgumentException(
+        "Sample type %s cannot be written to WAV files".formatted(sampleType)
+      );
+    }
+
+    final var channel =
+      FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+    final var writer =
+      new JAWAVWriter(
+        channel,
+        sampleType,
+        channels.channels() * sampleType.bytesPerSample()
+      );
+
+    try {
+      writer.writeHeader(frequency, channels.channels());
+    } catch (final IOException e) {
+      channel.close();
+      throw e;
+    }
+    return writer;
+  }
+
+  private void writeHeader(
+    final int frequency,
+    final int channels)
+    throws IOException
+  {
+    final var format =
+      this.sampleType == JASampleType.SAMPLE_FLOAT
+        ? FORMAT_IEEE_FLOAT
+        : FORMAT_PCM;
+
+    this.header.clear();
+    this.header.putInt(CHUNK_RIFF);
+    this.header.putInt((int) (this.dataSize + 36L));
+    this.header.putInt(CHUNK_WAVE);
+    this.header.putInt(CHUNK_FMT);
+    this.header.putInt(16);
+    this.header.putShort((short) format);
+    this.header.putShort((short) channels);
+    this.header.putInt(frequency);
+    this.header.putInt(frequency * this.bytesPerFrame);
+    this.header.putShort((short) this.bytesPerFrame);
+    this.header.putShort((short) (this.sampleType.bytesPerSample() * 8));
+    this.header.putInt(CHUNK_DATA);
+    this.header.putInt((int) this.dataSize);
+    this.header.flip();
+    this.writeFully(this.header, 0L);
+  }
+
+  /**
+   * Write audio to the file. The audio is taken from the buffer's position
+   * to its limit, must consist of whole frames, and must be in native byte
+   * order. On big-endian platforms the buffer contents are byte-swapped in
+   * place. The buffer's position is advanced to its limit.
+   *
+   * @param data The audio data
+   *
+   * @throws IOException On errors
+   */
+
+  public void write(
+    final ByteBuffer data)
+    throws IOException
+  {
+    Objects.requireNonNull(data, "data");
+
+    if (this.closed) {
+      throw new IOException("Writer is closed");
+    }
+
+    final var size = data.remaining();
+    if (size % this.bytesPerFrame != 0) {
+      throw new IllegalArgumentException(
+        "Data size %d is not a multiple of the frame size %d".formatted(
+          Integer.valueOf(size),
+          Integer.valueOf(this.bytesPerFrame))
+      );
+    }
+    if (this.dataSize + size > DATA_SIZE_MAXIMUM) {
+      throw new IOException(
+        "WAV data size would exceed %d bytes".formatted(
+          Long.valueOf(DATA_SIZE_MAXIMUM))
+      );
+    }
+
+    if (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) {
+      this.swap(data);
+    }
+
+    this.writeFully(data, HEADER_SIZE + this.dataSize);
+    this.dataSize = this.dataSize + size;
+  }
+
+  private void writeFully(
+    final ByteBuffer data,
+    final long offset)
+    throws IOException
+  {
+    var position = offset;
+    while (data.hasRemaining()) {
+      position = position + this.channel.write(data, position);
+    }
+  }
+
+  private void swap(
+    final ByteBuffer data)
+  {
+    final var bytes = this.sampleType.bytesPerSample();
+    final var start = data.position();
+    final var end = data.limit();
+
+    for (int index = start; index < end; index += bytes) {
+      for (int low = 0, high = bytes - 1; low < high; ++low, --high) {
+        final var b = data.get(index + low);
+        data.put(index + low, data.get(index + high));
+        data.put(index + high, b);
+      }
+    }
+  }
+
+  /**
+   * @return The number of frames written so far
+   */
+
+  public long frames()
+  {
+    return this.dataSize / this.bytesPerFrame;
+  }
+
+  /**
+   * Fill in the sizes in the file header and close the file.
+   *
+   * @throws IOException On errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (this.closed) {
+      return;
+    }
+
+    this.closed = true;
+    try {
+      this.header.clear();
+      this.header.putInt(0, (int) (this.dataSize + 36L));
+      this.header.putInt(4, (int) this.dataSize);
+      this.header.limit(4);
+      this.writeFully(this.header, 4L);
+      this.header.limit(8);
+      this.writeFully(this.header, 40L);
+    } finally {
+      this.channel.close();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl;
+
+import javax.management.MXBean;
+import java.util.Map;
+
+/**
+ * <p>Live counters for a context, exposed over JMX. An instance is registered
+ * with the platform MBean server for every open context under the name
+ * {@code com.io7m.jarabica:type=Context,device=<device>,context=<context>},
+ * and unregistered when the context is closed.</p>
+ *
+ * <p>The counters are updated without locking and may be read from any
+ * thread. Because the implementation cannot query OpenAL from a monitoring
+ * thread, the number of playing sources reflects the state last observed by
+ * the library: a source that stops on its own at the end of its buffers is
+ * counted as playing until its state is next queried. The thread that owns
+ * the context queries the sources it last observed to be playing at the end
+ * of update batches, at most four times per second, so the count is only
+ * stale for applications that do not update the context in batches.</p>
+ */
+
+@MXBean
+public interface JALWContextMetricsType
+{
+  /**
+   * @return The number of open sources
+   */
+
+  long getSources();
+
+  /**
+   * @return The number of open sources last observed to be playing
+   */
+
+  long getSourcesPlaying();
+
+  /**
+   * @return The number of open sources not last observed to be playing
+   */
+
+  long getSourcesStopped();
+
+  /**
+   * @return The number of open buffers
+   */
+
+  long getBuffers();
+
+  /**
+   * @return The number of open EFX effects
+   */
+
+  long getEffects();
+
+  /**
+   * @return The number of open EFX filters
+   */
+
+  long getFilters();
+
+  /**
+   * @return The number of open EFX auxiliary effect slots
+   */
+
+  long getEffectsSlots();
+
+  /**
+   * @return The total number of bytes uploaded to buffers
+   */
+
+  long getBytesUploaded();
+
+  /**
+   * @return The total number of OpenAL calls made
+   */
+
+  long getCalls();
+
+  /**
+   * @return The rate of OpenAL calls, averaged over approximately the last
+   * second
+   */
+
+  double getCallsPerSecond();
+
+  /**
+   * @return The number of OpenAL errors raised, by function name
+   */
+
+  Map<String, Long> getErrors();
+}
@@ -16,17 +16,24 @@
 
 package com.io7m.jarabica.lwjgl;
 
+import com.io7m.jarabica.api.JAChannelLayout;
+import com.io7m.jarabica.api.JAContextType;
 import com.io7m.jarabica.api.JADeviceDescription;
 import com.io7m.jarabica.api.JADeviceException;
 import com.io7m.jarabica.api.JADeviceFactoryType;
 import com.io7m.jarabica.api.JADeviceType;
 import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JALoopbackDeviceType;
 import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.api.JASampleType;
+import com.io7m.jarabica.lwjgl.internal.JALContext;
 import com.io7m.jarabica.lwjgl.internal.JALDevice;
 import com.io7m.jarabica.lwjgl.internal.JALErrorChecker;
+import com.io7m.jarabica.lwjgl.internal.JALLoopbackDevice;
 import com.io7m.jarabica.lwjgl.internal.JALStrings;
 import org.lwjgl.openal.ALC10;
 import org.lwjgl.openal.ALUtil;
+import org.lwjgl.openal.SOFTLoopback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +43,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -52,18 +60,35 @@ public final class JALWDeviceFactory implements JADeviceFactoryType
   private List<JADeviceDescription> devices;
 
   /**
-   * The default LWJGL-based device factory.
+   * The default LWJGL-based device factory. Errors are checked after every
+   * call.
    */
 
   public JALWDeviceFactory()
   {
+    this(new JALWErrorCheckingPolicyType.EveryCall());
+  }
+
+  /**
+   * The default LWJGL-based device factory.
+   *
+   * @param errorCheckingPolicy The error checking policy used for all devices
+   *                            and contexts created by this factory
+   */
+
+  public JALWDeviceFactory(
+    final JALWErrorCheckingPolicyType errorCheckingPolicy)
+  {
+    Objects.requireNonNull(errorCheckingPolicy, "errorCheckingPolicy");
+
     try {
       this.strings = new JALStrings(Locale.getDefault());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
 
-    this.errorChecker = new JALErrorChecker(this.strings);
+    this.errorChecker =
+      new JALErrorChecker(this.strings, errorCheckingPolicy);
   }
 
   @Override
@@ -125,6 +150,76 @@ public final class JALWDeviceFactory implements JADeviceFactoryType
     return newDevice;
   }
 
+  @Override
+  public JALoopbackDeviceType openLoopbackDevice(
+    final int frequency,
+    final JAChannelLayout channels,
+    final JASampleType sampleType)
+    throws JAException
+  {
+    Objects.requireNonNull(channels, "channels");
+    Objects.requireNonNull(sampleType, "sampleType");
+
+    if (frequency <= 0) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorLoopbackFrequency",
+          Integer.valueOf(frequency))
+      );
+    }
+
+    if (!ALC10.alcIsExtensionPresent(0L, "ALC_SOFT_loopback")) {
+      throw new JADeviceException(
+        this.strings.format("errorLoopbackUnsupported"));
+    }
+
+    final var result =
+      SOFTLoopback.alcLoopbackOpenDeviceSOFT((CharSequence) null);
+    if (result == 0L) {
+      throw new JADeviceException(this.strings.format("errorDeviceCreate"));
+    }
+
+    final var supported =
+      SOFTLoopback.alcIsRenderFormatSupportedSOFT(
+        result,
+        frequency,
+        JALLoopbackDevice.channelsConstant(channels),
+        JALLoopbackDevice.sampleTypeConstant(sampleType)
+      );
+
+    if (!supported) {
+      ALC10.alcCloseDevice(result);
+      throw new JADeviceException(
+        this.strings.format(
+          "errorLoopbackFormatUnsupported",
+          Integer.valueOf(frequency),
+          channels,
+          sampleType)
+      );
+    }
+
+    final var newDevice =
+      new JALLoopbackDevice(
+        this.strings,
+        this.errorChecker.derive(),
+        result,
+        frequency,
+        channels,
+        sampleType
+      );
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("opened loopback device: {}", newDevice);
+    }
+    return newDevice;
+  }
+
+  @Override
+  public Optional<JAContextType> currentContext()
+  {
+    return JALContext.currentForProcess();
+  }
+
   @Override
   public String toString()
   {
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl;
+
+import javax.management.MXBean;
+
+/**
+ * Live counters for a device, exposed over JMX. An instance is registered
+ * with the platform MBean server for every open device under the name
+ * {@code com.io7m.jarabica:type=Device,device=<device>}. The counters are the
+ * totals over the contexts currently open on the device.
+ *
+ * @see JALWContextMetricsType
+ */
+
+@MXBean
+public interface JALWDeviceMetricsType extends JALWContextMetricsType
+{
+  /**
+   * @return The number of open contexts
+   */
+
+  long getContexts();
+}
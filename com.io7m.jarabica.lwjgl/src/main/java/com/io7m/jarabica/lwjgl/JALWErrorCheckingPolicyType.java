@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl;
+
+/**
+ * <p>The policy that determines how often OpenAL errors are checked.</p>
+ *
+ * <p>Checking for errors requires a call to {@code alGetError} and so doubles
+ * the number of native calls made by simple operations such as setting the
+ * position of a source. Policies other than {@link EveryCall} allow checks
+ * for calls that only update the properties of existing objects to be
+ * deferred. Calls that create or delete objects, or upload data, are always
+ * checked immediately, and any deferred checks are performed at the same
+ * time. When a deferred check fails, the resulting exception names every
+ * function that was called since errors were last checked.</p>
+ *
+ * @see com.io7m.jarabica.api.JAContextType#checkErrors()
+ */
+
+public sealed interface JALWErrorCheckingPolicyType
+{
+  /**
+   * Check errors after every call. This is the default.
+   */
+
+  record EveryCall()
+    implements JALWErrorCheckingPolicyType
+  {
+
+  }
+
+  /**
+   * Defer checks until the end of the current update batch, or until errors
+   * are explicitly checked. Applications will typically check errors once
+   * per frame.
+   *
+   * @see com.io7m.jarabica.api.JAContextType#beginUpdate()
+   */
+
+  record PerBatch()
+    implements JALWErrorCheckingPolicyType
+  {
+
+  }
+
+  /**
+   * Check errors after every {@code interval} deferrable calls.
+   *
+   * @param interval The number of calls between checks
+   */
+
+  record EveryNthCall(int interval)
+    implements JALWErrorCheckingPolicyType
+  {
+    /**
+     * Check errors after every {@code interval} deferrable calls.
+     */
+
+    public EveryNthCall
+    {
+      if (interval < 1) {
+        throw new IllegalArgumentException(
+          "Interval %d must be positive".formatted(Integer.valueOf(interval))
+        );
+      }
+    }
+  }
+
+  /**
+   * Behave as {@link EveryCall} if assertions are enabled for the
+   * {@code com.io7m.jarabica.lwjgl} package (such as with
+   * {@code -ea:com.io7m.jarabica.lwjgl...}), and otherwise only check
+   * deferrable calls when errors are explicitly checked or when the next
+   * immediately-checked call is made. Unlike {@link PerBatch}, deferred
+   * calls are <i>not</i> checked at the end of update batches when
+   * assertions are disabled, so that release builds pay for no checks at
+   * all in the common case.
+   */
+
+  record DebugOnly()
+    implements JALWErrorCheckingPolicyType
+  {
+
+  }
+}
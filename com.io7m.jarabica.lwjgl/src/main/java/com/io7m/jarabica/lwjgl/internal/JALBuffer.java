@@ -19,28 +19,81 @@ package com.io7m.jarabica.lwjgl.internal;
 
 import com.io7m.jarabica.api.JABufferFormat;
 import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JADeviceException;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.api.JAMisuseException;
-import com.io7m.jarabica.api.JASourceBufferLink;
+import com.io7m.jarabica.api.JASampleType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventBufferUpload;
 import org.lwjgl.openal.AL10;
+import org.lwjgl.openal.AL11;
+import org.lwjgl.openal.ALCapabilities;
+import org.lwjgl.openal.EXTFloat32;
+import org.lwjgl.openal.EXTIma4;
+import org.lwjgl.openal.EXTMCFormats;
+import org.lwjgl.openal.EXTMulaw;
+import org.lwjgl.openal.SOFTBlockAlignment;
+import org.lwjgl.openal.SOFTMSADPCM;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_5_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_6_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_7_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_QUAD;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_5_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_6_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_7_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_QUAD;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_5_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_6_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_7_1;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_QUAD;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_IMA4_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_IMA4_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_MSADPCM_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_MSADPCM_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_MULAW_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_MULAW_STEREO;
 
 final class JALBuffer extends JALHandle implements JABufferType
 {
   private static final Logger LOG =
     LoggerFactory.getLogger(JALBuffer.class);
 
+  private static final EnumMap<JABufferFormat, Integer> AL_FORMATS =
+    alFormats();
+
+  /**
+   * The frequency given when releasing a buffer's data. OpenAL rejects a
+   * frequency of zero even when there is no data.
+   */
+
+  private static final int RELEASE_FREQUENCY = 8000;
+
   private final JALContext context;
   private final MemoryStack stack;
   private final JALStrings strings;
   private final JALErrorChecker errorChecker;
   private final int bufferHandle;
+  private final JALBufferPool pool;
+  private int blockAlignment;
+  private double duration;
+  private boolean holdsData;
 
   JALBuffer(
     final JALContext inContext,
@@ -48,6 +101,24 @@ final class JALBuffer extends JALHandle implements JABufferType
     final JALStrings inStrings,
     final JALErrorChecker inErrorChecker,
     final int inSourceHandle)
+  {
+    this(
+      inContext,
+      inStack,
+      inStrings,
+      inErrorChecker,
+      inSourceHandle,
+      null
+    );
+  }
+
+  JALBuffer(
+    final JALContext inContext,
+    final MemoryStack inStack,
+    final JALStrings inStrings,
+    final JALErrorChecker inErrorChecker,
+    final int inSourceHandle,
+    final JALBufferPool inPool)
   {
     super("buffer", inSourceHandle, inStrings);
 
@@ -60,16 +131,86 @@ final class JALBuffer extends JALHandle implements JABufferType
     this.errorChecker =
       Objects.requireNonNull(inErrorChecker, "errorChecker");
     this.bufferHandle = inSourceHandle;
+    this.pool = inPool;
+  }
+
+  static int alFormatOf(
+    final JABufferFormat format)
+  {
+    return AL_FORMATS.get(format).intValue();
+  }
+
+  private static EnumMap<JABufferFormat, Integer> alFormats()
+  {
+    final var m = new EnumMap<JABufferFormat, Integer>(JABufferFormat.class);
+    m.put(AUDIO_8_BIT_MONO, AL10.AL_FORMAT_MONO8);
+    m.put(AUDIO_16_BIT_MONO, AL10.AL_FORMAT_MONO16);
+    m.put(AUDIO_8_BIT_STEREO, AL10.AL_FORMAT_STEREO8);
+    m.put(AUDIO_16_BIT_STEREO, AL10.AL_FORMAT_STEREO16);
+    m.put(AUDIO_FLOAT_MONO, EXTFloat32.AL_FORMAT_MONO_FLOAT32);
+    m.put(AUDIO_FLOAT_STEREO, EXTFloat32.AL_FORMAT_STEREO_FLOAT32);
+    m.put(AUDIO_8_BIT_QUAD, EXTMCFormats.AL_FORMAT_QUAD8);
+    m.put(AUDIO_16_BIT_QUAD, EXTMCFormats.AL_FORMAT_QUAD16);
+    m.put(AUDIO_FLOAT_QUAD, EXTMCFormats.AL_FORMAT_QUAD32);
+    m.put(AUDIO_8_BIT_5_1, EXTMCFormats.AL_FORMAT_51CHN8);
+    m.put(AUDIO_16_BIT_5_1, EXTMCFormats.AL_FORMAT_51CHN16);
+    m.put(AUDIO_FLOAT_5_1, EXTMCFormats.AL_FORMAT_51CHN32);
+    m.put(AUDIO_8_BIT_6_1, EXTMCFormats.AL_FORMAT_61CHN8);
+    m.put(AUDIO_16_BIT_6_1, EXTMCFormats.AL_FORMAT_61CHN16);
+    m.put(AUDIO_FLOAT_6_1, EXTMCFormats.AL_FORMAT_61CHN32);
+    m.put(AUDIO_8_BIT_7_1, EXTMCFormats.AL_FORMAT_71CHN8);
+    m.put(AUDIO_16_BIT_7_1, EXTMCFormats.AL_FORMAT_71CHN16);
+    m.put(AUDIO_FLOAT_7_1, EXTMCFormats.AL_FORMAT_71CHN32);
+    m.put(AUDIO_MULAW_MONO, EXTMulaw.AL_FORMAT_MONO_MULAW_EXT);
+    m.put(AUDIO_MULAW_STEREO, EXTMulaw.AL_FORMAT_STEREO_MULAW_EXT);
+    m.put(AUDIO_IMA4_MONO, EXTIma4.AL_FORMAT_MONO_IMA4);
+    m.put(AUDIO_IMA4_STEREO, EXTIma4.AL_FORMAT_STEREO_IMA4);
+    m.put(AUDIO_MSADPCM_MONO, SOFTMSADPCM.AL_FORMAT_MONO_MSADPCM_SOFT);
+    m.put(AUDIO_MSADPCM_STEREO, SOFTMSADPCM.AL_FORMAT_STEREO_MSADPCM_SOFT);
+    return m;
+  }
+
+  /**
+   * Determine the buffer formats supported by the given capabilities.
+   *
+   * @param capabilities The context capabilities
+   *
+   * @return The supported formats
+   */
+
+  static Set<JABufferFormat> supportedFormats(
+    final ALCapabilities capabilities)
+  {
+    final var formats = EnumSet.noneOf(JABufferFormat.class);
+    for (final var format : JABufferFormat.values()) {
+      if (isSupported(capabilities, format)) {
+        formats.add(format);
+      }
+    }
+    return Collections.unmodifiableSet(formats);
   }
 
-  private static int alFormatOf(
+  private static boolean isSupported(
+    final ALCapabilities capabilities,
     final JABufferFormat format)
   {
-    return switch (format) {
-      case AUDIO_8_BIT_MONO -> AL10.AL_FORMAT_MONO8;
-      case AUDIO_16_BIT_MONO -> AL10.AL_FORMAT_MONO16;
-      case AUDIO_8_BIT_STEREO -> AL10.AL_FORMAT_STEREO8;
-      case AUDIO_16_BIT_STEREO -> AL10.AL_FORMAT_STEREO16;
+    final var multichannel =
+      format.channels() > 2;
+    final var floating =
+      format.sampleType() == JASampleType.SAMPLE_FLOAT;
+
+    if (multichannel && !capabilities.AL_EXT_MCFORMATS) {
+      return false;
+    }
+    if (floating && !capabilities.AL_EXT_FLOAT32) {
+      return false;
+    }
+
+    return switch (format.encoding()) {
+      case ENCODING_PCM -> true;
+      case ENCODING_MULAW -> capabilities.AL_EXT_MULAW;
+      case ENCODING_IMA4 -> capabilities.AL_EXT_IMA4;
+      case ENCODING_MSADPCM -> capabilities.AL_SOFT_MSADPCM;
     };
   }
 
@@ -83,25 +224,73 @@ final class JALBuffer extends JALHandle implements JABufferType
   protected void closeActual()
     throws JAException
   {
-    final var sourcesUsingBuffer =
-      this.context.sourcesUsingBuffer(this);
-
-    if (!sourcesUsingBuffer.isEmpty()) {
+    if (this.context.sourceCountUsingBuffer(this) > 0) {
       throw new JAMisuseException(
         this.strings.format(
           "errorBufferDeleteSources",
           this,
-          sourcesUsingBuffer.stream()
-            .map(JASourceBufferLink::source)
-            .collect(Collectors.toList()))
+          this.context.sourcesUsingBuffer(this))
       );
     }
 
-    AL10.alDeleteBuffers(this.bufferHandle);
-    this.errorChecker.checkErrors("alDeleteBuffers");
+    if (!this.recycle()) {
+      AL10.alDeleteBuffers(this.bufferHandle);
+      this.errorChecker.checkErrors("alDeleteBuffers");
+    }
     this.context.onBufferDeleted(this);
   }
 
+  /**
+   * Return the buffer's name to the pool it was acquired from, if any. The
+   * unpack alignment and the audio data are properties of the name, so the
+   * alignment is reset and the data is released (by specifying empty data)
+   * before the name can be handed to another buffer. Idle names therefore
+   * hold no audio memory.
+   *
+   * @return {@code true} if the name was returned to a pool, {@code false}
+   * if the caller must delete it
+   *
+   * @throws JAException On errors
+   */
+
+  boolean recycle()
+    throws JAException
+  {
+    if (this.pool == null) {
+      return false;
+    }
+
+    if (this.blockAlignment != 0) {
+      AL11.alBufferi(
+        this.bufferHandle, SOFTBlockAlignment.AL_UNPACK_BLOCK_ALIGNMENT_SOFT, 0);
+      this.errorChecker.checkErrors("alBufferi");
+      this.blockAlignment = 0;
+    }
+    if (this.holdsData) {
+      AL10.nalBufferData(
+        this.bufferHandle,
+        AL10.AL_FORMAT_MONO8,
+        MemoryUtil.NULL,
+        0,
+        RELEASE_FREQUENCY
+      );
+      this.errorChecker.checkErrors("alBufferData");
+      this.holdsData = false;
+      this.duration = 0.0;
+    }
+    return this.pool.recycle(this.bufferHandle);
+  }
+
+  JALContext context()
+  {
+    return this.context;
+  }
+
+  int name()
+  {
+    return this.bufferHandle;
+  }
+
   @Override
   public String toString()
   {
@@ -138,7 +327,38 @@ final class JALBuffer extends JALHandle implements JABufferType
       throw new JAMisuseException(
         this.strings.format("errorBufferDataNotDirect", this));
     }
+    if (!this.context.isBufferFormatSupported(format)) {
+      throw new JAMisuseException(
+        this.strings.format("errorBufferFormatUnsupported", this, format));
+    }
+    final var alignment =
+      this.blockAlignment == 0
+        ? format.defaultBlockAlignment()
+        : this.blockAlignment;
+
+    if (!format.isValidBlockAlignment(alignment)) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorBufferBlockAlignmentInvalid",
+          this,
+          format,
+          Integer.valueOf(alignment))
+      );
+    }
+
+    final var blockSize = format.bytesPerBlock(alignment);
+    if (data.remaining() % blockSize != 0) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorBufferDataNotAligned",
+          this,
+          format,
+          Integer.valueOf(data.remaining()),
+          Integer.valueOf(blockSize))
+      );
+    }
 
+    final var event = JALEventBufferUpload.start();
     AL10.alBufferData(
       this.bufferHandle,
       alFormatOf(format),
@@ -146,5 +366,71 @@ final class JALBuffer extends JALHandle implements JABufferType
       frequency
     );
     this.errorChecker.checkErrors("alBufferData");
+    event.finish(
+      this.context.handle(),
+      this.bufferHandle,
+      format.name(),
+      frequency,
+      data.remaining()
+    );
+    this.context.metrics().onBufferUploaded(data.remaining());
+    this.holdsData = true;
+
+    final var frames =
+      (long) (data.remaining() / blockSize) * (long) alignment;
+    this.duration =
+      (double) frames / (double) frequency;
+  }
+
+  @Override
+  public void setBlockAlignment(
+    final int frames)
+    throws JAException
+  {
+    this.check();
+
+    if (frames < 0) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorBufferBlockAlignmentNegative",
+          this,
+          Integer.valueOf(frames))
+      );
+    }
+
+    if (frames == this.blockAlignment) {
+      return;
+    }
+
+    if (!this.context.alCapabilities().AL_SOFT_block_alignment) {
+      throw new JADeviceException(
+        this.strings.format("errorBufferBlockAlignmentUnsupported", this));
+    }
+
+    AL11.alBufferi(
+      this.bufferHandle,
+      SOFTBlockAlignment.AL_UNPACK_BLOCK_ALIGNMENT_SOFT,
+      frames
+    );
+    this.errorChecker.checkErrors("alBufferi");
+    this.blockAlignment = frames;
+  }
+
+  @Override
+  public int blockAlignment()
+  {
+    return this.blockAlignment;
+  }
+
+  @Override
+  public double duration()
+  {
+    return this.duration;
+  }
+
+  @Override
+  public int attachedSourceCount()
+  {
+    return this.context.sourceCountUsingBuffer(this);
   }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.api.JABufferPoolConfiguration;
+import com.io7m.jarabica.api.JABufferPoolStatistics;
+import com.io7m.jarabica.api.JABufferPoolType;
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JAMisuseException;
+import org.lwjgl.openal.AL10;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * <p>A buffer pool. Idle names are held in a stack, so the most recently
+ * recycled names are reused first.</p>
+ *
+ * <p>In addition to shrinking when {@code maximumIdle} is exceeded, the pool
+ * decays: the smallest number of idle names seen during each idle timeout
+ * period is the number of names that the workload did not need at any point
+ * during that period, and those names (beyond a single allocation batch) are
+ * deleted when the period ends. The pool is only examined when buffers are
+ * acquired or recycled, so a pool that is not used at all keeps its idle
+ * names until it is used again or trimmed.</p>
+ */
+
+final class JALBufferPool extends JALHandle implements JABufferPoolType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JALBufferPool.class);
+
+  private final JALContext context;
+  private final JALStrings strings;
+  private final JALErrorChecker errorChecker;
+  private final JABufferPoolConfiguration configuration;
+  private int[] idle;
+  private int idleCount;
+  private int inUse;
+  private int inUseHighWater;
+  private int idleHighWater;
+  private long hits;
+  private long misses;
+  private long namesGenerated;
+  private long namesDeleted;
+  private long periodStart;
+  private int idleLowWater;
+
+  JALBufferPool(
+    final JALContext inContext,
+    final JALStrings inStrings,
+    final JALErrorChecker inErrorChecker,
+    final JABufferPoolConfiguration inConfiguration,
+    final int inId)
+  {
+    super("bufferPool", Integer.valueOf(inId), inStrings);
+
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.strings =
+      Objects.requireNonNull(inStrings, "strings");
+    this.errorChecker =
+      Objects.requireNonNull(inErrorChecker, "errorChecker");
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.idle =
+      new int[inConfiguration.maximumIdle() + 1];
+    this.periodStart =
+      System.nanoTime();
+  }
+
+  @Override
+  protected Logger logger()
+  {
+    return LOG;
+  }
+
+  @Override
+  protected void closeActual()
+    throws JAException
+  {
+    this.context.checkCurrent(this, this.context);
+    this.deleteIdle(this.idleCount);
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JALBufferPool ")
+      .append(this.handleString())
+      .append("]")
+      .toString();
+  }
+
+  private void check()
+    throws JAException
+  {
+    if (this.isClosed()) {
+      throw new JAMisuseException(
+        this.strings.format("errorClosed", this));
+    }
+
+    this.context.checkCurrent(this, this.context);
+  }
+
+  @Override
+  public JABufferPoolConfiguration configuration()
+  {
+    return this.configuration;
+  }
+
+  @Override
+  public JABufferType acquire()
+    throws JAException
+  {
+    this.check();
+
+    if (this.idleCount == 0) {
+      ++this.misses;
+      this.generate(this.configuration.allocationBatchSize());
+    } else {
+      ++this.hits;
+    }
+
+    --this.idleCount;
+    final var name = this.idle[this.idleCount];
+    ++this.inUse;
+    this.inUseHighWater = Math.max(this.inUseHighWater, this.inUse);
+    this.idleLowWater = Math.min(this.idleLowWater, this.idleCount);
+    this.decay();
+    return this.context.createBufferFromPool(this, name);
+  }
+
+  @Override
+  public void trim()
+    throws JAException
+  {
+    this.check();
+    this.deleteIdle(this.idleCount);
+    this.idleLowWater = 0;
+  }
+
+  @Override
+  public JABufferPoolStatistics statistics()
+  {
+    return new JABufferPoolStatistics(
+      this.hits,
+      this.misses,
+      this.inUse,
+      this.idleCount,
+      this.inUseHighWater,
+      this.idleHighWater,
+      this.namesGenerated,
+      this.namesDeleted
+    );
+  }
+
+  /**
+   * Return a buffer name to the pool. If the pool has been closed, the name
+   * is not accepted and the caller is responsible for deleting it. The
+   * caller is responsible for releasing the data held by the name.
+   *
+   * @param name The buffer name
+   *
+   * @return {@code true} if the pool accepted the name
+   *
+   * @throws JAException On errors
+   */
+
+  boolean recycle(
+    final int name)
+    throws JAException
+  {
+    --this.inUse;
+    if (this.isClosed()) {
+      return false;
+    }
+
+    this.idle[this.idleCount] = name;
+    ++this.idleCount;
+
+    /*
+     * Shrink back to a single allocation batch, rather than to the maximum,
+     * so that a workload hovering around the maximum does not delete a name
+     * on every release.
+     */
+
+    if (this.idleCount > this.configuration.maximumIdle()) {
+      this.deleteIdle(
+        this.idleCount - this.configuration.allocationBatchSize());
+    }
+    this.idleHighWater = Math.max(this.idleHighWater, this.idleCount);
+    this.decay();
+    return true;
+  }
+
+  /**
+   * Delete the names that stayed idle for the whole of the current period,
+   * if the period has ended, and start a new period.
+   */
+
+  private void decay()
+    throws JAException
+  {
+    final var timeNow = System.nanoTime();
+    final var elapsed = timeNow - this.periodStart;
+    if (elapsed < this.configuration.idleTimeout().toNanos()) {
+      return;
+    }
+
+    final var unused =
+      Math.min(this.idleLowWater, this.idleCount)
+        - this.configuration.allocationBatchSize();
+
+    if (unused > 0) {
+      this.deleteIdle(unused);
+    }
+    this.periodStart = timeNow;
+    this.idleLowWater = this.idleCount;
+  }
+
+  private void generate(
+    final int count)
+    throws JAException
+  {
+    final var names = MemoryUtil.memAllocInt(count);
+    try {
+      AL10.alGenBuffers(names);
+      this.errorChecker.checkErrors("alGenBuffers");
+      names.get(0, this.idle, 0, count);
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+
+    this.idleCount = count;
+    this.namesGenerated += count;
+    this.idleHighWater = Math.max(this.idleHighWater, this.idleCount);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("{}: generated {} names", this, Integer.valueOf(count));
+    }
+  }
+
+  private void deleteIdle(
+    final int count)
+    throws JAException
+  {
+    if (count == 0) {
+      return;
+    }
+
+    final var start = this.idleCount - count;
+    final var names = MemoryUtil.memAllocInt(count);
+    try {
+      names.put(0, this.idle, start, count);
+      AL10.alDeleteBuffers(names);
+      this.errorChecker.checkErrors("alDeleteBuffers");
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+
+    this.idleCount = start;
+    this.namesDeleted += count;
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("{}: deleted {} names", this, Integer.valueOf(count));
+    }
+  }
+}
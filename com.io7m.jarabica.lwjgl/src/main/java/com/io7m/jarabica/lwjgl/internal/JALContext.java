@@ -17,8 +17,14 @@
 
 package com.io7m.jarabica.lwjgl.internal;
 
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JABufferPoolConfiguration;
+import com.io7m.jarabica.api.JABufferPoolType;
 import com.io7m.jarabica.api.JABufferType;
 import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JADeviceException;
+import com.io7m.jarabica.api.JADeviceType;
+import com.io7m.jarabica.api.JADistanceModel;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.api.JAExtensionContextType;
 import com.io7m.jarabica.api.JAListenerType;
@@ -26,21 +32,35 @@ import com.io7m.jarabica.api.JAMisuseException;
 import com.io7m.jarabica.api.JASourceBufferLink;
 import com.io7m.jarabica.api.JASourceOrBufferType;
 import com.io7m.jarabica.api.JASourceType;
+import com.io7m.jarabica.api.JASpatialQueryType;
+import com.io7m.jarabica.api.JAUpdateBatchType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventContextSwitch;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventSourceCreate;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventSourceDelete;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEvents;
 import org.jgrapht.Graph;
 import org.jgrapht.event.GraphListener;
 import org.jgrapht.event.VertexSetListener;
-import org.jgrapht.graph.AsUnmodifiableGraph;
-import org.jgrapht.graph.DefaultListenableGraph;
-import org.jgrapht.graph.DirectedAcyclicGraph;
+import org.lwjgl.openal.AL;
 import org.lwjgl.openal.AL10;
+import org.lwjgl.openal.AL11;
 import org.lwjgl.openal.ALC10;
 import org.lwjgl.openal.ALCCapabilities;
 import org.lwjgl.openal.ALCapabilities;
+import org.lwjgl.openal.EXTThreadLocalContext;
+import org.lwjgl.openal.SOFTDeferredUpdates;
+import org.lwjgl.openal.SOFTSourceStartDelay;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -54,6 +74,20 @@ public final class JALContext extends JALHandle implements JAContextType
   private static final Logger LOG =
     LoggerFactory.getLogger(JALContext.class);
 
+  /*
+   * The default cell size of the source index, in world units. Typical
+   * audible ranges are tens of units, so queries touch a handful of cells.
+   */
+
+  private static final double SOURCE_INDEX_CELL_SIZE = 16.0;
+
+  /*
+   * The minimum time between queries of the sources that were last observed
+   * to be playing, made at the end of update batches.
+   */
+
+  private static final long PLAYING_RECONCILE_NANOS = 250_000_000L;
+
   private final JALDevice device;
   private final MemoryStack stack;
   private final JALStrings strings;
@@ -64,8 +98,15 @@ public final class JALContext extends JALHandle implements JAContextType
   private final JALListener listener;
   private final JALExtensionRegistry extensions;
   private final HashSet<JALExtension> extensionsCreated;
-  private final DefaultListenableGraph<JASourceOrBufferType, JASourceBufferLink> sourcesToBuffers;
-  private final AsUnmodifiableGraph<JASourceOrBufferType, JASourceBufferLink> sourcesToBuffersRead;
+  private final JALGraphStore<JASourceOrBufferType, JASourceBufferLink> sourcesToBuffers;
+  private final JALSpatialGrid<JASourceType> sourceIndex;
+  private final JALMetrics metrics;
+  private final ObjectName metricsName;
+  private final LinkedHashSet<JALSource> sourcesPlaying;
+  private long playingReconciled;
+  private Set<JABufferFormat> bufferFormats;
+  private int updateDepth;
+  private int bufferPoolIds;
 
   JALContext(
     final JALDevice inDevice,
@@ -98,19 +139,52 @@ public final class JALContext extends JALHandle implements JAContextType
     this.extensionsCreated =
       new HashSet<JALExtension>();
     this.sourcesToBuffers =
-      new DefaultListenableGraph<>(
-        new DirectedAcyclicGraph<>(JASourceBufferLink.class));
-    this.sourcesToBuffersRead =
-      new AsUnmodifiableGraph<>(this.sourcesToBuffers);
+      new JALGraphStore<>(new JALSourceBufferDescriptor(), true);
+    this.sourceIndex =
+      new JALSpatialGrid<>(SOURCE_INDEX_CELL_SIZE);
+    this.updateDepth =
+      0;
+    this.sourcesPlaying =
+      new LinkedHashSet<>();
+    this.playingReconciled =
+      System.nanoTime();
 
     this.listener =
       new JALListener(this, this.stack, this.strings, this.errorChecker);
+    this.metrics =
+      this.errorChecker.metrics();
+    this.metricsName =
+      JALMBeans.registerContext(
+        inDevice.handle(), inContextHandle, this.metrics);
+
+    JALEvents.registerGraph(
+      this, inContextHandle, "sources-buffers", this.sourcesToBuffers);
+  }
+
+  int sourceCountUsingBuffer(
+    final JALBuffer buffer)
+  {
+    return this.sourcesToBuffers.outDegree(buffer);
   }
 
-  Set<JASourceBufferLink> sourcesUsingBuffer(
+  List<JASourceType> sourcesUsingBuffer(
     final JALBuffer buffer)
   {
-    return this.sourcesToBuffers.outgoingEdgesOf(buffer);
+    final var count = this.sourcesToBuffers.outDegree(buffer);
+    final var sources = new ArrayList<JASourceType>(count);
+    for (int index = 0; index < count; ++index) {
+      sources.add((JASourceType) this.sourcesToBuffers.outgoingAt(buffer, index));
+    }
+    return sources;
+  }
+
+  /**
+   * @return The context that is current for the process, if any
+   */
+
+  public static Optional<JAContextType> currentForProcess()
+  {
+    return Optional.ofNullable(JALCurrentContext.processCurrent());
   }
 
   @Override
@@ -122,11 +196,17 @@ public final class JALContext extends JALHandle implements JAContextType
   @Override
   protected void closeActual()
   {
-    final var current = ALC10.alcGetCurrentContext();
-    if (current == this.contextHandle) {
+    if (JALCurrentContext.isThreadCurrent(this)) {
+      EXTThreadLocalContext.alcSetThreadContext(0L);
+      AL.setCurrentThread(null);
+    }
+    if (JALCurrentContext.isProcessCurrent(this)) {
       ALC10.alcMakeContextCurrent(0L);
     }
+    JALCurrentContext.clear(this);
 
+    JALMBeans.unregister(this.metricsName);
+    JALEvents.unregisterGraphs(this);
     this.device.contextDelete(this);
   }
 
@@ -157,12 +237,45 @@ public final class JALContext extends JALHandle implements JAContextType
     return ext;
   }
 
+  @Override
+  public JADeviceType device()
+  {
+    return this.device;
+  }
+
   @Override
   public boolean isCurrent()
     throws JAException
   {
     this.checkNotClosed();
-    return ALC10.alcGetCurrentContext() == this.contextHandle;
+    return this.isCurrentTracked();
+  }
+
+  private boolean isCurrentTracked()
+    throws JAMisuseException
+  {
+    final var current = JALCurrentContext.current() == this;
+    if (JALCurrentContext.isVerifying()) {
+      this.verifyCurrent(current);
+    }
+    return current;
+  }
+
+  private void verifyCurrent(
+    final boolean current)
+    throws JAMisuseException
+  {
+    final var actual = JALCurrentContext.currentActual();
+    if (current != (actual == this.contextHandle)) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorContextCurrentMismatch",
+          this,
+          JALCurrentContext.current(),
+          Long.toUnsignedString(actual, 16)
+        )
+      );
+    }
   }
 
   @Override
@@ -170,11 +283,144 @@ public final class JALContext extends JALHandle implements JAContextType
     throws JAException
   {
     this.checkNotClosed();
-    final var current = ALC10.alcGetCurrentContext();
-    if (current != this.contextHandle) {
-      ALC10.alcMakeContextCurrent(this.contextHandle);
+    if (!this.isCurrentTracked()) {
+      final var event = JALEventContextSwitch.start();
+      if (!ALC10.alcMakeContextCurrent(this.contextHandle)) {
+        throw new JADeviceException(
+          this.strings.format("errorContextSet", this));
+      }
+      JALCurrentContext.set(this);
+      this.errorChecker.checkErrors("alcMakeContextCurrent");
+      event.finish(this.contextHandle, false);
     }
-    this.errorChecker.checkErrors("alcMakeContextCurrent");
+  }
+
+  @Override
+  public void setCurrentForThread()
+    throws JAException
+  {
+    this.checkNotClosed();
+
+    if (!this.alcCapabilities.ALC_EXT_thread_local_context) {
+      throw new JADeviceException(
+        this.strings.format("errorThreadContextUnsupported", this));
+    }
+
+    if (!JALCurrentContext.isThreadCurrent(this)) {
+      final var event = JALEventContextSwitch.start();
+      if (!EXTThreadLocalContext.alcSetThreadContext(this.contextHandle)) {
+        throw new JADeviceException(
+          this.strings.format("errorThreadContextSet", this));
+      }
+      AL.setCurrentThread(this.alCapabilities);
+      JALCurrentContext.setThread(this);
+      event.finish(this.contextHandle, true);
+    }
+  }
+
+  @Override
+  public JAUpdateBatchType beginUpdate()
+    throws JAException
+  {
+    this.check();
+
+    if (this.updateDepth == 0) {
+      if (this.alCapabilities.AL_SOFT_deferred_updates) {
+        SOFTDeferredUpdates.alDeferUpdatesSOFT();
+        this.errorChecker.checkErrors("alDeferUpdatesSOFT");
+      } else {
+        ALC10.alcSuspendContext(this.contextHandle);
+        this.errorChecker.checkErrors("alcSuspendContext");
+      }
+      this.errorChecker.beginDeferring();
+    }
+
+    ++this.updateDepth;
+    return new JALUpdateBatch(this);
+  }
+
+  void updateEnd()
+    throws JAException
+  {
+    /*
+     * The batch is unwound even if the context can no longer be used, so
+     * that a batch closed on the wrong thread does not leave the context
+     * deferring checks forever.
+     */
+
+    --this.updateDepth;
+    if (this.updateDepth != 0) {
+      this.check();
+      return;
+    }
+
+    try {
+      this.check();
+      if (this.alCapabilities.AL_SOFT_deferred_updates) {
+        SOFTDeferredUpdates.alProcessUpdatesSOFT();
+      } else {
+        ALC10.alcProcessContext(this.contextHandle);
+      }
+    } catch (final JAException e) {
+      this.errorChecker.abandonDeferring();
+      throw e;
+    }
+    this.errorChecker.endDeferring();
+    this.reconcilePlaying();
+  }
+
+  /*
+   * Sources that stop on their own at the end of their buffers are not
+   * noticed until their state is queried, so the metrics would count them
+   * as playing indefinitely. The end of an update batch is a point at which
+   * the owning thread is known to be using the context, so the sources last
+   * observed to be playing are queried there, at a limited rate.
+   */
+
+  private void reconcilePlaying()
+    throws JAException
+  {
+    final var now = System.nanoTime();
+    this.metrics.sample(now);
+    if (now - this.playingReconciled < PLAYING_RECONCILE_NANOS) {
+      return;
+    }
+    this.playingReconciled = now;
+
+    final var stopped = new ArrayList<JALSource>();
+    try (var current = this.stack.push()) {
+      final var state = current.mallocInt(1);
+      for (final var source : this.sourcesPlaying) {
+        AL10.alGetSourcei(source.name(), AL10.AL_SOURCE_STATE, state);
+        this.errorChecker.checkErrors("alGetSourcei");
+        if (state.get(0) != AL10.AL_PLAYING) {
+          stopped.add(source);
+        }
+      }
+    }
+    for (final var source : stopped) {
+      source.observePlaying(false);
+    }
+  }
+
+  void onSourcePlayingChanged(
+    final JALSource source,
+    final boolean playing)
+  {
+    this.metrics.onSourcePlayingChanged(playing);
+    if (playing) {
+      this.sourcesPlaying.add(source);
+    } else {
+      this.sourcesPlaying.remove(source);
+    }
+  }
+
+  @Override
+  public void checkErrors()
+    throws JAException
+  {
+    this.check();
+    this.errorChecker.checkDeferred();
   }
 
   @Override
@@ -191,8 +437,10 @@ public final class JALContext extends JALHandle implements JAContextType
   {
     this.check();
 
+    final var event = JALEventSourceCreate.start();
     final var sourceHandle = AL10.alGenSources();
     this.errorChecker.checkErrors("alGenSources");
+    event.finish(this.contextHandle, 1);
 
     final var source =
       new JALSource(
@@ -208,6 +456,8 @@ public final class JALContext extends JALHandle implements JAContextType
     }
 
     this.sourcesToBuffers.addVertex(source);
+    this.sourceIndex.put(source, 0.0, 0.0, 0.0);
+    this.metrics.onSourcesCreated(1);
     return source;
   }
 
@@ -234,9 +484,419 @@ public final class JALContext extends JALHandle implements JAContextType
     }
 
     this.sourcesToBuffers.addVertex(buffer);
+    this.metrics.onBuffersCreated(1);
     return buffer;
   }
 
+  @Override
+  public List<JASourceType> createSources(
+    final int count)
+    throws JAException
+  {
+    checkCount(count);
+    this.check();
+
+    if (count == 0) {
+      return List.of();
+    }
+
+    final var names = MemoryUtil.memAllocInt(count);
+    try {
+      final var event = JALEventSourceCreate.start();
+      AL10.alGenSources(names);
+      this.errorChecker.checkErrors("alGenSources");
+      event.finish(this.contextHandle, count);
+
+      final var sources = new ArrayList<JALSource>(count);
+      for (int index = 0; index < count; ++index) {
+        sources.add(
+          new JALSource(
+            this,
+            this.stack,
+            this.strings,
+            this.errorChecker,
+            names.get(index)
+          )
+        );
+      }
+
+      try {
+        for (final var source : sources) {
+          this.sourcesToBuffers.addVertex(source);
+          this.sourceIndex.put(source, 0.0, 0.0, 0.0);
+        }
+      } catch (final RuntimeException e) {
+        for (final var source : sources) {
+          this.sourcesToBuffers.removeVertex(source);
+          this.sourceIndex.remove(source);
+        }
+        AL10.alDeleteSources(names);
+        throw e;
+      }
+
+      this.metrics.onSourcesCreated(count);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("created {} sources", Integer.valueOf(count));
+      }
+      return List.copyOf(sources);
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+  }
+
+  @Override
+  public List<JABufferType> createBuffers(
+    final int count)
+    throws JAException
+  {
+    checkCount(count);
+    this.check();
+
+    if (count == 0) {
+      return List.of();
+    }
+
+    final var names = MemoryUtil.memAllocInt(count);
+    try {
+      AL10.alGenBuffers(names);
+      this.errorChecker.checkErrors("alGenBuffers");
+
+      final var buffers = new ArrayList<JALBuffer>(count);
+      for (int index = 0; index < count; ++index) {
+        buffers.add(
+          new JALBuffer(
+            this,
+            this.stack,
+            this.strings,
+            this.errorChecker,
+            names.get(index)
+          )
+        );
+      }
+
+      try {
+        for (final var buffer : buffers) {
+          this.sourcesToBuffers.addVertex(buffer);
+        }
+      } catch (final RuntimeException e) {
+        for (final var buffer : buffers) {
+          this.sourcesToBuffers.removeVertex(buffer);
+        }
+        AL10.alDeleteBuffers(names);
+        throw e;
+      }
+
+      this.metrics.onBuffersCreated(count);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("created {} buffers", Integer.valueOf(count));
+      }
+      return List.copyOf(buffers);
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+  }
+
+  private static void checkCount(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count %d must be non-negative".formatted(Integer.valueOf(count))
+      );
+    }
+  }
+
+  @Override
+  public boolean isScheduledPlaybackSupported()
+    throws JAException
+  {
+    this.check();
+    return this.alCapabilities.AL_SOFT_source_start_delay;
+  }
+
+  boolean isSourceLatencySupported()
+  {
+    return this.alCapabilities.AL_SOFT_source_latency;
+  }
+
+  void checkScheduledPlayback()
+    throws JAException
+  {
+    if (!this.alCapabilities.AL_SOFT_source_start_delay) {
+      throw new JADeviceException(
+        this.strings.format("errorScheduledPlaybackUnsupported", this));
+    }
+  }
+
+  @Override
+  public void playAllAt(
+    final Collection<? extends JASourceType> sources,
+    final long deviceTimeNanos)
+    throws JAException
+  {
+    Objects.requireNonNull(sources, "sources");
+    this.check();
+    this.checkScheduledPlayback();
+
+    if (sources.isEmpty()) {
+      return;
+    }
+
+    final var names = MemoryUtil.memAllocInt(sources.size());
+    try {
+      for (final var source : sources) {
+        if (!(source instanceof final JALSource s) || s.context() != this) {
+          throw new JAMisuseException(
+            this.strings.format("errorContextNotOwner", source, this));
+        }
+        s.checkNotClosed();
+        names.put(s.name());
+      }
+      names.flip();
+      SOFTSourceStartDelay.alSourcePlayAtTimevSOFT(names, deviceTimeNanos);
+      this.errorChecker.checkErrors("alSourcePlayAtTimevSOFT");
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+
+    for (final var source : sources) {
+      ((JALSource) source).observePlaying(true);
+    }
+  }
+
+  @Override
+  public void closeAll(
+    final Collection<? extends JASourceOrBufferType> objects)
+    throws JAException
+  {
+    Objects.requireNonNull(objects, "objects");
+    this.check();
+
+    final var sources = new LinkedHashSet<JALSource>();
+    final var buffers = new LinkedHashSet<JALBuffer>();
+    for (final var object : objects) {
+      this.closeAllCollect(object, sources, buffers);
+    }
+
+    /*
+     * Check that every buffer can be deleted before deleting anything, so
+     * that a failure leaves all objects open.
+     */
+
+    for (final var buffer : buffers) {
+      final var count = this.sourcesToBuffers.outDegree(buffer);
+      for (int index = 0; index < count; ++index) {
+        final var source = this.sourcesToBuffers.outgoingAt(buffer, index);
+        if (!sources.contains(source)) {
+          throw new JAMisuseException(
+            this.strings.format(
+              "errorBufferDeleteSources",
+              buffer,
+              this.sourcesUsingBuffer(buffer))
+          );
+        }
+      }
+    }
+
+    this.closeAllSources(sources);
+    this.closeAllBuffers(buffers);
+  }
+
+  private void closeAllCollect(
+    final JASourceOrBufferType object,
+    final Set<JALSource> sources,
+    final Set<JALBuffer> buffers)
+    throws JAMisuseException
+  {
+    final JALContext owner = switch (object) {
+      case final JALSource source -> source.context();
+      case final JALBuffer buffer -> buffer.context();
+      default -> null;
+    };
+
+    if (owner != this) {
+      throw new JAMisuseException(
+        this.strings.format("errorContextNotOwner", object, this));
+    }
+
+    switch (object) {
+      case final JALSource source when !source.isClosed() -> sources.add(source);
+      case final JALBuffer buffer when !buffer.isClosed() -> buffers.add(buffer);
+      default -> {
+
+      }
+    }
+  }
+
+  private void closeAllSources(
+    final Set<JALSource> sources)
+    throws JAException
+  {
+    if (sources.isEmpty()) {
+      return;
+    }
+
+    final var names = MemoryUtil.memAllocInt(sources.size());
+    try {
+      for (final var source : sources) {
+        names.put(source.name());
+      }
+      names.flip();
+      final var event = JALEventSourceDelete.start();
+      AL10.alDeleteSources(names);
+      this.errorChecker.checkErrors("alDeleteSources");
+      event.finish(this.contextHandle, sources.size());
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+
+    for (final var source : sources) {
+      source.markClosed();
+      this.metrics.onSourceDeleted(source.isPlayingObserved());
+      this.sourcesPlaying.remove(source);
+      for (final var e : this.extensionsCreated) {
+        e.onSourceDeleted(source);
+      }
+      this.sourcesToBuffers.removeVertex(source);
+      this.sourceIndex.remove(source);
+    }
+  }
+
+  private void closeAllBuffers(
+    final Set<JALBuffer> buffers)
+    throws JAException
+  {
+    if (buffers.isEmpty()) {
+      return;
+    }
+
+    /*
+     * Buffers acquired from a pool return their names to the pool, as they
+     * would if they were closed individually.
+     */
+
+    final var names = MemoryUtil.memAllocInt(buffers.size());
+    try {
+      for (final var buffer : buffers) {
+        if (!buffer.recycle()) {
+          names.put(buffer.name());
+        }
+      }
+      names.flip();
+      if (names.hasRemaining()) {
+        AL10.alDeleteBuffers(names);
+        this.errorChecker.checkErrors("alDeleteBuffers");
+      }
+    } finally {
+      MemoryUtil.memFree(names);
+    }
+
+    for (final var buffer : buffers) {
+      buffer.markClosed();
+      this.metrics.onBufferDeleted();
+      this.sourcesToBuffers.removeVertex(buffer);
+    }
+  }
+
+  @Override
+  public JABufferPoolType createBufferPool(
+    final JABufferPoolConfiguration configuration)
+    throws JAException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+    this.check();
+
+    final var poolId = this.bufferPoolIds;
+    ++this.bufferPoolIds;
+
+    final var pool =
+      new JALBufferPool(
+        this,
+        this.strings,
+        this.errorChecker,
+        configuration,
+        poolId
+      );
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("created buffer pool: {}", pool);
+    }
+    return pool;
+  }
+
+  JALBuffer createBufferFromPool(
+    final JALBufferPool pool,
+    final int bufferHandle)
+  {
+    final var buffer =
+      new JALBuffer(
+        this,
+        this.stack,
+        this.strings,
+        this.errorChecker,
+        bufferHandle,
+        pool
+      );
+
+    this.sourcesToBuffers.addVertex(buffer);
+    this.metrics.onBuffersCreated(1);
+    return buffer;
+  }
+
+  @Override
+  public Set<JABufferFormat> supportedBufferFormats()
+    throws JAException
+  {
+    this.checkNotClosed();
+
+    if (this.bufferFormats == null) {
+      this.bufferFormats = JALBuffer.supportedFormats(this.alCapabilities);
+    }
+    return this.bufferFormats;
+  }
+
+  @Override
+  public JADistanceModel distanceModel()
+    throws JAException
+  {
+    this.check();
+    final var model = AL10.alGetInteger(AL10.AL_DISTANCE_MODEL);
+    this.errorChecker.checkErrors("alGetInteger");
+    return switch (model) {
+      case AL10.AL_NONE -> JADistanceModel.DISTANCE_NONE;
+      case AL10.AL_INVERSE_DISTANCE -> JADistanceModel.DISTANCE_INVERSE;
+      case AL11.AL_LINEAR_DISTANCE -> JADistanceModel.DISTANCE_LINEAR;
+      case AL11.AL_LINEAR_DISTANCE_CLAMPED ->
+        JADistanceModel.DISTANCE_LINEAR_CLAMPED;
+      case AL11.AL_EXPONENT_DISTANCE -> JADistanceModel.DISTANCE_EXPONENT;
+      case AL11.AL_EXPONENT_DISTANCE_CLAMPED ->
+        JADistanceModel.DISTANCE_EXPONENT_CLAMPED;
+      default -> JADistanceModel.DISTANCE_INVERSE_CLAMPED;
+    };
+  }
+
+  @Override
+  public void setDistanceModel(
+    final JADistanceModel model)
+    throws JAException
+  {
+    Objects.requireNonNull(model, "model");
+    this.check();
+
+    AL10.alDistanceModel(
+      switch (model) {
+        case DISTANCE_NONE -> AL10.AL_NONE;
+        case DISTANCE_INVERSE -> AL10.AL_INVERSE_DISTANCE;
+        case DISTANCE_INVERSE_CLAMPED -> AL10.AL_INVERSE_DISTANCE_CLAMPED;
+        case DISTANCE_LINEAR -> AL11.AL_LINEAR_DISTANCE;
+        case DISTANCE_LINEAR_CLAMPED -> AL11.AL_LINEAR_DISTANCE_CLAMPED;
+        case DISTANCE_EXPONENT -> AL11.AL_EXPONENT_DISTANCE;
+        case DISTANCE_EXPONENT_CLAMPED -> AL11.AL_EXPONENT_DISTANCE_CLAMPED;
+      }
+    );
+    this.errorChecker.checkErrors("alDistanceModel");
+  }
+
   @Override
   public String vendor()
     throws JAException
@@ -257,12 +917,46 @@ public final class JALContext extends JALHandle implements JAContextType
     return text;
   }
 
+  @Override
+  public JASpatialQueryType<JASourceType> sourceIndex()
+    throws JAException
+  {
+    this.check();
+    return this.sourceIndex.view();
+  }
+
+  @Override
+  public double sourceIndexCellSize()
+    throws JAException
+  {
+    this.check();
+    return this.sourceIndex.cellSize();
+  }
+
+  @Override
+  public void setSourceIndexCellSize(
+    final double cellSize)
+    throws JAException
+  {
+    this.check();
+
+    if (!(cellSize > 0.0) || Double.isInfinite(cellSize)) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorSourceIndexCellSize",
+          this,
+          Double.valueOf(cellSize))
+      );
+    }
+    this.sourceIndex.setCellSize(cellSize);
+  }
+
   @Override
   public Graph<JASourceOrBufferType, JASourceBufferLink> sourceBufferGraph()
     throws JAException
   {
     this.check();
-    return this.sourcesToBuffersRead;
+    return this.sourcesToBuffers.view();
   }
 
   @Override
@@ -324,18 +1018,23 @@ public final class JALContext extends JALHandle implements JAContextType
     final JAContextType objectContext)
     throws JAException
   {
-    if (!this.isCurrent()) {
+    if (!this.isCurrentTracked()) {
       throw new JAMisuseException(
         this.strings.format(
           "errorContextNotCurrent",
           object,
           objectContext,
-          this.device.contextCurrent()
+          JALCurrentContext.current()
         )
       );
     }
   }
 
+  ALCapabilities alCapabilities()
+  {
+    return this.alCapabilities;
+  }
+
   /**
    * @return The handle to the underlying device
    */
@@ -354,6 +1053,15 @@ public final class JALContext extends JALHandle implements JAContextType
     return this.errorChecker;
   }
 
+  /**
+   * @return The context's metrics
+   */
+
+  public JALMetrics metrics()
+  {
+    return this.metrics;
+  }
+
   /**
    * @return The context's strings
    */
@@ -366,10 +1074,22 @@ public final class JALContext extends JALHandle implements JAContextType
   void onSourceDeleted(
     final JALSource source)
   {
+    this.metrics.onSourceDeleted(source.isPlayingObserved());
+    this.sourcesPlaying.remove(source);
     for (final var e : this.extensionsCreated) {
       e.onSourceDeleted(source);
     }
     this.sourcesToBuffers.removeVertex(source);
+    this.sourceIndex.remove(source);
+  }
+
+  void onSourceMoved(
+    final JALSource source,
+    final float x,
+    final float y,
+    final float z)
+  {
+    this.sourceIndex.put(source, x, y, z);
   }
 
   void onSourceSetBuffer(
@@ -382,34 +1102,65 @@ public final class JALContext extends JALHandle implements JAContextType
       LOG.trace("source set buffer: {} -> {}", source, buffer);
     }
 
-    this.sourcesToBuffers.addEdge(
-      buffer,
-      source,
-      new JASourceBufferLink(buffer, source));
+    this.sourcesToBuffers.addEdge(buffer, source);
   }
 
   void onSourceUnsetBuffer(
     final JALSource source)
   {
-    final var edges =
-      Set.copyOf(this.sourcesToBuffers.incomingEdgesOf(source));
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("source unset buffers: {}", source);
+    }
+    this.sourcesToBuffers.removeIncomingEdges(source);
+  }
 
-    for (final var edge : edges) {
-      if (LOG.isTraceEnabled()) {
-        LOG.trace("source unset buffer: {} -> {}", source, edge.buffer());
-      }
-      this.sourcesToBuffers.removeEdge(edge);
+  void onSourceQueueBuffer(
+    final JALSource source,
+    final JALBuffer buffer)
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("source queue buffer: {} -> {}", source, buffer);
     }
+
+    this.sourcesToBuffers.addEdge(buffer, source);
+  }
+
+  /**
+   * A buffer has been unqueued from a source. The graph store records one
+   * edge for each time the buffer is queued, and the occurrences are
+   * interchangeable, so removing any one of them keeps the store consistent
+   * with the queue.
+   *
+   * @param source     The source
+   * @param bufferName The name of the unqueued buffer
+   *
+   * @return The unqueued buffer, or {@code null} if the buffer was unknown
+   */
+
+  JALBuffer onSourceUnqueueBuffer(
+    final JALSource source,
+    final int bufferName)
+  {
+    final var buffer =
+      (JALBuffer) this.sourcesToBuffers.vertexNamed(
+        JALSourceBufferDescriptor.KIND_BUFFER, bufferName);
+
+    if (buffer == null || !this.sourcesToBuffers.removeEdge(buffer, source)) {
+      return null;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("source unqueue buffer: {} -> {}", source, buffer);
+    }
+    return buffer;
   }
 
   Optional<JABufferType> onSourceWantBuffer(
     final JALSource source)
   {
-    final var edges =
-      this.sourcesToBuffers.incomingEdgesOf(source);
-
-    for (final var edge : edges) {
-      return Optional.of(edge.buffer());
+    if (this.sourcesToBuffers.inDegree(source) > 0) {
+      return Optional.of(
+        (JABufferType) this.sourcesToBuffers.incomingAt(source, 0));
     }
     return Optional.empty();
   }
@@ -417,6 +1168,7 @@ public final class JALContext extends JALHandle implements JAContextType
   void onBufferDeleted(
     final JALBuffer buffer)
   {
+    this.metrics.onBufferDeleted();
     this.sourcesToBuffers.removeVertex(buffer);
   }
 }
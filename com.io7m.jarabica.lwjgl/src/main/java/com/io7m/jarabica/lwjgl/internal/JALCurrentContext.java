@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import org.lwjgl.openal.AL;
+import org.lwjgl.openal.ALC10;
+import org.lwjgl.openal.EXTThreadLocalContext;
+
+import java.util.HashSet;
+
+/**
+ * <p>The context that jarabica believes to be current.</p>
+ *
+ * <p>The current OpenAL context is process-wide state, so it is tracked in a
+ * single process-wide field that is updated whenever jarabica makes a context
+ * current or destroys one. This allows checks for the current context to be
+ * simple field comparisons rather than calls to
+ * {@code alcGetCurrentContext}.</p>
+ *
+ * <p>If the system property {@code com.io7m.jarabica.lwjgl.verifyCurrentContext}
+ * is set to {@code true}, the tracked context is compared against the result
+ * of {@code alcGetCurrentContext} on every check. This is intended for use in
+ * test suites.</p>
+ *
+ * <p>A context may also be made current for a single thread using
+ * {@code ALC_EXT_thread_local_context}, in which case it takes precedence
+ * over the process-wide context on that thread. Thread-local contexts are
+ * tracked in a thread local, which is only consulted when at least one
+ * thread-local context exists. Making a context current for the process
+ * also clears the calling thread's thread-local context, as it does in
+ * OpenAL. Each thread's entry is also registered in a process-wide set, so
+ * that destroying a context can invalidate the entries of every thread on
+ * which it was current. OpenAL only allows a thread to change its own
+ * thread-local context, so an entry invalidated by another thread is marked
+ * as stale, and the owning thread releases its OpenAL thread-local context
+ * the next time it consults the entry.</p>
+ */
+
+final class JALCurrentContext
+{
+  /**
+   * The name of the property that enables verification.
+   */
+
+  static final String VERIFY_PROPERTY =
+    "com.io7m.jarabica.lwjgl.verifyCurrentContext";
+
+  private static final boolean VERIFY =
+    Boolean.getBoolean(VERIFY_PROPERTY);
+
+  private static final ThreadLocal<ThreadSlot> THREAD_CURRENT =
+    ThreadLocal.withInitial(ThreadSlot::new);
+  private static final HashSet<ThreadSlot> THREAD_SLOTS =
+    new HashSet<>();
+
+  private static volatile JALContext CURRENT;
+  private static volatile int THREAD_CONTEXTS;
+
+  private JALCurrentContext()
+  {
+
+  }
+
+  /**
+   * @return {@code true} if the tracked context is verified on every check
+   */
+
+  static boolean isVerifying()
+  {
+    return VERIFY;
+  }
+
+  /**
+   * @return The current context, or {@code null} if no context is current
+   */
+
+  static JALContext current()
+  {
+    if (THREAD_CONTEXTS > 0) {
+      final var threadContext = threadSlot().context;
+      if (threadContext != null) {
+        return threadContext;
+      }
+    }
+    return CURRENT;
+  }
+
+  /**
+   * @return The handle of the context that OpenAL reports as current
+   */
+
+  static long currentActual()
+  {
+    if (THREAD_CONTEXTS > 0 && threadSlot().context != null) {
+      return EXTThreadLocalContext.alcGetThreadContext();
+    }
+    return ALC10.alcGetCurrentContext();
+  }
+
+  /**
+   * @param context The context
+   *
+   * @return {@code true} if the given context is current for the calling
+   * thread
+   */
+
+  static boolean isThreadCurrent(
+    final JALContext context)
+  {
+    return THREAD_CONTEXTS > 0 && threadSlot().context == context;
+  }
+
+  /**
+   * @param context The context
+   *
+   * @return {@code true} if the given context is the process-wide current
+   * context
+   */
+
+  static boolean isProcessCurrent(
+    final JALContext context)
+  {
+    return CURRENT == context;
+  }
+
+  /**
+   * @return The process-wide current context, or {@code null} if no context
+   * is current for the process
+   */
+
+  static JALContext processCurrent()
+  {
+    return CURRENT;
+  }
+
+  /**
+   * Record that the given context has been made current for the process.
+   * Making a context current for the process clears the calling thread's
+   * thread-local context.
+   *
+   * @param context The context
+   */
+
+  static void set(
+    final JALContext context)
+  {
+    CURRENT = context;
+    clearThread();
+  }
+
+  /**
+   * Record that the given context is no longer current, if it was current,
+   * for the process and for every thread.
+   *
+   * @param context The context
+   */
+
+  static void clear(
+    final JALContext context)
+  {
+    if (CURRENT == context) {
+      CURRENT = null;
+    }
+
+    if (THREAD_CONTEXTS == 0) {
+      return;
+    }
+
+    final var callerSlot = THREAD_CURRENT.get();
+    synchronized (THREAD_SLOTS) {
+      final var iterator = THREAD_SLOTS.iterator();
+      while (iterator.hasNext()) {
+        final var slot = iterator.next();
+        if (slot.context == context) {
+          if (slot == callerSlot) {
+            iterator.remove();
+          } else {
+            slot.stale = true;
+          }
+          slot.context = null;
+        }
+      }
+      THREAD_CONTEXTS = THREAD_SLOTS.size();
+    }
+  }
+
+  /**
+   * Record that the given context has been made current for the calling
+   * thread.
+   *
+   * @param context The context
+   */
+
+  static void setThread(
+    final JALContext context)
+  {
+    final var slot = THREAD_CURRENT.get();
+    synchronized (THREAD_SLOTS) {
+      slot.stale = false;
+      slot.context = context;
+      THREAD_SLOTS.add(slot);
+      THREAD_CONTEXTS = THREAD_SLOTS.size();
+    }
+  }
+
+  /**
+   * Record that the calling thread no longer has a thread-local context.
+   */
+
+  static void clearThread()
+  {
+    if (THREAD_CONTEXTS == 0) {
+      return;
+    }
+
+    final var slot = threadSlot();
+    if (slot.context == null) {
+      return;
+    }
+
+    synchronized (THREAD_SLOTS) {
+      slot.context = null;
+      THREAD_SLOTS.remove(slot);
+      THREAD_CONTEXTS = THREAD_SLOTS.size();
+    }
+    AL.setCurrentThread(null);
+  }
+
+  /**
+   * @return The calling thread's entry, after releasing the thread's OpenAL
+   * thread-local context if another thread destroyed it
+   */
+
+  private static ThreadSlot threadSlot()
+  {
+    final var slot = THREAD_CURRENT.get();
+    if (slot.stale) {
+      synchronized (THREAD_SLOTS) {
+        slot.stale = false;
+        THREAD_SLOTS.remove(slot);
+        THREAD_CONTEXTS = THREAD_SLOTS.size();
+      }
+      EXTThreadLocalContext.alcSetThreadContext(0L);
+      AL.setCurrentThread(null);
+    }
+    return slot;
+  }
+
+  /**
+   * The thread-local context of a single thread. The context is written
+   * by other threads only when it is destroyed, in which case the entry is
+   * marked as stale until the owning thread releases it.
+   */
+
+  private static final class ThreadSlot
+  {
+    private volatile JALContext context;
+    private volatile boolean stale;
+
+    ThreadSlot()
+    {
+
+    }
+  }
+}
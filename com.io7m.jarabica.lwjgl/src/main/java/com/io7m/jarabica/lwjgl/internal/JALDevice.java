@@ -23,15 +23,17 @@ import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.api.JAExtensionConfigurationType;
 import com.io7m.jarabica.extensions.efx.JAEFXConfiguration;
 import com.io7m.jarabica.extensions.efx.JAEFXType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventContextSwitch;
 import org.lwjgl.openal.AL;
 import org.lwjgl.openal.ALC;
 import org.lwjgl.openal.ALC10;
 import org.lwjgl.openal.EXTEfx;
+import org.lwjgl.openal.SOFTDeviceClock;
 import org.lwjgl.system.MemoryStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.IntBuffer;
+import javax.management.ObjectName;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -53,7 +55,9 @@ public final class JALDevice extends JALHandle implements JADeviceType
   private final long handle;
   private final MemoryStack stack;
   private final HashMap<Long, JALContext> contexts;
-  private JALContext contextCurrent;
+  private final int[] contextAttributes;
+  private final JALDeviceMetrics metrics;
+  private final ObjectName metricsName;
   private SortedSet<String> extensions;
 
   /**
@@ -68,6 +72,25 @@ public final class JALDevice extends JALHandle implements JADeviceType
     final JALStrings inStrings,
     final JALErrorChecker inErrorChecker,
     final long inHandle)
+  {
+    this(inStrings, inErrorChecker, inHandle, new int[0]);
+  }
+
+  /**
+   * An open device.
+   *
+   * @param inStrings           A string provider
+   * @param inErrorChecker      An error checker
+   * @param inHandle            The device handle
+   * @param inContextAttributes The attribute/value pairs passed to every
+   *                            context created on the device
+   */
+
+  public JALDevice(
+    final JALStrings inStrings,
+    final JALErrorChecker inErrorChecker,
+    final long inHandle,
+    final int[] inContextAttributes)
   {
     super("device", inHandle, inStrings);
 
@@ -75,13 +98,17 @@ public final class JALDevice extends JALHandle implements JADeviceType
       Objects.requireNonNull(inStrings, "inStrings");
     this.errorChecker =
       Objects.requireNonNull(inErrorChecker, "errorChecker");
+    this.contextAttributes =
+      Objects.requireNonNull(inContextAttributes, "inContextAttributes")
+        .clone();
     this.handle = inHandle;
     this.stack =
       MemoryStack.create()
         .push();
 
     this.contexts = new HashMap<>();
-    this.contextCurrent = null;
+    this.metrics = new JALDeviceMetrics();
+    this.metricsName = JALMBeans.registerDevice(inHandle, this.metrics);
   }
 
   @Override
@@ -95,6 +122,7 @@ public final class JALDevice extends JALHandle implements JADeviceType
     throws JAException
   {
     this.stack.close();
+    JALMBeans.unregister(this.metricsName);
 
     final var ok = ALC10.alcCloseDevice(this.handle);
     if (!ok) {
@@ -162,6 +190,41 @@ public final class JALDevice extends JALHandle implements JADeviceType
     return ALC10.alcGetInteger(this.handle, ALC10.ALC_MINOR_VERSION);
   }
 
+  @Override
+  public boolean isDeviceClockSupported()
+    throws JAException
+  {
+    return this.extensions().contains("ALC_SOFT_device_clock");
+  }
+
+  @Override
+  public long clockNanos()
+    throws JAException
+  {
+    return this.clockValue(SOFTDeviceClock.ALC_DEVICE_CLOCK_SOFT);
+  }
+
+  @Override
+  public long latencyNanos()
+    throws JAException
+  {
+    return this.clockValue(SOFTDeviceClock.ALC_DEVICE_LATENCY_SOFT);
+  }
+
+  private long clockValue(
+    final int parameter)
+    throws JAException
+  {
+    this.check();
+
+    if (!this.isDeviceClockSupported()) {
+      throw new JADeviceException(
+        this.strings.format("errorDeviceClockUnsupported", this));
+    }
+
+    return SOFTDeviceClock.alcGetInteger64vSOFT(this.handle, parameter);
+  }
+
   private JALContext contextCreate(
     final List<JAExtensionConfigurationType> extensionConfigurations)
     throws JAException
@@ -172,19 +235,26 @@ public final class JALDevice extends JALHandle implements JADeviceType
       final var extensionRegistry =
         JALExtensionRegistry.createFromServiceLoader(exts);
 
-      IntBuffer attributes = null;
+      final var attributes =
+        current.mallocInt(
+          this.contextAttributes.length
+          + (extensionConfigurations.size() * 2)
+          + 2);
+      attributes.put(this.contextAttributes);
+
       for (final var config : extensionConfigurations) {
         if (config instanceof JAEFXConfiguration efxConfig) {
           if (exts.contains(JAEFXType.NAME)) {
-            attributes = current.mallocInt(4);
-            attributes.put(0, EXTEfx.ALC_MAX_AUXILIARY_SENDS);
-            attributes.put(1, efxConfig.maxAuxiliarySends());
-            attributes.put(2, 0);
-            attributes.put(3, 0);
+            attributes.put(EXTEfx.ALC_MAX_AUXILIARY_SENDS);
+            attributes.put(efxConfig.maxAuxiliarySends());
           }
         }
       }
 
+      attributes.put(0);
+      attributes.put(0);
+      attributes.flip();
+
       final var contextHandle =
         ALC10.alcCreateContext(this.handle, attributes);
 
@@ -196,7 +266,16 @@ public final class JALDevice extends JALHandle implements JADeviceType
         );
       }
 
-      ALC10.alcMakeContextCurrent(contextHandle);
+      final var event = JALEventContextSwitch.start();
+      if (!ALC10.alcMakeContextCurrent(contextHandle)) {
+        ALC10.alcDestroyContext(contextHandle);
+        throw new JADeviceException(
+          this.strings.format(
+            "errorContextSet",
+            Long.toUnsignedString(contextHandle, 16))
+        );
+      }
+      event.finish(contextHandle, false);
 
       final var alcCapabilities =
         ALC.createCapabilities(this.handle);
@@ -204,18 +283,21 @@ public final class JALDevice extends JALHandle implements JADeviceType
         AL.createCapabilities(alcCapabilities);
 
 
+      final var contextMetrics =
+        new JALMetrics();
       final var context =
         new JALContext(
           this,
           this.stack,
           this.strings,
-          this.errorChecker,
+          this.errorChecker.derive(contextMetrics),
           contextHandle,
           alcCapabilities,
           alCapabilities,
           extensionRegistry
         );
 
+      JALCurrentContext.set(context);
       this.errorChecker.checkErrors("alcMakeContextCurrent");
 
       if (LOG.isTraceEnabled()) {
@@ -223,27 +305,18 @@ public final class JALDevice extends JALHandle implements JADeviceType
       }
 
       this.contexts.put(Long.valueOf(contextHandle), context);
-      this.contextCurrent = context;
+      this.metrics.onContextCreated(contextMetrics);
       return context;
     }
   }
 
-  JALContext contextCurrent()
-  {
-    return this.contextCurrent;
-  }
-
   void contextDelete(
     final JALContext context)
   {
     final var newHandle = context.handle();
     ALC10.alcDestroyContext(newHandle);
     this.contexts.remove(Long.valueOf(newHandle));
-
-    if (this.contextCurrent != null) {
-      if (this.contextCurrent.handle() == newHandle) {
-        this.contextCurrent = null;
-      }
-    }
+    this.metrics.onContextDeleted(context.metrics());
+    JALCurrentContext.clear(context);
   }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.lwjgl.JALWDeviceMetricsType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The counters for a device, aggregated over its open contexts.
+ */
+
+final class JALDeviceMetrics implements JALWDeviceMetricsType
+{
+  private final CopyOnWriteArrayList<JALMetrics> contexts;
+
+  JALDeviceMetrics()
+  {
+    this.contexts = new CopyOnWriteArrayList<>();
+  }
+
+  void onContextCreated(
+    final JALMetrics metrics)
+  {
+    this.contexts.add(metrics);
+  }
+
+  void onContextDeleted(
+    final JALMetrics metrics)
+  {
+    this.contexts.remove(metrics);
+  }
+
+  @Override
+  public long getContexts()
+  {
+    return this.contexts.size();
+  }
+
+  @Override
+  public long getSources()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getSources)
+      .sum();
+  }
+
+  @Override
+  public long getSourcesPlaying()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getSourcesPlaying)
+      .sum();
+  }
+
+  @Override
+  public long getSourcesStopped()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getSourcesStopped)
+      .sum();
+  }
+
+  @Override
+  public long getBuffers()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getBuffers)
+      .sum();
+  }
+
+  @Override
+  public long getEffects()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getEffects)
+      .sum();
+  }
+
+  @Override
+  public long getFilters()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getFilters)
+      .sum();
+  }
+
+  @Override
+  public long getEffectsSlots()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getEffectsSlots)
+      .sum();
+  }
+
+  @Override
+  public long getBytesUploaded()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getBytesUploaded)
+      .sum();
+  }
+
+  @Override
+  public long getCalls()
+  {
+    return this.contexts.stream()
+      .mapToLong(JALMetrics::getCalls)
+      .sum();
+  }
+
+  @Override
+  public double getCallsPerSecond()
+  {
+    return this.contexts.stream()
+      .mapToDouble(JALMetrics::getCallsPerSecond)
+      .sum();
+  }
+
+  @Override
+  public Map<String, Long> getErrors()
+  {
+    final var result = new TreeMap<String, Long>();
+    for (final var context : this.contexts) {
+      context.getErrors().forEach((name, count) -> {
+        result.merge(name, count, Long::sum);
+      });
+    }
+    return result;
+  }
+}
@@ -18,6 +18,12 @@
 package com.io7m.jarabica.lwjgl.internal;
 
 import com.io7m.jarabica.api.JACallException;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.DebugOnly;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.EveryCall;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.EveryNthCall;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.PerBatch;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventError;
 import org.lwjgl.openal.AL10;
 
 import java.util.Objects;
@@ -28,7 +34,17 @@ import java.util.Objects;
 
 public final class JALErrorChecker
 {
+  private static final int PENDING_MAXIMUM = 32;
+
   private final JALStrings strings;
+  private final JALWErrorCheckingPolicyType policy;
+  private final JALMetrics metrics;
+  private final String[] pending;
+  private final int interval;
+  private final boolean checkAtBatchEnd;
+  private int pendingCount;
+  private int callCount;
+  private boolean deferring;
 
   /**
    * Functions to check AL errors.
@@ -38,11 +54,62 @@ public final class JALErrorChecker
 
   public JALErrorChecker(
     final JALStrings inStrings)
+  {
+    this(inStrings, new EveryCall());
+  }
+
+  /**
+   * Functions to check AL errors.
+   *
+   * @param inStrings A provider of strings
+   * @param inPolicy  The error checking policy
+   */
+
+  public JALErrorChecker(
+    final JALStrings inStrings,
+    final JALWErrorCheckingPolicyType inPolicy)
+  {
+    this(inStrings, inPolicy, new JALMetrics());
+  }
+
+  private JALErrorChecker(
+    final JALStrings inStrings,
+    final JALWErrorCheckingPolicyType inPolicy,
+    final JALMetrics inMetrics)
   {
     this.strings =
       Objects.requireNonNull(inStrings, "strings");
+    this.policy =
+      Objects.requireNonNull(inPolicy, "policy");
+    this.metrics =
+      Objects.requireNonNull(inMetrics, "metrics");
+    this.pending =
+      new String[PENDING_MAXIMUM];
+    this.pendingCount =
+      0;
+    this.callCount =
+      0;
+    this.deferring =
+      false;
+
+    /*
+     * The policy is reduced to an interval so that the common path does not
+     * need to examine the policy. An interval of 1 checks every call, and an
+     * interval of 0 defers checks indefinitely.
+     */
+
+    this.interval = switch (inPolicy) {
+      case final EveryCall p -> 1;
+      case final PerBatch p -> 0;
+      case final EveryNthCall p -> p.interval();
+      case final DebugOnly p ->
+        JALWErrorCheckingPolicyType.class.desiredAssertionStatus() ? 1 : 0;
+    };
+    this.checkAtBatchEnd =
+      !(inPolicy instanceof DebugOnly) || this.interval == 1;
   }
 
+
   private static String errorNameOf(
     final int error)
   {
@@ -56,9 +123,58 @@ public final class JALErrorChecker
     };
   }
 
+  /**
+   * Create a new error checker that shares the configuration of this
+   * checker, but has its own independent set of deferred checks and its own
+   * metrics.
+   *
+   * @return A new error checker
+   */
+
+  public JALErrorChecker derive()
+  {
+    return this.derive(new JALMetrics());
+  }
+
+  /**
+   * Create a new error checker that shares the configuration of this
+   * checker, but has its own independent set of deferred checks. Each context
+   * is given its own checker, because the AL error state is per-context.
+   * Calls and errors are counted in the given metrics.
+   *
+   * @param newMetrics The metrics of the context
+   *
+   * @return A new error checker
+   */
+
+  public JALErrorChecker derive(
+    final JALMetrics newMetrics)
+  {
+    return new JALErrorChecker(this.strings, this.policy, newMetrics);
+  }
+
+  /**
+   * @return The metrics in which calls and errors are counted
+   */
+
+  public JALMetrics metrics()
+  {
+    return this.metrics;
+  }
+
+  /**
+   * @return The error checking policy
+   */
+
+  public JALWErrorCheckingPolicyType policy()
+  {
+    return this.policy;
+  }
+
   /**
    * Check errors. Raise an exception with the given function name if the error
-   * stack is not empty.
+   * stack is not empty. If any checks have been deferred, they are performed
+   * now, and the deferred functions are named in any resulting exception.
    *
    * @param function The function name
    *
@@ -69,8 +185,24 @@ public final class JALErrorChecker
     final String function)
     throws JACallException
   {
+    this.metrics.onCall();
+    this.checkNow(function);
+  }
+
+  private void checkNow(
+    final String function)
+    throws JACallException
+  {
+    if (this.pendingCount > 0) {
+      this.recordPending(function);
+      this.checkPending();
+      return;
+    }
+
     final var error = AL10.alGetError();
     if (error != AL10.AL_NO_ERROR) {
+      this.metrics.onError(function);
+      JALEventError.emit(function, errorNameOf(error));
       throw new JACallException(
         this.strings.format("errorALCall", function, errorNameOf(error)),
         function,
@@ -78,4 +210,162 @@ public final class JALErrorChecker
       );
     }
   }
+
+  /**
+   * Check errors after a call that only updates the state of an existing
+   * object. If checks are currently being deferred, either because an update
+   * batch is open or because the error checking policy permits it, the
+   * function name is recorded and the check is performed later.
+   *
+   * @param function The function name
+   *
+   * @throws JACallException If the error stack is not empty
+   * @see #beginDeferring()
+   */
+
+  public void checkErrorsDeferrable(
+    final String function)
+    throws JACallException
+  {
+    this.metrics.onCall();
+
+    if (this.deferring) {
+      this.recordPending(function);
+      return;
+    }
+
+    switch (this.interval) {
+      case 1 -> this.checkNow(function);
+      case 0 -> this.recordPending(function);
+      default -> {
+        this.recordPending(function);
+        ++this.callCount;
+        if (this.callCount >= this.interval) {
+          this.checkPending();
+        }
+      }
+    }
+  }
+
+  /**
+   * Perform any checks that have been deferred.
+   *
+   * @throws JACallException If the error stack is not empty
+   */
+
+  public void checkDeferred()
+    throws JACallException
+  {
+    this.checkPending();
+  }
+
+  /**
+   * Start deferring checks made with {@link #checkErrorsDeferrable(String)}.
+   */
+
+  public void beginDeferring()
+  {
+    this.deferring = true;
+  }
+
+  /**
+   * Stop deferring checks, and perform any checks that were deferred (unless
+   * the policy states that checks should not be performed at the end of
+   * batches).
+   *
+   * @throws JACallException If the error stack is not empty
+   */
+
+  public void endDeferring()
+    throws JACallException
+  {
+    this.deferring = false;
+    if (this.checkAtBatchEnd) {
+      this.checkPending();
+    }
+  }
+
+  /**
+   * Stop deferring checks, and discard any checks that were deferred. This
+   * is used when the deferred checks can no longer be performed, such as
+   * when the context is no longer current.
+   */
+
+  public void abandonDeferring()
+  {
+    this.deferring = false;
+    this.pendingCount = 0;
+    this.callCount = 0;
+  }
+
+  /**
+   * @return {@code true} if checks are currently being deferred
+   */
+
+  public boolean isDeferring()
+  {
+    return this.deferring;
+  }
+
+  private void recordPending(
+    final String function)
+    throws JACallException
+  {
+    for (int index = 0; index < this.pendingCount; ++index) {
+      if (this.pending[index].equals(function)) {
+        return;
+      }
+    }
+
+    /*
+     * Check errors rather than losing the name of a function that might
+     * be responsible for a failure.
+     */
+
+    if (this.pendingCount == this.pending.length) {
+      this.checkPending();
+    }
+    this.pending[this.pendingCount] = function;
+    ++this.pendingCount;
+  }
+
+  private void checkPending()
+    throws JACallException
+  {
+    this.callCount = 0;
+    if (this.pendingCount == 0) {
+      return;
+    }
+
+    final var error = AL10.alGetError();
+    if (error == AL10.AL_NO_ERROR) {
+      this.pendingCount = 0;
+      return;
+    }
+
+    final var functions = this.pendingNames();
+    this.pendingCount = 0;
+    this.metrics.onError(functions);
+    JALEventError.emit(functions, errorNameOf(error));
+    throw new JACallException(
+      this.strings.format(
+        "errorALCallDeferred",
+        functions,
+        errorNameOf(error)),
+      functions,
+      errorNameOf(error)
+    );
+  }
+
+  private String pendingNames()
+  {
+    final var text = new StringBuilder(this.pendingCount * 16);
+    for (int index = 0; index < this.pendingCount; ++index) {
+      if (index > 0) {
+        text.append(", ");
+      }
+      text.append(this.pending[index]);
+    }
+    return text.toString();
+  }
 }
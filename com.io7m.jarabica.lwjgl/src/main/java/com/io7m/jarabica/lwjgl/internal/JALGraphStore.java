@@ -0,0 +1,746 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+import org.jgrapht.Graph;
+import org.jgrapht.event.GraphEdgeChangeEvent;
+import org.jgrapht.event.GraphListener;
+import org.jgrapht.event.GraphVertexChangeEvent;
+import org.jgrapht.event.VertexSetListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A compact store for the small directed graphs that track the
+ * relationships between OpenAL objects.</p>
+ *
+ * <p>Each vertex is assigned an integer slot, found by looking up its kind
+ * and OpenAL name. The edges of each vertex are held as arrays of slots, and
+ * each edge records its position in the edge array of the vertex at its
+ * other end. Attaching an edge, and detaching an edge that has been found,
+ * take constant time: edges are removed by moving the last edge of each
+ * array into the gap, so the arrays are not kept in any particular order.
+ * Finding an edge searches the edge array of whichever of its two vertices
+ * has the lower degree, which in practice is a single element (a buffer is
+ * rarely attached to more than one source). Nothing allocates except to grow
+ * arrays.</p>
+ *
+ * <p>If the store permits multiple edges, the same edge may be added more
+ * than once (such as when a buffer is queued on a source several times), and
+ * each removal removes one occurrence. Listeners, and the {@link Graph} view
+ * returned by {@link #view()}, see the store as a simple graph: an edge
+ * exists while at least one occurrence of it exists.</p>
+ *
+ * @param <V> The type of vertices
+ * @param <E> The type of edges
+ */
+
+public final class JALGraphStore<V, E>
+{
+  private static final int[] NO_EDGES = new int[0];
+
+  private final JALGraphStoreDescriptorType<V, E> descriptor;
+  private final boolean multipleEdges;
+  private final JALIntIndex[] indexes;
+  private final ArrayList<GraphListener<V, E>> graphListeners;
+  private final ArrayList<VertexSetListener<V>> vertexListeners;
+  private Object[] vertices;
+  private int[][] outgoing;
+  private int[][] outgoingPeer;
+  private int[] outgoingCount;
+  private int[][] incoming;
+  private int[][] incomingPeer;
+  private int[] incomingCount;
+  private int[] slotsFree;
+  private int slotsFreeCount;
+  private int slotsUsed;
+  private int vertexCount;
+  private int edgeCount;
+  private JALGraphView<V, E> view;
+
+  /**
+   * A compact graph store.
+   *
+   * @param inDescriptor    The descriptor of vertices and edges
+   * @param inMultipleEdges {@code true} if the same edge can be added more
+   *                        than once
+   */
+
+  public JALGraphStore(
+    final JALGraphStoreDescriptorType<V, E> inDescriptor,
+    final boolean inMultipleEdges)
+  {
+    this.descriptor =
+      Objects.requireNonNull(inDescriptor, "descriptor");
+    this.multipleEdges =
+      inMultipleEdges;
+
+    this.indexes = new JALIntIndex[inDescriptor.kinds()];
+    for (int index = 0; index < this.indexes.length; ++index) {
+      this.indexes[index] = new JALIntIndex();
+    }
+
+    this.graphListeners = new ArrayList<>();
+    this.vertexListeners = new ArrayList<>();
+    this.vertices = new Object[16];
+    this.outgoing = new int[16][];
+    this.outgoingPeer = new int[16][];
+    this.outgoingCount = new int[16];
+    this.incoming = new int[16][];
+    this.incomingPeer = new int[16][];
+    this.incomingCount = new int[16];
+    this.slotsFree = new int[16];
+    Arrays.fill(this.outgoing, NO_EDGES);
+    Arrays.fill(this.outgoingPeer, NO_EDGES);
+    Arrays.fill(this.incoming, NO_EDGES);
+    Arrays.fill(this.incomingPeer, NO_EDGES);
+  }
+
+  private static int indexOf(
+    final int[] slots,
+    final int count,
+    final int slot)
+  {
+    for (int index = 0; index < count; ++index) {
+      if (slots[index] == slot) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private static int[] append(
+    final int[] slots,
+    final int count,
+    final int slot)
+  {
+    final int[] result;
+    if (count == slots.length) {
+      result = Arrays.copyOf(slots, Math.max(2, count * 2));
+    } else {
+      result = slots;
+    }
+    result[count] = slot;
+    return result;
+  }
+
+  /**
+   * @return The descriptor of vertices and edges
+   */
+
+  public JALGraphStoreDescriptorType<V, E> descriptor()
+  {
+    return this.descriptor;
+  }
+
+  /**
+   * @param vertex The vertex
+   *
+   * @return The slot of the vertex, or {@code -1} if the vertex is not
+   * present
+   */
+
+  int slotOf(
+    final V vertex)
+  {
+    final var slot =
+      this.indexes[this.descriptor.kindOf(vertex)]
+        .get(this.descriptor.nameOf(vertex));
+
+    if (slot >= 0 && this.vertices[slot].equals(vertex)) {
+      return slot;
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  V vertexAt(
+    final int slot)
+  {
+    return (V) this.vertices[slot];
+  }
+
+  int slotLimit()
+  {
+    return this.slotsUsed;
+  }
+
+  int[] outgoingSlots(
+    final int slot)
+  {
+    return this.outgoing[slot];
+  }
+
+  int outgoingSlotCount(
+    final int slot)
+  {
+    return this.outgoingCount[slot];
+  }
+
+  int[] incomingSlots(
+    final int slot)
+  {
+    return this.incoming[slot];
+  }
+
+  int incomingSlotCount(
+    final int slot)
+  {
+    return this.incomingCount[slot];
+  }
+
+  /**
+   * @param kind The kind of vertex
+   * @param name The OpenAL name
+   *
+   * @return The vertex with the given kind and name, or {@code null}
+   */
+
+  public V vertexNamed(
+    final int kind,
+    final int name)
+  {
+    final var slot = this.indexes[kind].get(name);
+    if (slot >= 0) {
+      return this.vertexAt(slot);
+    }
+    return null;
+  }
+
+  /**
+   * @param vertex The vertex
+   *
+   * @return {@code true} if the vertex is present
+   */
+
+  public boolean containsVertex(
+    final V vertex)
+  {
+    return this.slotOf(vertex) >= 0;
+  }
+
+  /**
+   * @return The number of vertices
+   */
+
+  public int vertexCount()
+  {
+    return this.vertexCount;
+  }
+
+  /**
+   * @return The number of edges, counting each occurrence of an edge
+   */
+
+  public int edgeCount()
+  {
+    return this.edgeCount;
+  }
+
+  /**
+   * Add a vertex, if it is not already present.
+   *
+   * @param vertex The vertex
+   *
+   * @return {@code true} if the vertex was added
+   */
+
+  public boolean addVertex(
+    final V vertex)
+  {
+    Objects.requireNonNull(vertex, "vertex");
+
+    if (this.slotOf(vertex) >= 0) {
+      return false;
+    }
+
+    final int slot;
+    if (this.slotsFreeCount > 0) {
+      --this.slotsFreeCount;
+      slot = this.slotsFree[this.slotsFreeCount];
+    } else {
+      if (this.slotsUsed == this.vertices.length) {
+        this.growSlots();
+      }
+      slot = this.slotsUsed;
+      ++this.slotsUsed;
+    }
+
+    this.vertices[slot] = vertex;
+    this.indexes[this.descriptor.kindOf(vertex)]
+      .put(this.descriptor.nameOf(vertex), slot);
+    ++this.vertexCount;
+
+    if (!this.vertexListeners.isEmpty()) {
+      this.fireVertex(GraphVertexChangeEvent.VERTEX_ADDED, vertex);
+    }
+    return true;
+  }
+
+  private void growSlots()
+  {
+    final var oldLength = this.vertices.length;
+    final var length = oldLength * 2;
+    this.vertices = Arrays.copyOf(this.vertices, length);
+    this.outgoing = Arrays.copyOf(this.outgoing, length);
+    this.outgoingPeer = Arrays.copyOf(this.outgoingPeer, length);
+    this.outgoingCount = Arrays.copyOf(this.outgoingCount, length);
+    this.incoming = Arrays.copyOf(this.incoming, length);
+    this.incomingPeer = Arrays.copyOf(this.incomingPeer, length);
+    this.incomingCount = Arrays.copyOf(this.incomingCount, length);
+    this.slotsFree = Arrays.copyOf(this.slotsFree, length);
+    Arrays.fill(this.outgoing, oldLength, length, NO_EDGES);
+    Arrays.fill(this.outgoingPeer, oldLength, length, NO_EDGES);
+    Arrays.fill(this.incoming, oldLength, length, NO_EDGES);
+    Arrays.fill(this.incomingPeer, oldLength, length, NO_EDGES);
+  }
+
+  /**
+   * Remove a vertex and all of its edges, if the vertex is present.
+   *
+   * @param vertex The vertex
+   *
+   * @return {@code true} if the vertex was removed
+   */
+
+  public boolean removeVertex(
+    final V vertex)
+  {
+    final var slot = this.slotOf(vertex);
+    if (slot < 0) {
+      return false;
+    }
+
+    while (this.outgoingCount[slot] > 0) {
+      this.removeEdgeAt(slot, this.outgoingCount[slot] - 1);
+    }
+    this.removeIncomingSlots(slot);
+
+    this.vertices[slot] = null;
+    this.outgoing[slot] = NO_EDGES;
+    this.outgoingPeer[slot] = NO_EDGES;
+    this.incoming[slot] = NO_EDGES;
+    this.incomingPeer[slot] = NO_EDGES;
+    this.indexes[this.descriptor.kindOf(vertex)]
+      .remove(this.descriptor.nameOf(vertex));
+    this.slotsFree[this.slotsFreeCount] = slot;
+    ++this.slotsFreeCount;
+    --this.vertexCount;
+
+    if (!this.vertexListeners.isEmpty()) {
+      this.fireVertex(GraphVertexChangeEvent.VERTEX_REMOVED, vertex);
+    }
+    return true;
+  }
+
+  /**
+   * Add an edge between two vertices that are present in the store. If the
+   * store does not permit multiple edges, and the edge already exists,
+   * nothing happens.
+   *
+   * @param source The source vertex
+   * @param target The target vertex
+   *
+   * @return {@code true} if an edge was added
+   */
+
+  public boolean addEdge(
+    final V source,
+    final V target)
+  {
+    final var sourceSlot = this.slotRequire(source);
+    final var targetSlot = this.slotRequire(target);
+
+    /*
+     * Whether the edge already exists only matters if duplicates are
+     * refused, or if listeners need to be told about a new edge.
+     */
+
+    final var existing =
+      (!this.multipleEdges || !this.graphListeners.isEmpty())
+        && this.findEdge(sourceSlot, targetSlot) >= 0;
+
+    if (existing && !this.multipleEdges) {
+      return false;
+    }
+
+    final var outIndex = this.outgoingCount[sourceSlot];
+    final var inIndex = this.incomingCount[targetSlot];
+    this.outgoing[sourceSlot] =
+      append(this.outgoing[sourceSlot], outIndex, targetSlot);
+    this.outgoingPeer[sourceSlot] =
+      append(this.outgoingPeer[sourceSlot], outIndex, inIndex);
+    this.outgoingCount[sourceSlot] = outIndex + 1;
+    this.incoming[targetSlot] =
+      append(this.incoming[targetSlot], inIndex, sourceSlot);
+    this.incomingPeer[targetSlot] =
+      append(this.incomingPeer[targetSlot], inIndex, outIndex);
+    this.incomingCount[targetSlot] = inIndex + 1;
+    ++this.edgeCount;
+
+    if (!existing && !this.graphListeners.isEmpty()) {
+      this.fireEdge(GraphEdgeChangeEvent.EDGE_ADDED, source, target);
+    }
+    return true;
+  }
+
+  private int slotRequire(
+    final V vertex)
+  {
+    final var slot = this.slotOf(vertex);
+    if (slot < 0) {
+      throw new IllegalArgumentException(
+        "No such vertex in graph: %s".formatted(vertex));
+    }
+    return slot;
+  }
+
+  /**
+   * Remove one occurrence of the edge between two vertices, if it exists.
+   *
+   * @param source The source vertex
+   * @param target The target vertex
+   *
+   * @return {@code true} if an edge was removed
+   */
+
+  public boolean removeEdge(
+    final V source,
+    final V target)
+  {
+    final var sourceSlot = this.slotOf(source);
+    final var targetSlot = this.slotOf(target);
+    if (sourceSlot < 0 || targetSlot < 0) {
+      return false;
+    }
+    return this.removeEdgeSlots(sourceSlot, targetSlot);
+  }
+
+  private boolean removeEdgeSlots(
+    final int sourceSlot,
+    final int targetSlot)
+  {
+    final var outIndex = this.findEdge(sourceSlot, targetSlot);
+    if (outIndex < 0) {
+      return false;
+    }
+    this.removeEdgeAt(sourceSlot, outIndex);
+    return true;
+  }
+
+  /**
+   * Find an occurrence of an edge by searching the edge array of whichever
+   * vertex has the lower degree.
+   *
+   * @param sourceSlot The source slot
+   * @param targetSlot The target slot
+   *
+   * @return The index of the edge in the source's outgoing array, or
+   * {@code -1} if there is no such edge
+   */
+
+  private int findEdge(
+    final int sourceSlot,
+    final int targetSlot)
+  {
+    final var outCount = this.outgoingCount[sourceSlot];
+    final var inCount = this.incomingCount[targetSlot];
+    if (outCount <= inCount) {
+      return indexOf(this.outgoing[sourceSlot], outCount, targetSlot);
+    }
+
+    final var inIndex =
+      indexOf(this.incoming[targetSlot], inCount, sourceSlot);
+    if (inIndex < 0) {
+      return -1;
+    }
+    return this.incomingPeer[targetSlot][inIndex];
+  }
+
+  /**
+   * Remove the edge at the given index of the source's outgoing array,
+   * filling the gaps in both edge arrays with their last elements.
+   *
+   * @param sourceSlot The source slot
+   * @param outIndex   The index of the edge in the outgoing array
+   */
+
+  private void removeEdgeAt(
+    final int sourceSlot,
+    final int outIndex)
+  {
+    final var targetSlot = this.outgoing[sourceSlot][outIndex];
+    final var inIndex = this.outgoingPeer[sourceSlot][outIndex];
+
+    final var outLast = this.outgoingCount[sourceSlot] - 1;
+    if (outIndex != outLast) {
+      final var movedTarget = this.outgoing[sourceSlot][outLast];
+      final var movedIn = this.outgoingPeer[sourceSlot][outLast];
+      this.outgoing[sourceSlot][outIndex] = movedTarget;
+      this.outgoingPeer[sourceSlot][outIndex] = movedIn;
+      this.incomingPeer[movedTarget][movedIn] = outIndex;
+    }
+    this.outgoingCount[sourceSlot] = outLast;
+
+    final var inLast = this.incomingCount[targetSlot] - 1;
+    if (inIndex != inLast) {
+      final var movedSource = this.incoming[targetSlot][inLast];
+      final var movedOut = this.incomingPeer[targetSlot][inLast];
+      this.incoming[targetSlot][inIndex] = movedSource;
+      this.incomingPeer[targetSlot][inIndex] = movedOut;
+      this.outgoingPeer[movedSource][movedOut] = inIndex;
+    }
+    this.incomingCount[targetSlot] = inLast;
+    --this.edgeCount;
+
+    if (!this.graphListeners.isEmpty()) {
+      final var remaining =
+        this.multipleEdges && this.findEdge(sourceSlot, targetSlot) >= 0;
+      if (!remaining) {
+        this.fireEdge(
+          GraphEdgeChangeEvent.EDGE_REMOVED,
+          this.vertexAt(sourceSlot),
+          this.vertexAt(targetSlot)
+        );
+      }
+    }
+  }
+
+  private void removeIncomingSlots(
+    final int targetSlot)
+  {
+    while (this.incomingCount[targetSlot] > 0) {
+      final var inIndex = this.incomingCount[targetSlot] - 1;
+      this.removeEdgeAt(
+        this.incoming[targetSlot][inIndex],
+        this.incomingPeer[targetSlot][inIndex]
+      );
+    }
+  }
+
+  /**
+   * Remove all edges that end at the given vertex.
+   *
+   * @param target The target vertex
+   */
+
+  public void removeIncomingEdges(
+    final V target)
+  {
+    final var slot = this.slotOf(target);
+    if (slot >= 0) {
+      this.removeIncomingSlots(slot);
+    }
+  }
+
+  /**
+   * @param source The source vertex
+   * @param target The target vertex
+   *
+   * @return {@code true} if at least one edge exists between the vertices
+   */
+
+  public boolean containsEdge(
+    final V source,
+    final V target)
+  {
+    final var sourceSlot = this.slotOf(source);
+    final var targetSlot = this.slotOf(target);
+    if (sourceSlot < 0 || targetSlot < 0) {
+      return false;
+    }
+    return this.findEdge(sourceSlot, targetSlot) >= 0;
+  }
+
+  /**
+   * @param vertex The vertex
+   *
+   * @return The number of edges (including repeated edges) leaving the vertex
+   */
+
+  public int outDegree(
+    final V vertex)
+  {
+    final var slot = this.slotOf(vertex);
+    return slot < 0 ? 0 : this.outgoingCount[slot];
+  }
+
+  /**
+   * @param vertex The vertex
+   *
+   * @return The number of edges (including repeated edges) ending at the
+   * vertex
+   */
+
+  public int inDegree(
+    final V vertex)
+  {
+    final var slot = this.slotOf(vertex);
+    return slot < 0 ? 0 : this.incomingCount[slot];
+  }
+
+  /**
+   * @param vertex The vertex
+   * @param index  The edge index, in the range {@code [0, outDegree(vertex))}
+   *
+   * @return The target of the given edge leaving the vertex
+   */
+
+  public V outgoingAt(
+    final V vertex,
+    final int index)
+  {
+    final var slot = this.slotRequire(vertex);
+    Objects.checkIndex(index, this.outgoingCount[slot]);
+    return this.vertexAt(this.outgoing[slot][index]);
+  }
+
+  /**
+   * @param vertex The vertex
+   * @param index  The edge index, in the range {@code [0, inDegree(vertex))}
+   *
+   * @return The source of the given edge ending at the vertex
+   */
+
+  public V incomingAt(
+    final V vertex,
+    final int index)
+  {
+    final var slot = this.slotRequire(vertex);
+    Objects.checkIndex(index, this.incomingCount[slot]);
+    return this.vertexAt(this.incoming[slot][index]);
+  }
+
+  /**
+   * @return A read-only graph view of the store, created on first use
+   */
+
+  public Graph<V, E> view()
+  {
+    if (this.view == null) {
+      this.view = new JALGraphView<>(this);
+    }
+    return this.view;
+  }
+
+  /**
+   * Add a listener that receives vertex and edge events.
+   *
+   * @param listener The listener
+   */
+
+  public void addGraphListener(
+    final GraphListener<V, E> listener)
+  {
+    Objects.requireNonNull(listener, "listener");
+    if (!this.graphListeners.contains(listener)) {
+      this.graphListeners.add(listener);
+    }
+    this.addVertexSetListener(listener);
+  }
+
+  /**
+   * Add a listener that receives vertex events.
+   *
+   * @param listener The listener
+   */
+
+  public void addVertexSetListener(
+    final VertexSetListener<V> listener)
+  {
+    Objects.requireNonNull(listener, "listener");
+    if (!this.vertexListeners.contains(listener)) {
+      this.vertexListeners.add(listener);
+    }
+  }
+
+  /**
+   * Remove a listener that receives vertex and edge events.
+   *
+   * @param listener The listener
+   */
+
+  public void removeGraphListener(
+    final GraphListener<V, E> listener)
+  {
+    this.graphListeners.remove(listener);
+    this.vertexListeners.remove(listener);
+  }
+
+  /**
+   * Remove a listener that receives vertex events.
+   *
+   * @param listener The listener
+   */
+
+  public void removeVertexSetListener(
+    final VertexSetListener<V> listener)
+  {
+    this.vertexListeners.remove(listener);
+  }
+
+  private void fireVertex(
+    final int type,
+    final V vertex)
+  {
+    final var event =
+      new GraphVertexChangeEvent<>(this.view(), type, vertex);
+
+    for (final var listener : List.copyOf(this.vertexListeners)) {
+      if (type == GraphVertexChangeEvent.VERTEX_ADDED) {
+        listener.vertexAdded(event);
+      } else {
+        listener.vertexRemoved(event);
+      }
+    }
+  }
+
+  private void fireEdge(
+    final int type,
+    final V source,
+    final V target)
+  {
+    final var event =
+      new GraphEdgeChangeEvent<>(
+        this.view(),
+        type,
+        this.descriptor.edgeOf(source, target),
+        source,
+        target
+      );
+
+    for (final var listener : List.copyOf(this.graphListeners)) {
+      if (type == GraphEdgeChangeEvent.EDGE_ADDED) {
+        listener.edgeAdded(event);
+      } else {
+        listener.edgeRemoved(event);
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JALGraphStore ")
+      .append(this.vertexCount)
+      .append("]")
+      .toString();
+  }
+}
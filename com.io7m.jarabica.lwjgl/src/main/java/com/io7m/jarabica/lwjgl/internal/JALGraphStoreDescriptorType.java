@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+/**
+ * A description of the vertices and edges held in a graph store.
+ *
+ * @param <V> The type of vertices
+ * @param <E> The type of edges
+ */
+
+public interface JALGraphStoreDescriptorType<V, E>
+{
+  /**
+   * @return The number of distinct kinds of vertex
+   */
+
+  int kinds();
+
+  /**
+   * Vertices of the same kind share a namespace; a vertex is identified by
+   * its kind and name.
+   *
+   * @param vertex The vertex
+   *
+   * @return The kind of the vertex, in the range {@code [0, kinds())}
+   */
+
+  int kindOf(V vertex);
+
+  /**
+   * @param vertex The vertex
+   *
+   * @return The OpenAL name of the vertex
+   */
+
+  int nameOf(V vertex);
+
+  /**
+   * @param source The source vertex
+   * @param target The target vertex
+   *
+   * @return A value describing the edge between the given vertices
+   */
+
+  E edgeOf(
+    V source,
+    V target);
+
+  /**
+   * @param edge The edge
+   *
+   * @return The source vertex of the edge
+   */
+
+  V edgeSource(E edge);
+
+  /**
+   * @param edge The edge
+   *
+   * @return The target vertex of the edge
+   */
+
+  V edgeTarget(E edge);
+}
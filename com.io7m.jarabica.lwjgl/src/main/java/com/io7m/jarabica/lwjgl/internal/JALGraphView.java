@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A read-only {@link Graph} view of a graph store. The view reads the store
+ * directly, and so always reflects its current contents; sets returned by
+ * the view are snapshots.
+ *
+ * @param <V> The type of vertices
+ * @param <E> The type of edges
+ */
+
+final class JALGraphView<V, E> extends AbstractGraph<V, E>
+{
+  private static final GraphType TYPE =
+    new DefaultGraphType.Builder()
+      .directed()
+      .allowMultipleEdges(false)
+      .allowSelfLoops(false)
+      .allowCycles(false)
+      .weighted(false)
+      .modifiable(false)
+      .build();
+
+  private final JALGraphStore<V, E> store;
+  private final JALGraphStoreDescriptorType<V, E> descriptor;
+
+  JALGraphView(
+    final JALGraphStore<V, E> inStore)
+  {
+    this.store =
+      Objects.requireNonNull(inStore, "store");
+    this.descriptor =
+      inStore.descriptor();
+  }
+
+  private static UnsupportedOperationException readOnly()
+  {
+    return new UnsupportedOperationException("This graph is read-only.");
+  }
+
+  private int slotRequire(
+    final V vertex)
+  {
+    this.assertVertexExist(vertex);
+    return this.store.slotOf(vertex);
+  }
+
+  private static int distinct(
+    final int[] slots,
+    final int count)
+  {
+    var result = 0;
+    for (int index = 0; index < count; ++index) {
+      if (firstIndex(slots, slots[index]) == index) {
+        ++result;
+      }
+    }
+    return result;
+  }
+
+  private static int firstIndex(
+    final int[] slots,
+    final int slot)
+  {
+    var index = 0;
+    while (slots[index] != slot) {
+      ++index;
+    }
+    return index;
+  }
+
+  private void collectOutgoing(
+    final int slot,
+    final Set<E> output)
+  {
+    final var source = this.store.vertexAt(slot);
+    final var targets = this.store.outgoingSlots(slot);
+    final var count = this.store.outgoingSlotCount(slot);
+    for (int index = 0; index < count; ++index) {
+      output.add(
+        this.descriptor.edgeOf(source, this.store.vertexAt(targets[index])));
+    }
+  }
+
+  private void collectIncoming(
+    final int slot,
+    final Set<E> output)
+  {
+    final var target = this.store.vertexAt(slot);
+    final var sources = this.store.incomingSlots(slot);
+    final var count = this.store.incomingSlotCount(slot);
+    for (int index = 0; index < count; ++index) {
+      output.add(
+        this.descriptor.edgeOf(this.store.vertexAt(sources[index]), target));
+    }
+  }
+
+  @Override
+  public Set<E> getAllEdges(
+    final V sourceVertex,
+    final V targetVertex)
+  {
+    if (!this.containsVertex(sourceVertex)
+        || !this.containsVertex(targetVertex)) {
+      return null;
+    }
+    if (this.store.containsEdge(sourceVertex, targetVertex)) {
+      return Set.of(this.descriptor.edgeOf(sourceVertex, targetVertex));
+    }
+    return Set.of();
+  }
+
+  @Override
+  public E getEdge(
+    final V sourceVertex,
+    final V targetVertex)
+  {
+    if (this.store.containsEdge(sourceVertex, targetVertex)) {
+      return this.descriptor.edgeOf(sourceVertex, targetVertex);
+    }
+    return null;
+  }
+
+  @Override
+  public Supplier<V> getVertexSupplier()
+  {
+    return null;
+  }
+
+  @Override
+  public Supplier<E> getEdgeSupplier()
+  {
+    return null;
+  }
+
+  @Override
+  public E addEdge(
+    final V sourceVertex,
+    final V targetVertex)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean addEdge(
+    final V sourceVertex,
+    final V targetVertex,
+    final E e)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public V addVertex()
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean addVertex(
+    final V v)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean containsEdge(
+    final E e)
+  {
+    return this.store.containsEdge(
+      this.descriptor.edgeSource(e),
+      this.descriptor.edgeTarget(e)
+    );
+  }
+
+  @Override
+  public boolean containsVertex(
+    final V v)
+  {
+    return v != null && this.store.containsVertex(v);
+  }
+
+  @Override
+  public Set<E> edgeSet()
+  {
+    final var edges = new LinkedHashSet<E>();
+    final var limit = this.store.slotLimit();
+    for (int slot = 0; slot < limit; ++slot) {
+      if (this.store.vertexAt(slot) != null) {
+        this.collectOutgoing(slot, edges);
+      }
+    }
+    return Collections.unmodifiableSet(edges);
+  }
+
+  @Override
+  public int degreeOf(
+    final V vertex)
+  {
+    return this.inDegreeOf(vertex) + this.outDegreeOf(vertex);
+  }
+
+  @Override
+  public Set<E> edgesOf(
+    final V vertex)
+  {
+    final var slot = this.slotRequire(vertex);
+    final var edges = new LinkedHashSet<E>();
+    this.collectIncoming(slot, edges);
+    this.collectOutgoing(slot, edges);
+    return Collections.unmodifiableSet(edges);
+  }
+
+  @Override
+  public int inDegreeOf(
+    final V vertex)
+  {
+    final var slot = this.slotRequire(vertex);
+    return distinct(
+      this.store.incomingSlots(slot),
+      this.store.incomingSlotCount(slot)
+    );
+  }
+
+  @Override
+  public Set<E> incomingEdgesOf(
+    final V vertex)
+  {
+    final var slot = this.slotRequire(vertex);
+    final var edges = new LinkedHashSet<E>();
+    this.collectIncoming(slot, edges);
+    return Collections.unmodifiableSet(edges);
+  }
+
+  @Override
+  public int outDegreeOf(
+    final V vertex)
+  {
+    final var slot = this.slotRequire(vertex);
+    return distinct(
+      this.store.outgoingSlots(slot),
+      this.store.outgoingSlotCount(slot)
+    );
+  }
+
+  @Override
+  public Set<E> outgoingEdgesOf(
+    final V vertex)
+  {
+    final var slot = this.slotRequire(vertex);
+    final var edges = new LinkedHashSet<E>();
+    this.collectOutgoing(slot, edges);
+    return Collections.unmodifiableSet(edges);
+  }
+
+  @Override
+  public E removeEdge(
+    final V sourceVertex,
+    final V targetVertex)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean removeEdge(
+    final E e)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean removeVertex(
+    final V v)
+  {
+    throw readOnly();
+  }
+
+  @Override
+  public Set<V> vertexSet()
+  {
+    final var vertices = new LinkedHashSet<V>();
+    final var limit = this.store.slotLimit();
+    for (int slot = 0; slot < limit; ++slot) {
+      final var vertex = this.store.vertexAt(slot);
+      if (vertex != null) {
+        vertices.add(vertex);
+      }
+    }
+    return Collections.unmodifiableSet(vertices);
+  }
+
+  @Override
+  public V getEdgeSource(
+    final E e)
+  {
+    return this.descriptor.edgeSource(e);
+  }
+
+  @Override
+  public V getEdgeTarget(
+    final E e)
+  {
+    return this.descriptor.edgeTarget(e);
+  }
+
+  @Override
+  public GraphType getType()
+  {
+    return TYPE;
+  }
+
+  @Override
+  public double getEdgeWeight(
+    final E e)
+  {
+    return Graph.DEFAULT_EDGE_WEIGHT;
+  }
+
+  @Override
+  public void setEdgeWeight(
+    final E e,
+    final double weight)
+  {
+    throw readOnly();
+  }
+}
@@ -76,6 +76,18 @@ public abstract class JALHandle implements JAHandleType
     }
   }
 
+  /**
+   * Mark the handle as closed without calling {@link #closeActual()}. This
+   * is used when the underlying object has been deleted by other means.
+   *
+   * @return {@code true} if the handle was not already closed
+   */
+
+  final boolean markClosed()
+  {
+    return this.closed.compareAndSet(false, true);
+  }
+
   protected abstract Logger logger();
 
   protected abstract void closeActual()
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+/**
+ * An open-addressing map from OpenAL object names to integer slots. OpenAL
+ * never generates the name {@code 0}, and so {@code 0} marks empty entries.
+ */
+
+final class JALIntIndex
+{
+  private static final int EMPTY = 0;
+
+  private int[] keys;
+  private int[] values;
+  private int size;
+  private int mask;
+
+  JALIntIndex()
+  {
+    this.keys = new int[16];
+    this.values = new int[16];
+    this.mask = 15;
+  }
+
+  private static int hashOf(
+    final int key)
+  {
+    final var h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @param key The name
+   *
+   * @return The slot associated with the name, or {@code -1}
+   */
+
+  int get(
+    final int key)
+  {
+    if (key == EMPTY) {
+      return -1;
+    }
+
+    var index = hashOf(key) & this.mask;
+    while (true) {
+      final var k = this.keys[index];
+      if (k == key) {
+        return this.values[index];
+      }
+      if (k == EMPTY) {
+        return -1;
+      }
+      index = (index + 1) & this.mask;
+    }
+  }
+
+  /**
+   * Associate a slot with a name, replacing any existing association.
+   *
+   * @param key   The name
+   * @param value The slot
+   */
+
+  void put(
+    final int key,
+    final int value)
+  {
+    if (key == EMPTY) {
+      throw new IllegalArgumentException("Name 0 cannot be indexed.");
+    }
+
+    if ((this.size + 1) * 4 > this.keys.length * 3) {
+      this.grow();
+    }
+    if (this.insert(key, value)) {
+      ++this.size;
+    }
+  }
+
+  private boolean insert(
+    final int key,
+    final int value)
+  {
+    var index = hashOf(key) & this.mask;
+    while (true) {
+      final var k = this.keys[index];
+      if (k == EMPTY) {
+        this.keys[index] = key;
+        this.values[index] = value;
+        return true;
+      }
+      if (k == key) {
+        this.values[index] = value;
+        return false;
+      }
+      index = (index + 1) & this.mask;
+    }
+  }
+
+  private void grow()
+  {
+    final var oldKeys = this.keys;
+    final var oldValues = this.values;
+    final var capacity = oldKeys.length * 2;
+
+    this.keys = new int[capacity];
+    this.values = new int[capacity];
+    this.mask = capacity - 1;
+
+    for (int index = 0; index < oldKeys.length; ++index) {
+      if (oldKeys[index] != EMPTY) {
+        this.insert(oldKeys[index], oldValues[index]);
+      }
+    }
+  }
+
+  /**
+   * Remove the association for a name, if one exists.
+   *
+   * @param key The name
+   */
+
+  void remove(
+    final int key)
+  {
+    if (key == EMPTY) {
+      return;
+    }
+
+    var hole = hashOf(key) & this.mask;
+    while (this.keys[hole] != key) {
+      if (this.keys[hole] == EMPTY) {
+        return;
+      }
+      hole = (hole + 1) & this.mask;
+    }
+
+    /*
+     * Shift later entries of the same probe sequence back into the hole,
+     * rather than leaving tombstones behind.
+     */
+
+    this.keys[hole] = EMPTY;
+    --this.size;
+
+    var index = hole;
+    while (true) {
+      index = (index + 1) & this.mask;
+      final var k = this.keys[index];
+      if (k == EMPTY) {
+        return;
+      }
+
+      final var ideal = hashOf(k) & this.mask;
+      final var distanceHole = (hole - ideal) & this.mask;
+      final var distanceIndex = (index - ideal) & this.mask;
+      if (distanceHole < distanceIndex) {
+        this.keys[hole] = k;
+        this.values[hole] = this.values[index];
+        this.keys[index] = EMPTY;
+        hole = index;
+      }
+    }
+  }
+
+  /**
+   * @return The number of names in the index
+   */
+
+  int size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JALIntIndex ")
+      .append(this.size)
+      .append("]")
+      .toString();
+  }
+}
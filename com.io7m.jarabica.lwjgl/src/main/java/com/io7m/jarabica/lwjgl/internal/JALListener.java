@@ -24,6 +24,7 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import org.lwjgl.openal.AL10;
 import org.lwjgl.system.MemoryStack;
 
+import java.nio.FloatBuffer;
 import java.util.Objects;
 
 final class JALListener implements JAListenerType
@@ -67,22 +68,44 @@ final class JALListener implements JAListenerType
     }
   }
 
+  @Override
+  public void position(
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    this.getArray(AL10.AL_POSITION, output, offset, 3);
+  }
+
+  @Override
+  public void position(
+    final FloatBuffer output)
+    throws JAException
+  {
+    this.getBuffer(AL10.AL_POSITION, output, 3);
+  }
+
   @Override
   public void setPosition(
     final double x,
     final double y,
     final double z)
     throws JAException
+  {
+    this.setPosition((float) x, (float) y, (float) z);
+  }
+
+  @Override
+  public void setPosition(
+    final float x,
+    final float y,
+    final float z)
+    throws JAException
   {
     this.check();
 
-    AL10.alListener3f(
-      AL10.AL_POSITION,
-      (float) x,
-      (float) y,
-      (float) z
-    );
-    this.errorChecker.checkErrors("alListener3f");
+    AL10.alListener3f(AL10.AL_POSITION, x, y, z);
+    this.errorChecker.checkErrorsDeferrable("alListener3f");
   }
 
   @Override
@@ -103,22 +126,44 @@ final class JALListener implements JAListenerType
     }
   }
 
+  @Override
+  public void velocity(
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    this.getArray(AL10.AL_VELOCITY, output, offset, 3);
+  }
+
+  @Override
+  public void velocity(
+    final FloatBuffer output)
+    throws JAException
+  {
+    this.getBuffer(AL10.AL_VELOCITY, output, 3);
+  }
+
   @Override
   public void setVelocity(
     final double x,
     final double y,
     final double z)
     throws JAException
+  {
+    this.setVelocity((float) x, (float) y, (float) z);
+  }
+
+  @Override
+  public void setVelocity(
+    final float x,
+    final float y,
+    final float z)
+    throws JAException
   {
     this.check();
 
-    AL10.alListener3f(
-      AL10.AL_VELOCITY,
-      (float) x,
-      (float) y,
-      (float) z
-    );
-    this.errorChecker.checkErrors("alListener3f");
+    AL10.alListener3f(AL10.AL_VELOCITY, x, y, z);
+    this.errorChecker.checkErrorsDeferrable("alListener3f");
   }
 
   @Override
@@ -146,6 +191,23 @@ final class JALListener implements JAListenerType
     }
   }
 
+  @Override
+  public void orientation(
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    this.getArray(AL10.AL_ORIENTATION, output, offset, 6);
+  }
+
+  @Override
+  public void orientation(
+    final FloatBuffer output)
+    throws JAException
+  {
+    this.getBuffer(AL10.AL_ORIENTATION, output, 6);
+  }
+
   @Override
   public void setOrientation(
     final double forwardX,
@@ -155,20 +217,75 @@ final class JALListener implements JAListenerType
     final double upY,
     final double upZ)
     throws JAException
+  {
+    this.setOrientation(
+      (float) forwardX,
+      (float) forwardY,
+      (float) forwardZ,
+      (float) upX,
+      (float) upY,
+      (float) upZ
+    );
+  }
+
+  @Override
+  public void setOrientation(
+    final float forwardX,
+    final float forwardY,
+    final float forwardZ,
+    final float upX,
+    final float upY,
+    final float upZ)
+    throws JAException
   {
     this.check();
 
     try (var current = this.stack.push()) {
       final var buffer = current.mallocFloat(6);
-      buffer.put(0, (float) forwardX);
-      buffer.put(1, (float) forwardY);
-      buffer.put(2, (float) forwardZ);
-      buffer.put(3, (float) upX);
-      buffer.put(4, (float) upY);
-      buffer.put(5, (float) upZ);
+      buffer.put(0, forwardX);
+      buffer.put(1, forwardY);
+      buffer.put(2, forwardZ);
+      buffer.put(3, upX);
+      buffer.put(4, upY);
+      buffer.put(5, upZ);
 
       AL10.alListenerfv(AL10.AL_ORIENTATION, buffer);
-      this.errorChecker.checkErrors("alListenerfv");
+      this.errorChecker.checkErrorsDeferrable("alListenerfv");
+    }
+  }
+
+  private void getArray(
+    final int parameter,
+    final float[] output,
+    final int offset,
+    final int count)
+    throws JAException
+  {
+    Objects.checkFromIndexSize(offset, count, output.length);
+    this.check();
+
+    try (var current = this.stack.push()) {
+      final var buffer = current.mallocFloat(count);
+      AL10.alGetListenerfv(parameter, buffer);
+      this.errorChecker.checkErrors("alGetListenerfv");
+      buffer.get(0, output, offset, count);
+    }
+  }
+
+  private void getBuffer(
+    final int parameter,
+    final FloatBuffer output,
+    final int count)
+    throws JAException
+  {
+    Objects.checkFromIndexSize(output.position(), count, output.limit());
+    this.check();
+
+    try (var current = this.stack.push()) {
+      final var buffer = current.mallocFloat(count);
+      AL10.alGetListenerfv(parameter, buffer);
+      this.errorChecker.checkErrors("alGetListenerfv");
+      output.put(output.position(), buffer, 0, count);
     }
   }
 
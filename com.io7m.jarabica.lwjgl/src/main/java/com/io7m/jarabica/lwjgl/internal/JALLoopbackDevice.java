@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.api.JAChannelLayout;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JAExtensionConfigurationType;
+import com.io7m.jarabica.api.JALoopbackDeviceType;
+import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.api.JASampleType;
+import org.lwjgl.openal.ALC10;
+import org.lwjgl.openal.SOFTLoopback;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+
+/**
+ * An open loopback device.
+ */
+
+public final class JALLoopbackDevice implements JALoopbackDeviceType
+{
+  private final JALDevice device;
+  private final JALStrings strings;
+  private final int frequency;
+  private final JAChannelLayout channelLayout;
+  private final JASampleType sampleType;
+  private final int bytesPerFrame;
+  private boolean configured;
+
+  /**
+   * An open loopback device.
+   *
+   * @param inStrings       A string provider
+   * @param inErrorChecker  An error checker
+   * @param inHandle        The device handle
+   * @param inFrequency     The output frequency
+   * @param inChannelLayout The output channel layout
+   * @param inSampleType    The output sample type
+   */
+
+  public JALLoopbackDevice(
+    final JALStrings inStrings,
+    final JALErrorChecker inErrorChecker,
+    final long inHandle,
+    final int inFrequency,
+    final JAChannelLayout inChannelLayout,
+    final JASampleType inSampleType)
+  {
+    this.strings =
+      Objects.requireNonNull(inStrings, "inStrings");
+    this.channelLayout =
+      Objects.requireNonNull(inChannelLayout, "inChannelLayout");
+    this.sampleType =
+      Objects.requireNonNull(inSampleType, "inSampleType");
+    this.frequency =
+      inFrequency;
+    this.bytesPerFrame =
+      inChannelLayout.channels() * inSampleType.bytesPerSample();
+
+    /*
+     * Contexts on a loopback device must be told the output format
+     * explicitly, as there is no hardware from which to infer it.
+     */
+
+    this.device =
+      new JALDevice(
+        inStrings,
+        inErrorChecker,
+        inHandle,
+        new int[]{
+          SOFTLoopback.ALC_FORMAT_CHANNELS_SOFT,
+          channelsConstant(inChannelLayout),
+          SOFTLoopback.ALC_FORMAT_TYPE_SOFT,
+          sampleTypeConstant(inSampleType),
+          ALC10.ALC_FREQUENCY,
+          inFrequency,
+        }
+      );
+  }
+
+  /**
+   * @param channels The channel layout
+   *
+   * @return The OpenAL constant for the given channel layout
+   */
+
+  public static int channelsConstant(
+    final JAChannelLayout channels)
+  {
+    return switch (channels) {
+      case CHANNELS_MONO -> SOFTLoopback.ALC_MONO_SOFT;
+      case CHANNELS_STEREO -> SOFTLoopback.ALC_STEREO_SOFT;
+      case CHANNELS_QUAD -> SOFTLoopback.ALC_QUAD_SOFT;
+      case CHANNELS_5_1 -> SOFTLoopback.ALC_5POINT1_SOFT;
+      case CHANNELS_6_1 -> SOFTLoopback.ALC_6POINT1_SOFT;
+      case CHANNELS_7_1 -> SOFTLoopback.ALC_7POINT1_SOFT;
+    };
+  }
+
+  /**
+   * @param sampleType The sample type
+   *
+   * @return The OpenAL constant for the given sample type
+   */
+
+  public static int sampleTypeConstant(
+    final JASampleType sampleType)
+  {
+    return switch (sampleType) {
+      case SAMPLE_BYTE -> SOFTLoopback.ALC_BYTE_SOFT;
+      case SAMPLE_UNSIGNED_BYTE -> SOFTLoopback.ALC_UNSIGNED_BYTE_SOFT;
+      case SAMPLE_SHORT -> SOFTLoopback.ALC_SHORT_SOFT;
+      case SAMPLE_UNSIGNED_SHORT -> SOFTLoopback.ALC_UNSIGNED_SHORT_SOFT;
+      case SAMPLE_INT -> SOFTLoopback.ALC_INT_SOFT;
+      case SAMPLE_UNSIGNED_INT -> SOFTLoopback.ALC_UNSIGNED_INT_SOFT;
+      case SAMPLE_FLOAT -> SOFTLoopback.ALC_FLOAT_SOFT;
+    };
+  }
+
+  @Override
+  public int frequency()
+  {
+    return this.frequency;
+  }
+
+  @Override
+  public JAChannelLayout channelLayout()
+  {
+    return this.channelLayout;
+  }
+
+  @Override
+  public JASampleType sampleType()
+  {
+    return this.sampleType;
+  }
+
+  @Override
+  public int bytesPerFrame()
+  {
+    return this.bytesPerFrame;
+  }
+
+  @Override
+  public void render(
+    final ByteBuffer buffer,
+    final int frames)
+    throws JAException
+  {
+    Objects.requireNonNull(buffer, "buffer");
+
+    this.device.checkNotClosed();
+
+    /*
+     * The output format of a loopback device is only established when the
+     * first context is created. OpenAL Soft writes through an unconfigured
+     * mixer when asked to render before that point, corrupting the heap.
+     */
+
+    if (!this.configured) {
+      throw new JAMisuseException(
+        this.strings.format("errorLoopbackNoContext", this));
+    }
+
+    if (!buffer.isDirect()) {
+      throw new JAMisuseException(
+        this.strings.format("errorLoopbackBufferNotDirect", this));
+    }
+
+    final var size = (long) frames * (long) this.bytesPerFrame;
+    if (frames < 0 || size > buffer.remaining()) {
+      throw new JAMisuseException(
+        this.strings.format(
+          "errorLoopbackBufferSize",
+          this,
+          Integer.valueOf(frames),
+          Long.valueOf(size),
+          Integer.valueOf(buffer.remaining()))
+      );
+    }
+
+    SOFTLoopback.alcRenderSamplesSOFT(this.device.handle(), buffer, frames);
+    buffer.position(buffer.position() + (int) size);
+  }
+
+  @Override
+  public JAContextType createContext(
+    final List<JAExtensionConfigurationType> extensions)
+    throws JAException
+  {
+    final var context = this.device.createContext(extensions);
+    this.configured = true;
+    return context;
+  }
+
+  @Override
+  public SortedSet<String> extensions()
+    throws JAException
+  {
+    return this.device.extensions();
+  }
+
+  @Override
+  public int versionMajor()
+    throws JAException
+  {
+    return this.device.versionMajor();
+  }
+
+  @Override
+  public int versionMinor()
+    throws JAException
+  {
+    return this.device.versionMinor();
+  }
+
+  @Override
+  public boolean isDeviceClockSupported()
+    throws JAException
+  {
+    return this.device.isDeviceClockSupported();
+  }
+
+  @Override
+  public long clockNanos()
+    throws JAException
+  {
+    return this.device.clockNanos();
+  }
+
+  @Override
+  public long latencyNanos()
+    throws JAException
+  {
+    return this.device.latencyNanos();
+  }
+
+  @Override
+  public long handle()
+  {
+    return this.device.handle();
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    this.device.close();
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    return this.device.isClosed();
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JALLoopbackDevice 0x")
+      .append(Long.toUnsignedString(this.device.handle(), 16))
+      .append(' ')
+      .append(this.frequency)
+      .append(' ')
+      .append(this.channelLayout)
+      .append(' ')
+      .append(this.sampleType)
+      .append("]")
+      .toString();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Functions to register metrics with the platform MBean server. Failing to
+ * register metrics is logged, and is never fatal; the returned name is
+ * {@code null} in that case.
+ */
+
+final class JALMBeans
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JALMBeans.class);
+
+  private static final String DOMAIN = "com.io7m.jarabica";
+
+  private JALMBeans()
+  {
+
+  }
+
+  static ObjectName registerDevice(
+    final long device,
+    final JALDeviceMetrics metrics)
+  {
+    return register(
+      "%s:type=Device,device=%s".formatted(DOMAIN, hex(device)),
+      metrics
+    );
+  }
+
+  static ObjectName registerContext(
+    final long device,
+    final long context,
+    final JALMetrics metrics)
+  {
+    return register(
+      "%s:type=Context,device=%s,context=%s"
+        .formatted(DOMAIN, hex(device), hex(context)),
+      metrics
+    );
+  }
+
+  private static String hex(
+    final long handle)
+  {
+    return "0x" + Long.toUnsignedString(handle, 16);
+  }
+
+  private static ObjectName register(
+    final String name,
+    final Object metrics)
+  {
+    try {
+      final var objectName = new ObjectName(name);
+      ManagementFactory.getPlatformMBeanServer()
+        .registerMBean(metrics, objectName);
+      return objectName;
+    } catch (final JMException | SecurityException e) {
+      LOG.warn("failed to register metrics {}: ", name, e);
+      return null;
+    }
+  }
+
+  static void unregister(
+    final ObjectName name)
+  {
+    if (name == null) {
+      return;
+    }
+
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+        .unregisterMBean(name);
+    } catch (final JMException | SecurityException e) {
+      LOG.warn("failed to unregister metrics {}: ", name, e);
+    }
+  }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.lwjgl.JALWContextMetricsType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters for a single context. Counters are updated on the thread that
+ * owns the context, and read from arbitrary threads.
+ */
+
+public final class JALMetrics implements JALWContextMetricsType
+{
+  /**
+   * The window over which the rate of calls is measured.
+   */
+
+  private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+  /**
+   * The minimum time between samples of the call counter.
+   */
+
+  private static final long RATE_SAMPLE_NANOS = 100_000_000L;
+
+  /**
+   * The number of samples of the call counter that are kept. This must
+   * cover more than the window at the minimum time between samples.
+   */
+
+  private static final int RATE_SAMPLES = 16;
+
+  /**
+   * The number of calls made between samples taken by the calling thread.
+   */
+
+  private static final int RATE_SAMPLE_CALLS = 1024;
+
+  private final LongAdder sources;
+  private final LongAdder sourcesPlaying;
+  private final LongAdder buffers;
+  private final LongAdder effects;
+  private final LongAdder filters;
+  private final LongAdder effectsSlots;
+  private final LongAdder bytesUploaded;
+  private final LongAdder calls;
+  private final ConcurrentHashMap<String, LongAdder> errors;
+  private final long[] sampleTimes;
+  private final long[] sampleCalls;
+  private int sampleNewest;
+  private int sampleCount;
+  private int callsUnsampled;
+
+  /**
+   * The counters for a single context.
+   */
+
+  public JALMetrics()
+  {
+    this.sources = new LongAdder();
+    this.sourcesPlaying = new LongAdder();
+    this.buffers = new LongAdder();
+    this.effects = new LongAdder();
+    this.filters = new LongAdder();
+    this.effectsSlots = new LongAdder();
+    this.bytesUploaded = new LongAdder();
+    this.calls = new LongAdder();
+    this.errors = new ConcurrentHashMap<>();
+    this.sampleTimes = new long[RATE_SAMPLES];
+    this.sampleCalls = new long[RATE_SAMPLES];
+    this.sampleNewest = RATE_SAMPLES - 1;
+    this.sampleCount = 0;
+    this.sample(System.nanoTime());
+  }
+
+  void onCall()
+  {
+    this.calls.increment();
+
+    /*
+     * A thread making many calls samples the counter itself, so that the
+     * rate remains accurate for contexts that are never updated in batches
+     * and whose rate is rarely read.
+     */
+
+    if (++this.callsUnsampled >= RATE_SAMPLE_CALLS) {
+      this.callsUnsampled = 0;
+      this.sample(System.nanoTime());
+    }
+  }
+
+  /**
+   * Sample the call counter. The newest sample is replaced if the sample
+   * before it is too recent, so that older samples stay spread out.
+   *
+   * @param now The current time
+   */
+
+  synchronized void sample(
+    final long now)
+  {
+    final var previous =
+      (this.sampleNewest - 1 + RATE_SAMPLES) % RATE_SAMPLES;
+    if (this.sampleCount < 2
+        || now - this.sampleTimes[previous] >= RATE_SAMPLE_NANOS) {
+      this.sampleNewest = (this.sampleNewest + 1) % RATE_SAMPLES;
+      this.sampleCount = Math.min(this.sampleCount + 1, RATE_SAMPLES);
+    }
+
+    this.sampleTimes[this.sampleNewest] = now;
+    this.sampleCalls[this.sampleNewest] = this.calls.sum();
+  }
+
+  void onError(
+    final String function)
+  {
+    this.errors.computeIfAbsent(function, k -> new LongAdder())
+      .increment();
+  }
+
+  void onSourcesCreated(
+    final int count)
+  {
+    this.sources.add(count);
+  }
+
+  void onSourceDeleted(
+    final boolean playing)
+  {
+    this.sources.decrement();
+    if (playing) {
+      this.sourcesPlaying.decrement();
+    }
+  }
+
+  void onSourcePlayingChanged(
+    final boolean playing)
+  {
+    if (playing) {
+      this.sourcesPlaying.increment();
+    } else {
+      this.sourcesPlaying.decrement();
+    }
+  }
+
+  void onBuffersCreated(
+    final int count)
+  {
+    this.buffers.add(count);
+  }
+
+  void onBufferDeleted()
+  {
+    this.buffers.decrement();
+  }
+
+  void onBufferUploaded(
+    final int bytes)
+  {
+    this.bytesUploaded.add(bytes);
+  }
+
+  /**
+   * An EFX effect was created.
+   */
+
+  public void onEffectCreated()
+  {
+    this.effects.increment();
+  }
+
+  /**
+   * An EFX effect was deleted.
+   */
+
+  public void onEffectDeleted()
+  {
+    this.effects.decrement();
+  }
+
+  /**
+   * An EFX filter was created.
+   */
+
+  public void onFilterCreated()
+  {
+    this.filters.increment();
+  }
+
+  /**
+   * An EFX filter was deleted.
+   */
+
+  public void onFilterDeleted()
+  {
+    this.filters.decrement();
+  }
+
+  /**
+   * An EFX effect slot was created.
+   */
+
+  public void onEffectsSlotCreated()
+  {
+    this.effectsSlots.increment();
+  }
+
+  /**
+   * An EFX effect slot was deleted.
+   */
+
+  public void onEffectsSlotDeleted()
+  {
+    this.effectsSlots.decrement();
+  }
+
+  @Override
+  public long getSources()
+  {
+    return this.sources.sum();
+  }
+
+  @Override
+  public long getSourcesPlaying()
+  {
+    return this.sourcesPlaying.sum();
+  }
+
+  @Override
+  public long getSourcesStopped()
+  {
+    return this.getSources() - this.getSourcesPlaying();
+  }
+
+  @Override
+  public long getBuffers()
+  {
+    return this.buffers.sum();
+  }
+
+  @Override
+  public long getEffects()
+  {
+    return this.effects.sum();
+  }
+
+  @Override
+  public long getFilters()
+  {
+    return this.filters.sum();
+  }
+
+  @Override
+  public long getEffectsSlots()
+  {
+    return this.effectsSlots.sum();
+  }
+
+  @Override
+  public long getBytesUploaded()
+  {
+    return this.bytesUploaded.sum();
+  }
+
+  @Override
+  public long getCalls()
+  {
+    return this.calls.sum();
+  }
+
+  @Override
+  public synchronized double getCallsPerSecond()
+  {
+    /*
+     * The rate is measured from the newest sample that is at least one
+     * window old, so that it covers the last second rather than the time
+     * since the rate was last read. Until a sample that old exists, the
+     * rate is measured from the oldest sample.
+     */
+
+    final var now = System.nanoTime();
+    final var total = this.calls.sum();
+    this.sample(now);
+
+    var base = (this.sampleNewest - this.sampleCount + 1 + RATE_SAMPLES)
+               % RATE_SAMPLES;
+    for (int age = 0; age < this.sampleCount; ++age) {
+      final var index =
+        (this.sampleNewest - age + RATE_SAMPLES) % RATE_SAMPLES;
+      if (now - this.sampleTimes[index] >= RATE_WINDOW_NANOS) {
+        base = index;
+        break;
+      }
+    }
+
+    final var elapsed = now - this.sampleTimes[base];
+    if (elapsed <= 0L) {
+      return 0.0;
+    }
+    final var count = total - this.sampleCalls[base];
+    return (double) count * 1.0e9 / (double) elapsed;
+  }
+
+  @Override
+  public Map<String, Long> getErrors()
+  {
+    final var result = new TreeMap<String, Long>();
+    this.errors.forEach((name, count) -> {
+      result.put(name, Long.valueOf(count.sum()));
+    });
+    return result;
+  }
+}
@@ -21,12 +21,17 @@ import com.io7m.jarabica.api.JABufferType;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.api.JASourceState;
 import com.io7m.jarabica.api.JASourceType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventSourceDelete;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
 import org.lwjgl.openal.AL10;
+import org.lwjgl.openal.AL11;
+import org.lwjgl.openal.SOFTSourceLatency;
+import org.lwjgl.openal.SOFTSourceStartDelay;
 import org.lwjgl.system.MemoryStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.FloatBuffer;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -49,6 +54,7 @@ public final class JALSource extends JALHandle implements JASourceType
   private final JALStrings strings;
   private final JALErrorChecker errorChecker;
   private final int sourceHandle;
+  private boolean playingObserved;
 
   JALSource(
     final JALContext inContext,
@@ -92,11 +98,42 @@ public final class JALSource extends JALHandle implements JASourceType
   protected void closeActual()
     throws JAException
   {
+    final var event = JALEventSourceDelete.start();
     AL10.alDeleteSources(this.sourceHandle);
     this.errorChecker.checkErrors("alDeleteSources");
+    event.finish(this.context.handle(), 1);
     this.context.onSourceDeleted(this);
   }
 
+  JALContext context()
+  {
+    return this.context;
+  }
+
+  /*
+   * The last observed playing state is tracked so that the context metrics
+   * can count playing sources without querying OpenAL.
+   */
+
+  void observePlaying(
+    final boolean playing)
+  {
+    if (this.playingObserved != playing) {
+      this.playingObserved = playing;
+      this.context.onSourcePlayingChanged(this, playing);
+    }
+  }
+
+  boolean isPlayingObserved()
+  {
+    return this.playingObserved;
+  }
+
+  int name()
+  {
+    return this.sourceHandle;
+  }
+
   @Override
   public String toString()
   {
@@ -130,23 +167,45 @@ public final class JALSource extends JALHandle implements JASourceType
     }
   }
 
+  @Override
+  public void position(
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    this.getArray(AL10.AL_POSITION, output, offset);
+  }
+
+  @Override
+  public void position(
+    final FloatBuffer output)
+    throws JAException
+  {
+    this.getBuffer(AL10.AL_POSITION, output);
+  }
+
   @Override
   public void setPosition(
     final double x,
     final double y,
     final double z)
     throws JAException
+  {
+    this.setPosition((float) x, (float) y, (float) z);
+  }
+
+  @Override
+  public void setPosition(
+    final float x,
+    final float y,
+    final float z)
+    throws JAException
   {
     this.check();
 
-    AL10.alSource3f(
-      this.sourceHandle,
-      AL10.AL_POSITION,
-      (float) x,
-      (float) y,
-      (float) z
-    );
-    this.errorChecker.checkErrors("alSource3f");
+    AL10.alSource3f(this.sourceHandle, AL10.AL_POSITION, x, y, z);
+    this.errorChecker.checkErrorsDeferrable("alSource3f");
+    this.context.onSourceMoved(this, x, y, z);
   }
 
   @Override
@@ -172,23 +231,44 @@ public final class JALSource extends JALHandle implements JASourceType
     }
   }
 
+  @Override
+  public void velocity(
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    this.getArray(AL10.AL_VELOCITY, output, offset);
+  }
+
+  @Override
+  public void velocity(
+    final FloatBuffer output)
+    throws JAException
+  {
+    this.getBuffer(AL10.AL_VELOCITY, output);
+  }
+
   @Override
   public void setVelocity(
     final double x,
     final double y,
     final double z)
     throws JAException
+  {
+    this.setVelocity((float) x, (float) y, (float) z);
+  }
+
+  @Override
+  public void setVelocity(
+    final float x,
+    final float y,
+    final float z)
+    throws JAException
   {
     this.check();
 
-    AL10.alSource3f(
-      this.sourceHandle,
-      AL10.AL_VELOCITY,
-      (float) x,
-      (float) y,
-      (float) z
-    );
-    this.errorChecker.checkErrors("alSource3f");
+    AL10.alSource3f(this.sourceHandle, AL10.AL_VELOCITY, x, y, z);
+    this.errorChecker.checkErrorsDeferrable("alSource3f");
   }
 
   @Override
@@ -197,7 +277,21 @@ public final class JALSource extends JALHandle implements JASourceType
   {
     this.check();
     AL10.alSourcePlay(this.sourceHandle);
-    this.errorChecker.checkErrors("alSourcePlay");
+    this.errorChecker.checkErrorsDeferrable("alSourcePlay");
+    this.observePlaying(true);
+  }
+
+  @Override
+  public void playAt(
+    final long deviceTimeNanos)
+    throws JAException
+  {
+    this.check();
+    this.context.checkScheduledPlayback();
+    SOFTSourceStartDelay.alSourcePlayAtTimeSOFT(
+      this.sourceHandle, deviceTimeNanos);
+    this.errorChecker.checkErrorsDeferrable("alSourcePlayAtTimeSOFT");
+    this.observePlaying(true);
   }
 
   @Override
@@ -206,7 +300,8 @@ public final class JALSource extends JALHandle implements JASourceType
   {
     this.check();
     AL10.alSourcePause(this.sourceHandle);
-    this.errorChecker.checkErrors("alSourcePause");
+    this.errorChecker.checkErrorsDeferrable("alSourcePause");
+    this.observePlaying(false);
   }
 
   @Override
@@ -215,7 +310,8 @@ public final class JALSource extends JALHandle implements JASourceType
   {
     this.check();
     AL10.alSourceRewind(this.sourceHandle);
-    this.errorChecker.checkErrors("alSourceRewind");
+    this.errorChecker.checkErrorsDeferrable("alSourceRewind");
+    this.observePlaying(false);
   }
 
   @Override
@@ -224,7 +320,8 @@ public final class JALSource extends JALHandle implements JASourceType
   {
     this.check();
     AL10.alSourceStop(this.sourceHandle);
-    this.errorChecker.checkErrors("alSourceStop");
+    this.errorChecker.checkErrorsDeferrable("alSourceStop");
+    this.observePlaying(false);
   }
 
   @Override
@@ -253,6 +350,65 @@ public final class JALSource extends JALHandle implements JASourceType
     this.context.onSourceUnsetBuffer(this);
   }
 
+  @Override
+  public void queueBuffer(
+    final JABufferType buffer)
+    throws JAException
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    this.check();
+
+    final var jalBuffer = (JALBuffer) buffer;
+    jalBuffer.check();
+
+    AL10.alSourceQueueBuffers(this.sourceHandle, (int) jalBuffer.handle());
+    this.errorChecker.checkErrors("alSourceQueueBuffers");
+    this.context.onSourceQueueBuffer(this, jalBuffer);
+  }
+
+  @Override
+  public JABufferType unqueueBuffer()
+    throws JAException
+  {
+    this.check();
+
+    final var name = AL10.alSourceUnqueueBuffers(this.sourceHandle);
+    this.errorChecker.checkErrors("alSourceUnqueueBuffers");
+
+    final var removed = this.context.onSourceUnqueueBuffer(this, name);
+    if (removed == null) {
+      throw new IllegalStateException(
+        "Unqueued buffer %d was not queued on %s".formatted(
+          Integer.valueOf(name), this)
+      );
+    }
+    return removed;
+  }
+
+  @Override
+  public int buffersQueued()
+    throws JAException
+  {
+    this.check();
+
+    final var r =
+      AL10.alGetSourcei(this.sourceHandle, AL10.AL_BUFFERS_QUEUED);
+    this.errorChecker.checkErrors("alGetSourcei");
+    return r;
+  }
+
+  @Override
+  public int buffersProcessed()
+    throws JAException
+  {
+    this.check();
+
+    final var r =
+      AL10.alGetSourcei(this.sourceHandle, AL10.AL_BUFFERS_PROCESSED);
+    this.errorChecker.checkErrors("alGetSourcei");
+    return r;
+  }
+
   @Override
   public Optional<JABufferType> buffer()
   {
@@ -269,7 +425,10 @@ public final class JALSource extends JALHandle implements JASourceType
       final var buffer = current.mallocInt(1);
       AL10.alGetSourcei(this.sourceHandle, AL10.AL_SOURCE_STATE, buffer);
       this.errorChecker.checkErrors("alGetSourcei");
-      return toSourceState(buffer.get(0));
+
+      final var state = toSourceState(buffer.get(0));
+      this.observePlaying(state == SOURCE_STATE_PLAYING);
+      return state;
     }
   }
 
@@ -291,15 +450,19 @@ public final class JALSource extends JALHandle implements JASourceType
   public void setGain(
     final double m)
     throws JAException
+  {
+    this.setGain((float) m);
+  }
+
+  @Override
+  public void setGain(
+    final float m)
+    throws JAException
   {
     this.check();
 
-    AL10.alSourcef(
-      this.sourceHandle,
-      AL10.AL_GAIN,
-      (float) m
-    );
-    this.errorChecker.checkErrors("alSourcef");
+    AL10.alSourcef(this.sourceHandle, AL10.AL_GAIN, m);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
   }
 
   @Override
@@ -318,15 +481,118 @@ public final class JALSource extends JALHandle implements JASourceType
   public void setPitch(
     final double m)
     throws JAException
+  {
+    this.setPitch((float) m);
+  }
+
+  @Override
+  public void setPitch(
+    final float m)
+    throws JAException
+  {
+    this.check();
+
+    AL10.alSourcef(this.sourceHandle, AL10.AL_PITCH, m);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
+  }
+
+  @Override
+  public double referenceDistance()
+    throws JAException
+  {
+    this.check();
+
+    final var r = AL10.alGetSourcef(
+      this.sourceHandle,
+      AL10.AL_REFERENCE_DISTANCE
+    );
+    this.errorChecker.checkErrors("alGetSourcef");
+    return r;
+  }
+
+  @Override
+  public void setReferenceDistance(
+    final double d)
+    throws JAException
+  {
+    this.setReferenceDistance((float) d);
+  }
+
+  @Override
+  public void setReferenceDistance(
+    final float d)
+    throws JAException
   {
     this.check();
 
-    AL10.alSourcef(
+    AL10.alSourcef(this.sourceHandle, AL10.AL_REFERENCE_DISTANCE, d);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
+  }
+
+  @Override
+  public double maxDistance()
+    throws JAException
+  {
+    this.check();
+
+    final var r = AL10.alGetSourcef(
       this.sourceHandle,
-      AL10.AL_PITCH,
-      (float) m
+      AL10.AL_MAX_DISTANCE
     );
-    this.errorChecker.checkErrors("alSourcef");
+    this.errorChecker.checkErrors("alGetSourcef");
+    return r;
+  }
+
+  @Override
+  public void setMaxDistance(
+    final double d)
+    throws JAException
+  {
+    this.setMaxDistance((float) d);
+  }
+
+  @Override
+  public void setMaxDistance(
+    final float d)
+    throws JAException
+  {
+    this.check();
+
+    AL10.alSourcef(this.sourceHandle, AL10.AL_MAX_DISTANCE, d);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
+  }
+
+  @Override
+  public double rolloffFactor()
+    throws JAException
+  {
+    this.check();
+
+    final var r = AL10.alGetSourcef(
+      this.sourceHandle,
+      AL10.AL_ROLLOFF_FACTOR
+    );
+    this.errorChecker.checkErrors("alGetSourcef");
+    return r;
+  }
+
+  @Override
+  public void setRolloffFactor(
+    final double d)
+    throws JAException
+  {
+    this.setRolloffFactor((float) d);
+  }
+
+  @Override
+  public void setRolloffFactor(
+    final float d)
+    throws JAException
+  {
+    this.check();
+
+    AL10.alSourcef(this.sourceHandle, AL10.AL_ROLLOFF_FACTOR, d);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
   }
 
   @Override
@@ -341,7 +607,7 @@ public final class JALSource extends JALHandle implements JASourceType
       AL10.AL_LOOPING,
       looping ? AL10.AL_TRUE : AL10.AL_FALSE
     );
-    this.errorChecker.checkErrors("alSourcei");
+    this.errorChecker.checkErrorsDeferrable("alSourcei");
   }
 
   @Override
@@ -353,6 +619,134 @@ public final class JALSource extends JALHandle implements JASourceType
     return i == AL10.AL_TRUE;
   }
 
+  @Override
+  public double offsetSeconds()
+    throws JAException
+  {
+    this.check();
+
+    /*
+     * The double-precision query avoids losing sub-millisecond precision
+     * in long buffers.
+     */
+
+    if (this.context.isSourceLatencySupported()) {
+      final var r =
+        SOFTSourceLatency.alGetSourcedSOFT(
+          this.sourceHandle, AL11.AL_SEC_OFFSET);
+      this.errorChecker.checkErrors("alGetSourcedSOFT");
+      return r;
+    }
+
+    final var r = AL10.alGetSourcef(this.sourceHandle, AL11.AL_SEC_OFFSET);
+    this.errorChecker.checkErrors("alGetSourcef");
+    return r;
+  }
+
+  @Override
+  public void setOffsetSeconds(
+    final double seconds)
+    throws JAException
+  {
+    this.check();
+
+    if (this.context.isSourceLatencySupported()) {
+      SOFTSourceLatency.alSourcedSOFT(
+        this.sourceHandle, AL11.AL_SEC_OFFSET, seconds);
+      this.errorChecker.checkErrorsDeferrable("alSourcedSOFT");
+      return;
+    }
+
+    AL10.alSourcef(this.sourceHandle, AL11.AL_SEC_OFFSET, (float) seconds);
+    this.errorChecker.checkErrorsDeferrable("alSourcef");
+  }
+
+  @Override
+  public int offsetSamples()
+    throws JAException
+  {
+    this.check();
+
+    final var r = AL10.alGetSourcei(this.sourceHandle, AL11.AL_SAMPLE_OFFSET);
+    this.errorChecker.checkErrors("alGetSourcei");
+    return r;
+  }
+
+  @Override
+  public void setOffsetSamples(
+    final int samples)
+    throws JAException
+  {
+    this.check();
+
+    AL10.alSourcei(this.sourceHandle, AL11.AL_SAMPLE_OFFSET, samples);
+    this.errorChecker.checkErrorsDeferrable("alSourcei");
+  }
+
+  @Override
+  public void offsetLatency(
+    final long[] output,
+    final int offset)
+    throws JAException
+  {
+    Objects.checkFromIndexSize(offset, 2, output.length);
+    this.check();
+
+    if (!this.context.isSourceLatencySupported()) {
+      final var samples =
+        AL10.alGetSourcei(this.sourceHandle, AL11.AL_SAMPLE_OFFSET);
+      this.errorChecker.checkErrors("alGetSourcei");
+      output[offset] = (long) samples << 32;
+      output[offset + 1] = 0L;
+      return;
+    }
+
+    try (var current = this.stack.push()) {
+      final var buffer = current.mallocLong(2);
+      SOFTSourceLatency.alGetSourcei64vSOFT(
+        this.sourceHandle,
+        SOFTSourceLatency.AL_SAMPLE_OFFSET_LATENCY_SOFT,
+        buffer
+      );
+      this.errorChecker.checkErrors("alGetSourcei64vSOFT");
+      output[offset] = buffer.get(0);
+      output[offset + 1] = buffer.get(1);
+    }
+  }
+
+  private void getArray(
+    final int parameter,
+    final float[] output,
+    final int offset)
+    throws JAException
+  {
+    Objects.checkFromIndexSize(offset, 3, output.length);
+    this.check();
+
+    try (var current = this.stack.push()) {
+      final var buffer = current.mallocFloat(3);
+      AL10.alGetSourcefv(this.sourceHandle, parameter, buffer);
+      this.errorChecker.checkErrors("alGetSourcefv");
+      buffer.get(0, output, offset, 3);
+    }
+  }
+
+  private void getBuffer(
+    final int parameter,
+    final FloatBuffer output)
+    throws JAException
+  {
+    Objects.checkFromIndexSize(output.position(), 3, output.limit());
+    this.check();
+
+    try (var current = this.stack.push()) {
+      final var buffer = current.mallocFloat(3);
+      AL10.alGetSourcefv(this.sourceHandle, parameter, buffer);
+      this.errorChecker.checkErrors("alGetSourcefv");
+      output.put(output.position(), buffer, 0, 3);
+    }
+  }
+
   private void check()
     throws JAException
   {
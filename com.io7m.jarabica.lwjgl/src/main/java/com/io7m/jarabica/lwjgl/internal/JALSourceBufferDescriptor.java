@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JASourceBufferLink;
+import com.io7m.jarabica.api.JASourceOrBufferType;
+import com.io7m.jarabica.api.JASourceType;
+
+/**
+ * The descriptor of the graph of sources and buffers. Edges run from
+ * buffers to the sources that use them.
+ */
+
+final class JALSourceBufferDescriptor
+  implements JALGraphStoreDescriptorType<JASourceOrBufferType, JASourceBufferLink>
+{
+  static final int KIND_SOURCE = 0;
+  static final int KIND_BUFFER = 1;
+
+  JALSourceBufferDescriptor()
+  {
+
+  }
+
+  @Override
+  public int kinds()
+  {
+    return 2;
+  }
+
+  @Override
+  public int kindOf(
+    final JASourceOrBufferType vertex)
+  {
+    return switch (vertex) {
+      case final JASourceType s -> KIND_SOURCE;
+      case final JABufferType b -> KIND_BUFFER;
+    };
+  }
+
+  @Override
+  public int nameOf(
+    final JASourceOrBufferType vertex)
+  {
+    return switch (vertex) {
+      case final JASourceType s -> (int) s.handle();
+      case final JABufferType b -> (int) b.handle();
+    };
+  }
+
+  @Override
+  public JASourceBufferLink edgeOf(
+    final JASourceOrBufferType source,
+    final JASourceOrBufferType target)
+  {
+    return new JASourceBufferLink((JABufferType) source, (JASourceType) target);
+  }
+
+  @Override
+  public JASourceOrBufferType edgeSource(
+    final JASourceBufferLink edge)
+  {
+    return edge.buffer();
+  }
+
+  @Override
+  public JASourceOrBufferType edgeTarget(
+    final JASourceBufferLink edge)
+  {
+    return edge.source();
+  }
+}
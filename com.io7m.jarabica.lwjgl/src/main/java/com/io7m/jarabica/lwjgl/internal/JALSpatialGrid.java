@@ -0,0 +1,991 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.api.JASpatialQueryType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A spatial index that sorts objects into the cells of a uniform grid.
+ * Only occupied cells are stored, so the grid is unbounded and costs memory
+ * proportional to the number of objects. Moving an object within a cell
+ * only updates its stored position.</p>
+ *
+ * <p>The positions of all objects are also held in a single dense array.
+ * Nearest-neighbour queries search shells of cells outwards from the query
+ * point, but when the objects are sparse relative to the cell size, so that
+ * the shells needed to find enough neighbours would cost more cell lookups
+ * than simply measuring the distance to every object, the dense array is
+ * scanned instead. A query is therefore never much slower than a linear
+ * scan, however badly the cell size suits the data.</p>
+ *
+ * <p>The cell size should be on the order of the typical query radius. Cell
+ * coordinates are clamped to the range {@code [-2^20, 2^20)}, so objects
+ * further than {@code 2^20} cells from the origin share the outermost
+ * cells.</p>
+ *
+ * <p>Objects are compared by identity, not by {@code equals()}. Grids are
+ * not thread-safe.</p>
+ *
+ * @param <T> The type of objects
+ */
+
+public final class JALSpatialGrid<T> implements JASpatialQueryType<T>
+{
+  private static final int COORD_BITS = 21;
+  private static final int COORD_OFFSET = 1 << (COORD_BITS - 1);
+
+  /**
+   * The approximate cost of looking up a cell, relative to the cost of
+   * measuring the distance to one object in the dense array.
+   */
+
+  private static final long LOOKUP_COST = 8L;
+
+  private double cellSize;
+  private double cellScale;
+  private final IdentityHashMap<T, Slot<T>> slots;
+  private final CellMap<T> cells;
+  private final View<T> view;
+  private Slot<T>[] dense;
+  private double[] densePositions;
+  private int denseCount;
+
+  private double queryMinX;
+  private double queryMinY;
+  private double queryMinZ;
+  private double queryMaxX;
+  private double queryMaxY;
+  private double queryMaxZ;
+  private double queryX;
+  private double queryY;
+  private double queryZ;
+  private double queryRadiusSquared;
+  private boolean querySphere;
+
+  private double[] bestDistances;
+  private Object[] bestItems;
+  private int bestFound;
+  private int bestWanted;
+  private double bestLimit;
+
+  /**
+   * Create an empty grid.
+   *
+   * @param inCellSize The size of the cells along each axis
+   */
+
+  public JALSpatialGrid(
+    final double inCellSize)
+  {
+    this.cellSize = checkCellSize(inCellSize);
+    this.cellScale = 1.0 / inCellSize;
+    this.slots = new IdentityHashMap<>();
+    this.cells = new CellMap<>();
+    this.view = new View<>(this);
+    this.bestDistances = new double[16];
+    this.bestItems = new Object[16];
+    this.allocateDense(16);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void allocateDense(
+    final int capacity)
+  {
+    this.dense = (Slot<T>[]) new Slot[capacity];
+    this.densePositions = new double[capacity * 3];
+    this.denseCount = 0;
+  }
+
+  private static double checkCellSize(
+    final double cellSize)
+  {
+    if (!(cellSize > 0.0) || Double.isInfinite(cellSize)) {
+      throw new IllegalArgumentException(
+        "Cell size %f must be positive and finite".formatted(
+          Double.valueOf(cellSize))
+      );
+    }
+    return cellSize;
+  }
+
+  private static long keyOf(
+    final int cx,
+    final int cy,
+    final int cz)
+  {
+    return ((long) (cx + COORD_OFFSET) << (COORD_BITS * 2))
+           | ((long) (cy + COORD_OFFSET) << COORD_BITS)
+           | (long) (cz + COORD_OFFSET);
+  }
+
+  private static long shellCells(
+    final int r)
+  {
+    if (r == 0) {
+      return 1L;
+    }
+    final var outer = 2L * r + 1L;
+    final var inner = 2L * r - 1L;
+    return (outer * outer * outer) - (inner * inner * inner);
+  }
+
+  /**
+   * @return The size of the cells along each axis
+   */
+
+  public double cellSize()
+  {
+    return this.cellSize;
+  }
+
+  /**
+   * Change the size of the cells, and sort every object in the grid into
+   * the new cells.
+   *
+   * @param inCellSize The size of the cells along each axis
+   */
+
+  public void setCellSize(
+    final double inCellSize)
+  {
+    checkCellSize(inCellSize);
+    if (inCellSize == this.cellSize) {
+      return;
+    }
+
+    final var items = new ArrayList<T>(this.denseCount);
+    for (int index = 0; index < this.denseCount; ++index) {
+      items.add(this.dense[index].item);
+    }
+    final var positions =
+      Arrays.copyOf(this.densePositions, this.denseCount * 3);
+
+    this.clear();
+    this.cellSize = inCellSize;
+    this.cellScale = 1.0 / inCellSize;
+
+    for (int index = 0; index < items.size(); ++index) {
+      final var base = index * 3;
+      this.put(
+        items.get(index),
+        positions[base],
+        positions[base + 1],
+        positions[base + 2]
+      );
+    }
+  }
+
+  /**
+   * @return A read-only view of the grid
+   */
+
+  public JASpatialQueryType<T> view()
+  {
+    return this.view;
+  }
+
+  /**
+   * @param item The object
+   *
+   * @return {@code true} if the object is in the grid
+   */
+
+  public boolean contains(
+    final T item)
+  {
+    return this.slots.containsKey(item);
+  }
+
+  /**
+   * Insert an object into the grid, or move an object already in the grid.
+   *
+   * @param item The object
+   * @param x    The x coordinate
+   * @param y    The y coordinate
+   * @param z    The z coordinate
+   */
+
+  public void put(
+    final T item,
+    final double x,
+    final double y,
+    final double z)
+  {
+    Objects.requireNonNull(item, "item");
+
+    var slot = this.slots.get(item);
+    if (slot == null) {
+      slot = new Slot<>(item);
+      this.slots.put(item, slot);
+      this.addDense(slot);
+    }
+
+    final var base = slot.denseIndex * 3;
+    this.densePositions[base] = x;
+    this.densePositions[base + 1] = y;
+    this.densePositions[base + 2] = z;
+
+    final var cx = this.coordinate(x);
+    final var cy = this.coordinate(y);
+    final var cz = this.coordinate(z);
+    final var current = slot.cell;
+    if (current != null) {
+      if (current.cx == cx && current.cy == cy && current.cz == cz) {
+        current.move(slot.index, x, y, z);
+        return;
+      }
+      this.detach(slot);
+    }
+
+    final var key = keyOf(cx, cy, cz);
+    var cell = this.cells.get(key);
+    if (cell == null) {
+      cell = new Cell<>(key, cx, cy, cz);
+      this.cells.put(key, cell);
+    }
+    cell.add(slot, x, y, z);
+  }
+
+  /**
+   * Remove an object from the grid.
+   *
+   * @param item The object
+   *
+   * @return {@code true} if the object was in the grid
+   */
+
+  public boolean remove(
+    final T item)
+  {
+    final var slot = this.slots.remove(item);
+    if (slot == null) {
+      return false;
+    }
+    this.detach(slot);
+    this.removeDense(slot);
+    return true;
+  }
+
+  private void addDense(
+    final Slot<T> slot)
+  {
+    if (this.denseCount == this.dense.length) {
+      final var capacity = this.denseCount * 2;
+      this.dense = Arrays.copyOf(this.dense, capacity);
+      this.densePositions = Arrays.copyOf(this.densePositions, capacity * 3);
+    }
+    slot.denseIndex = this.denseCount;
+    this.dense[this.denseCount] = slot;
+    ++this.denseCount;
+  }
+
+  private void removeDense(
+    final Slot<T> slot)
+  {
+    --this.denseCount;
+    final var last = this.dense[this.denseCount];
+    final var index = slot.denseIndex;
+    this.dense[index] = last;
+    last.denseIndex = index;
+    System.arraycopy(
+      this.densePositions,
+      this.denseCount * 3,
+      this.densePositions,
+      index * 3,
+      3
+    );
+    this.dense[this.denseCount] = null;
+  }
+
+  /**
+   * Remove all objects from the grid.
+   */
+
+  public void clear()
+  {
+    this.slots.clear();
+    this.cells.clear();
+    this.allocateDense(16);
+  }
+
+  @Override
+  public int size()
+  {
+    return this.slots.size();
+  }
+
+  @Override
+  public int nearest(
+    final double x,
+    final double y,
+    final double z,
+    final int count,
+    final List<? super T> output)
+  {
+    Objects.requireNonNull(output, "output");
+
+    final var size = this.slots.size();
+    if (count <= 0 || size == 0) {
+      return 0;
+    }
+
+    this.beginNearest(Math.min(count, size), x, y, z);
+
+    final var cx = this.coordinate(x);
+    final var cy = this.coordinate(y);
+    final var cz = this.coordinate(z);
+    final var wanted = this.bestWanted;
+
+    /*
+     * Shells of cells are searched outwards from the cell containing the
+     * point. Every object outside the shells searched so far is at least as
+     * far away as the nearest face of the searched block of cells, so the
+     * search stops once the k-th best distance is within that bound.
+     *
+     * The density of the shells searched so far predicts how many lookups
+     * are needed to find enough objects (twice as many, allowing for the
+     * block of cells having to contain the sphere of the k-th distance). As
+     * soon as the predicted lookups, or the lookups for the next shell,
+     * would cost more than measuring the distance to every object, the
+     * dense array is scanned instead.
+     */
+
+    var visited = 0;
+    var lookups = 0L;
+    for (int r = 0; visited < size; ++r) {
+      lookups += shellCells(r);
+      if (lookups * LOOKUP_COST > size) {
+        this.scanDense();
+        break;
+      }
+
+      visited += this.scanShell(cx, cy, cz, r);
+      if (this.bestFound == wanted) {
+        final var reach = this.reach(cx, cy, cz, r);
+        if (this.bestDistances[wanted - 1] <= reach * reach) {
+          break;
+        }
+      } else {
+        final var predicted = (lookups * wanted * 2L) / Math.max(1, visited);
+        if (predicted * LOOKUP_COST > size) {
+          this.scanDense();
+          break;
+        }
+      }
+    }
+
+    return this.endNearest(output);
+  }
+
+  @Override
+  public int withinRadius(
+    final double x,
+    final double y,
+    final double z,
+    final double radius,
+    final List<? super T> output)
+  {
+    Objects.requireNonNull(output, "output");
+
+    if (!(radius >= 0.0)) {
+      return 0;
+    }
+
+    this.queryMinX = x - radius;
+    this.queryMinY = y - radius;
+    this.queryMinZ = z - radius;
+    this.queryMaxX = x + radius;
+    this.queryMaxY = y + radius;
+    this.queryMaxZ = z + radius;
+    this.queryX = x;
+    this.queryY = y;
+    this.queryZ = z;
+    this.queryRadiusSquared = radius * radius;
+    this.querySphere = true;
+    return this.scanBox(output);
+  }
+
+  @Override
+  public int withinBox(
+    final double minX,
+    final double minY,
+    final double minZ,
+    final double maxX,
+    final double maxY,
+    final double maxZ,
+    final List<? super T> output)
+  {
+    Objects.requireNonNull(output, "output");
+
+    this.queryMinX = minX;
+    this.queryMinY = minY;
+    this.queryMinZ = minZ;
+    this.queryMaxX = maxX;
+    this.queryMaxY = maxY;
+    this.queryMaxZ = maxZ;
+    this.querySphere = false;
+    return this.scanBox(output);
+  }
+
+  private int coordinate(
+    final double value)
+  {
+    final var cell = Math.floor(value * this.cellScale);
+    return (int) Math.max(-COORD_OFFSET, Math.min(COORD_OFFSET - 1, cell));
+  }
+
+  private void detach(
+    final Slot<T> slot)
+  {
+    final var cell = slot.cell;
+    cell.remove(slot);
+    if (cell.count == 0) {
+      this.cells.remove(cell.key);
+    }
+  }
+
+  private int scanBox(
+    final List<? super T> output)
+  {
+    final var x0 = this.coordinate(this.queryMinX);
+    final var y0 = this.coordinate(this.queryMinY);
+    final var z0 = this.coordinate(this.queryMinZ);
+    final var x1 = this.coordinate(this.queryMaxX);
+    final var y1 = this.coordinate(this.queryMaxY);
+    final var z1 = this.coordinate(this.queryMaxZ);
+    if (x1 < x0 || y1 < y0 || z1 < z0) {
+      return 0;
+    }
+
+    final var volume =
+      (long) (x1 - x0 + 1) * (long) (y1 - y0 + 1) * (long) (z1 - z0 + 1);
+
+    var added = 0;
+    if (volume > this.cells.size()) {
+      final var values = this.cells.values;
+      for (final var cell : values) {
+        if (cell != null && cell.within(x0, y0, z0, x1, y1, z1)) {
+          added += this.scanCellBox(cell, output);
+        }
+      }
+      return added;
+    }
+
+    for (int cx = x0; cx <= x1; ++cx) {
+      for (int cy = y0; cy <= y1; ++cy) {
+        for (int cz = z0; cz <= z1; ++cz) {
+          final var cell = this.cells.get(keyOf(cx, cy, cz));
+          if (cell != null) {
+            added += this.scanCellBox(cell, output);
+          }
+        }
+      }
+    }
+    return added;
+  }
+
+  private int scanCellBox(
+    final Cell<T> cell,
+    final List<? super T> output)
+  {
+    final var positions = cell.positions;
+    var added = 0;
+    for (int index = 0; index < cell.count; ++index) {
+      final var base = index * 3;
+      final var x = positions[base];
+      final var y = positions[base + 1];
+      final var z = positions[base + 2];
+      if (this.matches(x, y, z)) {
+        output.add(cell.slots[index].item);
+        ++added;
+      }
+    }
+    return added;
+  }
+
+  private boolean matches(
+    final double x,
+    final double y,
+    final double z)
+  {
+    if (this.querySphere) {
+      final var dx = x - this.queryX;
+      final var dy = y - this.queryY;
+      final var dz = z - this.queryZ;
+      return (dx * dx) + (dy * dy) + (dz * dz) <= this.queryRadiusSquared;
+    }
+
+    final var inX = x >= this.queryMinX && x <= this.queryMaxX;
+    final var inY = y >= this.queryMinY && y <= this.queryMaxY;
+    final var inZ = z >= this.queryMinZ && z <= this.queryMaxZ;
+    return inX && inY && inZ;
+  }
+
+  private void beginNearest(
+    final int wanted,
+    final double x,
+    final double y,
+    final double z)
+  {
+    if (this.bestItems.length < wanted) {
+      this.bestItems = new Object[wanted];
+      this.bestDistances = new double[wanted];
+    }
+    this.bestFound = 0;
+    this.bestWanted = wanted;
+    this.bestLimit = Double.POSITIVE_INFINITY;
+    this.queryX = x;
+    this.queryY = y;
+    this.queryZ = z;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int endNearest(
+    final List<? super T> output)
+  {
+    final var found = this.bestFound;
+    for (int index = 0; index < found; ++index) {
+      output.add((T) this.bestItems[index]);
+    }
+    Arrays.fill(this.bestItems, 0, found, null);
+    return found;
+  }
+
+  private int scanShell(
+    final int cx,
+    final int cy,
+    final int cz,
+    final int r)
+  {
+    var visited = 0;
+    for (int dx = -r; dx <= r; ++dx) {
+      final var edgeX = dx == -r || dx == r;
+      for (int dy = -r; dy <= r; ++dy) {
+        final var edge = edgeX || dy == -r || dy == r;
+        final var step = edge ? 1 : Math.max(1, 2 * r);
+        for (int dz = -r; dz <= r; dz += step) {
+          visited += this.scanCellNearest(cx + dx, cy + dy, cz + dz);
+        }
+      }
+    }
+    return visited;
+  }
+
+  private int scanCellNearest(
+    final int cx,
+    final int cy,
+    final int cz)
+  {
+    final var outside =
+      Math.abs((long) cx) > COORD_OFFSET
+      || Math.abs((long) cy) > COORD_OFFSET
+      || Math.abs((long) cz) > COORD_OFFSET;
+    if (outside) {
+      return 0;
+    }
+
+    final var cell = this.cells.get(keyOf(cx, cy, cz));
+    if (cell == null) {
+      return 0;
+    }
+    this.offerCell(cell);
+    return cell.count;
+  }
+
+  /**
+   * Measure the distance to every object. The results of any shells
+   * already searched are discarded first, as those objects are offered
+   * again.
+   */
+
+  private void scanDense()
+  {
+    this.bestFound = 0;
+    this.bestLimit = Double.POSITIVE_INFINITY;
+
+    final var positions = this.densePositions;
+    final var count = this.denseCount;
+    final var x = this.queryX;
+    final var y = this.queryY;
+    final var z = this.queryZ;
+    var limit = Double.POSITIVE_INFINITY;
+    for (int index = 0; index < count; ++index) {
+      final var base = index * 3;
+      final var dx = positions[base] - x;
+      final var dy = positions[base + 1] - y;
+      final var dz = positions[base + 2] - z;
+      final var distanceSquared = (dx * dx) + (dy * dy) + (dz * dz);
+      if (distanceSquared < limit) {
+        this.offer(this.dense[index].item, distanceSquared);
+        limit = this.bestLimit;
+      }
+    }
+  }
+
+  /**
+   * @return The distance from the query point to the nearest face of the
+   * block of cells within {@code r} cells of the cell containing the point
+   */
+
+  private double reach(
+    final int cx,
+    final int cy,
+    final int cz,
+    final int r)
+  {
+    final var reachX = this.faceDistance(cx, r, this.queryX);
+    final var reachY = this.faceDistance(cy, r, this.queryY);
+    final var reachZ = this.faceDistance(cz, r, this.queryZ);
+    return Math.min(reachX, Math.min(reachY, reachZ));
+  }
+
+  private double faceDistance(
+    final int cell,
+    final int r,
+    final double value)
+  {
+    final var low = (cell - r) * this.cellSize;
+    final var high = (cell + r + 1) * this.cellSize;
+    return Math.max(0.0, Math.min(value - low, high - value));
+  }
+
+  private void offerCell(
+    final Cell<T> cell)
+  {
+    final var positions = cell.positions;
+    for (int index = 0; index < cell.count; ++index) {
+      final var base = index * 3;
+      final var dx = positions[base] - this.queryX;
+      final var dy = positions[base + 1] - this.queryY;
+      final var dz = positions[base + 2] - this.queryZ;
+      final var distanceSquared = (dx * dx) + (dy * dy) + (dz * dz);
+      if (distanceSquared < this.bestLimit) {
+        this.offer(cell.slots[index].item, distanceSquared);
+      }
+    }
+  }
+
+  private void offer(
+    final Object item,
+    final double distanceSquared)
+  {
+    final var distances = this.bestDistances;
+    final var items = this.bestItems;
+
+    var position = this.bestFound;
+    if (position < this.bestWanted) {
+      ++this.bestFound;
+    } else {
+      position = this.bestWanted - 1;
+    }
+
+    while (position > 0 && distances[position - 1] > distanceSquared) {
+      distances[position] = distances[position - 1];
+      items[position] = items[position - 1];
+      --position;
+    }
+    distances[position] = distanceSquared;
+    items[position] = item;
+
+    if (this.bestFound == this.bestWanted) {
+      this.bestLimit = distances[this.bestWanted - 1];
+    }
+  }
+
+  private record View<T>(JALSpatialGrid<T> grid)
+    implements JASpatialQueryType<T>
+  {
+    @Override
+    public int size()
+    {
+      return this.grid.size();
+    }
+
+    @Override
+    public int nearest(
+      final double x,
+      final double y,
+      final double z,
+      final int count,
+      final List<? super T> output)
+    {
+      return this.grid.nearest(x, y, z, count, output);
+    }
+
+    @Override
+    public int withinRadius(
+      final double x,
+      final double y,
+      final double z,
+      final double radius,
+      final List<? super T> output)
+    {
+      return this.grid.withinRadius(x, y, z, radius, output);
+    }
+
+    @Override
+    public int withinBox(
+      final double minX,
+      final double minY,
+      final double minZ,
+      final double maxX,
+      final double maxY,
+      final double maxZ,
+      final List<? super T> output)
+    {
+      return this.grid.withinBox(minX, minY, minZ, maxX, maxY, maxZ, output);
+    }
+  }
+
+  private static final class Slot<T>
+  {
+    private final T item;
+    private Cell<T> cell;
+    private int index;
+    private int denseIndex;
+
+    Slot(
+      final T inItem)
+    {
+      this.item = inItem;
+    }
+  }
+
+  private static final class Cell<T>
+  {
+    private final long key;
+    private final int cx;
+    private final int cy;
+    private final int cz;
+    private Slot<T>[] slots;
+    private double[] positions;
+    private int count;
+
+    @SuppressWarnings("unchecked")
+    Cell(
+      final long inKey,
+      final int inX,
+      final int inY,
+      final int inZ)
+    {
+      this.key = inKey;
+      this.cx = inX;
+      this.cy = inY;
+      this.cz = inZ;
+      this.slots = (Slot<T>[]) new Slot[4];
+      this.positions = new double[4 * 3];
+    }
+
+    boolean within(
+      final int x0,
+      final int y0,
+      final int z0,
+      final int x1,
+      final int y1,
+      final int z1)
+    {
+      final var inX = this.cx >= x0 && this.cx <= x1;
+      final var inY = this.cy >= y0 && this.cy <= y1;
+      return inX && inY && this.cz >= z0 && this.cz <= z1;
+    }
+
+    void add(
+      final Slot<T> slot,
+      final double x,
+      final double y,
+      final double z)
+    {
+      if (this.count == this.slots.length) {
+        this.slots = Arrays.copyOf(this.slots, this.count * 2);
+        this.positions = Arrays.copyOf(this.positions, this.count * 2 * 3);
+      }
+      slot.cell = this;
+      slot.index = this.count;
+      this.slots[this.count] = slot;
+      this.move(this.count, x, y, z);
+      ++this.count;
+    }
+
+    void move(
+      final int index,
+      final double x,
+      final double y,
+      final double z)
+    {
+      final var base = index * 3;
+      this.positions[base] = x;
+      this.positions[base + 1] = y;
+      this.positions[base + 2] = z;
+    }
+
+    void remove(
+      final Slot<T> slot)
+    {
+      --this.count;
+      final var last = this.slots[this.count];
+      final var index = slot.index;
+      this.slots[index] = last;
+      last.index = index;
+      System.arraycopy(
+        this.positions, this.count * 3, this.positions, index * 3, 3);
+      this.slots[this.count] = null;
+      slot.cell = null;
+    }
+  }
+
+  /**
+   * An open-addressing map from cell keys to cells, which avoids boxing the
+   * keys on every lookup.
+   */
+
+  private static final class CellMap<T>
+  {
+    private long[] keys;
+    private Cell<T>[] values;
+    private int size;
+
+    CellMap()
+    {
+      this.allocate(64);
+    }
+
+    private static int hash(
+      final long key)
+    {
+      final var h = key * 0x9e37_79b9_7f4a_7c15L;
+      return (int) (h ^ (h >>> 32));
+    }
+
+    private static boolean shouldMove(
+      final int hole,
+      final int index,
+      final int home)
+    {
+      if (index > hole) {
+        return home <= hole || home > index;
+      }
+      return home <= hole && home > index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(
+      final int capacity)
+    {
+      this.keys = new long[capacity];
+      this.values = (Cell<T>[]) new Cell[capacity];
+    }
+
+    int size()
+    {
+      return this.size;
+    }
+
+    Cell<T> get(
+      final long key)
+    {
+      final var mask = this.values.length - 1;
+      var index = hash(key) & mask;
+      while (this.values[index] != null) {
+        if (this.keys[index] == key) {
+          return this.values[index];
+        }
+        index = (index + 1) & mask;
+      }
+      return null;
+    }
+
+    void put(
+      final long key,
+      final Cell<T> cell)
+    {
+      if ((this.size + 1) * 2 > this.values.length) {
+        this.resize();
+      }
+
+      final var mask = this.values.length - 1;
+      var index = hash(key) & mask;
+      while (this.values[index] != null) {
+        if (this.keys[index] == key) {
+          this.values[index] = cell;
+          return;
+        }
+        index = (index + 1) & mask;
+      }
+      this.keys[index] = key;
+      this.values[index] = cell;
+      ++this.size;
+    }
+
+    void remove(
+      final long key)
+    {
+      final var mask = this.values.length - 1;
+      var hole = hash(key) & mask;
+      while (this.values[hole] != null && this.keys[hole] != key) {
+        hole = (hole + 1) & mask;
+      }
+      if (this.values[hole] == null) {
+        return;
+      }
+
+      /*
+       * Shift later entries of the probe sequence back into the hole, so
+       * that lookups never stop early at an empty slot.
+       */
+
+      this.values[hole] = null;
+      --this.size;
+
+      var index = (hole + 1) & mask;
+      while (this.values[index] != null) {
+        final var home = hash(this.keys[index]) & mask;
+        if (shouldMove(hole, index, home)) {
+          this.keys[hole] = this.keys[index];
+          this.values[hole] = this.values[index];
+          this.values[index] = null;
+          hole = index;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    void clear()
+    {
+      this.allocate(64);
+      this.size = 0;
+    }
+
+    private void resize()
+    {
+      final var oldKeys = this.keys;
+      final var oldValues = this.values;
+      this.allocate(oldValues.length * 2);
+      this.size = 0;
+      for (int index = 0; index < oldValues.length; ++index) {
+        if (oldValues[index] != null) {
+          this.put(oldKeys[index], oldValues[index]);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jarabica.lwjgl.internal;
+
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JAUpdateBatchType;
+
+import java.util.Objects;
+
+/**
+ * A batch of updates.
+ */
+
+final class JALUpdateBatch implements JAUpdateBatchType
+{
+  private final JALContext context;
+  private boolean closed;
+
+  JALUpdateBatch(
+    final JALContext inContext)
+  {
+    this.context =
+      Objects.requireNonNull(inContext, "context");
+    this.closed =
+      false;
+  }
+
+  @Override
+  public void close()
+    throws JAException
+  {
+    if (!this.closed) {
+      this.closed = true;
+      this.context.updateEnd();
+    }
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JALUpdateBatch ")
+      .append(this.context)
+      .append("]")
+      .toString();
+  }
+}
@@ -20,6 +20,7 @@ package com.io7m.jarabica.lwjgl.internal.efx;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEAXReverbParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEAXReverbType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventEFXUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -157,6 +158,7 @@ public final class JALEFXEAXReverb
 
     final var errors = this.errorChecker();
     final var f = (int) this.handle();
+    final var event = JALEventEFXUpdate.start();
 
     alEffectf(
       f,
@@ -166,7 +168,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_DENSITY,
         AL_EAXREVERB_MAX_DENSITY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -176,7 +178,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_DIFFUSION,
         AL_EAXREVERB_MAX_DIFFUSION)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -186,7 +188,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_GAIN,
         AL_EAXREVERB_MAX_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -196,7 +198,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_GAINHF,
         AL_EAXREVERB_MAX_GAINHF)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -206,7 +208,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_GAINLF,
         AL_EAXREVERB_MAX_GAINLF)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -216,7 +218,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_DECAY_TIME,
         AL_EAXREVERB_MAX_DECAY_TIME)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -226,7 +228,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_DECAY_HFRATIO,
         AL_EAXREVERB_MAX_DECAY_HFRATIO)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -236,7 +238,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_DECAY_LFRATIO,
         AL_EAXREVERB_MAX_DECAY_LFRATIO)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -246,7 +248,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_REFLECTIONS_GAIN,
         AL_EAXREVERB_MAX_REFLECTIONS_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -256,7 +258,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_REFLECTIONS_DELAY,
         AL_EAXREVERB_MAX_REFLECTIONS_DELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -266,7 +268,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_LATE_REVERB_GAIN,
         AL_EAXREVERB_MAX_LATE_REVERB_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -276,7 +278,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_LATE_REVERB_DELAY,
         AL_EAXREVERB_MAX_LATE_REVERB_DELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -286,7 +288,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_ECHO_TIME,
         AL_EAXREVERB_MAX_ECHO_TIME)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -296,7 +298,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_ECHO_DEPTH,
         AL_EAXREVERB_MAX_ECHO_DEPTH)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -306,7 +308,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_MODULATION_TIME,
         AL_EAXREVERB_MAX_MODULATION_TIME)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -316,7 +318,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_MODULATION_DEPTH,
         AL_EAXREVERB_MAX_MODULATION_DEPTH)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -326,7 +328,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_AIR_ABSORPTION_GAINHF,
         AL_EAXREVERB_MAX_AIR_ABSORPTION_GAINHF)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -336,7 +338,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_HFREFERENCE,
         AL_EAXREVERB_MAX_HFREFERENCE)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -346,7 +348,7 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_LFREFERENCE,
         AL_EAXREVERB_MAX_LFREFERENCE)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -356,15 +358,16 @@ public final class JALEFXEAXReverb
         AL_EAXREVERB_MIN_ROOM_ROLLOFF_FACTOR,
         AL_EAXREVERB_MAX_ROOM_ROLLOFF_FACTOR)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffecti(
       f,
       AL_EAXREVERB_DECAY_HFLIMIT,
       newParameters.decayHFLimit() ? AL_TRUE : AL_FALSE
     );
-    errors.checkErrors("alEffecti");
+    errors.checkErrorsDeferrable("alEffecti");
 
+    event.finish(this.context().context().handle(), "eax-reverb", f);
     this.parameters = newParameters;
     this.context().effectParametersUpdated(this);
   }
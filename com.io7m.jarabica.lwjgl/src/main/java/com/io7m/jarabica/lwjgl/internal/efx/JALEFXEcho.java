@@ -20,6 +20,7 @@ package com.io7m.jarabica.lwjgl.internal.efx;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEchoParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEchoType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventEFXUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -109,6 +110,7 @@ public final class JALEFXEcho
 
     final var errors = this.errorChecker();
     final var f = (int) this.handle();
+    final var event = JALEventEFXUpdate.start();
     alEffectf(
       f,
       AL_ECHO_DELAY,
@@ -117,7 +119,7 @@ public final class JALEFXEcho
         AL_ECHO_MIN_DELAY,
         AL_ECHO_MAX_DELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
     alEffectf(
       f,
       AL_ECHO_LRDELAY,
@@ -126,7 +128,7 @@ public final class JALEFXEcho
         AL_ECHO_MIN_LRDELAY,
         AL_ECHO_MAX_LRDELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
     alEffectf(
       f,
       AL_ECHO_DAMPING,
@@ -135,7 +137,7 @@ public final class JALEFXEcho
         AL_ECHO_MIN_DAMPING,
         AL_ECHO_MAX_DAMPING)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
     alEffectf(
       f,
       AL_ECHO_FEEDBACK,
@@ -144,7 +146,7 @@ public final class JALEFXEcho
         AL_ECHO_MIN_FEEDBACK,
         AL_ECHO_MAX_FEEDBACK)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
     alEffectf(
       f,
       AL_ECHO_SPREAD,
@@ -153,7 +155,8 @@ public final class JALEFXEcho
         AL_ECHO_MIN_SPREAD,
         AL_ECHO_MAX_SPREAD)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
+    event.finish(this.context().context().handle(), "echo", f);
     this.parameters = newParameters;
     this.context().effectParametersUpdated(this);
   }
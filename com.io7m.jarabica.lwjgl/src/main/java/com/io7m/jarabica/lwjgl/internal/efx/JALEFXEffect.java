@@ -64,6 +64,7 @@ public abstract class JALEFXEffect extends JALHandle
   {
     alDeleteEffects(this.effect);
     this.context.context().errorChecker().checkErrors("alDeleteEffects");
+    this.context.context().metrics().onEffectDeleted();
     this.onDeleted();
   }
 
@@ -18,8 +18,7 @@
 package com.io7m.jarabica.lwjgl.internal.efx;
 
 import com.io7m.jarabica.api.JAException;
-import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXEffectOnSlot;
-import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXSourceDirectToEffectsSlot;
+import com.io7m.jarabica.extensions.efx.JAEFXSourceNode;
 import com.io7m.jarabica.extensions.efx.JAEXFEffectsSlotType;
 import com.io7m.jarabica.lwjgl.internal.JALErrorChecker;
 import com.io7m.jarabica.lwjgl.internal.JALHandle;
@@ -27,8 +26,6 @@ import org.lwjgl.openal.AL11;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Set;
-
 import static org.lwjgl.openal.EXTEfx.AL_AUXILIARY_SEND_FILTER;
 import static org.lwjgl.openal.EXTEfx.AL_EFFECTSLOT_EFFECT;
 import static org.lwjgl.openal.EXTEfx.AL_EFFECT_NULL;
@@ -77,33 +74,32 @@ public final class JALEFXEffectsSlot
   protected void closeActual()
     throws JAException
   {
-    final var edges =
-      Set.copyOf(this.context.signalGraph().incomingEdgesOf(this));
+    final var store = this.context.signalStore();
+    if (store.outDegree(this) > 0) {
+      alAuxiliaryEffectSloti(
+        this.handle,
+        AL_EFFECTSLOT_EFFECT,
+        AL_EFFECT_NULL);
+      this.errors.checkErrors("alAuxiliaryEffectSloti");
+    }
 
-    for (final var edge : edges) {
-      if (edge instanceof JAEFXEffectOnSlot) {
-        alAuxiliaryEffectSloti(
-          this.handle,
-          AL_EFFECTSLOT_EFFECT,
-          AL_EFFECT_NULL);
-        this.errors.checkErrors("alAuxiliaryEffectSloti");
-        continue;
-      }
-      if (edge instanceof JAEFXSourceDirectToEffectsSlot slot) {
+    final var count = store.inDegree(this);
+    for (int index = 0; index < count; ++index) {
+      if (store.incomingAt(this, index) instanceof final JAEFXSourceNode node) {
         AL11.alSource3i(
-          (int) slot.source().source().handle(),
+          (int) node.source().handle(),
           AL_AUXILIARY_SEND_FILTER,
           0,
           0,
           0
         );
         this.errors.checkErrors("alSource3i");
-        continue;
       }
     }
 
     alDeleteAuxiliaryEffectSlots(this.handle);
     this.errors.checkErrors("alDeleteAuxiliaryEffectSlots");
+    this.context.context().metrics().onEffectsSlotDeleted();
     this.context.effectsSlotDeleted(this);
   }
 
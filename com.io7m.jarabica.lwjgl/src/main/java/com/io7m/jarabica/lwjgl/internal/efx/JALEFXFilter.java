@@ -66,6 +66,7 @@ public abstract class JALEFXFilter extends JALHandle
   {
     alDeleteFilters(this.filter);
     this.context.context().errorChecker().checkErrors("alDeleteFilters");
+    this.context.context().metrics().onFilterDeleted();
     this.onDeleted();
   }
 
@@ -20,6 +20,7 @@ package com.io7m.jarabica.lwjgl.internal.efx;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterHighPassParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterHighPassType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventEFXUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +91,7 @@ public final class JALEFXFilterHighPass
 
     final var errors = this.errorChecker();
     final var f = (int) this.handle();
+    final var event = JALEventEFXUpdate.start();
     alFilterf(
       f,
       AL_HIGHPASS_GAIN,
@@ -98,7 +100,7 @@ public final class JALEFXFilterHighPass
         AL_HIGHPASS_MIN_GAIN,
         AL_HIGHPASS_MAX_GAIN)
     );
-    errors.checkErrors("alFilterf");
+    errors.checkErrorsDeferrable("alFilterf");
     alFilterf(
       f,
       AL_HIGHPASS_GAIN,
@@ -107,7 +109,8 @@ public final class JALEFXFilterHighPass
         AL_HIGHPASS_MIN_GAINLF,
         AL_HIGHPASS_MAX_GAINLF)
     );
-    errors.checkErrors("alFilterf");
+    errors.checkErrorsDeferrable("alFilterf");
+    event.finish(this.context().context().handle(), "high-pass", f);
     this.parameters = newParameters;
     this.context().filterParametersUpdated(this);
   }
@@ -20,6 +20,7 @@ package com.io7m.jarabica.lwjgl.internal.efx;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterLowPassParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterLowPassType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventEFXUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +92,7 @@ public final class JALEFXFilterLowPass
 
     final var errors = this.errorChecker();
     final var f = (int) this.handle();
+    final var event = JALEventEFXUpdate.start();
     alFilterf(
       f,
       AL_LOWPASS_GAIN,
@@ -99,7 +101,7 @@ public final class JALEFXFilterLowPass
         AL_LOWPASS_MIN_GAIN,
         AL_LOWPASS_MAX_GAIN)
     );
-    errors.checkErrors("alFilterf");
+    errors.checkErrorsDeferrable("alFilterf");
     alFilterf(
       f,
       AL_LOWPASS_GAINHF,
@@ -108,7 +110,8 @@ public final class JALEFXFilterLowPass
         AL_LOWPASS_MIN_GAINHF,
         AL_LOWPASS_MAX_GAINHF)
     );
-    errors.checkErrors("alFilterf");
+    errors.checkErrorsDeferrable("alFilterf");
+    event.finish(this.context().context().handle(), "low-pass", f);
     this.parameters = newParameters;
     this.context().filterParametersUpdated(this);
   }
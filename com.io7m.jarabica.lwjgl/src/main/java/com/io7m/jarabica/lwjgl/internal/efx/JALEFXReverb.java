@@ -20,6 +20,7 @@ package com.io7m.jarabica.lwjgl.internal.efx;
 import com.io7m.jarabica.api.JAException;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectReverbParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectReverbType;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEventEFXUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -133,6 +134,7 @@ public final class JALEFXReverb
 
     final var errors = this.errorChecker();
     final var f = (int) this.handle();
+    final var event = JALEventEFXUpdate.start();
 
     alEffectf(
       f,
@@ -142,7 +144,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_DENSITY,
         AL_REVERB_MAX_DENSITY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -152,7 +154,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_DIFFUSION,
         AL_REVERB_MAX_DIFFUSION)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -162,7 +164,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_GAIN,
         AL_REVERB_MAX_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -172,7 +174,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_GAINHF,
         AL_REVERB_MAX_GAINHF)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -182,7 +184,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_DECAY_TIME,
         AL_REVERB_MAX_DECAY_TIME)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -192,7 +194,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_DECAY_HFRATIO,
         AL_REVERB_MAX_DECAY_HFRATIO)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -202,7 +204,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_REFLECTIONS_GAIN,
         AL_REVERB_MAX_REFLECTIONS_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -212,7 +214,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_REFLECTIONS_DELAY,
         AL_REVERB_MAX_REFLECTIONS_DELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -222,7 +224,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_LATE_REVERB_GAIN,
         AL_REVERB_MAX_LATE_REVERB_GAIN)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -232,7 +234,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_LATE_REVERB_DELAY,
         AL_REVERB_MAX_LATE_REVERB_DELAY)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -242,7 +244,7 @@ public final class JALEFXReverb
         AL_REVERB_MIN_AIR_ABSORPTION_GAINHF,
         AL_REVERB_MAX_AIR_ABSORPTION_GAINHF)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffectf(
       f,
@@ -252,15 +254,16 @@ public final class JALEFXReverb
         AL_REVERB_MIN_ROOM_ROLLOFF_FACTOR,
         AL_REVERB_MAX_ROOM_ROLLOFF_FACTOR)
     );
-    errors.checkErrors("alEffectf");
+    errors.checkErrorsDeferrable("alEffectf");
 
     alEffecti(
       f,
       AL_REVERB_DECAY_HFLIMIT,
       newParameters.decayHFLimit() ? AL_TRUE : AL_FALSE
     );
-    errors.checkErrors("alEffecti");
+    errors.checkErrorsDeferrable("alEffecti");
 
+    event.finish(this.context().context().handle(), "reverb", f);
     this.parameters = newParameters;
     this.context().effectParametersUpdated(this);
   }
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.lwjgl.internal.efx;
+
+import com.io7m.jarabica.extensions.efx.JAEFXEffectType;
+import com.io7m.jarabica.extensions.efx.JAEFXFilterType;
+import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType;
+import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXEffectOnSlot;
+import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXSourceDirectToEffectsSlot;
+import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXSourceDirectToFilter;
+import com.io7m.jarabica.extensions.efx.JAEFXGraphNodeType;
+import com.io7m.jarabica.extensions.efx.JAEFXSourceNode;
+import com.io7m.jarabica.extensions.efx.JAEXFEffectsSlotType;
+import com.io7m.jarabica.lwjgl.internal.JALGraphStoreDescriptorType;
+
+/**
+ * The descriptor of the EFX signal graph. Sources, filters, effects slots,
+ * and effects each have their own namespace of OpenAL names.
+ */
+
+final class JALEFXSignalDescriptor
+  implements JALGraphStoreDescriptorType<JAEFXGraphNodeType, JAEFXGraphEdgeType>
+{
+  JALEFXSignalDescriptor()
+  {
+
+  }
+
+  @Override
+  public int kinds()
+  {
+    return 4;
+  }
+
+  @Override
+  public int kindOf(
+    final JAEFXGraphNodeType vertex)
+  {
+    return switch (vertex) {
+      case final JAEFXSourceNode n -> 0;
+      case final JAEFXFilterType<?> f -> 1;
+      case final JAEXFEffectsSlotType s -> 2;
+      case final JAEFXEffectType<?> e -> 3;
+    };
+  }
+
+  @Override
+  public int nameOf(
+    final JAEFXGraphNodeType vertex)
+  {
+    return switch (vertex) {
+      case final JAEFXSourceNode n -> (int) n.source().handle();
+      case final JAEFXFilterType<?> f -> (int) f.handle();
+      case final JAEXFEffectsSlotType s -> (int) s.handle();
+      case final JAEFXEffectType<?> e -> (int) e.handle();
+    };
+  }
+
+  @Override
+  public JAEFXGraphEdgeType edgeOf(
+    final JAEFXGraphNodeType source,
+    final JAEFXGraphNodeType target)
+  {
+    if (source instanceof final JAEFXSourceNode node) {
+      if (target instanceof final JAEFXFilterType<?> filter) {
+        return new JAEFXSourceDirectToFilter(node, filter);
+      }
+      if (target instanceof final JAEXFEffectsSlotType slot) {
+        return new JAEFXSourceDirectToEffectsSlot(node, slot);
+      }
+    }
+    if (source instanceof final JAEXFEffectsSlotType slot
+        && target instanceof final JAEFXEffectType<?> effect) {
+      return new JAEFXEffectOnSlot(effect, slot);
+    }
+    throw new IllegalArgumentException(
+      "No edge is possible from %s to %s".formatted(source, target));
+  }
+
+  @Override
+  public JAEFXGraphNodeType edgeSource(
+    final JAEFXGraphEdgeType edge)
+  {
+    return edge.source();
+  }
+
+  @Override
+  public JAEFXGraphNodeType edgeTarget(
+    final JAEFXGraphEdgeType edge)
+  {
+    return edge.target();
+  }
+}
@@ -32,8 +32,6 @@ import com.io7m.jarabica.extensions.efx.JAEFXFilterLowPassParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterLowPassType;
 import com.io7m.jarabica.extensions.efx.JAEFXFilterType;
 import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType;
-import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXEffectOnSlot;
-import com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXSourceDirectToFilter;
 import com.io7m.jarabica.extensions.efx.JAEFXGraphNodeType;
 import com.io7m.jarabica.extensions.efx.JAEFXSourceNode;
 import com.io7m.jarabica.extensions.efx.JAEFXType;
@@ -41,11 +39,10 @@ import com.io7m.jarabica.extensions.efx.JAEXFEffectsSlotType;
 import com.io7m.jarabica.lwjgl.internal.JALContext;
 import com.io7m.jarabica.lwjgl.internal.JALErrorChecker;
 import com.io7m.jarabica.lwjgl.internal.JALExtension;
+import com.io7m.jarabica.lwjgl.internal.JALGraphStore;
+import com.io7m.jarabica.lwjgl.internal.jfr.JALEvents;
 import com.io7m.jarabica.lwjgl.internal.JALSource;
 import org.jgrapht.Graph;
-import org.jgrapht.graph.AsUnmodifiableGraph;
-import org.jgrapht.graph.DefaultListenableGraph;
-import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.lwjgl.openal.AL10;
 import org.lwjgl.openal.AL11;
 import org.lwjgl.openal.ALC10;
@@ -53,7 +50,6 @@ import org.lwjgl.openal.ALC10;
 import java.util.Objects;
 import java.util.Optional;
 
-import static com.io7m.jarabica.extensions.efx.JAEFXGraphEdgeType.JAEFXSourceDirectToEffectsSlot;
 import static org.lwjgl.openal.EXTEfx.ALC_MAX_AUXILIARY_SENDS;
 import static org.lwjgl.openal.EXTEfx.AL_AUXILIARY_SEND_FILTER;
 import static org.lwjgl.openal.EXTEfx.AL_DIRECT_FILTER;
@@ -82,8 +78,7 @@ public final class JALExtensionEFXContext
 {
   private final JALContext context;
   private final JALErrorChecker errorChecker;
-  private final DefaultListenableGraph<JAEFXGraphNodeType, JAEFXGraphEdgeType> signalGraph;
-  private final AsUnmodifiableGraph<JAEFXGraphNodeType, JAEFXGraphEdgeType> signalGraphRead;
+  private final JALGraphStore<JAEFXGraphNodeType, JAEFXGraphEdgeType> signalGraph;
 
   /**
    * The EFX extension.
@@ -101,10 +96,10 @@ public final class JALExtensionEFXContext
     this.errorChecker =
       Objects.requireNonNull(inErrorChecker, "errorChecker");
     this.signalGraph =
-      new DefaultListenableGraph<>(
-        new DirectedAcyclicGraph<>(JAEFXGraphEdgeType.class));
-    this.signalGraphRead =
-      new AsUnmodifiableGraph<>(this.signalGraph);
+      new JALGraphStore<>(new JALEFXSignalDescriptor(), false);
+
+    JALEvents.registerGraph(
+      inContext, inContext.handle(), "efx-signal", this.signalGraph);
   }
 
   /**
@@ -140,6 +135,7 @@ public final class JALExtensionEFXContext
     this.errorChecker.checkErrors("alEffecti");
     final var echo = new JALEFXEcho(this, parameters, effect);
     this.signalGraph.addVertex(echo);
+    this.context.metrics().onEffectCreated();
     echo.setParameters(parameters);
     return echo;
   }
@@ -157,6 +153,7 @@ public final class JALExtensionEFXContext
     this.errorChecker.checkErrors("alEffecti");
     final var fx = new JALEFXReverb(this, parameters, effect);
     this.signalGraph.addVertex(fx);
+    this.context.metrics().onEffectCreated();
     fx.setParameters(parameters);
     return fx;
   }
@@ -174,6 +171,7 @@ public final class JALExtensionEFXContext
     this.errorChecker.checkErrors("alEffecti");
     final var fx = new JALEFXEAXReverb(this, parameters, effect);
     this.signalGraph.addVertex(fx);
+    this.context.metrics().onEffectCreated();
     fx.setParameters(parameters);
     return fx;
   }
@@ -195,6 +193,7 @@ public final class JALExtensionEFXContext
       new JALEFXFilterLowPass(this, parameters, filter);
 
     this.signalGraph.addVertex(newFilter);
+    this.context.metrics().onFilterCreated();
     newFilter.setParameters(parameters);
     return newFilter;
   }
@@ -216,6 +215,7 @@ public final class JALExtensionEFXContext
       new JALEFXFilterHighPass(this, parameters, filter);
 
     this.signalGraph.addVertex(newFilter);
+    this.context.metrics().onFilterCreated();
     newFilter.setParameters(parameters);
     return newFilter;
   }
@@ -237,15 +237,8 @@ public final class JALExtensionEFXContext
     this.signalGraph.addVertex(sourceNode);
     this.signalGraph.addVertex(filter);
 
-    final var edges =
-      this.signalGraph.outgoingEdgesOf(sourceNode);
-
-    Optional<JAEFXFilterType<?>> existing = Optional.empty();
-    for (final var edge : edges) {
-      if (edge instanceof JAEFXSourceDirectToFilter edgeFilter) {
-        existing = Optional.of(edgeFilter.filter());
-      }
-    }
+    final var existing =
+      this.sourceFilter(sourceNode);
 
     AL10.alSourcei(
       (int) sourceNode.source().handle(),
@@ -254,15 +247,10 @@ public final class JALExtensionEFXContext
     );
     this.errorChecker.checkErrors("alSourcei");
 
-    this.signalGraph.addEdge(
-      sourceNode,
-      filter,
-      new JAEFXSourceDirectToFilter(sourceNode, filter)
-    );
-
     existing.ifPresent(oldFilter -> {
       this.signalGraph.removeEdge(sourceNode, oldFilter);
     });
+    this.signalGraph.addEdge(sourceNode, filter);
     return existing;
   }
 
@@ -290,11 +278,7 @@ public final class JALExtensionEFXContext
     );
     this.errorChecker.checkErrors("alSource3i");
 
-    this.signalGraph.addEdge(
-      sourceNode,
-      slot,
-      new JAEFXSourceDirectToEffectsSlot(sourceNode, slot)
-    );
+    this.signalGraph.addEdge(sourceNode, slot);
   }
 
   @Override
@@ -307,23 +291,17 @@ public final class JALExtensionEFXContext
     final var sourceNode = new JAEFXSourceNode(source);
     this.context.check();
 
-    final var edges =
-      this.signalGraph.outgoingEdgesOf(sourceNode);
-
-    for (final var edge : edges) {
-      if (edge instanceof JAEFXSourceDirectToFilter edgeFilter) {
-        final var filter = edgeFilter.filter();
-        AL10.alSourcei(
-          (int) sourceNode.source().handle(),
-          AL_DIRECT_FILTER,
-          AL_FILTER_NULL);
-        this.errorChecker.checkErrors("alSourcei");
-        this.signalGraph.removeEdge(sourceNode, filter);
-        return Optional.of(filter);
-      }
+    final var existing = this.sourceFilter(sourceNode);
+    if (existing.isPresent()) {
+      final var filter = existing.get();
+      AL10.alSourcei(
+        (int) sourceNode.source().handle(),
+        AL_DIRECT_FILTER,
+        AL_FILTER_NULL);
+      this.errorChecker.checkErrors("alSourcei");
+      this.signalGraph.removeEdge(sourceNode, filter);
     }
-
-    return Optional.empty();
+    return existing;
   }
 
   @Override
@@ -336,6 +314,7 @@ public final class JALExtensionEFXContext
     this.errorChecker.checkErrors("alGenAuxiliaryEffectSlots");
     final var effectsSlot = new JALEFXEffectsSlot(this, slot);
     this.signalGraph.addVertex(effectsSlot);
+    this.context.metrics().onEffectsSlotCreated();
     return effectsSlot;
   }
 
@@ -350,16 +329,15 @@ public final class JALExtensionEFXContext
 
     this.context.check();
 
-    final var edges =
-      this.signalGraph.outgoingEdgesOf(effectsSlot);
-
     Optional<JAEFXEffectType<?>> existingEffect = Optional.empty();
-    for (final var edge : edges) {
-      if (edge instanceof JAEFXEffectOnSlot onSlot) {
-        if (Objects.equals(onSlot.effect(), effect)) {
+    final var count = this.signalGraph.outDegree(effectsSlot);
+    for (int index = 0; index < count; ++index) {
+      final var node = this.signalGraph.outgoingAt(effectsSlot, index);
+      if (node instanceof final JAEFXEffectType<?> onSlot) {
+        if (Objects.equals(onSlot, effect)) {
           return Optional.empty();
         }
-        existingEffect = Optional.of(onSlot.effect());
+        existingEffect = Optional.of(onSlot);
         break;
       }
     }
@@ -373,34 +351,48 @@ public final class JALExtensionEFXContext
 
     this.signalGraph.addVertex(effect);
     this.signalGraph.addVertex(effectsSlot);
-    this.signalGraph.addEdge(
-      effectsSlot,
-      effect,
-      new JAEFXEffectOnSlot(effect, effectsSlot)
-    );
-
+    this.context.metrics().onEffectsSlotCreated();
     existingEffect.ifPresent(oldEffect -> {
-      this.signalGraph.removeEdge(
-        oldEffect, effectsSlot
-      );
+      this.signalGraph.removeEdge(effectsSlot, oldEffect);
     });
+    this.signalGraph.addEdge(effectsSlot, effect);
     return existingEffect;
   }
 
   @Override
   public Graph<JAEFXGraphNodeType, JAEFXGraphEdgeType> signalGraph()
   {
-    return this.signalGraphRead;
+    return this.signalGraph.view();
+  }
+
+  JALGraphStore<JAEFXGraphNodeType, JAEFXGraphEdgeType> signalStore()
+  {
+    return this.signalGraph;
+  }
+
+  private Optional<JAEFXFilterType<?>> sourceFilter(
+    final JAEFXSourceNode sourceNode)
+  {
+    final var count = this.signalGraph.outDegree(sourceNode);
+    for (int index = 0; index < count; ++index) {
+      final var node = this.signalGraph.outgoingAt(sourceNode, index);
+      if (node instanceof final JAEFXFilterType<?> filter) {
+        return Optional.of(filter);
+      }
+    }
+    return Optional.empty();
   }
 
   void filterParametersUpdated(
     final JAEFXFilterType<?> filter)
     throws JAException
   {
-    for (final var edge : this.signalGraph.incomingEdgesOf(filter)) {
-      if (edge instanceof JAEFXSourceDirectToFilter toFilter) {
+    final var count = this.signalGraph.inDegree(filter);
+    for (int index = 0; index < count; ++index) {
+      final var node = this.signalGraph.incomingAt(filter, index);
+      if (node instanceof final JAEFXSourceNode sourceNode) {
         AL10.alSourcei(
-          (int) toFilter.source().source().handle(),
+          (int) sourceNode.source().handle(),
           AL_DIRECT_FILTER,
           (int) filter.handle()
         );
@@ -413,10 +405,12 @@ public final class JALExtensionEFXContext
     final JAEFXEffectType<?> effect)
     throws JACallException
   {
-    for (final var edge : this.signalGraph.incomingEdgesOf(effect)) {
-      if (edge instanceof JAEFXEffectOnSlot onSlot) {
+    final var count = this.signalGraph.inDegree(effect);
+    for (int index = 0; index < count; ++index) {
+      final var node = this.signalGraph.incomingAt(effect, index);
+      if (node instanceof final JAEXFEffectsSlotType slot) {
         alAuxiliaryEffectSloti(
-          (int) onSlot.slot().handle(),
+          (int) slot.handle(),
           AL_EFFECTSLOT_EFFECT,
           (int) effect.handle()
         );
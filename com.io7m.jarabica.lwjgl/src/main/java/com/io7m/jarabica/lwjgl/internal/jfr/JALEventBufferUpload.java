@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Data was uploaded to a buffer.
+ */
+
+@Name("com.io7m.jarabica.BufferUpload")
+@Label("Buffer Upload")
+@Category({"Jarabica", "OpenAL"})
+@Description("Data was uploaded to a buffer with alBufferData.")
+public final class JALEventBufferUpload extends Event
+{
+  @Label("Context")
+  private long context;
+
+  @Label("Buffer")
+  private int buffer;
+
+  @Label("Format")
+  private String format;
+
+  @Label("Frequency")
+  private int frequency;
+
+  @Label("Size")
+  @DataAmount
+  private long size;
+
+  /**
+   * Data was uploaded to a buffer.
+   */
+
+  public JALEventBufferUpload()
+  {
+
+  }
+
+  /**
+   * Create and begin a new event.
+   *
+   * @return The event
+   */
+
+  public static JALEventBufferUpload start()
+  {
+    final var event = new JALEventBufferUpload();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event, and commit it if it is enabled and within its threshold.
+   *
+   * @param inContext   The context handle
+   * @param inBuffer    The buffer name
+   * @param inFormat    The buffer format
+   * @param inFrequency The frequency
+   * @param inSize      The size in bytes
+   */
+
+  public void finish(
+    final long inContext,
+    final int inBuffer,
+    final String inFormat,
+    final int inFrequency,
+    final long inSize)
+  {
+    this.end();
+    if (this.shouldCommit()) {
+      this.context = inContext;
+      this.buffer = inBuffer;
+      this.format = inFormat;
+      this.frequency = inFrequency;
+      this.size = inSize;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A context was made current.
+ */
+
+@Name("com.io7m.jarabica.ContextSwitch")
+@Label("Context Switch")
+@Category({"Jarabica", "OpenAL"})
+@Description("A context was made current for the process or for a thread.")
+public final class JALEventContextSwitch extends Event
+{
+  @Label("Context")
+  private long context;
+
+  @Label("Thread Local")
+  private boolean threadLocal;
+
+  /**
+   * A context was made current.
+   */
+
+  public JALEventContextSwitch()
+  {
+
+  }
+
+  /**
+   * Create and begin a new event.
+   *
+   * @return The event
+   */
+
+  public static JALEventContextSwitch start()
+  {
+    final var event = new JALEventContextSwitch();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event, and commit it if it is enabled and within its threshold.
+   *
+   * @param inContext     The context handle
+   * @param inThreadLocal {@code true} if the context was made current for
+   *                      the calling thread only
+   */
+
+  public void finish(
+    final long inContext,
+    final boolean inThreadLocal)
+  {
+    this.end();
+    if (this.shouldCommit()) {
+      this.context = inContext;
+      this.threadLocal = inThreadLocal;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The parameters of an EFX object were updated.
+ */
+
+@Name("com.io7m.jarabica.EFXUpdate")
+@Label("EFX Parameter Update")
+@Category({"Jarabica", "OpenAL"})
+@Description("The parameters of an EFX effect or filter were updated.")
+public final class JALEventEFXUpdate extends Event
+{
+  @Label("Context")
+  private long context;
+
+  @Label("Object Type")
+  private String objectType;
+
+  @Label("Object")
+  private int object;
+
+  /**
+   * The parameters of an EFX object were updated.
+   */
+
+  public JALEventEFXUpdate()
+  {
+
+  }
+
+  /**
+   * Create and begin a new event.
+   *
+   * @return The event
+   */
+
+  public static JALEventEFXUpdate start()
+  {
+    final var event = new JALEventEFXUpdate();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event, and commit it if it is enabled and within its threshold.
+   *
+   * @param inContext    The context handle
+   * @param inObjectType The type of the effect or filter
+   * @param inObject     The effect or filter name
+   */
+
+  public void finish(
+    final long inContext,
+    final String inObjectType,
+    final int inObject)
+  {
+    this.end();
+    if (this.shouldCommit()) {
+      this.context = inContext;
+      this.objectType = inObjectType;
+      this.object = inObject;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An OpenAL call failed.
+ */
+
+@Name("com.io7m.jarabica.Error")
+@Label("OpenAL Error")
+@Category({"Jarabica", "OpenAL"})
+@Description("An OpenAL call failed.")
+public final class JALEventError extends Event
+{
+  @Label("Function")
+  @Description("The functions called since errors were last checked")
+  private String function;
+
+  @Label("Error")
+  private String error;
+
+  /**
+   * An OpenAL call failed.
+   */
+
+  public JALEventError()
+  {
+
+  }
+
+  /**
+   * Commit an error event, if the event is enabled.
+   *
+   * @param function The function name
+   * @param error    The error name
+   */
+
+  public static void emit(
+    final String function,
+    final String error)
+  {
+    final var event = new JALEventError();
+    if (event.shouldCommit()) {
+      event.function = function;
+      event.error = error;
+      event.commit();
+    }
+  }
+}
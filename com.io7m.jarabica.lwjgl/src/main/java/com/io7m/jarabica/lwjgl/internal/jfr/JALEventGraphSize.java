@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * The size of an object graph, sampled periodically.
+ */
+
+@Name("com.io7m.jarabica.GraphSize")
+@Label("Graph Size")
+@Category({"Jarabica", "OpenAL"})
+@Description("The size of a source/buffer or EFX signal graph.")
+@Period("1 s")
+@StackTrace(false)
+public final class JALEventGraphSize extends Event
+{
+  @Label("Context")
+  private long context;
+
+  @Label("Graph")
+  private String graph;
+
+  @Label("Vertices")
+  private int vertices;
+
+  @Label("Edges")
+  private int edges;
+
+  /**
+   * The size of an object graph.
+   */
+
+  public JALEventGraphSize()
+  {
+
+  }
+
+  /**
+   * Commit the event.
+   *
+   * @param inContext  The context handle
+   * @param inGraph    The graph name
+   * @param inVertices The number of vertices
+   * @param inEdges    The number of edges
+   */
+
+  public void commit(
+    final long inContext,
+    final String inGraph,
+    final int inVertices,
+    final int inEdges)
+  {
+    this.context = inContext;
+    this.graph = inGraph;
+    this.vertices = inVertices;
+    this.edges = inEdges;
+    this.commit();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Sources were created.
+ */
+
+@Name("com.io7m.jarabica.SourceCreate")
+@Label("Source Create")
+@Category({"Jarabica", "OpenAL"})
+@Description("One or more sources were created.")
+public final class JALEventSourceCreate extends Event
+{
+  @Label("Context")
+  private long context;
+
+  @Label("Count")
+  private int count;
+
+  /**
+   * Sources were created.
+   */
+
+  public JALEventSourceCreate()
+  {
+
+  }
+
+  /**
+   * Create and begin a new event.
+   *
+   * @return The event
+   */
+
+  public static JALEventSourceCreate start()
+  {
+    final var event = new JALEventSourceCreate();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event, and commit it if it is enabled and within its threshold.
+   *
+   * @param inContext The context handle
+   * @param inCount   The number of sources
+   */
+
+  public void finish(
+    final long inContext,
+    final int inCount)
+  {
+    this.end();
+    if (this.shouldCommit()) {
+      this.context = inContext;
+      this.count = inCount;
+      this.commit();
+    }
+  }
+}
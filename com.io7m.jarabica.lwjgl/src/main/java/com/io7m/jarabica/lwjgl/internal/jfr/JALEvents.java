@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.lwjgl.internal.jfr;
+
+import com.io7m.jarabica.lwjgl.internal.JALGraphStore;
+import jdk.jfr.FlightRecorder;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>The registry of graphs sampled by {@link JALEventGraphSize} events.</p>
+ *
+ * <p>Graphs are sampled on the flight recorder's periodic thread, and the
+ * graphs are not synchronized, so sampled sizes may be momentarily stale.
+ * Nothing is sampled unless a recording has the event enabled.</p>
+ */
+
+public final class JALEvents
+{
+  private static final ConcurrentHashMap<JALGraphStore<?, ?>, Graph> GRAPHS =
+    new ConcurrentHashMap<>();
+
+  static {
+    FlightRecorder.addPeriodicEvent(
+      JALEventGraphSize.class,
+      JALEvents::sampleGraphs
+    );
+  }
+
+  private JALEvents()
+  {
+
+  }
+
+  private record Graph(
+    Object owner,
+    long context,
+    String name)
+  {
+
+  }
+
+  private static void sampleGraphs()
+  {
+    GRAPHS.forEach((store, graph) -> {
+      new JALEventGraphSize()
+        .commit(
+          graph.context,
+          graph.name,
+          store.vertexCount(),
+          store.edgeCount()
+        );
+    });
+  }
+
+  /**
+   * Register a graph to be sampled.
+   *
+   * @param owner   The owner of the graph
+   * @param context The context handle
+   * @param name    The graph name
+   * @param store   The graph
+   *
+   * @see #unregisterGraphs(Object)
+   */
+
+  public static void registerGraph(
+    final Object owner,
+    final long context,
+    final String name,
+    final JALGraphStore<?, ?> store)
+  {
+    Objects.requireNonNull(owner, "owner");
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(store, "store");
+
+    GRAPHS.put(store, new Graph(owner, context, name));
+  }
+
+  /**
+   * Stop sampling all graphs registered by the given owner.
+   *
+   * @param owner The owner
+   */
+
+  public static void unregisterGraphs(
+    final Object owner)
+  {
+    GRAPHS.values().removeIf(graph -> graph.owner == owner);
+  }
+}
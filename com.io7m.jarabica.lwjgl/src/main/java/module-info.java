@@ -23,6 +23,7 @@ import com.io7m.jarabica.lwjgl.internal.JALExtensionFactoryType;
  * Type-safe OpenAL frontend (LWJGL implementation).
  */
 
+@SuppressWarnings("module")
 module com.io7m.jarabica.lwjgl
 {
   requires static org.osgi.annotation.bundle;
@@ -33,6 +34,8 @@ module com.io7m.jarabica.lwjgl
 
   requires com.io7m.jtensors.core;
   requires com.io7m.jxtrand.vanilla;
+  requires java.management;
+  requires jdk.jfr;
   requires org.jgrapht.core;
   requires org.lwjgl.openal;
   requires org.slf4j;
@@ -40,6 +43,10 @@ module com.io7m.jarabica.lwjgl
   opens com.io7m.jarabica.lwjgl.internal
     to com.io7m.jxtrand.vanilla;
 
+  // The test suite is not visible when this module is compiled.
+  exports com.io7m.jarabica.lwjgl.internal
+    to com.io7m.jarabica.tests;
+
   uses JALExtensionFactoryType;
 
   exports com.io7m.jarabica.lwjgl;
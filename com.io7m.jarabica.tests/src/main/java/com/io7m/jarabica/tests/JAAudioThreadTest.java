@@ -0,0 +1,412 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.engine.JAAudioThread;
+import com.io7m.jarabica.engine.JAAudioThreadConfiguration;
+import com.io7m.jarabica.engine.JABufferCacheData;
+import com.io7m.jarabica.engine.JABufferSourceType;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAAudioThreadTest extends JAContextFixture
+{
+
+  private JAAudioThread createThread(
+    final int capacity)
+  {
+    return this.resources().add(
+      JAAudioThread.create(
+        new JAAudioThreadConfiguration(
+          "jarabica-test",
+          capacity,
+          Duration.ofMillis(1L)),
+        this.context()
+      )
+    );
+  }
+
+  /**
+   * Commands posted from many threads are applied, and the last write to
+   * each property wins.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testManyProducers()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var proxy = thread.createSource().get(5L, TimeUnit.SECONDS);
+
+    final var producers = new ArrayList<Thread>();
+    final var start = new CountDownLatch(1);
+    for (int index = 0; index < 8; ++index) {
+      final var offset = index;
+      producers.add(Thread.ofPlatform().start(() -> {
+        try {
+          start.await();
+        } catch (final InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        for (int count = 0; count < 10_000; ++count) {
+          proxy.setPosition(offset, count, 0.0f);
+          proxy.setGain(0.5f);
+          if (count % 100 == 0) {
+            proxy.setLooping(true);
+          }
+        }
+      }));
+    }
+
+    start.countDown();
+    for (final var producer : producers) {
+      producer.join();
+    }
+
+    proxy.setPosition(1.0f, 2.0f, 3.0f);
+    proxy.setVelocity(4.0f, 5.0f, 6.0f);
+
+    final var position =
+      thread.submit(c -> proxy.source().position())
+        .get(5L, TimeUnit.SECONDS);
+    final var velocity =
+      thread.submit(c -> proxy.source().velocity())
+        .get(5L, TimeUnit.SECONDS);
+    final var gain =
+      thread.submit(c -> Double.valueOf(proxy.source().gain()))
+        .get(5L, TimeUnit.SECONDS);
+    final var looping =
+      thread.submit(c -> Boolean.valueOf(proxy.source().looping()))
+        .get(5L, TimeUnit.SECONDS);
+
+    assertEquals(Vector3D.of(1.0, 2.0, 3.0), position);
+    assertEquals(Vector3D.of(4.0, 5.0, 6.0), velocity);
+    assertEquals(0.5, gain.doubleValue(), 0.0001);
+    assertTrue(looping.booleanValue());
+
+    final var statistics = thread.statistics();
+    assertEquals(160_002L, statistics.propertyWrites());
+    assertTrue(statistics.propertyCoalesced() > 0L);
+    assertEquals(0L, statistics.commandsFailed());
+  }
+
+  /**
+   * Listener writes are applied.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testListener()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var listener = thread.listener();
+
+    listener.setPosition(1.0f, 2.0f, 3.0f);
+    listener.setPosition(4.0f, 5.0f, 6.0f);
+    listener.setOrientation(0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f);
+
+    final var position =
+      thread.submit(c -> c.listener().position())
+        .get(5L, TimeUnit.SECONDS);
+    final var orientation =
+      thread.submit(c -> c.listener().orientation())
+        .get(5L, TimeUnit.SECONDS);
+
+    assertEquals(Vector3D.of(4.0, 5.0, 6.0), position);
+    assertEquals(Vector3D.of(0.0, 0.0, -1.0), orientation.forward());
+  }
+
+  /**
+   * Failing tasks complete their futures exceptionally, and failing commands
+   * do not stop the thread.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTaskFails()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var proxy = thread.createSource().get(5L, TimeUnit.SECONDS);
+
+    final var future =
+      thread.submit(c -> {
+        throw new IllegalStateException("Failed!");
+      });
+
+    final var ex =
+      assertThrows(ExecutionException.class, () -> {
+        future.get(5L, TimeUnit.SECONDS);
+      });
+    assertInstanceOf(IllegalStateException.class, ex.getCause());
+
+    /*
+     * Errors for property updates are reported when the tick's update batch
+     * is closed.
+     */
+
+    proxy.setGain(-1.0f);
+    thread.submit(c -> null).get(5L, TimeUnit.SECONDS);
+
+    /*
+     * The task above completes before the batch that contains the property
+     * write is closed, so wait for that tick to end.
+     */
+
+    final var ticks = thread.statistics().ticks();
+    while (thread.statistics().ticks() < ticks + 2L) {
+      Thread.sleep(1L);
+    }
+    assertEquals(1L, thread.statistics().commandsFailed());
+  }
+
+  /**
+   * Every task that is accepted while the thread is being closed is
+   * completed.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCloseCompletesAcceptedTasks()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var accepted = new ConcurrentLinkedQueue<Future<Object>>();
+    final var start = new CountDownLatch(1);
+    final var producers = new ArrayList<Thread>();
+
+    for (int index = 0; index < 4; ++index) {
+      producers.add(Thread.ofPlatform().start(() -> {
+        try {
+          start.await();
+          while (true) {
+            accepted.add(thread.submit(c -> null));
+          }
+        } catch (final IllegalStateException | InterruptedException e) {
+          // The thread was closed
+        }
+      }));
+    }
+
+    start.countDown();
+    Thread.sleep(10L);
+    thread.close();
+
+    for (final var producer : producers) {
+      producer.join();
+    }
+
+    assertFalse(accepted.isEmpty());
+    for (final var future : accepted) {
+      assertNull(future.get(5L, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Posting to a closed thread fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClosed()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var proxy = thread.createSource().get(5L, TimeUnit.SECONDS);
+
+    proxy.play();
+    thread.close();
+    assertTrue(thread.isClosed());
+    assertFalse(thread.isAudioThread());
+    assertThrows(IllegalStateException.class, proxy::play);
+    assertThrows(IllegalStateException.class, () -> proxy.setGain(0.5f));
+    assertThrows(IllegalStateException.class, () -> proxy.setGain(0.25f));
+  }
+
+  /**
+   * Queue capacities must be powers of two.
+   */
+
+  @Test
+  public void testConfigurationInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JAAudioThreadConfiguration("x", 3, Duration.ofMillis(1L));
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JAAudioThreadConfiguration("x", 4, Duration.ZERO);
+    });
+  }
+
+  /**
+   * Buffers are loaded asynchronously, and the upload happens on the audio
+   * thread.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLoadBufferAsync()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var result =
+      thread.loadBufferAsync(new SilenceSource(null), Optional.empty())
+        .get(5L, TimeUnit.SECONDS);
+
+    assertEquals(0.5, result.buffer().duration(), 0.001);
+    assertTrue(result.readNanos() >= 0L);
+    assertTrue(result.decodeNanos() >= 0L);
+    assertTrue(result.uploadNanos() > 0L);
+    thread.submit(c -> {
+      result.buffer().close();
+      return null;
+    }).get(5L, TimeUnit.SECONDS);
+  }
+
+  /**
+   * A failure to create the buffer for a load is delivered to the future.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLoadBufferAsyncCreateFails()
+    throws Exception
+  {
+    final var failing =
+      this.contextFailingAfter("createBuffer", 0, "Out of buffers.");
+
+    final var thread =
+      this.resources().add(
+        JAAudioThread.create(
+          new JAAudioThreadConfiguration(
+            "jarabica-test",
+            16,
+            Duration.ofMillis(1L)),
+          failing
+        )
+      );
+
+    final var future =
+      thread.loadBufferAsync(new SilenceSource(null), Optional.empty());
+    final var ex =
+      assertThrows(
+        ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+    assertInstanceOf(JAMisuseException.class, ex.getCause());
+  }
+
+  /**
+   * Cancelling a load interrupts reading, and failures are delivered to
+   * the future.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLoadBufferAsyncCancelFail()
+    throws Exception
+  {
+    final var thread = this.createThread(16);
+    final var blocked = new CountDownLatch(1);
+    final var interrupted = new CountDownLatch(1);
+
+    final var future =
+      thread.loadBufferAsync(new SilenceSource(() -> {
+        blocked.countDown();
+        try {
+          Thread.sleep(60_000L);
+        } catch (final InterruptedException e) {
+          interrupted.countDown();
+          throw new IOException(e);
+        }
+      }), Optional.empty());
+
+    assertTrue(blocked.await(5L, TimeUnit.SECONDS));
+    future.cancel(true);
+    assertTrue(interrupted.await(5L, TimeUnit.SECONDS));
+
+    final var failing =
+      thread.loadBufferAsync(new SilenceSource(() -> {
+        throw new IOException("Failed!");
+      }), Optional.empty());
+
+    final var ex =
+      assertThrows(ExecutionException.class, () -> failing.get(5L, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, ex.getCause());
+  }
+
+  private interface ReadAction
+  {
+    void run()
+      throws IOException;
+  }
+
+  private record SilenceSource(ReadAction onRead)
+    implements JABufferSourceType
+  {
+    @Override
+    public ByteBuffer read()
+      throws IOException
+    {
+      if (this.onRead != null) {
+        this.onRead.run();
+      }
+      return ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public JABufferCacheData decode(
+      final ByteBuffer encoded,
+      final Optional<JABufferFormat> formatHint)
+    {
+      return new JABufferCacheData(
+        formatHint.orElse(JABufferFormat.AUDIO_16_BIT_MONO),
+        44100,
+        0,
+        ByteBuffer.allocateDirect(44100)
+      );
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.engine.JAAutomation;
+import com.io7m.jarabica.engine.JAAutomationConfiguration;
+import com.io7m.jarabica.engine.JAAutomationCurve;
+import com.io7m.jarabica.engine.JAAutomationKeyframe;
+import com.io7m.jarabica.engine.JAAutomationParameter;
+import com.io7m.jarabica.engine.JARampCurve;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAAutomationTest extends JAContextFixture
+{
+  private static final long SECOND = 1_000_000_000L;
+
+  /**
+   * The curve shapes start at 0 and end at 1.
+   */
+
+  @Test
+  public void testCurveShapes()
+  {
+    for (final var curve : JARampCurve.values()) {
+      assertEquals(0.0, curve.shape(0.0), 1.0e-9);
+      assertEquals(1.0, curve.shape(1.0), 1.0e-9);
+      assertEquals(1.0, curve.shape(2.0), 1.0e-9);
+    }
+    assertEquals(0.5, JARampCurve.RAMP_LINEAR.shape(0.5), 1.0e-9);
+    assertEquals(0.25, JARampCurve.RAMP_EASE_IN.shape(0.5), 1.0e-9);
+    assertEquals(0.75, JARampCurve.RAMP_EASE_OUT.shape(0.5), 1.0e-9);
+    assertEquals(0.0, JARampCurve.RAMP_STEP.shape(0.99), 1.0e-9);
+
+    final var curve = new JAAutomationCurve(List.of(
+      new JAAutomationKeyframe(Duration.ofSeconds(1L), 1.0, JARampCurve.RAMP_LINEAR),
+      new JAAutomationKeyframe(Duration.ofSeconds(3L), 0.0, JARampCurve.RAMP_LINEAR)
+    ));
+    assertEquals(0.5, curve.evaluate(0.0, Duration.ofMillis(500L)), 1.0e-9);
+    assertEquals(0.5, curve.evaluate(0.0, Duration.ofSeconds(2L)), 1.0e-9);
+    assertEquals(0.0, curve.evaluate(0.0, Duration.ofSeconds(4L)), 1.0e-9);
+
+    assertThrows(IllegalArgumentException.class, () -> new JAAutomationCurve(List.of()));
+    assertThrows(IllegalArgumentException.class, () -> new JAAutomationCurve(List.of(
+      new JAAutomationKeyframe(Duration.ofSeconds(2L), 1.0, JARampCurve.RAMP_LINEAR),
+      new JAAutomationKeyframe(Duration.ofSeconds(1L), 0.0, JARampCurve.RAMP_LINEAR)
+    )));
+  }
+
+  /**
+   * Ramps move source properties and complete when finished.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRampGainPitch()
+    throws Exception
+  {
+    final var source =
+      this.resources().add(this.context().createSource());
+    final var automation =
+      JAAutomation.create(this.context(), JAAutomationConfiguration.defaults());
+
+    final var gainDone =
+      automation.rampGain(source, 0.0, Duration.ofSeconds(1L), JARampCurve.RAMP_LINEAR);
+    final var pitchDone =
+      automation.rampPitch(source, 2.0, Duration.ofSeconds(2L), JARampCurve.RAMP_LINEAR);
+
+    final var time = 1000L * SECOND;
+    automation.update(time);
+    assertEquals(2, automation.statistics().active());
+    assertEquals(1.0, source.gain(), 1.0e-6);
+
+    automation.update(time + SECOND / 2L);
+    assertEquals(0.5, source.gain(), 1.0e-6);
+    assertEquals(1.25, source.pitch(), 1.0e-6);
+    assertFalse(gainDone.isDone());
+
+    automation.update(time + SECOND);
+    assertEquals(0.0, source.gain(), 1.0e-6);
+    assertTrue(gainDone.isDone());
+    assertFalse(gainDone.isCancelled());
+    assertFalse(pitchDone.isDone());
+
+    automation.update(time + 2L * SECOND);
+    assertEquals(2.0, source.pitch(), 1.0e-6);
+    assertTrue(pitchDone.isDone());
+
+    final var statistics = automation.statistics();
+    assertEquals(0, statistics.active());
+    assertEquals(2L, statistics.completed());
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> automation.rampPitch(source, 0.0, Duration.ofSeconds(1L), JARampCurve.RAMP_LINEAR));
+  }
+
+  /**
+   * Replaced, cancelled, and orphaned curves have their futures cancelled,
+   * and small changes are not sent.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCancelReplaceEpsilon()
+    throws Exception
+  {
+    final var source0 =
+      this.context().createSource();
+    final var source1 =
+      this.resources().add(this.context().createSource());
+    final var automation =
+      JAAutomation.create(this.context(), new JAAutomationConfiguration(0.1, 0.1));
+
+    final var first =
+      automation.rampGain(source0, 0.0, Duration.ofSeconds(1L), JARampCurve.RAMP_LINEAR);
+    final var second =
+      automation.rampGain(source0, 0.5, Duration.ofSeconds(10L), JARampCurve.RAMP_LINEAR);
+    final var pitch =
+      automation.automate(
+        source1,
+        JAAutomationParameter.PARAMETER_PITCH,
+        JAAutomationCurve.ramp(1.01, Duration.ofSeconds(1L), JARampCurve.RAMP_LINEAR));
+
+    final var time = 1000L * SECOND;
+    automation.update(time);
+    assertTrue(first.isCancelled());
+    assertFalse(second.isDone());
+
+    automation.update(time + SECOND / 2L);
+    assertEquals(1.0, source1.pitch(), 1.0e-6);
+    automation.update(time + SECOND);
+    assertEquals(1.01, source1.pitch(), 1.0e-6);
+    assertTrue(pitch.isDone());
+
+    final var third =
+      automation.rampGain(source1, 0.0, Duration.ofSeconds(1L), JARampCurve.RAMP_LINEAR);
+    automation.cancel(source1, JAAutomationParameter.PARAMETER_GAIN);
+    source0.close();
+    automation.update(time + 2L * SECOND);
+
+    assertTrue(second.isCancelled());
+    assertTrue(third.isCancelled());
+    assertEquals(1.0, source1.gain(), 1.0e-6);
+
+    final var statistics = automation.statistics();
+    assertEquals(0, statistics.active());
+    assertEquals(3L, statistics.cancelled());
+    assertTrue(statistics.skipped() > 0L);
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.engine.JABufferCache;
+import com.io7m.jarabica.engine.JABufferCacheConfiguration;
+import com.io7m.jarabica.engine.JABufferCacheData;
+import com.io7m.jarabica.engine.JABufferCacheKey;
+import com.io7m.jarabica.engine.JABufferCacheLoaderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JABufferCacheTest extends JAContextFixture
+{
+  private static final int CLIP_SIZE = 4800;
+
+  private SilenceLoader loader;
+
+  private static JABufferCacheKey key(
+    final String name)
+  {
+    return new JABufferCacheKey(name, "0");
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.loader =
+      new SilenceLoader();
+  }
+
+  /**
+   * Acquiring the same asset twice shares a single buffer.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShared()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(), JABufferCacheConfiguration.defaults(), this.loader);
+
+    final var lease0 = cache.acquire(key("a"));
+    final var lease1 = cache.acquire(key("a"));
+    assertSame(lease0.buffer(), lease1.buffer());
+    assertEquals(1, this.loader.reads);
+    assertEquals(1, this.loader.decodes);
+    assertEquals(0.05, lease0.buffer().duration(), 0.001);
+
+    final var stats = cache.statistics();
+    assertEquals(1L, stats.hits());
+    assertEquals(1L, stats.misses());
+    assertEquals(1, stats.buffers());
+    assertEquals(2, stats.leases());
+
+    lease0.close();
+    lease0.close();
+    lease1.close();
+    assertEquals(0, cache.statistics().leases());
+    cache.close();
+    assertTrue(lease0.buffer().isClosed());
+  }
+
+  /**
+   * Idle buffers are evicted in LRU order, and evicted assets are decoded
+   * again from their retained encoded form.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEvictLRU()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(),
+        new JABufferCacheConfiguration(CLIP_SIZE * 2L, 1024L),
+        this.loader
+      );
+
+    cache.acquire(key("a")).close();
+    cache.acquire(key("b")).close();
+    cache.acquire(key("a")).close();
+    final var c = cache.acquire(key("c"));
+    c.close();
+
+    var stats = cache.statistics();
+    assertEquals(1L, stats.evictions());
+    assertEquals(2, stats.buffers());
+    assertEquals(3, stats.encoded());
+
+    final var b = cache.acquire(key("b"));
+    assertFalse(b.buffer().isClosed());
+    assertEquals(3, this.loader.reads);
+    assertEquals(4, this.loader.decodes);
+
+    stats = cache.statistics();
+    assertEquals(1L, stats.encodedHits());
+    assertEquals(2L, stats.evictions());
+    b.close();
+    cache.close();
+  }
+
+  /**
+   * Buffers that are leased or attached to sources are never evicted.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNoEvictInUse()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(),
+        new JABufferCacheConfiguration(0L, 0L),
+        this.loader
+      );
+
+    final var a = cache.acquire(key("a"));
+    final var b = cache.acquire(key("b"));
+    final var source = this.resources().add(this.context().createSource());
+    source.setBuffer(b.buffer());
+    b.close();
+
+    cache.trim();
+    assertFalse(a.buffer().isClosed());
+    assertFalse(b.buffer().isClosed());
+    assertEquals(CLIP_SIZE * 2L, cache.statistics().bufferBytes());
+    assertEquals(2, this.loader.reads);
+
+    assertThrows(JAMisuseException.class, cache::close);
+    a.close();
+    source.close();
+    cache.trim();
+    assertTrue(a.buffer().isClosed());
+    assertTrue(b.buffer().isClosed());
+    cache.close();
+    assertThrows(JAMisuseException.class, () -> cache.acquire(key("a")));
+  }
+
+  /**
+   * Releasing the last lease on a buffer evicts buffers if the cache is over
+   * its budget.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEvictOnRelease()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(),
+        new JABufferCacheConfiguration(CLIP_SIZE, 1024L),
+        this.loader
+      );
+
+    final var a = cache.acquire(key("a"));
+    final var b = cache.acquire(key("b"));
+    assertEquals(CLIP_SIZE * 2L, cache.statistics().bufferBytes());
+
+    a.close();
+    assertTrue(a.buffer().isClosed());
+    assertEquals(1L, cache.statistics().evictions());
+    assertEquals(CLIP_SIZE, cache.statistics().bufferBytes());
+
+    b.close();
+    assertFalse(b.buffer().isClosed());
+    cache.close();
+  }
+
+  /**
+   * A buffer closed directly by the holder of a lease is dropped from the
+   * cache and loaded again on the next acquisition.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClosedDirectly()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(), JABufferCacheConfiguration.defaults(), this.loader);
+
+    final var a0 = cache.acquire(key("a"));
+    a0.buffer().close();
+
+    final var a1 = cache.acquire(key("a"));
+    assertFalse(a1.buffer().isClosed());
+    assertNotSame(a0.buffer(), a1.buffer());
+    assertEquals(2, this.loader.decodes);
+
+    final var stats = cache.statistics();
+    assertEquals(0L, stats.hits());
+    assertEquals(1, stats.buffers());
+    assertEquals(CLIP_SIZE, stats.bufferBytes());
+
+    a0.close();
+    a1.close();
+    cache.close();
+    assertTrue(a1.buffer().isClosed());
+  }
+
+  /**
+   * A cache cannot be closed while its buffers are attached to sources.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCloseAttached()
+    throws Exception
+  {
+    final var cache =
+      JABufferCache.create(
+        this.context(), JABufferCacheConfiguration.defaults(), this.loader);
+
+    final var a = cache.acquire(key("a"));
+    final var source = this.resources().add(this.context().createSource());
+    source.setBuffer(a.buffer());
+    a.close();
+
+    assertThrows(JAMisuseException.class, cache::close);
+    assertFalse(a.buffer().isClosed());
+
+    source.close();
+    cache.close();
+    assertTrue(a.buffer().isClosed());
+  }
+
+  private static final class SilenceLoader
+    implements JABufferCacheLoaderType
+  {
+    private int reads;
+    private int decodes;
+
+    SilenceLoader()
+    {
+
+    }
+
+    @Override
+    public ByteBuffer read(
+      final JABufferCacheKey key)
+    {
+      ++this.reads;
+      return ByteBuffer.allocate(4).putInt(0, CLIP_SIZE);
+    }
+
+    @Override
+    public JABufferCacheData decode(
+      final JABufferCacheKey key,
+      final ByteBuffer encoded)
+    {
+      ++this.decodes;
+      return new JABufferCacheData(
+        AUDIO_16_BIT_MONO,
+        48000,
+        0,
+        ByteBuffer.allocateDirect(encoded.getInt(0))
+          .order(ByteOrder.nativeOrder())
+      );
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import com.io7m.jmulticlose.core.CloseableCollectionType;
+import com.io7m.jmulticlose.core.ClosingResourceFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The common fixture for tests that need a single context on the first
+ * available device. The device and context are closed after each test,
+ * along with anything else added to {@link #resources()}.
+ */
+
+public abstract class JAContextFixture
+{
+  private CloseableCollectionType<ClosingResourceFailedException> resources;
+  private JAContextType context;
+
+  protected JAContextFixture()
+  {
+
+  }
+
+  @BeforeEach
+  public final void setupContext()
+    throws Exception
+  {
+    this.resources =
+      CloseableCollection.create();
+
+    final var devices =
+      new JALWDeviceFactory();
+    final var device =
+      this.resources.add(
+        devices.openDevice(devices.enumerateDevices().get(0)));
+
+    this.context =
+      this.resources.add(device.createContext());
+  }
+
+  @AfterEach
+  public final void tearDownContext()
+    throws Exception
+  {
+    this.resources.close();
+  }
+
+  /**
+   * @return The resources closed after the current test
+   */
+
+  protected final CloseableCollectionType<ClosingResourceFailedException> resources()
+  {
+    return this.resources;
+  }
+
+  /**
+   * @return The context for the current test
+   */
+
+  protected final JAContextType context()
+  {
+    return this.context;
+  }
+
+  /**
+   * Wrap the context for the current test such that the named method
+   * succeeds {@code allowed} times and then fails on every call.
+   *
+   * @param method  The method name
+   * @param allowed The number of calls that succeed
+   * @param message The exception message
+   *
+   * @return A wrapped context
+   */
+
+  protected final JAContextType contextFailingAfter(
+    final String method,
+    final int allowed,
+    final String message)
+  {
+    Objects.requireNonNull(method, "method");
+    Objects.requireNonNull(message, "message");
+
+    final var calls = new AtomicInteger();
+    return (JAContextType) Proxy.newProxyInstance(
+      JAContextType.class.getClassLoader(),
+      new Class<?>[]{JAContextType.class},
+      (proxy, called, arguments) -> {
+        if (method.equals(called.getName())
+            && calls.getAndIncrement() >= allowed) {
+          throw new JAMisuseException(message);
+        }
+        try {
+          return called.invoke(this.context, arguments);
+        } catch (final InvocationTargetException e) {
+          throw e.getCause();
+        }
+      }
+    );
+  }
+}
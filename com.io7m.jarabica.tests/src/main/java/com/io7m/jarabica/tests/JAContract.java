@@ -17,10 +17,19 @@
 
 package com.io7m.jarabica.tests;
 
+import com.io7m.jarabica.api.JAAbstractGraphListener;
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JABufferPoolConfiguration;
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JACallException;
 import com.io7m.jarabica.api.JADeviceDescription;
 import com.io7m.jarabica.api.JADeviceFactoryType;
+import com.io7m.jarabica.api.JADistanceModel;
 import com.io7m.jarabica.api.JAListenerType;
 import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.api.JASourceBufferLink;
+import com.io7m.jarabica.api.JASourceOrBufferType;
+import com.io7m.jarabica.api.JASourceType;
 import com.io7m.jarabica.extensions.efx.JAEFXConfiguration;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEAXReverbParameters;
 import com.io7m.jarabica.extensions.efx.JAEFXEffectEchoParameters;
@@ -34,6 +43,8 @@ import com.io7m.jmulticlose.core.CloseableCollectionType;
 import com.io7m.jmulticlose.core.ClosingResourceFailedException;
 import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import org.jgrapht.event.GraphEdgeChangeEvent;
+import org.jgrapht.event.GraphVertexChangeEvent;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,15 +53,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
 
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_STEREO;
 import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_8_BIT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_IMA4_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_MSADPCM_STEREO;
 import static com.io7m.jarabica.api.JABufferFormat.values;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_MONO;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_STEREO;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_FLOAT;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_SHORT;
 import static com.io7m.jarabica.api.JASourceState.SOURCE_STATE_INITIAL;
 import static com.io7m.jarabica.api.JASourceState.SOURCE_STATE_PAUSED;
+import static com.io7m.jarabica.api.JASourceState.SOURCE_STATE_PLAYING;
 import static com.io7m.jarabica.api.JASourceState.SOURCE_STATE_STOPPED;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -68,6 +95,21 @@ public abstract class JAContract
 
   protected abstract JADeviceFactoryType deviceFactory();
 
+  /**
+   * Produce a buffer of silence in the given format: 48000 bytes rounded
+   * down to whole frames for sample formats, and a short run of blocks for
+   * block-encoded formats.
+   */
+
+  private static ByteBuffer formatTestData(
+    final JABufferFormat format)
+  {
+    if (format.isBlockEncoded()) {
+      return ByteBuffer.allocateDirect(format.bytesPerBlock() * 100);
+    }
+    return ByteBuffer.allocateDirect(48000 - (48000 % format.bytesPerBlock()));
+  }
+
   @BeforeEach
   public final void setup()
   {
@@ -201,6 +243,78 @@ public abstract class JAContract
     assertTrue(context1.isCurrent());
   }
 
+  /**
+   * Setting a context as current for the process replaces any context that
+   * was current for the calling thread.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSwitchClearsThreadContext()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+
+    Assumptions.assumeTrue(
+      device.extensions().contains("ALC_EXT_thread_local_context"));
+
+    final var context0 =
+      this.resources.add(device.createContext());
+    final var context1 =
+      this.resources.add(device.createContext());
+
+    context0.setCurrentForThread();
+    assertTrue(context0.isCurrent());
+    assertFalse(context1.isCurrent());
+
+    context1.setCurrent();
+    assertFalse(context0.isCurrent());
+    assertTrue(context1.isCurrent());
+
+    final var source = this.resources.add(context1.createSource());
+    source.setGain(0.5);
+    assertEquals(0.5, source.gain(), 0.000001);
+  }
+
+  /**
+   * Closing a context on one thread stops it being current for any other
+   * thread that made it current for itself.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextCloseClearsOtherThreadContext()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+
+    Assumptions.assumeTrue(
+      device.extensions().contains("ALC_EXT_thread_local_context"));
+
+    final var context0 =
+      this.resources.add(device.createContext());
+    final var context1 =
+      this.resources.add(device.createContext());
+
+    final var executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(() -> {
+        context0.setCurrentForThread();
+        return null;
+      }).get();
+
+      context0.close();
+
+      assertTrue(executor.submit(context1::isCurrent).get().booleanValue());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Using a closed context fails.
    *
@@ -302,6 +416,49 @@ public abstract class JAContract
     );
   }
 
+  /**
+   * Listener properties can be read and written without allocating vectors.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextListenerFloats()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+
+    final var listener = context.listener();
+    final var array = new float[6];
+    final var buffer = FloatBuffer.allocate(7);
+    buffer.position(1);
+
+    listener.setPosition(1.0f, 2.0f, 3.0f);
+    listener.position(array, 0);
+    assertArrayEquals(new float[]{1.0f, 2.0f, 3.0f, 0.0f, 0.0f, 0.0f}, array);
+
+    listener.setVelocity(4.0f, 5.0f, 6.0f);
+    listener.velocity(array, 3);
+    assertArrayEquals(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f}, array);
+    listener.velocity(buffer);
+    assertEquals(1, buffer.position());
+    assertEquals(4.0f, buffer.get(1));
+
+    listener.setOrientation(0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f);
+    listener.orientation(array, 0);
+    assertArrayEquals(new float[]{0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f}, array);
+    listener.orientation(buffer);
+    assertEquals(-1.0f, buffer.get(3));
+    assertEquals(1.0f, buffer.get(5));
+
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> listener.orientation(array, 1));
+  }
+
   /**
    * Creating and manipulating sources works.
    *
@@ -370,6 +527,54 @@ public abstract class JAContract
     assertEquals(0.5, source.pitch(), 0.0001);
   }
 
+  /**
+   * Source properties can be read and written without allocating vectors.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceFloats()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+
+    final var array = new float[5];
+    final var buffer = FloatBuffer.allocate(5);
+    buffer.position(1);
+
+    source.setPosition(1.0f, 2.0f, 3.0f);
+    source.position(array, 1);
+    assertArrayEquals(new float[]{0.0f, 1.0f, 2.0f, 3.0f, 0.0f}, array);
+    source.position(buffer);
+    assertEquals(1, buffer.position());
+    assertEquals(2.0f, buffer.get(2));
+
+    source.setVelocity(4.0f, 5.0f, 6.0f);
+    source.velocity(array, 2);
+    assertArrayEquals(new float[]{0.0f, 1.0f, 4.0f, 5.0f, 6.0f}, array);
+    source.velocity(buffer);
+    assertEquals(6.0f, buffer.get(3));
+
+    source.setGain(0.25f);
+    assertEquals(0.25, source.gain(), 0.0001);
+    source.setPitch(1.5f);
+    assertEquals(1.5, source.pitch(), 0.0001);
+
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> source.position(array, 3));
+    buffer.position(3);
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> source.position(buffer));
+  }
+
   /**
    * Playing sources works.
    *
@@ -391,7 +596,7 @@ public abstract class JAContract
         this.resources.add(context.createBuffer());
 
       for (final var format : values()) {
-        final var data = ByteBuffer.allocateDirect(48000);
+        final var data = formatTestData(format);
         buffer.setData(format, 48000, data);
 
         source.setBuffer(buffer);
@@ -430,7 +635,7 @@ public abstract class JAContract
         this.resources.add(context.createBuffer());
 
       for (final var format : values()) {
-        final var data = ByteBuffer.allocateDirect(48000);
+        final var data = formatTestData(format);
         buffer.setData(format, 48000, data);
 
         source.setBuffer(buffer);
@@ -473,7 +678,7 @@ public abstract class JAContract
         this.resources.add(context.createBuffer());
 
       for (final var format : values()) {
-        final var data = ByteBuffer.allocateDirect(48000);
+        final var data = formatTestData(format);
         buffer.setData(format, 48000, data);
 
         source.setBuffer(buffer);
@@ -486,111 +691,805 @@ public abstract class JAContract
         source.play();
         assertTrue(source.isPlaying());
 
-        while (source.isPlaying()) {
-          Thread.sleep(100L);
-        }
+        while (source.isPlaying()) {
+          Thread.sleep(100L);
+        }
+
+        source.detachBuffer();
+      }
+    });
+  }
+
+  /**
+   * Rewinding sources works.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourcePlayRewind()
+    throws Exception
+  {
+    assertTimeout(Duration.ofSeconds(10L), () -> {
+      final var device =
+        this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+      final var context =
+        this.resources.add(device.createContext());
+      final var source =
+        this.resources.add(context.createSource());
+      final var buffer =
+        this.resources.add(context.createBuffer());
+
+      for (final var format : values()) {
+        final var data = formatTestData(format);
+        buffer.setData(format, 48000, data);
+
+        source.setBuffer(buffer);
+        assertEquals(Optional.of(buffer), source.buffer());
+        assertFalse(source.isPlaying());
+        source.play();
+        assertTrue(source.isPlaying());
+        source.rewind();
+        assertEquals(SOURCE_STATE_INITIAL, source.state());
+        source.play();
+        assertTrue(source.isPlaying());
+
+        while (source.isPlaying()) {
+          Thread.sleep(100L);
+        }
+
+        source.detachBuffer();
+      }
+    });
+  }
+
+  /**
+   * Using a closed source fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceClosed()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+
+    source.close();
+    assertThrows(
+      JAMisuseException.class,
+      () -> source.setVelocity(0.0, 0.0, 0.0));
+  }
+
+  /**
+   * Trying to delete a buffer with an attached source fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceDeleteBufferAttached()
+    throws Exception
+  {
+    assertTimeout(Duration.ofSeconds(10L), () -> {
+      final var device =
+        this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+      final var context =
+        this.resources.add(device.createContext());
+      final var source =
+        this.resources.add(context.createSource());
+      final var buffer =
+        this.resources.add(context.createBuffer());
+
+      for (final var format : values()) {
+        final var data = formatTestData(format);
+        buffer.setData(format, 48000, data);
+        source.setBuffer(buffer);
+
+        assertThrows(JAMisuseException.class, buffer::close);
+        assertFalse(buffer.isClosed());
+        source.detachBuffer();
+      }
+    });
+  }
+
+  /**
+   * Queueing buffers on sources works, and is reflected in the graph.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceQueueBuffers()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+    final var buffer0 =
+      this.resources.add(context.createBuffer());
+    final var buffer1 =
+      this.resources.add(context.createBuffer());
+    final var buffer2 =
+      this.resources.add(context.createBuffer());
+
+    final var data = ByteBuffer.allocateDirect(4800);
+    buffer0.setData(AUDIO_16_BIT_MONO, 48000, data);
+    buffer1.setData(AUDIO_16_BIT_MONO, 48000, data);
+    buffer2.setData(AUDIO_16_BIT_MONO, 48000, data);
+
+    source.queueBuffer(buffer0);
+    source.queueBuffer(buffer1);
+    source.queueBuffer(buffer2);
+
+    final var graph = context.sourceBufferGraph();
+    assertEquals(3, source.buffersQueued());
+    assertEquals(3, graph.inDegreeOf(source));
+    assertEquals(Optional.of(buffer0), source.buffer());
+    assertThrows(JAMisuseException.class, buffer1::close);
+
+    source.play();
+    source.stop();
+    assertEquals(3, source.buffersProcessed());
+
+    assertEquals(buffer0, source.unqueueBuffer());
+    assertEquals(2, graph.inDegreeOf(source));
+    assertEquals(buffer1, source.unqueueBuffer());
+    assertEquals(buffer2, source.unqueueBuffer());
+    assertEquals(0, graph.inDegreeOf(source));
+    assertEquals(0, source.buffersQueued());
+    assertEquals(Optional.empty(), source.buffer());
+
+    buffer1.close();
+    assertTrue(buffer1.isClosed());
+  }
+
+  /**
+   * Source offsets can be set and read, and buffers report their duration.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceOffset()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+    final var buffer =
+      this.resources.add(context.createBuffer());
+
+    assertEquals(0.0, buffer.duration());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+    assertEquals(1.0, buffer.duration());
+
+    source.setBuffer(buffer);
+    source.setOffsetSeconds(0.5);
+    source.play();
+    source.pause();
+    assertEquals(0.5, source.offsetSeconds(), 0.1);
+    assertThrows(JACallException.class, () -> source.setOffsetSeconds(2.0));
+
+    source.stop();
+    source.detachBuffer();
+  }
+
+  /**
+   * Source distance properties and the context distance model can be set
+   * and read.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceDistance()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+
+    assertEquals(JADistanceModel.DISTANCE_INVERSE_CLAMPED, context.distanceModel());
+    for (final var model : JADistanceModel.values()) {
+      context.setDistanceModel(model);
+      assertEquals(model, context.distanceModel());
+    }
+
+    assertEquals(1.0, source.referenceDistance());
+    assertEquals(1.0, source.rolloffFactor());
+
+    source.setReferenceDistance(2.0);
+    source.setMaxDistance(100.0);
+    source.setRolloffFactor(0.5f);
+    assertEquals(2.0, source.referenceDistance());
+    assertEquals(100.0, source.maxDistance());
+    assertEquals(0.5, source.rolloffFactor());
+
+    assertThrows(JACallException.class, () -> source.setReferenceDistance(-1.0));
+  }
+
+  /**
+   * Source offsets can be read and set in samples and seconds, and read
+   * together with the output latency.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testSourceOffsetLatency()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var buffer =
+      this.resources.add(context.createBuffer());
+    final var source =
+      this.resources.add(context.createSource());
+
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+    source.setBuffer(buffer);
+
+    source.setOffsetSamples(12000);
+    source.play();
+    source.pause();
+
+    final var samples = source.offsetSamples();
+    assertTrue(samples >= 12000 && samples < 16800);
+    assertEquals(samples / 48000.0, source.offsetSeconds(), 1.0e-6);
+
+    final var output = new long[4];
+    source.offsetLatency(output, 2);
+    assertEquals(samples, output[2] >> 32);
+    assertTrue(output[3] >= 0L);
+    assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> source.offsetLatency(output, 3));
+
+    source.setOffsetSamples(24000);
+    assertEquals(0.5, source.offsetSeconds(), 1.0e-6);
+    assertThrows(JACallException.class, () -> source.setOffsetSamples(48000));
+
+    source.stop();
+    source.detachBuffer();
+
+    if (device.isDeviceClockSupported()) {
+      assertTrue(device.latencyNanos() >= 0L);
+    }
+  }
+
+  /**
+   * Sources can be started at a device clock time.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testSourcePlayAt()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+
+    assertEquals(device, context.device());
+    Assumptions.assumeTrue(device.isDeviceClockSupported());
+    Assumptions.assumeTrue(context.isScheduledPlaybackSupported());
+
+    final var buffer =
+      this.resources.add(context.createBuffer());
+    buffer.setData(JABufferFormat.AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+
+    final var sources = context.createSources(2);
+    for (final var source : sources) {
+      this.resources.add(source);
+      source.setBuffer(buffer);
+    }
+
+    final var time0 = device.clockNanos();
+    final var time1 = device.clockNanos();
+    assertTrue(time1 >= time0);
+
+    sources.get(0).playAt(time1 + 1_000_000_000L);
+    assertEquals(SOURCE_STATE_PLAYING, sources.get(0).state());
+    assertEquals(0.0, sources.get(0).offsetSeconds());
+    sources.get(0).stop();
+
+    context.playAllAt(sources, time1);
+    for (final var source : sources) {
+      assertEquals(SOURCE_STATE_PLAYING, source.state());
+    }
+
+    sources.get(1).close();
+    assertThrows(JAMisuseException.class, () -> context.playAllAt(sources, time1));
+  }
+
+  /**
+   * The source index tracks source positions.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceIndex()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var index =
+      context.sourceIndex();
+
+    final var source0 = context.createSource();
+    final var sources = context.createSources(2);
+    final var source1 = sources.get(0);
+    final var source2 = sources.get(1);
+    assertEquals(3, index.size());
+
+    source0.setPosition(1.0, 0.0, 0.0);
+    source1.setPosition(50.0, 0.0, 0.0);
+    source2.setPosition(-20.0, 0.0, 0.0);
+
+    final var found = new ArrayList<JASourceType>();
+    index.nearest(0.0, 0.0, 0.0, 3, found);
+    assertEquals(List.of(source0, source2, source1), found);
+
+    found.clear();
+    index.withinRadius(45.0, 0.0, 0.0, 10.0, found);
+    assertEquals(List.of(source1), found);
+
+    source1.close();
+    found.clear();
+    index.withinBox(-100.0, -1.0, -1.0, 100.0, 1.0, 1.0, found);
+    assertEquals(Set.of(source0, source2), Set.copyOf(found));
+
+    context.closeAll(List.of(source0, source2));
+    assertEquals(0, index.size());
+  }
+
+  /**
+   * Changing the cell size of the source index keeps every source.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceIndexCellSize()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var index =
+      context.sourceIndex();
+
+    assertEquals(16.0, context.sourceIndexCellSize());
+
+    final var sources = context.createSources(3);
+    sources.get(0).setPosition(1.0, 0.0, 0.0);
+    sources.get(1).setPosition(500.0, 0.0, 0.0);
+    sources.get(2).setPosition(-20.0, 0.0, 0.0);
+
+    context.setSourceIndexCellSize(100.0);
+    assertEquals(100.0, context.sourceIndexCellSize());
+    assertEquals(3, index.size());
+
+    final var found = new ArrayList<JASourceType>();
+    index.nearest(0.0, 0.0, 0.0, 3, found);
+    assertEquals(
+      List.of(sources.get(0), sources.get(2), sources.get(1)), found);
+
+    assertThrows(JAMisuseException.class, () -> {
+      context.setSourceIndexCellSize(0.0);
+    });
+    assertThrows(JAMisuseException.class, () -> {
+      context.setSourceIndexCellSize(Double.POSITIVE_INFINITY);
+    });
+    assertEquals(100.0, context.sourceIndexCellSize());
+  }
+
+  /**
+   * Sources and buffers can be created and closed in bulk.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBulkCreateClose()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+
+    final var sources = context.createSources(10);
+    final var buffers = context.createBuffers(20);
+    assertEquals(10, sources.size());
+    assertEquals(20, buffers.size());
+    assertEquals(List.of(), context.createSources(0));
+
+    final var graph = context.sourceBufferGraph();
+    assertEquals(30, graph.vertexSet().size());
+
+    final var data = ByteBuffer.allocateDirect(4800);
+    buffers.get(0).setData(AUDIO_16_BIT_MONO, 48000, data);
+    sources.get(0).setBuffer(buffers.get(0));
+
+    assertThrows(JAMisuseException.class, () -> context.closeAll(buffers));
+    for (final var buffer : buffers) {
+      assertFalse(buffer.isClosed());
+    }
+    assertEquals(30, graph.vertexSet().size());
+
+    final var all = new ArrayList<JASourceOrBufferType>();
+    all.addAll(buffers);
+    all.addAll(sources);
+    all.add(sources.get(0));
+    sources.get(1).close();
+
+    context.closeAll(all);
+    for (final var source : sources) {
+      assertTrue(source.isClosed());
+    }
+    for (final var buffer : buffers) {
+      assertTrue(buffer.isClosed());
+    }
+    assertEquals(0, graph.vertexSet().size());
+  }
+
+  /**
+   * Bulk creation is all or nothing, and objects from other contexts cannot
+   * be closed.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBulkCreateFails()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context0 =
+      this.resources.add(device.createContext());
+
+    assertThrows(JACallException.class, () -> context0.createSources(100_000));
+    assertEquals(0, context0.sourceBufferGraph().vertexSet().size());
+    assertThrows(
+      IllegalArgumentException.class, () -> context0.createBuffers(-1));
+
+    final var sources = context0.createSources(2);
+    final var context1 =
+      this.resources.add(device.createContext());
+    context1.setCurrent();
+    assertThrows(JAMisuseException.class, () -> context1.closeAll(sources));
+
+    context0.setCurrent();
+    context0.closeAll(sources);
+  }
+
+  /**
+   * Source/buffer graph listeners see a simple graph, even when a buffer is
+   * queued on a source more than once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextSourceBufferGraphEvents()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+
+    final var events = new ArrayList<String>();
+    context.addSourceBufferGraphListener(
+      new JAAbstractGraphListener<>()
+      {
+        @Override
+        public void edgeAdded(
+          final GraphEdgeChangeEvent<JASourceOrBufferType, JASourceBufferLink> e)
+        {
+          events.add("edgeAdded");
+        }
+
+        @Override
+        public void edgeRemoved(
+          final GraphEdgeChangeEvent<JASourceOrBufferType, JASourceBufferLink> e)
+        {
+          events.add("edgeRemoved");
+        }
+
+        @Override
+        public void vertexAdded(
+          final GraphVertexChangeEvent<JASourceOrBufferType> e)
+        {
+          events.add("vertexAdded");
+        }
+
+        @Override
+        public void vertexRemoved(
+          final GraphVertexChangeEvent<JASourceOrBufferType> e)
+        {
+          events.add("vertexRemoved");
+        }
+      });
+
+    final var source = context.createSource();
+    final var buffer = context.createBuffer();
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(4800));
+
+    source.queueBuffer(buffer);
+    source.queueBuffer(buffer);
+
+    final var graph = context.sourceBufferGraph();
+    final var link = new JASourceBufferLink(buffer, source);
+    assertEquals(1, graph.inDegreeOf(source));
+    assertEquals(Set.of(link), graph.edgeSet());
+    assertEquals(link, graph.getEdge(buffer, source));
+    assertTrue(graph.containsEdge(link));
+    assertThrows(UnsupportedOperationException.class, () -> {
+      graph.removeEdge(link);
+    });
+
+    source.play();
+    source.stop();
+    assertEquals(buffer, source.unqueueBuffer());
+    assertTrue(graph.containsEdge(link));
+    assertEquals(buffer, source.unqueueBuffer());
+    assertFalse(graph.containsEdge(link));
+
+    source.setBuffer(buffer);
+    source.close();
+    buffer.close();
+
+    assertEquals(
+      List.of(
+        "vertexAdded",
+        "vertexAdded",
+        "edgeAdded",
+        "edgeRemoved",
+        "edgeAdded",
+        "edgeRemoved",
+        "vertexRemoved",
+        "vertexRemoved"
+      ),
+      events
+    );
+  }
+
+  /**
+   * Buffer pools recycle the names of closed buffers.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBufferPool()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var pool =
+      this.resources.add(context.createBufferPool(
+        new JABufferPoolConfiguration(4, 8, Duration.ofMinutes(1L))));
+
+    final var buffer0 = pool.acquire();
+    final var buffer1 = pool.acquire();
+    final var buffer2 = pool.acquire();
+
+    final var data = ByteBuffer.allocateDirect(4800);
+    buffer0.setData(AUDIO_16_BIT_MONO, 48000, data);
+    assertTrue(context.sourceBufferGraph().containsVertex(buffer0));
+
+    var stats = pool.statistics();
+    assertEquals(1L, stats.misses());
+    assertEquals(2L, stats.hits());
+    assertEquals(3, stats.inUse());
+    assertEquals(1, stats.idle());
+    assertEquals(4L, stats.namesGenerated());
+
+    final var name = buffer2.handle();
+    buffer2.close();
+    assertFalse(context.sourceBufferGraph().containsVertex(buffer2));
+
+    final var buffer3 = pool.acquire();
+    assertEquals(name, buffer3.handle());
+    assertFalse(buffer3.isClosed());
+    assertThrows(JAMisuseException.class, () -> {
+      buffer2.setData(AUDIO_16_BIT_MONO, 48000, data);
+    });
+
+    buffer0.close();
+    buffer1.close();
+    buffer3.close();
+
+    stats = pool.statistics();
+    assertEquals(1L, stats.misses());
+    assertEquals(3L, stats.hits());
+    assertEquals(0, stats.inUse());
+    assertEquals(4, stats.idle());
+    assertEquals(3, stats.inUseHighWater());
+    assertEquals(4L, stats.namesGenerated());
+    assertEquals(0L, stats.namesDeleted());
+
+    pool.trim();
+    stats = pool.statistics();
+    assertEquals(0, stats.idle());
+    assertEquals(4L, stats.namesDeleted());
+  }
+
+  /**
+   * Buffer pools shrink when too many names are idle.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBufferPoolShrink()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var pool =
+      this.resources.add(context.createBufferPool(
+        new JABufferPoolConfiguration(2, 4, Duration.ofMinutes(1L))));
+
+    final var buffers = new ArrayList<JABufferType>();
+    for (int index = 0; index < 6; ++index) {
+      buffers.add(pool.acquire());
+    }
+
+    var stats = pool.statistics();
+    assertEquals(3L, stats.misses());
+    assertEquals(3L, stats.hits());
+    assertEquals(6L, stats.namesGenerated());
 
-        source.detachBuffer();
-      }
-    });
+    for (final var buffer : buffers) {
+      buffer.close();
+    }
+
+    stats = pool.statistics();
+    assertEquals(0, stats.inUse());
+    assertEquals(3, stats.idle());
+    assertEquals(6, stats.inUseHighWater());
+    assertEquals(4, stats.idleHighWater());
+    assertEquals(3L, stats.namesDeleted());
   }
 
   /**
-   * Rewinding sources works.
+   * Buffer pools delete names that stay idle for a whole idle timeout
+   * period.
    *
    * @throws Exception On errors
    */
 
   @Test
-  public final void testContextSourcePlayRewind()
+  public final void testContextBufferPoolDecay()
     throws Exception
   {
-    assertTimeout(Duration.ofSeconds(10L), () -> {
-      final var device =
-        this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
-      final var context =
-        this.resources.add(device.createContext());
-      final var source =
-        this.resources.add(context.createSource());
-      final var buffer =
-        this.resources.add(context.createBuffer());
-
-      for (final var format : values()) {
-        final var data = ByteBuffer.allocateDirect(48000);
-        buffer.setData(format, 48000, data);
-
-        source.setBuffer(buffer);
-        assertEquals(Optional.of(buffer), source.buffer());
-        assertFalse(source.isPlaying());
-        source.play();
-        assertTrue(source.isPlaying());
-        source.rewind();
-        assertEquals(SOURCE_STATE_INITIAL, source.state());
-        source.play();
-        assertTrue(source.isPlaying());
-
-        while (source.isPlaying()) {
-          Thread.sleep(100L);
-        }
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var pool =
+      this.resources.add(context.createBufferPool(
+        new JABufferPoolConfiguration(2, 16, Duration.ofMillis(200L))));
 
-        source.detachBuffer();
-      }
-    });
+    final var buffers = new ArrayList<JABufferType>();
+    for (int index = 0; index < 8; ++index) {
+      buffers.add(pool.acquire());
+    }
+    for (final var buffer : buffers) {
+      buffer.close();
+    }
+    assertEquals(8, pool.statistics().idle());
+
+    Thread.sleep(250L);
+    pool.acquire().close();
+    assertEquals(8, pool.statistics().idle());
+    assertEquals(0L, pool.statistics().namesDeleted());
+
+    Thread.sleep(250L);
+    final var buffer = pool.acquire();
+    final var stats = pool.statistics();
+    assertEquals(2, stats.idle());
+    assertEquals(5L, stats.namesDeleted());
+    buffer.close();
   }
 
   /**
-   * Using a closed source fails.
+   * Buffer names recycled by closing objects in bulk do not keep the unpack
+   * alignment of the buffer that last used them.
    *
    * @throws Exception On errors
    */
 
   @Test
-  public final void testContextSourceClosed()
+  public final void testContextBufferPoolCloseAllAlignment()
     throws Exception
   {
     final var device =
       this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
     final var context =
       this.resources.add(device.createContext());
-    final var source =
-      this.resources.add(context.createSource());
-
-    source.close();
-    assertThrows(
-      JAMisuseException.class,
-      () -> source.setVelocity(0.0, 0.0, 0.0));
+    final var pool =
+      this.resources.add(context.createBufferPool(
+        new JABufferPoolConfiguration(4, 8, Duration.ofMinutes(1L))));
+
+    Assumptions.assumeTrue(context.isBufferFormatSupported(AUDIO_IMA4_MONO));
+
+    final var buffer0 = pool.acquire();
+    buffer0.setBlockAlignment(129);
+    buffer0.setData(
+      AUDIO_IMA4_MONO,
+      48000,
+      ByteBuffer.allocateDirect(AUDIO_IMA4_MONO.bytesPerBlock(129) * 10));
+
+    final var name = buffer0.handle();
+    context.closeAll(List.of(buffer0));
+    assertTrue(buffer0.isClosed());
+
+    final var buffer1 = pool.acquire();
+    assertEquals(name, buffer1.handle());
+    assertEquals(0, buffer1.blockAlignment());
+    buffer1.setData(
+      AUDIO_IMA4_MONO,
+      48000,
+      ByteBuffer.allocateDirect(AUDIO_IMA4_MONO.bytesPerBlock() * 10));
   }
 
   /**
-   * Trying to delete a buffer with an attached source fails.
+   * Buffers that outlive their pool delete their own names.
    *
    * @throws Exception On errors
    */
 
   @Test
-  public final void testContextSourceDeleteBufferAttached()
+  public final void testContextBufferPoolClosed()
     throws Exception
   {
-    assertTimeout(Duration.ofSeconds(10L), () -> {
-      final var device =
-        this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
-      final var context =
-        this.resources.add(device.createContext());
-      final var source =
-        this.resources.add(context.createSource());
-      final var buffer =
-        this.resources.add(context.createBuffer());
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var pool =
+      context.createBufferPool(JABufferPoolConfiguration.defaults());
 
-      for (final var format : values()) {
-        final var data = ByteBuffer.allocateDirect(48000);
-        buffer.setData(format, 48000, data);
-        source.setBuffer(buffer);
+    final var buffer = pool.acquire();
+    pool.close();
+    assertThrows(JAMisuseException.class, pool::acquire);
+    assertEquals(31L, pool.statistics().namesDeleted());
 
-        assertThrows(JAMisuseException.class, buffer::close);
-        assertFalse(buffer.isClosed());
-        source.detachBuffer();
-      }
-    });
+    buffer.close();
+    assertEquals(0, pool.statistics().inUse());
+    assertEquals(0, pool.statistics().idle());
   }
 
   /**
@@ -678,6 +1577,139 @@ public abstract class JAContract
     context0.setCurrent();
   }
 
+  /**
+   * Changes made within update batches are applied when the batch closes.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextUpdateBatch()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source0 =
+      this.resources.add(context.createSource());
+    final var source1 =
+      this.resources.add(context.createSource());
+    final var listener =
+      context.listener();
+
+    try (var batch = context.beginUpdate()) {
+      assertFalse(batch.isClosed());
+      source0.setPosition(1.0, 2.0, 3.0);
+      source0.setGain(0.5);
+
+      try (var inner = context.beginUpdate()) {
+        source1.setPosition(4.0, 5.0, 6.0);
+        source1.setPitch(2.0);
+        listener.setPosition(7.0, 8.0, 9.0);
+        listener.setOrientation(
+          Vector3D.of(0.0, 0.0, -1.0),
+          Vector3D.of(0.0, 1.0, 0.0)
+        );
+      }
+    }
+
+    assertEquals(Vector3D.of(1.0, 2.0, 3.0), source0.position());
+    assertEquals(0.5, source0.gain(), 0.0001);
+    assertEquals(Vector3D.of(4.0, 5.0, 6.0), source1.position());
+    assertEquals(2.0, source1.pitch(), 0.0001);
+    assertEquals(Vector3D.of(7.0, 8.0, 9.0), listener.position());
+
+    final var batch = context.beginUpdate();
+    batch.close();
+    assertTrue(batch.isClosed());
+    batch.close();
+  }
+
+  /**
+   * Errors raised within update batches are reported when the batch closes.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextUpdateBatchError()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+
+    final var batch = context.beginUpdate();
+    source.setPosition(1.0, 2.0, 3.0);
+    source.setGain(-1.0);
+
+    final var ex =
+      assertThrows(JACallException.class, batch::close);
+    assertTrue(ex.function().contains("alSourcef"));
+    assertEquals("AL_INVALID_VALUE", ex.errorCode());
+  }
+
+  /**
+   * Errors raised by offset changes within update batches are reported when
+   * the batch closes.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextUpdateBatchOffsetError()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context.createSource());
+
+    final var batch = context.beginUpdate();
+    source.setOffsetSeconds(Double.NaN);
+    final var ex =
+      assertThrows(JACallException.class, batch::close);
+    assertEquals("AL_INVALID_VALUE", ex.errorCode());
+  }
+
+  /**
+   * A batch that fails to close because its context is not current does not
+   * leave the context inside the batch.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextUpdateBatchNotCurrent()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context0 =
+      this.resources.add(device.createContext());
+    final var source =
+      this.resources.add(context0.createSource());
+    final var context1 =
+      this.resources.add(device.createContext());
+
+    context0.setCurrent();
+    final var batch0 = context0.beginUpdate();
+    context1.setCurrent();
+    assertThrows(JAMisuseException.class, batch0::close);
+    assertTrue(batch0.isClosed());
+
+    context0.setCurrent();
+    final var batch1 = context0.beginUpdate();
+    source.setGain(-1.0);
+    assertThrows(JACallException.class, batch1::close);
+  }
+
   /**
    * Opening EFX works on supporting devices.
    *
@@ -1264,4 +2296,188 @@ public abstract class JAContract
     assertFalse(graph.containsEdge(new JAEFXSourceNode(source), slot0));
     assertFalse(graph.containsEdge(slot0, effect0));
   }
+
+  /**
+   * The basic buffer formats are always supported, and every supported
+   * format can be uploaded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBufferFormats()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var buffer =
+      this.resources.add(context.createBuffer());
+
+    final var formats = context.supportedBufferFormats();
+    assertTrue(formats.contains(AUDIO_8_BIT_MONO));
+    assertTrue(formats.contains(AUDIO_8_BIT_STEREO));
+    assertTrue(formats.contains(AUDIO_16_BIT_MONO));
+    assertTrue(formats.contains(AUDIO_16_BIT_STEREO));
+
+    for (final var format : formats) {
+      assertTrue(context.isBufferFormatSupported(format));
+      buffer.setData(
+        format,
+        48000,
+        ByteBuffer.allocateDirect(format.bytesPerBlock() * 100));
+      assertEquals(
+        (100.0 * format.defaultBlockAlignment()) / 48000.0,
+        buffer.duration(),
+        0.000001);
+    }
+  }
+
+  /**
+   * Block-encoded data can be uploaded at non-default block alignments.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testContextBufferBlockAlignment()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openDevice(this.deviceDescriptions.get(0)));
+    final var context =
+      this.resources.add(device.createContext());
+    final var buffer =
+      this.resources.add(context.createBuffer());
+
+    Assumptions.assumeTrue(context.isBufferFormatSupported(AUDIO_IMA4_MONO));
+
+    assertEquals(0, buffer.blockAlignment());
+    assertEquals(36, AUDIO_IMA4_MONO.bytesPerBlock());
+    assertEquals(76, AUDIO_MSADPCM_STEREO.bytesPerBlock());
+    assertThrows(
+      UnsupportedOperationException.class,
+      AUDIO_IMA4_MONO::bytesPerFrame);
+
+    buffer.setBlockAlignment(129);
+    assertEquals(129, buffer.blockAlignment());
+    buffer.setData(
+      AUDIO_IMA4_MONO,
+      48000,
+      ByteBuffer.allocateDirect(AUDIO_IMA4_MONO.bytesPerBlock(129) * 10));
+    assertEquals(1290.0 / 48000.0, buffer.duration(), 0.000001);
+
+    assertThrows(JAMisuseException.class, () -> {
+      buffer.setData(
+        AUDIO_IMA4_MONO,
+        48000,
+        ByteBuffer.allocateDirect(AUDIO_IMA4_MONO.bytesPerBlock()));
+    });
+
+    buffer.setBlockAlignment(64);
+    assertThrows(JAMisuseException.class, () -> {
+      buffer.setData(AUDIO_IMA4_MONO, 48000, ByteBuffer.allocateDirect(3200));
+    });
+    assertThrows(JAMisuseException.class, () -> {
+      buffer.setBlockAlignment(-1);
+    });
+
+    buffer.setBlockAlignment(0);
+    buffer.setData(
+      AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(4800));
+    assertEquals(0.05, buffer.duration(), 0.000001);
+  }
+
+  /**
+   * Loopback devices render mixed output into memory.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testLoopbackRender()
+    throws Exception
+  {
+    final var device =
+      this.resources.add(this.devices.openLoopbackDevice(
+        48000, CHANNELS_STEREO, SAMPLE_FLOAT));
+
+    assertEquals(48000, device.frequency());
+    assertEquals(8, device.bytesPerFrame());
+
+    final var context =
+      this.resources.add(device.createContext());
+    final var buffer =
+      this.resources.add(context.createBuffer());
+    final var source =
+      this.resources.add(context.createSource());
+
+    final var data =
+      ByteBuffer.allocateDirect(9600)
+        .order(ByteOrder.nativeOrder());
+    for (int index = 0; index < 4800; ++index) {
+      data.putShort((index / 24) % 2 == 0 ? (short) 16384 : (short) -16384);
+    }
+    data.flip();
+
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, data);
+    source.setBuffer(buffer);
+    source.play();
+
+    final var output =
+      ByteBuffer.allocateDirect(4800 * device.bytesPerFrame())
+        .order(ByteOrder.nativeOrder());
+
+    device.render(output, 4800);
+    assertEquals(output.capacity(), output.position());
+
+    final var samples = output.flip().asFloatBuffer();
+    var peak = 0.0f;
+    for (int index = 0; index < samples.limit(); ++index) {
+      peak = Math.max(peak, Math.abs(samples.get(index)));
+    }
+    assertTrue(peak > 0.1f, "Peak " + peak + " must be audible");
+  }
+
+  /**
+   * Loopback devices reject unusable output buffers.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testLoopbackRenderMisuse()
+    throws Exception
+  {
+    assertThrows(JAMisuseException.class, () -> {
+      this.devices.openLoopbackDevice(0, CHANNELS_MONO, SAMPLE_SHORT);
+    });
+
+    final var device =
+      this.devices.openLoopbackDevice(44100, CHANNELS_MONO, SAMPLE_SHORT);
+
+    assertThrows(JAMisuseException.class, () -> {
+      device.render(ByteBuffer.allocateDirect(200), 100);
+    });
+
+    final var context = device.createContext();
+    assertThrows(JAMisuseException.class, () -> {
+      device.render(ByteBuffer.allocate(200), 100);
+    });
+    assertThrows(JAMisuseException.class, () -> {
+      device.render(ByteBuffer.allocateDirect(199), 100);
+    });
+    assertThrows(JAMisuseException.class, () -> {
+      device.render(ByteBuffer.allocateDirect(200), -1);
+    });
+
+    device.render(ByteBuffer.allocateDirect(200), 100);
+    context.close();
+    device.close();
+
+    assertThrows(JAMisuseException.class, () -> {
+      device.render(ByteBuffer.allocateDirect(200), 100);
+    });
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.engine.JADeviceLatencyMonitor;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JADeviceLatencyMonitorTest
+{
+  /**
+   * The monitor keeps statistics over a bounded window.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testStatistics()
+    throws Exception
+  {
+    try (var resources = CloseableCollection.create()) {
+      final var devices =
+        new JALWDeviceFactory();
+      final var device =
+        resources.add(devices.openDevice(devices.enumerateDevices().get(0)));
+      resources.add(device.createContext());
+
+      Assumptions.assumeTrue(device.isDeviceClockSupported());
+
+      final var monitor = JADeviceLatencyMonitor.create(device, 4);
+      assertEquals(0, monitor.statistics().samples());
+
+      for (int index = 0; index < 10; ++index) {
+        monitor.sample();
+      }
+
+      final var statistics = monitor.statistics();
+      assertEquals(4, statistics.samples());
+      assertTrue(statistics.minimumNanos() <= statistics.meanNanos());
+      assertTrue(statistics.meanNanos() <= statistics.maximumNanos());
+      assertTrue(statistics.percentile95Nanos() <= statistics.maximumNanos());
+      assertThrows(IllegalArgumentException.class, () -> JADeviceLatencyMonitor.create(device, 0));
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JACallException;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JASourceType;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.DebugOnly;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.EveryCall;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.EveryNthCall;
+import com.io7m.jarabica.lwjgl.JALWErrorCheckingPolicyType.PerBatch;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import com.io7m.jmulticlose.core.CloseableCollectionType;
+import com.io7m.jmulticlose.core.ClosingResourceFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JALErrorCheckingPolicyTest
+{
+  private CloseableCollectionType<ClosingResourceFailedException> resources;
+  private JAContextType context;
+  private JASourceType source;
+
+  @BeforeEach
+  public void setup()
+  {
+    this.resources =
+      CloseableCollection.create();
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws Exception
+  {
+    this.resources.close();
+  }
+
+  private void open(
+    final JALWErrorCheckingPolicyType policy)
+    throws Exception
+  {
+    final var devices =
+      new JALWDeviceFactory(policy);
+    final var device =
+      this.resources.add(
+        devices.openDevice(devices.enumerateDevices().get(0)));
+
+    this.context =
+      this.resources.add(device.createContext());
+    this.source =
+      this.resources.add(this.context.createSource());
+  }
+
+  /**
+   * Errors are raised immediately by default.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEveryCall()
+    throws Exception
+  {
+    this.open(new EveryCall());
+
+    final var ex =
+      assertThrows(JACallException.class, () -> this.source.setGain(-1.0));
+    assertEquals("alSourcef", ex.function());
+  }
+
+  /**
+   * Errors are raised when explicitly checked.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPerBatch()
+    throws Exception
+  {
+    this.open(new PerBatch());
+
+    this.source.setPosition(1.0, 2.0, 3.0);
+    this.source.setGain(-1.0);
+    this.source.setPitch(1.0);
+
+    final var ex =
+      assertThrows(JACallException.class, () -> this.context.checkErrors());
+    assertTrue(ex.function().contains("alSourcef"));
+    assertEquals("AL_INVALID_VALUE", ex.errorCode());
+
+    this.context.checkErrors();
+  }
+
+  /**
+   * Errors are raised at the end of batches.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPerBatchEnd()
+    throws Exception
+  {
+    this.open(new PerBatch());
+
+    final var batch = this.context.beginUpdate();
+    this.source.setGain(-1.0);
+
+    final var ex =
+      assertThrows(JACallException.class, batch::close);
+    assertTrue(ex.function().contains("alSourcef"));
+  }
+
+  /**
+   * Errors are raised by calls that are always checked.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPerBatchImmediate()
+    throws Exception
+  {
+    this.open(new PerBatch());
+
+    this.source.setGain(-1.0);
+
+    final var ex =
+      assertThrows(JACallException.class, () -> this.context.createSource());
+    assertTrue(ex.function().contains("alSourcef"));
+    assertTrue(ex.function().contains("alGenSources"));
+  }
+
+  /**
+   * Errors are raised every N calls.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEveryNthCall()
+    throws Exception
+  {
+    this.open(new EveryNthCall(3));
+
+    this.source.setGain(-1.0);
+    this.source.setPitch(1.0);
+
+    final var ex =
+      assertThrows(JACallException.class, () -> this.source.setPitch(1.0));
+    assertTrue(ex.function().contains("alSourcef"));
+
+    this.source.setPitch(1.0);
+    this.source.setPitch(1.0);
+    this.source.setPitch(1.0);
+  }
+
+  /**
+   * Intervals must be positive.
+   */
+
+  @Test
+  public void testEveryNthCallInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new EveryNthCall(0));
+  }
+
+  /**
+   * Errors are raised immediately when assertions are enabled for the
+   * public lwjgl package, and otherwise are not raised at the end of
+   * batches.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDebugOnly()
+    throws Exception
+  {
+    this.open(new DebugOnly());
+
+    if (JALWErrorCheckingPolicyType.class.desiredAssertionStatus()) {
+      assertThrows(JACallException.class, () -> this.source.setGain(-1.0));
+    } else {
+      final var batch = this.context.beginUpdate();
+      this.source.setGain(-1.0);
+      batch.close();
+      assertThrows(JACallException.class, () -> this.context.checkErrors());
+    }
+  }
+}
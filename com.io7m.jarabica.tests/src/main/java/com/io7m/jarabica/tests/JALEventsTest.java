@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JACallException;
+import com.io7m.jarabica.extensions.efx.JAEFXFilterLowPassParameters;
+import com.io7m.jarabica.extensions.efx.JAEFXType;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JALEventsTest
+{
+  /**
+   * The implementation emits flight recorder events.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEvents(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("events.jfr");
+    var efxPresent = false;
+
+    try (var recording = new Recording()) {
+      for (final var name : Set.of(
+        "BufferUpload",
+        "ContextSwitch",
+        "EFXUpdate",
+        "Error",
+        "SourceCreate",
+        "SourceDelete")) {
+        recording.enable("com.io7m.jarabica." + name)
+          .withThreshold(Duration.ZERO);
+      }
+      recording.enable("com.io7m.jarabica.GraphSize")
+        .withPeriod(Duration.ofMillis(50L));
+      recording.start();
+
+      try (var resources = CloseableCollection.create()) {
+        final var devices =
+          new JALWDeviceFactory();
+        final var device =
+          resources.add(devices.openDevice(devices.enumerateDevices().get(0)));
+        final var context =
+          resources.add(device.createContext());
+        final var source =
+          resources.add(context.createSource());
+        final var buffer =
+          resources.add(context.createBuffer());
+
+        buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+        source.setBuffer(buffer);
+        source.play();
+        assertThrows(JACallException.class, () -> source.setOffsetSeconds(2.0));
+        source.stop();
+        source.detachBuffer();
+
+        final var efx = context.extension(JAEFXType.class);
+        if (efx.isPresent()) {
+          efxPresent = true;
+          resources.add(
+            efx.get().createFilterLowPass(
+              new JAEFXFilterLowPassParameters(1.0, 1.0)));
+        }
+
+        Thread.sleep(200L);
+      }
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final var names =
+      RecordingFile.readAllEvents(file)
+        .stream()
+        .map(RecordedEvent::getEventType)
+        .map(EventType::getName)
+        .collect(Collectors.toSet());
+
+    assertTrue(names.contains("com.io7m.jarabica.BufferUpload"), names::toString);
+    assertTrue(names.contains("com.io7m.jarabica.ContextSwitch"), names::toString);
+    assertTrue(names.contains("com.io7m.jarabica.Error"), names::toString);
+    assertTrue(names.contains("com.io7m.jarabica.SourceCreate"), names::toString);
+    assertTrue(names.contains("com.io7m.jarabica.SourceDelete"), names::toString);
+    assertTrue(names.contains("com.io7m.jarabica.GraphSize"), names::toString);
+    if (efxPresent) {
+      assertTrue(names.contains("com.io7m.jarabica.EFXUpdate"), names::toString);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JACallException;
+import com.io7m.jarabica.extensions.efx.JAEFXType;
+import com.io7m.jarabica.lwjgl.JALWContextMetricsType;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import com.io7m.jarabica.lwjgl.JALWDeviceMetricsType;
+import com.io7m.jarabica.lwjgl.internal.JALContext;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JALMetricsTest
+{
+  private static String hex(
+    final long handle)
+  {
+    return "0x" + Long.toUnsignedString(handle, 16);
+  }
+
+  /**
+   * Devices and contexts register metrics that track their objects.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMetrics()
+    throws Exception
+  {
+    final var server =
+      ManagementFactory.getPlatformMBeanServer();
+
+    try (var resources = CloseableCollection.create()) {
+      final var devices =
+        new JALWDeviceFactory();
+      final var device =
+        resources.add(devices.openDevice(devices.enumerateDevices().get(0)));
+      final var context =
+        device.createContext();
+
+      final var deviceName =
+        new ObjectName("com.io7m.jarabica:type=Device,device=%s"
+                         .formatted(hex(device.handle())));
+      final var contextName =
+        new ObjectName("com.io7m.jarabica:type=Context,device=%s,context=%s"
+                         .formatted(hex(device.handle()), hex(context.handle())));
+
+      final var deviceMetrics =
+        JMX.newMXBeanProxy(server, deviceName, JALWDeviceMetricsType.class);
+      final var contextMetrics =
+        JMX.newMXBeanProxy(server, contextName, JALWContextMetricsType.class);
+
+      assertEquals(1L, deviceMetrics.getContexts());
+      assertEquals(0L, contextMetrics.getSources());
+
+      final var source = context.createSource();
+      final var buffers = context.createBuffers(2);
+      buffers.get(0).setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+      source.setBuffer(buffers.get(0));
+      source.play();
+
+      assertEquals(1L, contextMetrics.getSources());
+      assertEquals(1L, contextMetrics.getSourcesPlaying());
+      assertEquals(0L, contextMetrics.getSourcesStopped());
+      assertEquals(2L, contextMetrics.getBuffers());
+      assertEquals(96000L, contextMetrics.getBytesUploaded());
+      assertTrue(contextMetrics.getCalls() > 0L);
+      assertTrue(contextMetrics.getCallsPerSecond() >= 0.0);
+      assertEquals(96000L, deviceMetrics.getBytesUploaded());
+
+      assertThrows(JACallException.class, () -> source.setOffsetSeconds(2.0));
+      assertEquals(1L, contextMetrics.getErrors().values().stream().mapToLong(Long::longValue).sum());
+
+      source.stop();
+      assertEquals(0L, contextMetrics.getSourcesPlaying());
+      assertEquals(1L, contextMetrics.getSourcesStopped());
+
+      final var efx = context.extension(JAEFXType.class);
+      if (efx.isPresent()) {
+        final var slot = efx.get().createEffectsSlot();
+        assertEquals(1L, contextMetrics.getEffectsSlots());
+        slot.close();
+        assertEquals(0L, contextMetrics.getEffectsSlots());
+      }
+
+      source.detachBuffer();
+      source.close();
+      context.closeAll(buffers);
+      assertEquals(0L, contextMetrics.getSources());
+      assertEquals(0L, contextMetrics.getBuffers());
+
+      context.close();
+      assertFalse(server.isRegistered(contextName));
+      assertEquals(0L, deviceMetrics.getContexts());
+
+      device.close();
+      assertFalse(server.isRegistered(deviceName));
+    }
+  }
+
+  /**
+   * Sources that stop on their own are noticed at the end of update
+   * batches, and the call rate only covers the last second.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMetricsReconciled()
+    throws Exception
+  {
+    try (var resources = CloseableCollection.create()) {
+      final var devices =
+        new JALWDeviceFactory();
+      final var device =
+        resources.add(devices.openDevice(devices.enumerateDevices().get(0)));
+      final var context =
+        device.createContext();
+      final var metrics =
+        ((JALContext) context).metrics();
+
+      final var source = context.createSource();
+      final var buffer = context.createBuffer();
+      buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96));
+      source.setBuffer(buffer);
+      source.play();
+      assertEquals(1L, metrics.getSourcesPlaying());
+      assertTrue(metrics.getCallsPerSecond() > 0.0);
+
+      Thread.sleep(1_200L);
+      assertEquals(1L, metrics.getSourcesPlaying());
+      assertEquals(0.0, metrics.getCallsPerSecond());
+
+      context.beginUpdate().close();
+      assertEquals(0L, metrics.getSourcesPlaying());
+      assertEquals(1L, metrics.getSourcesStopped());
+
+      source.detachBuffer();
+      source.close();
+      buffer.close();
+      context.close();
+    }
+  }
+}
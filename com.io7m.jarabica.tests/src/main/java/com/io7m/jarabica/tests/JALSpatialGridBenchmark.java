@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.lwjgl.internal.JALSpatialGrid;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * A rough benchmark of the spatial grid against linear scans, at various
+ * numbers of emitters spread over a 2km cube. Each emitter moves slightly
+ * per frame, as an emitter attached to a moving object would. Each count is
+ * measured with the default cell size of contexts, and with a cell size chosen
+ * to hold two emitters per cell on average.
+ */
+
+public final class JALSpatialGridBenchmark
+{
+  private static final double EXTENT = 2000.0;
+  private static final int QUERIES = 2000;
+  private static final int ROUNDS = 5;
+
+  private JALSpatialGridBenchmark()
+  {
+
+  }
+
+  /**
+   * The main entry point.
+   *
+   * @param args Ignored
+   */
+
+  public static void main(
+    final String[] args)
+  {
+    for (final var count : new int[]{1_000, 10_000, 100_000}) {
+      final var matched = EXTENT / Math.cbrt(count / 2.0);
+      for (final var cellSize : new double[]{16.0, matched}) {
+        for (int round = 0; round < ROUNDS; ++round) {
+          run(count, cellSize, round == ROUNDS - 1);
+        }
+      }
+    }
+  }
+
+  private static void run(
+    final int count,
+    final double cellSize,
+    final boolean report)
+  {
+    final var random = new Random(0x5eedL);
+    final var grid = new JALSpatialGrid<Integer>(cellSize);
+    final var xs = new double[count];
+    final var ys = new double[count];
+    final var zs = new double[count];
+    final var ids = new Integer[count];
+
+    for (int index = 0; index < count; ++index) {
+      xs[index] = (random.nextDouble() - 0.5) * EXTENT;
+      ys[index] = (random.nextDouble() - 0.5) * EXTENT;
+      zs[index] = (random.nextDouble() - 0.5) * EXTENT;
+      ids[index] = Integer.valueOf(index);
+      grid.put(ids[index], xs[index], ys[index], zs[index]);
+    }
+
+    final var timeMoveStart = System.nanoTime();
+    for (int index = 0; index < count; ++index) {
+      xs[index] += random.nextDouble() - 0.5;
+      grid.put(ids[index], xs[index], ys[index], zs[index]);
+    }
+    final var timeMove = System.nanoTime() - timeMoveStart;
+
+    final var output = new ArrayList<Integer>();
+    var checksum = 0L;
+
+    final var timeNearestStart = System.nanoTime();
+    for (int query = 0; query < QUERIES; ++query) {
+      output.clear();
+      final var index = query % count;
+      checksum += grid.nearest(xs[index], ys[index], zs[index], 16, output);
+    }
+    final var timeNearest = System.nanoTime() - timeNearestStart;
+
+    final var best = new double[16];
+    final var timeLinearNearestStart = System.nanoTime();
+    for (int query = 0; query < QUERIES; ++query) {
+      final var index = query % count;
+      checksum += scanNearest(xs, ys, zs, xs[index], ys[index], zs[index], best);
+    }
+    final var timeLinearNearest = System.nanoTime() - timeLinearNearestStart;
+
+    final var timeRadiusStart = System.nanoTime();
+    for (int query = 0; query < QUERIES; ++query) {
+      output.clear();
+      final var index = query % count;
+      checksum += grid.withinRadius(xs[index], ys[index], zs[index], 50.0, output);
+    }
+    final var timeRadius = System.nanoTime() - timeRadiusStart;
+
+    final var timeScanStart = System.nanoTime();
+    for (int query = 0; query < QUERIES; ++query) {
+      final var index = query % count;
+      checksum += scan(xs, ys, zs, xs[index], ys[index], zs[index], 50.0);
+    }
+    final var timeScan = System.nanoTime() - timeScanStart;
+
+    if (report) {
+      System.out.printf(
+        "emitters %6d | cell %5.1f | move %7.1f ns/op | nearest-16 %8.1f ns/op | linear nearest-16 %10.1f ns/op | radius-50 %8.1f ns/op | linear scan %10.1f ns/op | %d%n",
+        Integer.valueOf(count),
+        Double.valueOf(cellSize),
+        Double.valueOf((double) timeMove / count),
+        Double.valueOf((double) timeNearest / QUERIES),
+        Double.valueOf((double) timeLinearNearest / QUERIES),
+        Double.valueOf((double) timeRadius / QUERIES),
+        Double.valueOf((double) timeScan / QUERIES),
+        Long.valueOf(checksum)
+      );
+    }
+  }
+
+  private static int scanNearest(
+    final double[] xs,
+    final double[] ys,
+    final double[] zs,
+    final double x,
+    final double y,
+    final double z,
+    final double[] best)
+  {
+    var found = 0;
+    for (int index = 0; index < xs.length; ++index) {
+      final var dx = xs[index] - x;
+      final var dy = ys[index] - y;
+      final var dz = zs[index] - z;
+      final var distance = dx * dx + dy * dy + dz * dz;
+      if (found == best.length && distance >= best[found - 1]) {
+        continue;
+      }
+
+      var position = found < best.length ? found++ : best.length - 1;
+      while (position > 0 && best[position - 1] > distance) {
+        best[position] = best[position - 1];
+        --position;
+      }
+      best[position] = distance;
+    }
+    return found;
+  }
+
+  private static int scan(
+    final double[] xs,
+    final double[] ys,
+    final double[] zs,
+    final double x,
+    final double y,
+    final double z,
+    final double radius)
+  {
+    var found = 0;
+    for (int index = 0; index < xs.length; ++index) {
+      final var dx = xs[index] - x;
+      final var dy = ys[index] - y;
+      final var dz = zs[index] - z;
+      if (dx * dx + dy * dy + dz * dz <= radius * radius) {
+        ++found;
+      }
+    }
+    return found;
+  }
+}
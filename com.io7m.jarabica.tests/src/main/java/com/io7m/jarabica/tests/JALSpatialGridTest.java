@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.lwjgl.internal.JALSpatialGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JALSpatialGridTest
+{
+  private record Point(double x, double y, double z)
+  {
+    double distanceSquared(
+      final double px,
+      final double py,
+      final double pz)
+    {
+      final var dx = this.x - px;
+      final var dy = this.y - py;
+      final var dz = this.z - pz;
+      return dx * dx + dy * dy + dz * dz;
+    }
+  }
+
+  private static Point randomPoint(
+    final Random random,
+    final double extent)
+  {
+    return new Point(
+      (random.nextDouble() - 0.5) * extent,
+      (random.nextDouble() - 0.5) * extent,
+      (random.nextDouble() - 0.5) * extent
+    );
+  }
+
+  /**
+   * Queries agree with a brute force search while objects are inserted,
+   * moved, and removed.
+   */
+
+  @Test
+  public void testQueriesMatchBruteForce()
+  {
+    final var random = new Random(0x5eedL);
+    final var grid = new JALSpatialGrid<Integer>(8.0);
+    final var positions = new HashMap<Integer, Point>();
+    final var ids = new Integer[500];
+    for (int index = 0; index < ids.length; ++index) {
+      ids[index] = Integer.valueOf(index);
+    }
+
+    for (int round = 0; round < 200; ++round) {
+      for (int change = 0; change < 25; ++change) {
+        final var id = ids[random.nextInt(ids.length)];
+        if (random.nextInt(5) == 0) {
+          assertEquals(positions.remove(id) != null, grid.remove(id));
+        } else {
+          final var p = randomPoint(random, 200.0);
+          positions.put(id, p);
+          grid.put(id, p.x(), p.y(), p.z());
+        }
+      }
+      assertEquals(positions.size(), grid.size());
+
+      final var q = randomPoint(random, 240.0);
+      checkNearest(grid, positions, q, 1 + random.nextInt(20));
+      checkRadius(grid, positions, q, random.nextDouble() * 60.0);
+      checkBox(grid, positions, q, random.nextDouble() * 60.0);
+    }
+  }
+
+  /**
+   * Nearest queries agree with a brute force search both when the objects
+   * are dense enough for the cells to be searched, and when they are sparse
+   * enough for every object to be measured.
+   */
+
+  @Test
+  public void testNearestDenseAndSparse()
+  {
+    final var random = new Random(0x5eedL);
+    for (final var extent : new double[]{40.0, 4000.0}) {
+      final var grid = new JALSpatialGrid<Integer>(8.0);
+      final var positions = new HashMap<Integer, Point>();
+      for (int index = 0; index < 2000; ++index) {
+        final var id = Integer.valueOf(index);
+        final var p = randomPoint(random, extent);
+        positions.put(id, p);
+        grid.put(id, p.x(), p.y(), p.z());
+      }
+
+      for (int query = 0; query < 50; ++query) {
+        final var q = randomPoint(random, extent * 1.2);
+        checkNearest(grid, positions, q, 1 + random.nextInt(32));
+      }
+    }
+  }
+
+  /**
+   * Nearest queries return everything when asked for more than is present.
+   */
+
+  @Test
+  public void testNearestSmall()
+  {
+    final var grid = new JALSpatialGrid<String>(1.0);
+    final var output = new ArrayList<String>();
+    assertEquals(0, grid.nearest(0.0, 0.0, 0.0, 4, output));
+
+    grid.put("far", 1000.0, 0.0, 0.0);
+    grid.put("near", 1.5, 0.0, 0.0);
+    grid.put("nearer", 0.0, 0.5, 0.0);
+
+    assertEquals(3, grid.nearest(0.0, 0.0, 0.0, 10, output));
+    assertEquals(List.of("nearer", "near", "far"), output);
+    assertTrue(grid.contains("far"));
+
+    grid.clear();
+    assertFalse(grid.contains("far"));
+    assertEquals(0, grid.size());
+  }
+
+  /**
+   * Changing the cell size keeps every object at its position.
+   */
+
+  @Test
+  public void testCellSizeChange()
+  {
+    final var random = new Random(0x5eedL);
+    final var grid = new JALSpatialGrid<Integer>(8.0);
+    final var positions = new HashMap<Integer, Point>();
+    for (int index = 0; index < 200; ++index) {
+      final var id = Integer.valueOf(index);
+      final var p = randomPoint(random, 200.0);
+      positions.put(id, p);
+      grid.put(id, p.x(), p.y(), p.z());
+    }
+
+    grid.setCellSize(50.0);
+    assertEquals(50.0, grid.cellSize());
+    assertEquals(positions.size(), grid.size());
+
+    final var q = randomPoint(random, 200.0);
+    checkNearest(grid, positions, q, 20);
+    checkRadius(grid, positions, q, 40.0);
+    checkBox(grid, positions, q, 40.0);
+    assertThrows(IllegalArgumentException.class, () -> grid.setCellSize(-1.0));
+  }
+
+  /**
+   * Invalid cell sizes are rejected.
+   */
+
+  @Test
+  public void testCellSizeInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new JALSpatialGrid<>(0.0));
+    assertThrows(IllegalArgumentException.class, () -> new JALSpatialGrid<>(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> new JALSpatialGrid<>(Double.POSITIVE_INFINITY));
+  }
+
+  private static void checkNearest(
+    final JALSpatialGrid<Integer> grid,
+    final Map<Integer, Point> positions,
+    final Point q,
+    final int count)
+  {
+    final var output = new ArrayList<Integer>();
+    grid.nearest(q.x(), q.y(), q.z(), count, output);
+
+    final var expected =
+      positions.entrySet()
+        .stream()
+        .sorted(Comparator.comparingDouble(e -> e.getValue().distanceSquared(q.x(), q.y(), q.z())))
+        .limit(count)
+        .toList();
+
+    assertEquals(expected.size(), output.size());
+    for (int index = 0; index < output.size(); ++index) {
+      final var expectedDistance =
+        expected.get(index).getValue().distanceSquared(q.x(), q.y(), q.z());
+      final var receivedDistance =
+        positions.get(output.get(index)).distanceSquared(q.x(), q.y(), q.z());
+      assertEquals(expectedDistance, receivedDistance, 1.0e-9);
+    }
+  }
+
+  private static void checkRadius(
+    final JALSpatialGrid<Integer> grid,
+    final Map<Integer, Point> positions,
+    final Point q,
+    final double radius)
+  {
+    final var output = new ArrayList<Integer>();
+    final var added = grid.withinRadius(q.x(), q.y(), q.z(), radius, output);
+
+    final var expected = new HashSet<Integer>();
+    for (final var e : positions.entrySet()) {
+      if (e.getValue().distanceSquared(q.x(), q.y(), q.z()) <= radius * radius) {
+        expected.add(e.getKey());
+      }
+    }
+    assertEquals(expected.size(), added);
+    assertEquals(expected, new HashSet<>(output));
+  }
+
+  private static void checkBox(
+    final JALSpatialGrid<Integer> grid,
+    final Map<Integer, Point> positions,
+    final Point q,
+    final double half)
+  {
+    final var output = new ArrayList<Integer>();
+    final var added = grid.withinBox(
+      q.x() - half, q.y() - half, q.z() - half,
+      q.x() + half, q.y() + half, q.z() + half,
+      output
+    );
+
+    final var expected = new HashSet<Integer>();
+    for (final var e : positions.entrySet()) {
+      final var p = e.getValue();
+      if (Math.abs(p.x() - q.x()) <= half
+          && Math.abs(p.y() - q.y()) <= half
+          && Math.abs(p.z() - q.z()) <= half) {
+        expected.add(e.getKey());
+      }
+    }
+    assertEquals(expected.size(), added);
+    assertEquals(expected, new HashSet<>(output));
+  }
+}
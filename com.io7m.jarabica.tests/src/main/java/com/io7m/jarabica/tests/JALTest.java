@@ -18,7 +18,14 @@
 package com.io7m.jarabica.tests;
 
 import com.io7m.jarabica.api.JADeviceFactoryType;
+import com.io7m.jarabica.api.JAMisuseException;
 import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.openal.ALC10;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class JALTest extends JAContract
 {
@@ -27,4 +34,33 @@ public final class JALTest extends JAContract
   {
     return new JALWDeviceFactory();
   }
+
+  /**
+   * Changing the current context behind the library's back is detected when
+   * verification is enabled.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testContextCurrentChangedExternally()
+    throws Exception
+  {
+    Assumptions.assumeTrue(
+      Boolean.getBoolean("com.io7m.jarabica.lwjgl.verifyCurrentContext")
+    );
+
+    final var devices = this.deviceFactory();
+    try (var device =
+           devices.openDevice(devices.enumerateDevices().get(0))) {
+      try (var context = device.createContext()) {
+        assertTrue(context.isCurrent());
+        ALC10.alcMakeContextCurrent(0L);
+        assertThrows(JAMisuseException.class, context::createSource);
+        assertThrows(JAMisuseException.class, context::setCurrent);
+        ALC10.alcMakeContextCurrent(context.handle());
+        context.createSource().close();
+      }
+    }
+  }
 }
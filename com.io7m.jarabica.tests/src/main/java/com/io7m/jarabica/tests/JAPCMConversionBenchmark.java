@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.engine.JAPCMConversion;
+import com.io7m.jarabica.engine.JAPCMSampleFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_FLOAT_32;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_16;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_24;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_32;
+
+/**
+ * A rough benchmark of PCM conversion throughput, measured in megabytes of
+ * source data per second. Each chunked operation is measured next to a
+ * baseline that processes one sample at a time with the absolute get and
+ * put methods of the buffers, as a straightforward implementation would.
+ */
+
+public final class JAPCMConversionBenchmark
+{
+  private static final int SAMPLES = 1 << 20;
+  private static final int ITERATIONS = 20;
+  private static final int ROUNDS = 5;
+
+  private JAPCMConversionBenchmark()
+  {
+
+  }
+
+  /**
+   * The main entry point.
+   *
+   * @param args Ignored
+   */
+
+  public static void main(
+    final String[] args)
+  {
+    for (int round = 0; round < ROUNDS; ++round) {
+      final var report = round == ROUNDS - 1;
+      runConvert(PCM_SIGNED_16, PCM_FLOAT_32, report);
+      runConvert(PCM_FLOAT_32, PCM_SIGNED_16, report);
+      runConvert(PCM_SIGNED_24, PCM_SIGNED_16, report);
+      runConvert(PCM_SIGNED_32, PCM_SIGNED_32, report);
+      runBaseline16ToFloat(report);
+      runInterleave(PCM_SIGNED_16, report);
+      runInterleave(PCM_SIGNED_24, report);
+      runBaselineInterleave(report);
+    }
+  }
+
+  private static ByteBuffer buffer(
+    final int size,
+    final ByteOrder order)
+  {
+    final var buffer = ByteBuffer.allocateDirect(size).order(order);
+    for (int index = 0; index < size; ++index) {
+      buffer.put(index, (byte) (index * 31));
+    }
+    return buffer;
+  }
+
+  private static void report(
+    final String name,
+    final long bytes,
+    final long time,
+    final long checksum)
+  {
+    System.out.printf(
+      "%-40s | %8.1f MB/s | %d%n",
+      name,
+      Double.valueOf((bytes / 1_000_000.0) / (time / 1_000_000_000.0)),
+      Long.valueOf(checksum)
+    );
+  }
+
+  private static void runConvert(
+    final JAPCMSampleFormat sourceFormat,
+    final JAPCMSampleFormat targetFormat,
+    final boolean report)
+  {
+    final var source =
+      buffer(SAMPLES * sourceFormat.bytesPerSample(), ByteOrder.LITTLE_ENDIAN);
+    final var target =
+      buffer(SAMPLES * targetFormat.bytesPerSample(), ByteOrder.BIG_ENDIAN);
+
+    var checksum = 0L;
+    final var timeStart = System.nanoTime();
+    for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+      source.clear();
+      target.clear();
+      checksum += JAPCMConversion.convert(
+        source, sourceFormat, target, targetFormat);
+    }
+    final var time = System.nanoTime() - timeStart;
+
+    if (report) {
+      report(
+        "convert %s -> %s".formatted(sourceFormat, targetFormat),
+        (long) source.capacity() * ITERATIONS,
+        time,
+        checksum + target.get(0)
+      );
+    }
+  }
+
+  private static void runBaseline16ToFloat(
+    final boolean report)
+  {
+    final var source = buffer(SAMPLES * 2, ByteOrder.LITTLE_ENDIAN);
+    final var target = buffer(SAMPLES * 4, ByteOrder.BIG_ENDIAN);
+
+    var checksum = 0L;
+    final var timeStart = System.nanoTime();
+    for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+      for (int index = 0; index < SAMPLES; ++index) {
+        target.putFloat(index * 4, source.getShort(index * 2) / 32768.0f);
+      }
+      checksum += SAMPLES;
+    }
+    final var time = System.nanoTime() - timeStart;
+
+    if (report) {
+      report(
+        "baseline PCM_SIGNED_16 -> FLOAT",
+        (long) source.capacity() * ITERATIONS,
+        time,
+        checksum + target.get(0)
+      );
+    }
+  }
+
+  private static void runInterleave(
+    final JAPCMSampleFormat format,
+    final boolean report)
+  {
+    final var size = format.bytesPerSample();
+    final var left = buffer(SAMPLES * size, ByteOrder.nativeOrder());
+    final var right = buffer(SAMPLES * size, ByteOrder.nativeOrder());
+    final var target = buffer(SAMPLES * size * 2, ByteOrder.nativeOrder());
+    final var sources = List.of(left, right);
+
+    var checksum = 0L;
+    final var timeStart = System.nanoTime();
+    for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+      left.clear();
+      right.clear();
+      target.clear();
+      checksum += JAPCMConversion.interleave(sources, target, format);
+    }
+    final var time = System.nanoTime() - timeStart;
+
+    if (report) {
+      report(
+        "interleave %s".formatted(format),
+        (long) target.capacity() * ITERATIONS,
+        time,
+        checksum + target.get(0)
+      );
+    }
+  }
+
+  private static void runBaselineInterleave(
+    final boolean report)
+  {
+    final var left = buffer(SAMPLES * 2, ByteOrder.nativeOrder());
+    final var right = buffer(SAMPLES * 2, ByteOrder.nativeOrder());
+    final var target = buffer(SAMPLES * 4, ByteOrder.nativeOrder());
+
+    var checksum = 0L;
+    final var timeStart = System.nanoTime();
+    for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+      for (int index = 0; index < SAMPLES; ++index) {
+        for (int b = 0; b < 2; ++b) {
+          target.put((index * 4) + b, left.get((index * 2) + b));
+          target.put((index * 4) + 2 + b, right.get((index * 2) + b));
+        }
+      }
+      checksum += SAMPLES;
+    }
+    final var time = System.nanoTime() - timeStart;
+
+    if (report) {
+      report(
+        "baseline interleave bytewise",
+        (long) target.capacity() * ITERATIONS,
+        time,
+        checksum + target.get(0)
+      );
+    }
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.engine.JAPCMConversion;
+import com.io7m.jarabica.engine.JAPCMSampleFormat;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_IMA4_MONO;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_FLOAT_32;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_16;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_24;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_SIGNED_32;
+import static com.io7m.jarabica.engine.JAPCMSampleFormat.PCM_UNSIGNED_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JAPCMConversionTest
+{
+  private static ByteBuffer shorts(
+    final ByteOrder order,
+    final int... values)
+  {
+    final var buffer =
+      ByteBuffer.allocateDirect(values.length * 2)
+        .order(order);
+    for (final var value : values) {
+      buffer.putShort((short) value);
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Converting 16-bit samples to float and back is lossless, across many
+   * chunks and byte orders.
+   */
+
+  @Test
+  public void testRoundTrip16()
+  {
+    final var count = 5000;
+    final var values = new int[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = (index * 37) % 65536 - 32768;
+    }
+
+    final var source = shorts(ByteOrder.BIG_ENDIAN, values);
+    final var floats =
+      ByteBuffer.allocateDirect(count * 4)
+        .order(ByteOrder.nativeOrder());
+    final var result =
+      ByteBuffer.allocateDirect(count * 2)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    assertEquals(count, JAPCMConversion.convert(source, PCM_SIGNED_16, floats, PCM_FLOAT_32));
+    assertEquals(0, source.remaining());
+    floats.flip();
+    assertEquals(count, JAPCMConversion.convert(floats, PCM_FLOAT_32, result, PCM_SIGNED_16));
+    result.flip();
+
+    for (int index = 0; index < count; ++index) {
+      assertEquals(values[index], result.getShort(index * 2));
+    }
+  }
+
+  /**
+   * Packed 24-bit samples are converted to 16-bit and 8-bit samples.
+   */
+
+  @Test
+  public void testWidths()
+  {
+    final var source =
+      ByteBuffer.wrap(new byte[]{
+        (byte) 0x00, (byte) 0x00, (byte) 0x40,
+        (byte) 0x00, (byte) 0x00, (byte) 0x80,
+        (byte) 0xff, (byte) 0xff, (byte) 0x7f,
+      }).order(ByteOrder.LITTLE_ENDIAN);
+
+    final var target =
+      ByteBuffer.allocate(6)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(3, JAPCMConversion.convert(source.duplicate().order(ByteOrder.LITTLE_ENDIAN), PCM_SIGNED_24, target, PCM_SIGNED_16));
+    assertEquals(0x4000, target.getShort(0));
+    assertEquals(-32768, target.getShort(2));
+    assertEquals(32767, target.getShort(4));
+
+    final var bytes = ByteBuffer.allocate(3);
+    assertEquals(3, JAPCMConversion.convert(source, PCM_SIGNED_24, bytes, PCM_UNSIGNED_8));
+    assertEquals(192, bytes.get(0) & 0xff);
+    assertEquals(0, bytes.get(1) & 0xff);
+    assertEquals(255, bytes.get(2) & 0xff);
+  }
+
+  /**
+   * Stereo is mixed down to mono, and gain is applied with clamping.
+   */
+
+  @Test
+  public void testDownmixGain()
+  {
+    final var source =
+      shorts(ByteOrder.nativeOrder(), 1000, 3000, -1000, 1000, 20000, 30000);
+    final var target =
+      ByteBuffer.allocateDirect(6)
+        .order(ByteOrder.nativeOrder());
+
+    assertEquals(3, JAPCMConversion.downmixStereoToMono(source, PCM_SIGNED_16, target, PCM_SIGNED_16));
+    target.flip();
+    assertEquals(2000, target.getShort(0));
+    assertEquals(0, target.getShort(2));
+    assertEquals(25000, target.getShort(4));
+
+    JAPCMConversion.applyGain(target, PCM_SIGNED_16, 2.0f);
+    assertEquals(0, target.position());
+    assertEquals(4000, target.getShort(0));
+    assertEquals(0, target.getShort(2));
+    assertEquals(32767, target.getShort(4));
+  }
+
+  /**
+   * Interleaving and deinterleaving are inverses.
+   */
+
+  @Test
+  public void testInterleave()
+  {
+    final var source =
+      shorts(ByteOrder.nativeOrder(), 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    final var channels =
+      List.of(
+        ByteBuffer.allocate(6),
+        ByteBuffer.allocate(6),
+        ByteBuffer.allocate(6)
+      );
+
+    assertEquals(3, JAPCMConversion.deinterleave(source, channels, PCM_SIGNED_16));
+    for (final var channel : channels) {
+      channel.flip().order(ByteOrder.nativeOrder());
+    }
+    assertEquals(1, channels.get(0).getShort(0));
+    assertEquals(4, channels.get(0).getShort(2));
+    assertEquals(8, channels.get(1).getShort(4));
+    assertEquals(9, channels.get(2).getShort(4));
+
+    final var target =
+      ByteBuffer.allocate(18)
+        .order(ByteOrder.nativeOrder());
+    assertEquals(3, JAPCMConversion.interleave(channels, target, PCM_SIGNED_16));
+    target.flip();
+    for (int index = 0; index < 9; ++index) {
+      assertEquals(index + 1, target.getShort(index * 2));
+    }
+  }
+
+  /**
+   * Changing only the byte order of samples keeps every bit of them.
+   */
+
+  @Test
+  public void testByteOrderExact()
+  {
+    final var ints =
+      ByteBuffer.allocate(12)
+        .order(ByteOrder.BIG_ENDIAN)
+        .putInt(0x12345679)
+        .putInt(0x7fffffff)
+        .putInt(0x80000001)
+        .flip();
+    final var intsOut =
+      ByteBuffer.allocate(12)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    assertEquals(3, JAPCMConversion.convert(ints, PCM_SIGNED_32, intsOut, PCM_SIGNED_32));
+    assertEquals(0x12345679, intsOut.getInt(0));
+    assertEquals(0x7fffffff, intsOut.getInt(4));
+    assertEquals(0x80000001, intsOut.getInt(8));
+
+    final var floats =
+      ByteBuffer.allocate(4)
+        .order(ByteOrder.BIG_ENDIAN)
+        .putInt(0x7fc01234)
+        .flip();
+    final var floatsOut =
+      ByteBuffer.allocate(4)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    assertEquals(1, JAPCMConversion.convert(floats, PCM_FLOAT_32, floatsOut, PCM_FLOAT_32));
+    assertEquals(0x7fc01234, floatsOut.getInt(0));
+
+    final var packed =
+      ByteBuffer.wrap(new byte[]{
+        (byte) 0x01, (byte) 0x02, (byte) 0x03,
+        (byte) 0x80, (byte) 0x00, (byte) 0x01,
+      }).order(ByteOrder.LITTLE_ENDIAN);
+    final var packedOut =
+      ByteBuffer.allocate(6)
+        .order(ByteOrder.BIG_ENDIAN);
+
+    assertEquals(2, JAPCMConversion.convert(packed, PCM_SIGNED_24, packedOut, PCM_SIGNED_24));
+    assertEquals(0x03, packedOut.get(0));
+    assertEquals(0x02, packedOut.get(1));
+    assertEquals(0x01, packedOut.get(2));
+    assertEquals(0x01, packedOut.get(3));
+    assertEquals(0x00, packedOut.get(4));
+    assertEquals((byte) 0x80, packedOut.get(5));
+  }
+
+  /**
+   * Interleaving and deinterleaving are inverses for every sample width,
+   * across many chunks.
+   */
+
+  @Test
+  public void testInterleaveWidths()
+  {
+    final var frames = 3000;
+    final var channels = 3;
+
+    for (final var format : JAPCMSampleFormat.values()) {
+      final var size = format.bytesPerSample();
+      final var source = ByteBuffer.allocateDirect(frames * channels * size);
+      for (int index = 0; index < source.capacity(); ++index) {
+        source.put(index, (byte) (index * 31));
+      }
+
+      final var targets = new ArrayList<ByteBuffer>();
+      for (int channel = 0; channel < channels; ++channel) {
+        targets.add(ByteBuffer.allocate(frames * size));
+      }
+
+      assertEquals(frames, JAPCMConversion.deinterleave(source, targets, format));
+      for (int channel = 0; channel < channels; ++channel) {
+        final var target = targets.get(channel).flip();
+        for (int frame = 0; frame < frames; ++frame) {
+          for (int b = 0; b < size; ++b) {
+            final var index = (((frame * channels) + channel) * size) + b;
+            assertEquals(source.get(index), target.get((frame * size) + b));
+          }
+        }
+      }
+
+      final var result = ByteBuffer.allocate(source.capacity());
+      assertEquals(frames, JAPCMConversion.interleave(targets, result, format));
+      assertEquals(source.flip(), result.flip());
+    }
+  }
+
+  /**
+   * Data is prepared for buffer formats.
+   */
+
+  @Test
+  public void testToBufferData()
+  {
+    final var source =
+      ByteBuffer.allocate(4 * 3 * 2)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    final var data =
+      JAPCMConversion.toBufferData(source, PCM_SIGNED_24, AUDIO_16_BIT_STEREO);
+    assertEquals(16, data.remaining());
+    assertEquals(ByteOrder.nativeOrder(), data.order());
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      JAPCMConversion.toBufferData(
+        ByteBuffer.allocate(3), PCM_SIGNED_24, AUDIO_16_BIT_STEREO);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      JAPCMConversion.toBufferData(
+        ByteBuffer.allocate(4), PCM_SIGNED_16, AUDIO_IMA4_MONO);
+    });
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JASourceState;
+import com.io7m.jarabica.engine.JAPlaybackScheduler;
+import com.io7m.jarabica.engine.JAPlaybackSchedulerConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAPlaybackSchedulerTest extends JAContextFixture
+{
+  private static final long SECOND = 1_000_000_000L;
+
+  /**
+   * Starts are issued when they fall within the lead, and not before.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testScheduleStarts()
+    throws Exception
+  {
+    final var buffer = this.resources().add(this.context().createBuffer());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+
+    final var source0 = this.resources().add(this.context().createSource());
+    final var source1 = this.resources().add(this.context().createSource());
+    final var source2 = this.resources().add(this.context().createSource());
+    for (final var source : List.of(source0, source1, source2)) {
+      source.setBuffer(buffer);
+    }
+
+    final var scheduler =
+      JAPlaybackScheduler.create(
+        this.context(), JAPlaybackSchedulerConfiguration.defaults());
+
+    final var device = this.context().device();
+    final var clock = device.isDeviceClockSupported()
+      ? device.clockNanos()
+      : System.nanoTime();
+
+    final var later =
+      scheduler.schedule(source2, clock + 100L * SECOND);
+    final var now =
+      scheduler.scheduleAll(List.of(source0, source1), clock);
+    final var cancelled =
+      scheduler.schedule(source2, clock);
+    cancelled.cancel(false);
+
+    scheduler.update(System.nanoTime());
+    assertTrue(now.isDone());
+    assertFalse(now.isCancelled());
+    assertFalse(later.isDone());
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, source0.state());
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, source1.state());
+    assertEquals(JASourceState.SOURCE_STATE_INITIAL, source2.state());
+
+    var statistics = scheduler.statistics();
+    assertEquals(1, statistics.pending());
+    assertEquals(1L, statistics.started());
+    assertEquals(1L, statistics.cancelled());
+
+    scheduler.close();
+    assertTrue(later.isCancelled());
+    statistics = scheduler.statistics();
+    assertEquals(0, statistics.pending());
+    assertEquals(2L, statistics.cancelled());
+  }
+}
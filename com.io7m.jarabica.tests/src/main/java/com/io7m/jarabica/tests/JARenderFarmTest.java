@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAContextType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JAMisuseException;
+import com.io7m.jarabica.api.JASourceType;
+import com.io7m.jarabica.engine.JARenderFarm;
+import com.io7m.jarabica.engine.JARenderFarmConfiguration;
+import com.io7m.jarabica.engine.JARenderJob;
+import com.io7m.jarabica.engine.JARenderSceneType;
+import com.io7m.jarabica.lwjgl.JALWDeviceFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Optional;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_STEREO;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_SHORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JARenderFarmTest
+{
+  private Path directory;
+
+  @BeforeEach
+  public void setup()
+    throws IOException
+  {
+    this.directory = Files.createTempDirectory("jarabica-render-farm");
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws IOException
+  {
+    try (var files = Files.walk(this.directory)) {
+      for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  private static JARenderFarm farm()
+  {
+    return JARenderFarm.create(
+      new JALWDeviceFactory(),
+      new JARenderFarmConfiguration(3, 48000, CHANNELS_STEREO, SAMPLE_SHORT, 1000)
+    );
+  }
+
+  /**
+   * Scenes are rendered in parallel into WAV files.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRenderScenes()
+    throws Exception
+  {
+    final var jobs = new ArrayList<JARenderJob>();
+    for (int index = 0; index < 6; ++index) {
+      jobs.add(new JARenderJob(
+        new ToneScene("tone-" + index, 24000L + index * 500L, index),
+        this.directory.resolve("tone-" + index + ".wav")
+      ));
+    }
+
+    final var report = farm().render(jobs);
+    assertFalse(report.hasFailures());
+    assertEquals(6, report.scenes().size());
+    assertEquals(3, report.workers().size());
+    assertTrue(report.framesPerSecond() > 0.0);
+
+    var frames = 0L;
+    for (int index = 0; index < 6; ++index) {
+      final var result = report.scenes().get(index);
+      final var expected = 24000L + index * 500L;
+      assertEquals("tone-" + index, result.scene());
+      assertEquals(expected, result.frames());
+      frames += expected;
+
+      final var data =
+        ByteBuffer.wrap(Files.readAllBytes(result.output()))
+          .order(ByteOrder.LITTLE_ENDIAN);
+      assertEquals(44L + expected * 4L, data.capacity());
+      assertEquals(0x4646_4952, data.getInt(0));
+      assertEquals(data.capacity() - 8, data.getInt(4));
+      assertEquals(0x4556_4157, data.getInt(8));
+      assertEquals(2, data.getShort(22));
+      assertEquals(48000, data.getInt(24));
+      assertEquals(16, data.getShort(34));
+      assertEquals(expected * 4L, data.getInt(40));
+
+      var peak = 0;
+      for (int offset = 44; offset < data.capacity(); offset += 2) {
+        peak = Math.max(peak, Math.abs(data.getShort(offset)));
+      }
+      assertTrue(peak > 1000, "Peak " + peak + " must be audible");
+    }
+
+    assertEquals(frames, report.frames());
+    assertEquals(
+      frames,
+      report.workers()
+        .stream()
+        .mapToLong(w -> w.frames())
+        .sum()
+    );
+  }
+
+  /**
+   * A failing scene does not stop other scenes from rendering.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRenderSceneFails()
+    throws Exception
+  {
+    final var jobs = new ArrayList<JARenderJob>();
+    jobs.add(new JARenderJob(
+      new ToneScene("tone", 4800L, 0),
+      this.directory.resolve("tone.wav")
+    ));
+    jobs.add(new JARenderJob(
+      new FailingScene(),
+      this.directory.resolve("fails.wav")
+    ));
+
+    final var report = farm().render(jobs);
+    assertTrue(report.hasFailures());
+    assertTrue(report.scenes().get(0).failure().isEmpty());
+    assertEquals(4800L, report.scenes().get(0).frames());
+    assertInstanceOf(
+      JAMisuseException.class,
+      report.scenes().get(1).failure().orElseThrow()
+    );
+    assertEquals(0L, report.scenes().get(1).frames());
+  }
+
+  /**
+   * Rendering leaves the application's current context current.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRenderRestoresCurrentContext()
+    throws Exception
+  {
+    final var devices = new JALWDeviceFactory();
+    try (var device = devices.openDevice(devices.enumerateDevices().get(0))) {
+      try (var context = device.createContext()) {
+        assertTrue(context.isCurrent());
+
+        final var jobs = new ArrayList<JARenderJob>();
+        jobs.add(new JARenderJob(
+          new ToneScene("tone", 4800L, 0),
+          this.directory.resolve("tone.wav")
+        ));
+
+        final var report = farm().render(jobs);
+        assertFalse(report.hasFailures());
+        assertTrue(context.isCurrent());
+        assertEquals(Optional.of(context), devices.currentContext());
+      }
+    }
+  }
+
+  private static final class ToneScene implements JARenderSceneType
+  {
+    private final String name;
+    private final long frames;
+    private final int index;
+    private JABufferType buffer;
+    private JASourceType source;
+
+    ToneScene(
+      final String inName,
+      final long inFrames,
+      final int inIndex)
+    {
+      this.name = inName;
+      this.frames = inFrames;
+      this.index = inIndex;
+    }
+
+    @Override
+    public String name()
+    {
+      return this.name;
+    }
+
+    @Override
+    public long frames()
+    {
+      return this.frames;
+    }
+
+    @Override
+    public void setup(
+      final JAContextType context)
+      throws JAException
+    {
+      final var period = 20 + this.index * 4;
+      final var data =
+        ByteBuffer.allocateDirect(48000 * 2)
+          .order(ByteOrder.nativeOrder());
+      for (int sample = 0; sample < 48000; ++sample) {
+        data.putShort((sample / period) % 2 == 0 ? (short) 8192 : (short) -8192);
+      }
+      data.flip();
+
+      this.buffer = context.createBuffer();
+      this.buffer.setData(AUDIO_16_BIT_MONO, 48000, data);
+      this.source = context.createSource();
+      this.source.setBuffer(this.buffer);
+      this.source.setLooping(true);
+      this.source.setPosition(-1.0 + this.index * 0.4, 0.0, 0.0);
+      this.source.play();
+    }
+
+    @Override
+    public void update(
+      final JAContextType context,
+      final long frame)
+      throws JAException
+    {
+      this.source.setGain(1.0 - ((double) frame / (double) this.frames) * 0.5);
+    }
+
+    @Override
+    public void teardown(
+      final JAContextType context)
+      throws JAException
+    {
+      this.source.stop();
+      this.source.detachBuffer();
+      this.source.close();
+      this.buffer.close();
+    }
+  }
+
+  private static final class FailingScene implements JARenderSceneType
+  {
+    FailingScene()
+    {
+
+    }
+
+    @Override
+    public String name()
+    {
+      return "fails";
+    }
+
+    @Override
+    public long frames()
+    {
+      return 4800L;
+    }
+
+    @Override
+    public void setup(
+      final JAContextType context)
+      throws JAException
+    {
+      final var source = context.createSource();
+      source.close();
+      source.play();
+    }
+  }
+}
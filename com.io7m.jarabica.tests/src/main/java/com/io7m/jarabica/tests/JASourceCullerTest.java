@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JADistanceModel;
+import com.io7m.jarabica.api.JASourceState;
+import com.io7m.jarabica.engine.JASourceCuller;
+import com.io7m.jarabica.engine.JASourceCullerConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JASourceCullerTest extends JAContextFixture
+{
+  private static final long SECOND = 1_000_000_000L;
+
+  /**
+   * The distance models follow the OpenAL specification.
+   */
+
+  @Test
+  public void testAttenuation()
+  {
+    assertEquals(1.0, JADistanceModel.DISTANCE_NONE.attenuation(100.0, 1.0, 10.0, 1.0));
+    assertEquals(0.01, JADistanceModel.DISTANCE_INVERSE.attenuation(100.0, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(0.1, JADistanceModel.DISTANCE_INVERSE_CLAMPED.attenuation(100.0, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(1.0, JADistanceModel.DISTANCE_INVERSE_CLAMPED.attenuation(0.5, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(0.5, JADistanceModel.DISTANCE_LINEAR.attenuation(5.5, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(0.0, JADistanceModel.DISTANCE_LINEAR.attenuation(100.0, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(0.25, JADistanceModel.DISTANCE_EXPONENT.attenuation(4.0, 1.0, 10.0, 1.0), 1.0e-9);
+    assertEquals(0.01, JADistanceModel.DISTANCE_EXPONENT_CLAMPED.attenuation(1000.0, 1.0, 10.0, 2.0), 1.0e-9);
+  }
+
+  /**
+   * Sources far from the listener are culled, and resumed at the offset
+   * they would have reached.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCullResume()
+    throws Exception
+  {
+    final var buffer = this.resources().add(this.context().createBuffer());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(960000));
+
+    final var near = this.resources().add(this.context().createSource());
+    final var far = this.resources().add(this.context().createSource());
+    for (final var source : List.of(near, far)) {
+      source.setBuffer(buffer);
+      source.setRolloffFactor(1.0);
+      source.setMaxDistance(1.0e6);
+    }
+
+    near.setPosition(1.0, 0.0, 0.0);
+    far.setPosition(10000.0, 0.0, 0.0);
+    near.play();
+    far.play();
+
+    final var culler =
+      JASourceCuller.create(
+        this.context(), new JASourceCullerConfiguration(0.001, 0.002));
+    culler.manage(near);
+    culler.manage(far);
+
+    culler.update(0L);
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, near.state());
+    assertEquals(JASourceState.SOURCE_STATE_PAUSED, far.state());
+    assertEquals(1, culler.statistics().culled());
+
+    far.setPosition(700.0, 0.0, 0.0);
+    culler.update(SECOND);
+    assertEquals(JASourceState.SOURCE_STATE_PAUSED, far.state());
+
+    far.setPosition(2.0, 0.0, 0.0);
+    culler.update(3L * SECOND);
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, far.state());
+    assertEquals(3.0, far.offsetSeconds(), 0.1);
+
+    final var stats = culler.statistics();
+    assertEquals(2, stats.sources());
+    assertEquals(0, stats.culled());
+    assertEquals(1L, stats.culls());
+    assertEquals(1L, stats.resumes());
+
+    near.stop();
+    far.stop();
+    near.detachBuffer();
+    far.detachBuffer();
+  }
+
+  /**
+   * Sources closed by the application are dropped, whether or not they are
+   * culled, and the remaining sources are still culled.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClosedSources()
+    throws Exception
+  {
+    final var buffer = this.resources().add(this.context().createBuffer());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(960000));
+
+    final var near = this.context().createSource();
+    final var far = this.context().createSource();
+    final var other = this.resources().add(this.context().createSource());
+    for (final var source : List.of(near, far, other)) {
+      source.setBuffer(buffer);
+      source.setPosition(1.0, 0.0, 0.0);
+      source.play();
+    }
+    far.setPosition(10000.0, 0.0, 0.0);
+
+    final var culler =
+      JASourceCuller.create(
+        this.context(), JASourceCullerConfiguration.defaults());
+    culler.manage(near);
+    culler.manage(far);
+    culler.manage(other);
+
+    culler.update(0L);
+    assertEquals(1, culler.statistics().culled());
+
+    near.close();
+    far.close();
+    other.setPosition(10000.0, 0.0, 0.0);
+    culler.update(SECOND);
+
+    final var stats = culler.statistics();
+    assertEquals(1, stats.sources());
+    assertEquals(1, stats.culled());
+    assertEquals(JASourceState.SOURCE_STATE_PAUSED, other.state());
+
+    other.setPosition(1.0, 0.0, 0.0);
+    culler.update(2L * SECOND);
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, other.state());
+    assertEquals(0, culler.statistics().culled());
+
+    culler.close();
+    other.stop();
+    other.detachBuffer();
+  }
+
+  /**
+   * Culled sources that the application stops or plays itself are not
+   * resumed or stopped by the culler, and are culled again as usual.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCulledSourcesChangedByApplication()
+    throws Exception
+  {
+    final var buffer = this.resources().add(this.context().createBuffer());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+
+    final var stopped = this.resources().add(this.context().createSource());
+    final var played = this.resources().add(this.context().createSource());
+    for (final var source : List.of(stopped, played)) {
+      source.setBuffer(buffer);
+      source.setPosition(10000.0, 0.0, 0.0);
+      source.play();
+    }
+
+    final var culler =
+      JASourceCuller.create(
+        this.context(), JASourceCullerConfiguration.defaults());
+    culler.manage(stopped);
+    culler.manage(played);
+
+    final var now = System.nanoTime();
+    culler.update(now);
+    assertEquals(2, culler.statistics().culled());
+
+    stopped.stop();
+    played.play();
+    stopped.setPosition(1.0, 0.0, 0.0);
+    culler.update(now + SECOND / 2L);
+    assertEquals(JASourceState.SOURCE_STATE_STOPPED, stopped.state());
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, played.state());
+
+    culler.update(now + 2L * SECOND);
+    assertEquals(JASourceState.SOURCE_STATE_STOPPED, stopped.state());
+    assertEquals(JASourceState.SOURCE_STATE_PAUSED, played.state());
+
+    final var stats = culler.statistics();
+    assertEquals(2, stats.sources());
+    assertEquals(1, stats.culled());
+    assertEquals(3L, stats.culls());
+    assertEquals(0L, stats.resumes());
+    assertEquals(0L, stats.finished());
+
+    culler.close();
+    stopped.stop();
+    played.stop();
+    stopped.detachBuffer();
+    played.detachBuffer();
+  }
+
+  /**
+   * Non-looping sources that reach their end while culled are stopped, and
+   * closing the culler resumes culled sources.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCullFinishClose()
+    throws Exception
+  {
+    final var buffer = this.resources().add(this.context().createBuffer());
+    buffer.setData(AUDIO_16_BIT_MONO, 48000, ByteBuffer.allocateDirect(96000));
+
+    final var once = this.resources().add(this.context().createSource());
+    final var loop = this.resources().add(this.context().createSource());
+    once.setBuffer(buffer);
+    loop.setBuffer(buffer);
+    loop.setLooping(true);
+    once.setPosition(10000.0, 0.0, 0.0);
+    loop.setPosition(10000.0, 0.0, 0.0);
+    once.play();
+    loop.play();
+
+    final var culler =
+      JASourceCuller.create(
+        this.context(), JASourceCullerConfiguration.defaults());
+    culler.manage(once);
+    culler.manage(loop);
+
+    final var now = System.nanoTime();
+    culler.update(now);
+    assertEquals(2, culler.statistics().culled());
+
+    culler.update(now + 2L * SECOND);
+    assertEquals(JASourceState.SOURCE_STATE_STOPPED, once.state());
+    assertEquals(JASourceState.SOURCE_STATE_PAUSED, loop.state());
+    assertEquals(1L, culler.statistics().finished());
+
+    culler.close();
+    assertEquals(JASourceState.SOURCE_STATE_PLAYING, loop.state());
+
+    loop.stop();
+    once.detachBuffer();
+    loop.detachBuffer();
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JASourceCullerConfiguration(0.5, 0.1);
+    });
+  }
+}
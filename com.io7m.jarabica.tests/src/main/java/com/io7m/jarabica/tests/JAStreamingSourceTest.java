@@ -0,0 +1,308 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.engine.JAPCMProducerType;
+import com.io7m.jarabica.engine.JAStreamingException;
+import com.io7m.jarabica.engine.JAStreamingSource;
+import com.io7m.jarabica.engine.JAStreamingSourceConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAStreamingSourceTest extends JAContextFixture
+{
+
+  /**
+   * A stream plays to completion, and the graph always reflects the queued
+   * buffers.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testStreamPlays()
+    throws Exception
+  {
+    final var producer = new SilenceProducer(22050);
+    final var stream =
+      this.resources().add(JAStreamingSource.create(
+        this.context(),
+        new JAStreamingSourceConfiguration(3, 2048, 2),
+        producer
+      ));
+
+    final var graph = this.context().sourceBufferGraph();
+    final var source = stream.source();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+      stream.play();
+      while (!stream.isFinished()) {
+        stream.update();
+        assertEquals(source.buffersQueued(), graph.inDegreeOf(source));
+        Thread.sleep(10L);
+      }
+    });
+
+    assertEquals(0, source.buffersQueued());
+    assertEquals(0, graph.inDegreeOf(source));
+    assertEquals(producer.size, producer.produced);
+
+    stream.close();
+    assertTrue(producer.closed);
+    assertEquals(0, graph.vertexSet().size());
+  }
+
+  /**
+   * Producer failures are reported.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testStreamFails()
+    throws Exception
+  {
+    final var stream =
+      this.resources().add(JAStreamingSource.create(
+        this.context(),
+        JAStreamingSourceConfiguration.defaults(),
+        new FailingProducer()
+      ));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+      assertThrows(JAStreamingException.class, () -> {
+        while (true) {
+          stream.update();
+          Thread.sleep(10L);
+        }
+      });
+    });
+  }
+
+  /**
+   * A producer with no audio available is not polled in a busy loop, and
+   * closing the stream stops polling it.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testStreamProducerIdle()
+    throws Exception
+  {
+    final var producer = new IdleProducer();
+    final var stream =
+      JAStreamingSource.create(
+        this.context(),
+        JAStreamingSourceConfiguration.defaults(),
+        producer
+      );
+
+    Thread.sleep(100L);
+    assertTrue(producer.reads > 0);
+    assertTrue(producer.reads < 1000, "Reads %d".formatted(producer.reads));
+
+    stream.close();
+    assertTrue(producer.closed);
+  }
+
+  /**
+   * A buffer that cannot be filled is returned to the stream, and is tried
+   * again on the next update.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testStreamSetDataFails()
+    throws Exception
+  {
+    final var configuration =
+      new JAStreamingSourceConfiguration(3, 2048, 2);
+    final var stream =
+      this.resources().add(JAStreamingSource.create(
+        this.context(),
+        configuration,
+        new InvalidFrequencyProducer()
+      ));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+      var failures = 0;
+      while (failures <= configuration.bufferCount()) {
+        try {
+          stream.update();
+          Thread.sleep(1L);
+        } catch (final JAException e) {
+          ++failures;
+        }
+      }
+    });
+
+    assertEquals(0, stream.source().buffersQueued());
+  }
+
+  private static final class SilenceProducer implements JAPCMProducerType
+  {
+    private final int size;
+    private int produced;
+    private volatile boolean closed;
+
+    SilenceProducer(
+      final int inSize)
+    {
+      this.size = inSize;
+    }
+
+    @Override
+    public JABufferFormat format()
+    {
+      return AUDIO_16_BIT_MONO;
+    }
+
+    @Override
+    public int frequency()
+    {
+      return 22050;
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer output)
+    {
+      final var count =
+        Math.min(output.remaining(), this.size - this.produced);
+      if (count == 0) {
+        return -1;
+      }
+      for (int index = 0; index < count; ++index) {
+        output.put((byte) 0);
+      }
+      this.produced += count;
+      return count;
+    }
+
+    @Override
+    public void close()
+    {
+      this.closed = true;
+    }
+  }
+
+  private static final class FailingProducer implements JAPCMProducerType
+  {
+    @Override
+    public JABufferFormat format()
+    {
+      return AUDIO_16_BIT_MONO;
+    }
+
+    @Override
+    public int frequency()
+    {
+      return 22050;
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer output)
+      throws IOException
+    {
+      throw new IOException("Failed!");
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+
+  private static final class InvalidFrequencyProducer
+    implements JAPCMProducerType
+  {
+    @Override
+    public JABufferFormat format()
+    {
+      return AUDIO_16_BIT_MONO;
+    }
+
+    @Override
+    public int frequency()
+    {
+      return 0;
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer output)
+    {
+      while (output.hasRemaining()) {
+        output.put((byte) 0);
+      }
+      return output.capacity();
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+
+  private static final class IdleProducer implements JAPCMProducerType
+  {
+    private volatile int reads;
+    private volatile boolean closed;
+
+    @Override
+    public JABufferFormat format()
+    {
+      return AUDIO_16_BIT_MONO;
+    }
+
+    @Override
+    public int frequency()
+    {
+      return 22050;
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer output)
+    {
+      ++this.reads;
+      return 0;
+    }
+
+    @Override
+    public void close()
+    {
+      this.closed = true;
+    }
+  }
+}
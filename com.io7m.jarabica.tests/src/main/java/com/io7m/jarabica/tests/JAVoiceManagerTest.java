@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.engine.JAVoiceManager;
+import com.io7m.jarabica.engine.JAVoiceManagerConfiguration;
+import com.io7m.jarabica.engine.JAVoiceManagerType;
+import com.io7m.jarabica.engine.JAVoiceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_MONO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAVoiceManagerTest extends JAContextFixture
+{
+  private static final long SECOND = 1_000_000_000L;
+
+  private JABufferType buffer;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    this.buffer =
+      this.resources().add(this.context().createBuffer());
+    this.buffer.setData(
+      AUDIO_16_BIT_MONO, 22050, ByteBuffer.allocateDirect(22050 * 2));
+  }
+
+  private JAVoiceManagerType manager(
+    final int maximumRealVoices)
+  {
+    return this.resources().add(JAVoiceManager.create(
+      this.context(),
+      new JAVoiceManagerConfiguration(maximumRealVoices, 0.001, 1.0, 1.0)
+    ));
+  }
+
+  private JAVoiceType voice(
+    final JAVoiceManagerType manager,
+    final int priority,
+    final float distance)
+    throws Exception
+  {
+    final var voice = manager.createVoice(priority);
+    voice.setBuffer(this.buffer);
+    voice.setPosition(distance, 0.0f, 0.0f);
+    voice.setLooping(true);
+    voice.play();
+    return voice;
+  }
+
+  /**
+   * Only the nearest voices are real, and nearer voices steal sources.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNearestVoicesReal()
+    throws Exception
+  {
+    final var manager = this.manager(2);
+    final var voices = new ArrayList<JAVoiceType>();
+    for (int index = 1; index <= 5; ++index) {
+      voices.add(this.voice(manager, 0, (float) index));
+    }
+
+    manager.update(0L);
+    assertTrue(voices.get(0).isReal());
+    assertTrue(voices.get(1).isReal());
+    assertFalse(voices.get(2).isReal());
+    assertEquals(2, this.context().sourceBufferGraph().outDegreeOf(this.buffer));
+
+    voices.get(4).setPosition(0.0f, 0.0f, 0.0f);
+    manager.update(SECOND / 60L);
+    assertTrue(voices.get(4).isReal());
+    assertTrue(voices.get(0).isReal());
+    assertFalse(voices.get(1).isReal());
+
+    final var stats = manager.statistics();
+    assertEquals(5, stats.voices());
+    assertEquals(5, stats.voicesPlaying());
+    assertEquals(2, stats.voicesReal());
+    assertEquals(3L, stats.promotions());
+    assertEquals(1L, stats.virtualizations());
+    assertEquals(1L, stats.steals());
+  }
+
+  /**
+   * Higher priority voices win regardless of distance, and inaudible voices
+   * are never real.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPriorityAndAudibility()
+    throws Exception
+  {
+    final var manager = this.manager(1);
+    final var near = this.voice(manager, 0, 1.0f);
+    final var far = this.voice(manager, 1, 100.0f);
+    final var silent = this.voice(manager, 2, 1.0f);
+    silent.setGain(0.0f);
+
+    manager.update(0L);
+    assertTrue(far.isReal());
+    assertFalse(near.isReal());
+    assertFalse(silent.isReal());
+
+    far.close();
+    manager.update(SECOND / 60L);
+    assertTrue(near.isReal());
+    assertEquals(2, manager.statistics().voices());
+    assertThrows(IllegalStateException.class, far::play);
+  }
+
+  /**
+   * Virtual voices advance, and resume at the correct offset.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testOffsetResumes()
+    throws Exception
+  {
+    final var manager = this.manager(1);
+    final var voice = this.voice(manager, 0, 1.0f);
+    voice.setLooping(false);
+
+    manager.update(0L);
+    assertTrue(voice.isReal());
+
+    final var other = this.voice(manager, 1, 1.0f);
+    manager.update(0L);
+    assertFalse(voice.isReal());
+    final var offset0 = voice.offsetSeconds();
+
+    manager.update(SECOND / 2L);
+    assertEquals(offset0 + 0.5, voice.offsetSeconds(), 0.001);
+
+    other.stop();
+    manager.update(SECOND / 2L);
+    assertTrue(voice.isReal());
+    assertEquals(offset0 + 0.5, voice.offsetSeconds(), 0.1);
+
+    other.play();
+    manager.update(SECOND / 2L);
+    assertFalse(voice.isReal());
+    manager.update(SECOND * 2L);
+    assertFalse(voice.isPlaying());
+    assertEquals(0.0, voice.offsetSeconds());
+  }
+
+  /**
+   * When the context runs out of sources, the voices that cannot be given a
+   * source do not keep more important voices from becoming real.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSourceLimitSteals()
+    throws Exception
+  {
+    final var manager =
+      this.resources().add(JAVoiceManager.create(
+        this.contextFailingAfter("createSource", 2, "Out of sources."),
+        new JAVoiceManagerConfiguration(4, 0.001, 1.0, 1.0)
+      ));
+
+    final var voices = new ArrayList<JAVoiceType>();
+    for (int index = 1; index <= 4; ++index) {
+      voices.add(this.voice(manager, 0, (float) index));
+    }
+
+    manager.update(0L);
+    assertTrue(voices.get(0).isReal());
+    assertTrue(voices.get(1).isReal());
+    assertFalse(voices.get(2).isReal());
+    assertFalse(voices.get(3).isReal());
+
+    voices.get(3).setPosition(0.0f, 0.0f, 0.0f);
+    manager.update(SECOND / 60L);
+    assertTrue(voices.get(3).isReal());
+    assertTrue(voices.get(0).isReal());
+    assertFalse(voices.get(1).isReal());
+    assertEquals(2, manager.statistics().voicesReal());
+    assertEquals(1L, manager.statistics().steals());
+  }
+}
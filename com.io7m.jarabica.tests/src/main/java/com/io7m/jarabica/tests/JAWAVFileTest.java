@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.tests;
+
+import com.io7m.jarabica.api.JAChannelLayout;
+import com.io7m.jarabica.api.JASampleType;
+import com.io7m.jarabica.engine.JAWAVWriter;
+import com.io7m.jarabica.wav.JAWAVFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_16_BIT_STEREO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_FLOAT_MONO;
+import static com.io7m.jarabica.api.JABufferFormat.AUDIO_IMA4_MONO;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_MONO;
+import static com.io7m.jarabica.api.JAChannelLayout.CHANNELS_STEREO;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_FLOAT;
+import static com.io7m.jarabica.api.JASampleType.SAMPLE_SHORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JAWAVFileTest extends JAContextFixture
+{
+  private Path directory;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    this.directory =
+      Files.createTempDirectory("jarabica-wav");
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws Exception
+  {
+    try (var files = Files.walk(this.directory)) {
+      for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  private Path writePCM(
+    final String name,
+    final int frequency,
+    final JAChannelLayout channels,
+    final JASampleType sampleType,
+    final int frames)
+    throws IOException
+  {
+    final var file = this.directory.resolve(name);
+    final var size =
+      frames * channels.channels() * sampleType.bytesPerSample();
+    final var data =
+      ByteBuffer.allocateDirect(size)
+        .order(ByteOrder.nativeOrder());
+
+    try (var writer = JAWAVWriter.create(file, frequency, channels, sampleType)) {
+      writer.write(data);
+    }
+    return file;
+  }
+
+  /**
+   * 16-bit PCM files are mapped and uploaded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPCM16()
+    throws Exception
+  {
+    final var file =
+      this.writePCM("pcm16.wav", 22050, CHANNELS_STEREO, SAMPLE_SHORT, 11025);
+
+    final var wav = JAWAVFile.open(file);
+    assertEquals(AUDIO_16_BIT_STEREO, wav.format());
+    assertEquals(22050, wav.frequency());
+    assertEquals(0, wav.blockAlignment());
+    assertEquals(11025L, wav.frames());
+    assertEquals(11025 * 4, wav.data().remaining());
+    assertTrue(wav.data().isReadOnly());
+
+    final var buffer = this.resources().add(this.context().createBuffer());
+    wav.upload(buffer);
+    assertEquals(0.5, buffer.duration(), 0.001);
+  }
+
+  /**
+   * Float PCM files are mapped and uploaded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFloat()
+    throws Exception
+  {
+    final var file =
+      this.writePCM("float.wav", 48000, CHANNELS_MONO, SAMPLE_FLOAT, 48000);
+
+    final var wav = JAWAVFile.open(file);
+    assertEquals(AUDIO_FLOAT_MONO, wav.format());
+    assertEquals(48000, wav.frequency());
+    assertEquals(48000L, wav.frames());
+
+    if (this.context().isBufferFormatSupported(AUDIO_FLOAT_MONO)) {
+      final var buffer = this.resources().add(this.context().createBuffer());
+      wav.upload(buffer);
+      assertEquals(1.0, buffer.duration(), 0.001);
+    }
+  }
+
+  /**
+   * IMA ADPCM files have their block alignment derived from the header.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testIMA4()
+    throws Exception
+  {
+    final var blockAlign = 36;
+    final var blocks = 100;
+    final var data = blockAlign * blocks;
+    final var header =
+      ByteBuffer.allocate(48 + data)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    header.putInt(0x4646_4952);
+    header.putInt(40 + data);
+    header.putInt(0x4556_4157);
+    header.putInt(0x2074_6d66);
+    header.putInt(20);
+    header.putShort((short) 0x11);
+    header.putShort((short) 1);
+    header.putInt(8000);
+    header.putInt(8000 * blockAlign / 65);
+    header.putShort((short) blockAlign);
+    header.putShort((short) 4);
+    header.putShort((short) 2);
+    header.putShort((short) 65);
+    header.putInt(0x6174_6164);
+    header.putInt(data);
+
+    final var file = this.directory.resolve("ima4.wav");
+    Files.write(file, header.array());
+
+    final var wav = JAWAVFile.open(file);
+    assertEquals(AUDIO_IMA4_MONO, wav.format());
+    assertEquals(8000, wav.frequency());
+    assertEquals(65, wav.blockAlignment());
+    assertEquals(6500L, wav.frames());
+
+    if (this.context().isBufferFormatSupported(AUDIO_IMA4_MONO)) {
+      final var buffer = this.resources().add(this.context().createBuffer());
+      wav.upload(buffer);
+      assertEquals(65, buffer.blockAlignment());
+      assertEquals(0.8125, buffer.duration(), 0.001);
+    }
+  }
+
+  /**
+   * 32-bit integer PCM files are rejected rather than loaded as float.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPCM32Rejected()
+    throws Exception
+  {
+    final var data = 4 * 100;
+    final var header =
+      ByteBuffer.allocate(44 + data)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    header.putInt(0x4646_4952);
+    header.putInt(36 + data);
+    header.putInt(0x4556_4157);
+    header.putInt(0x2074_6d66);
+    header.putInt(16);
+    header.putShort((short) 1);
+    header.putShort((short) 1);
+    header.putInt(48000);
+    header.putInt(48000 * 4);
+    header.putShort((short) 4);
+    header.putShort((short) 32);
+    header.putInt(0x6174_6164);
+    header.putInt(data);
+
+    final var file = this.directory.resolve("pcm32.wav");
+    Files.write(file, header.array());
+
+    final var ex =
+      assertThrows(IOException.class, () -> JAWAVFile.open(file));
+    assertTrue(ex.getMessage().contains("integer PCM"));
+  }
+
+  /**
+   * Truncated data chunks are trimmed to whole frames.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTruncated()
+    throws Exception
+  {
+    final var file =
+      this.writePCM("short.wav", 22050, CHANNELS_STEREO, SAMPLE_SHORT, 1000);
+
+    final var bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+    final var wav = JAWAVFile.open(file);
+    assertEquals(999L, wav.frames());
+  }
+
+  /**
+   * Files that are not WAV files are rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNotWAV()
+    throws Exception
+  {
+    final var file = this.directory.resolve("x.wav");
+    Files.writeString(file, "This is not a WAV file, obviously.");
+    assertThrows(IOException.class, () -> JAWAVFile.open(file));
+
+    final var empty = this.directory.resolve("empty.wav");
+    Files.write(empty, new byte[0]);
+    assertThrows(IOException.class, () -> JAWAVFile.open(empty));
+  }
+}
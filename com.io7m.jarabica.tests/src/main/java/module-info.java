@@ -18,11 +18,15 @@
 open module com.io7m.jarabica.tests
 {
   requires com.io7m.jarabica.api;
+  requires com.io7m.jarabica.engine;
   requires com.io7m.jarabica.extensions.efx;
   requires com.io7m.jarabica.lwjgl;
+  requires com.io7m.jarabica.wav;
 
   requires com.io7m.jmulticlose.core;
   requires com.io7m.jtensors.core;
+  requires java.management;
+  requires jdk.jfr;
   requires net.jqwik.api;
   requires org.apache.commons.text;
   requires org.jgrapht.core;
@@ -0,0 +1,439 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jarabica.wav;
+
+import com.io7m.jarabica.api.JABufferEncoding;
+import com.io7m.jarabica.api.JABufferFormat;
+import com.io7m.jarabica.api.JABufferType;
+import com.io7m.jarabica.api.JAException;
+import com.io7m.jarabica.api.JASampleType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * <p>A memory-mapped WAV file.</p>
+ *
+ * <p>The RIFF/WAVE header is parsed directly, and the data chunk is mapped
+ * into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)}.
+ * The mapped region is passed to {@link JABufferType#setData} as-is, so audio
+ * data is never copied onto the Java heap. The mapping remains valid until
+ * the file object is garbage collected.</p>
+ */
+
+public final class JAWAVFile
+{
+  private static final int CHUNK_RIFF = 0x4646_4952;
+  private static final int CHUNK_WAVE = 0x4556_4157;
+  private static final int CHUNK_FMT = 0x2074_6d66;
+  private static final int CHUNK_DATA = 0x6174_6164;
+
+  private static final int TAG_PCM = 0x0001;
+  private static final int TAG_MSADPCM = 0x0002;
+  private static final int TAG_IEEE_FLOAT = 0x0003;
+  private static final int TAG_MULAW = 0x0007;
+  private static final int TAG_IMA_ADPCM = 0x0011;
+  private static final int TAG_EXTENSIBLE = 0xfffe;
+
+  private static final int FMT_SIZE_MINIMUM = 16;
+  private static final int FMT_SIZE_MAXIMUM = 1024;
+
+  private final Path file;
+  private final JABufferFormat format;
+  private final int frequency;
+  private final int blockAlignment;
+  private final MappedByteBuffer data;
+
+  private JAWAVFile(
+    final Path inFile,
+    final JABufferFormat inFormat,
+    final int inFrequency,
+    final int inBlockAlignment,
+    final MappedByteBuffer inData)
+  {
+    this.file =
+      Objects.requireNonNull(inFile, "file");
+    this.format =
+      Objects.requireNonNull(inFormat, "format");
+    this.frequency =
+      inFrequency;
+    this.blockAlignment =
+      inBlockAlignment;
+    this.data =
+      Objects.requireNonNull(inData, "data");
+  }
+
+  /**
+   * Open and map a WAV file.
+   *
+   * @param file The file
+   *
+   * @return The mapped file
+   *
+   * @throws IOException If the file cannot be read, is not a WAV file, or
+   *                     contains audio in a format that has no corresponding
+   *                     {@link JABufferFormat}
+   */
+
+  public static JAWAVFile open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    try (var channel = FileChannel.open(file, READ)) {
+      return parse(file, channel);
+    }
+  }
+
+  private static JAWAVFile parse(
+    final Path file,
+    final FileChannel channel)
+    throws IOException
+  {
+    final var size = channel.size();
+    final var header = readAt(file, channel, 0L, 12);
+    if (header.getInt(0) != CHUNK_RIFF || header.getInt(8) != CHUNK_WAVE) {
+      throw new IOException(
+        "%s: Not a RIFF/WAVE file".formatted(file));
+    }
+
+    Fmt fmt = null;
+    var offset = 12L;
+    while (offset + 8L <= size) {
+      final var chunk = readAt(file, channel, offset, 8);
+      final var id = chunk.getInt(0);
+      final var length = Integer.toUnsignedLong(chunk.getInt(4));
+      final var body = offset + 8L;
+
+      if (id == CHUNK_FMT) {
+        fmt = parseFmt(file, channel, body, length);
+      } else if (id == CHUNK_DATA) {
+        if (fmt == null) {
+          throw new IOException(
+            "%s: The data chunk precedes the fmt chunk".formatted(file));
+        }
+        return map(file, channel, fmt, body, Math.min(length, size - body));
+      }
+
+      offset = body + length + (length & 1L);
+    }
+
+    throw new IOException("%s: No data chunk".formatted(file));
+  }
+
+  private static JAWAVFile map(
+    final Path file,
+    final FileChannel channel,
+    final Fmt fmt,
+    final long offset,
+    final long length)
+    throws IOException
+  {
+    /*
+     * Files that were truncated, or that were written by streaming writers
+     * that never filled in the data size, may end partway through a block.
+     * OpenAL rejects partial blocks, so the trailing fragment is ignored.
+     */
+
+    final var blockSize = fmt.format.bytesPerBlock(fmt.blockAlignment);
+    final var usable = length - (length % blockSize);
+    if (usable > Integer.MAX_VALUE) {
+      throw new IOException(
+        "%s: The data chunk is too large to map (%d bytes)".formatted(
+          file, Long.valueOf(usable)));
+    }
+
+    final var data = channel.map(READ_ONLY, offset, usable);
+    data.order(ByteOrder.LITTLE_ENDIAN);
+    return new JAWAVFile(
+      file,
+      fmt.format,
+      fmt.frequency,
+      fmt.format.isBlockEncoded() ? fmt.blockAlignment : 0,
+      data
+    );
+  }
+
+  private static Fmt parseFmt(
+    final Path file,
+    final FileChannel channel,
+    final long offset,
+    final long length)
+    throws IOException
+  {
+    if (length < FMT_SIZE_MINIMUM || length > FMT_SIZE_MAXIMUM) {
+      throw new IOException(
+        "%s: Unusable fmt chunk size %d".formatted(file, Long.valueOf(length)));
+    }
+
+    final var fmt = readAt(file, channel, offset, (int) length);
+    var tag = Short.toUnsignedInt(fmt.getShort(0));
+    final var channels = Short.toUnsignedInt(fmt.getShort(2));
+    final var frequency = fmt.getInt(4);
+    final var blockAlign = Short.toUnsignedInt(fmt.getShort(12));
+    final var bits = Short.toUnsignedInt(fmt.getShort(14));
+
+    if (tag == TAG_EXTENSIBLE) {
+      if (length < 26) {
+        throw new IOException(
+          "%s: Truncated WAVE_FORMAT_EXTENSIBLE header".formatted(file));
+      }
+      tag = Short.toUnsignedInt(fmt.getShort(24));
+    }
+
+    if (frequency <= 0 || channels == 0) {
+      throw new IOException(
+        "%s: Invalid frequency %d or channel count %d".formatted(
+          file, Integer.valueOf(frequency), Integer.valueOf(channels)));
+    }
+
+    final var encoding = encodingOf(file, tag);
+    final var format = formatOf(file, tag, encoding, channels, bits);
+    final var alignment = blockAlignmentOf(encoding, channels, blockAlign);
+    if (!format.isValidBlockAlignment(alignment)) {
+      throw new IOException(
+        "%s: Invalid block alignment %d for %s".formatted(
+          file, Integer.valueOf(blockAlign), format));
+    }
+    return new Fmt(format, frequency, alignment);
+  }
+
+  private static JABufferEncoding encodingOf(
+    final Path file,
+    final int tag)
+    throws IOException
+  {
+    return switch (tag) {
+      case TAG_PCM, TAG_IEEE_FLOAT -> JABufferEncoding.ENCODING_PCM;
+      case TAG_MULAW -> JABufferEncoding.ENCODING_MULAW;
+      case TAG_IMA_ADPCM -> JABufferEncoding.ENCODING_IMA4;
+      case TAG_MSADPCM -> JABufferEncoding.ENCODING_MSADPCM;
+      default -> throw new IOException(
+        "%s: Unsupported format tag 0x%04x".formatted(
+          file, Integer.valueOf(tag)));
+    };
+  }
+
+  private static JABufferFormat formatOf(
+    final Path file,
+    final int tag,
+    final JABufferEncoding encoding,
+    final int channels,
+    final int bits)
+    throws IOException
+  {
+    final var sampleType = sampleTypeOf(file, tag, bits);
+    for (final var format : JABufferFormat.values()) {
+      if (format.encoding() == encoding
+          && format.channels() == channels
+          && format.sampleType() == sampleType) {
+        return format;
+      }
+    }
+
+    throw new IOException(
+      "%s: No buffer format for %s audio with %d channels and %d bits".formatted(
+        file, encoding, Integer.valueOf(channels), Integer.valueOf(bits)));
+  }
+
+  private static JASampleType sampleTypeOf(
+    final Path file,
+    final int tag,
+    final int bits)
+    throws IOException
+  {
+    /*
+     * Integer and float PCM share an encoding, so the sample type must be
+     * taken from the format tag as well as the bit depth. OpenAL has no
+     * 32-bit integer sample type.
+     */
+
+    return switch (tag) {
+      case TAG_PCM -> switch (bits) {
+        case 8 -> JASampleType.SAMPLE_UNSIGNED_BYTE;
+        case 16 -> JASampleType.SAMPLE_SHORT;
+        default -> throw new IOException(
+          "%s: Unsupported %d-bit integer PCM".formatted(
+            file, Integer.valueOf(bits)));
+      };
+      case TAG_IEEE_FLOAT -> {
+        if (bits != 32) {
+          throw new IOException(
+            "%s: Unsupported %d-bit float PCM".formatted(
+              file, Integer.valueOf(bits)));
+        }
+        yield JASampleType.SAMPLE_FLOAT;
+      }
+      default -> JASampleType.SAMPLE_SHORT;
+    };
+  }
+
+  private static int blockAlignmentOf(
+    final JABufferEncoding encoding,
+    final int channels,
+    final int blockAlign)
+  {
+    /*
+     * The WAV block alignment is the size of a block in bytes, whereas
+     * OpenAL expects the number of frames in a block.
+     */
+
+    final var perChannel = blockAlign / channels;
+    return switch (encoding) {
+      case ENCODING_PCM, ENCODING_MULAW -> 1;
+      case ENCODING_IMA4 -> ((perChannel - 4) * 2) + 1;
+      case ENCODING_MSADPCM -> ((perChannel - 7) * 2) + 2;
+    };
+  }
+
+  private static ByteBuffer readAt(
+    final Path file,
+    final FileChannel channel,
+    final long offset,
+    final int length)
+    throws IOException
+  {
+    final var buffer =
+      ByteBuffer.allocate(length)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    var position = offset;
+    while (buffer.hasRemaining()) {
+      final var r = channel.read(buffer, position);
+      if (r < 0) {
+        throw new IOException(
+          "%s: Unexpected end of file at offset %d".formatted(
+            file, Long.valueOf(position)));
+      }
+      position = position + r;
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * @return The file
+   */
+
+  public Path file()
+  {
+    return this.file;
+  }
+
+  /**
+   * @return The format of the audio
+   */
+
+  public JABufferFormat format()
+  {
+    return this.format;
+  }
+
+  /**
+   * @return The frequency of the audio in hz
+   */
+
+  public int frequency()
+  {
+    return this.frequency;
+  }
+
+  /**
+   * @return The number of frames in each block for block-encoded formats,
+   * or {@code 0} for other formats
+   *
+   * @see JABufferType#setBlockAlignment(int)
+   */
+
+  public int blockAlignment()
+  {
+    return this.blockAlignment;
+  }
+
+  /**
+   * @return A read-only view of the mapped audio data
+   */
+
+  public ByteBuffer data()
+  {
+    return this.data.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return The number of frames of audio
+   */
+
+  public long frames()
+  {
+    final var alignment =
+      this.blockAlignment == 0 ? 1 : this.blockAlignment;
+    final var blocks =
+      this.data.capacity() / this.format.bytesPerBlock(alignment);
+    return (long) blocks * (long) alignment;
+  }
+
+  /**
+   * Upload the audio to the given buffer. The buffer's block alignment is
+   * set to match the file.
+   *
+   * @param buffer The buffer
+   *
+   * @throws JAException On errors
+   */
+
+  public void upload(
+    final JABufferType buffer)
+    throws JAException
+  {
+    Objects.requireNonNull(buffer, "buffer");
+
+    if (buffer.blockAlignment() != this.blockAlignment) {
+      buffer.setBlockAlignment(this.blockAlignment);
+    }
+    buffer.setData(this.format, this.frequency, this.data.duplicate());
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(64)
+      .append("[JAWAVFile ")
+      .append(this.file)
+      .append(' ')
+      .append(this.format)
+      .append(' ')
+      .append(this.frequency)
+      .append("]")
+      .toString();
+  }
+
+  private record Fmt(
+    JABufferFormat format,
+    int frequency,
+    int blockAlignment)
+  {
+
+  }
+}